@@ -0,0 +1,120 @@
+#!/usr/bin/env bash
+#
+# Compares startup time and peak RSS of the JVM, AppCDS and native builds of descope-utils.
+#
+# Build the variants first (each is skipped when missing):
+#   ./gradlew build                                             # JVM
+#   ./gradlew build -Dquarkus.package.jar.appcds.enabled=true   # AppCDS archive
+#   ./gradlew build -Dquarkus.native.enabled=true               # native executable
+#
+# Usage: scripts/benchmark-startup.sh [-n RUNS] [--stub] [COMMAND...]
+#
+# Each command is a quoted argument list, e.g. 'list-roles -o JSON'. Commands run with the
+# current environment, so set DESCOPE_PROJECT_ID and DESCOPE_MANAGEMENT_KEY for commands that
+# call the API. With --stub, commands call a local stub server (descope-utils stub-server) on
+# STUB_PORT (default 18085) instead, so runs do not depend on the network or a real project.
+# Requires GNU time (/usr/bin/time) for the RSS measurement.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=10
+STUB=false
+while [[ $# -gt 0 ]]; do
+  case "$1" in
+    -n) RUNS="$2"; shift 2 ;;
+    --stub) STUB=true; shift ;;
+    *) break ;;
+  esac
+done
+
+COMMANDS=("$@")
+if [[ ${#COMMANDS[@]} -eq 0 ]]; then
+  COMMANDS=("--help" "list-roles" "check-fga-relation -r doc1 --relation owner -n doc -t alice")
+fi
+
+if ! /usr/bin/time -f "%M" true >/dev/null 2>&1; then
+  echo "GNU time is required at /usr/bin/time" >&2
+  exit 1
+fi
+
+JAR=build/quarkus-app/quarkus-run.jar
+CDS=build/quarkus-app/app-cds.jsa
+NATIVE=$(ls build/*-runner 2>/dev/null | head -n 1 || true)
+
+declare -A VARIANTS=()
+ORDER=()
+if [[ -f "$JAR" ]]; then
+  VARIANTS[jvm]="java -jar $JAR"
+  ORDER+=(jvm)
+fi
+if [[ -f "$JAR" && -f "$CDS" ]]; then
+  VARIANTS[appcds]="java -XX:SharedArchiveFile=$CDS -Xshare:auto -jar $JAR"
+  ORDER+=(appcds)
+fi
+if [[ -n "$NATIVE" ]]; then
+  VARIANTS[native]="$NATIVE"
+  ORDER+=(native)
+fi
+if [[ ${#ORDER[@]} -eq 0 ]]; then
+  echo "No build found; run ./gradlew build first" >&2
+  exit 1
+fi
+
+TIME_OUT=$(mktemp)
+STUB_PID=
+cleanup() {
+  rm -f "$TIME_OUT"
+  if [[ -n "$STUB_PID" ]]; then
+    kill "$STUB_PID" 2>/dev/null || true
+  fi
+}
+trap cleanup EXIT
+
+if [[ "$STUB" == true ]]; then
+  if [[ ! -f "$JAR" ]]; then
+    echo "--stub needs the JVM build; run ./gradlew build first" >&2
+    exit 1
+  fi
+  STUB_PORT=${STUB_PORT:-18085}
+  java -jar "$JAR" stub-server --port "$STUB_PORT" >/dev/null 2>&1 &
+  STUB_PID=$!
+  for _ in $(seq 1 100); do
+    if (exec 3<>"/dev/tcp/127.0.0.1/$STUB_PORT") 2>/dev/null; then
+      break
+    fi
+    sleep 0.1
+  done
+  export DESCOPE_BASE_URL="http://127.0.0.1:$STUB_PORT"
+  export DESCOPE_PROJECT_ID="${DESCOPE_PROJECT_ID:-Pstub}"
+  export DESCOPE_MANAGEMENT_KEY="${DESCOPE_MANAGEMENT_KEY:-stub-key}"
+fi
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+printf "%-8s %-60s %10s %14s %5s\n" "variant" "command" "median ms" "median RSS MB" "exit"
+for variant in "${ORDER[@]}"; do
+  for command in "${COMMANDS[@]}"; do
+    times=()
+    rss=()
+    status=0
+    for ((i = 0; i < RUNS; i++)); do
+      start=$(date +%s%N)
+      # shellcheck disable=SC2086
+      /usr/bin/time -f "%M" -o "$TIME_OUT" ${VARIANTS[$variant]} $command >/dev/null 2>&1 \
+        && status=0 || status=$?
+      end=$(date +%s%N)
+      times+=($(((end - start) / 1000000)))
+      rss+=("$(tail -n 1 "$TIME_OUT")")
+    done
+    printf "%-8s %-60s %10s %14s %5s\n" \
+      "$variant" \
+      "${command:0:60}" \
+      "$(printf "%s\n" "${times[@]}" | median)" \
+      "$(printf "%s\n" "${rss[@]}" | median | awk '{ printf "%.1f", $1 / 1024 }')" \
+      "$status"
+  done
+done
@@ -0,0 +1,76 @@
+package com.descope.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.descope.utils.model.rebac.NamespaceModel;
+import com.descope.utils.model.rebac.NodeExpressionModel;
+import com.descope.utils.model.rebac.NodeModel;
+import com.descope.utils.model.rebac.RelationDefinitionModel;
+import com.descope.utils.model.rebac.SchemaModel;
+
+/** Generates the inputs shared by the benchmarks. */
+public final class BenchmarkData {
+
+  private BenchmarkData() {}
+
+  /**
+   * Generates relation tuples spread over a realistic number of resources and targets.
+   *
+   * @param count The number of tuples
+   * @return The tuples
+   */
+  public static List<RelationTupleModel> tuples(int count) {
+    String[] relations = {"owner", "editor", "viewer", "parent"};
+    List<RelationTupleModel> tuples = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      tuples.add(
+          new RelationTupleModel(
+              "doc-" + (i / 8),
+              relations[i % relations.length],
+              "doc",
+              "user:user-" + (i % 50_000) + "@example.com"));
+    }
+    return tuples;
+  }
+
+  /**
+   * Generates a schema in which every third relation uses a computed definition.
+   *
+   * @param namespaces The number of namespaces
+   * @param relationsPerNamespace The number of relation definitions in each namespace
+   * @return The schema
+   */
+  public static SchemaModel schema(int namespaces, int relationsPerNamespace) {
+    List<NamespaceModel> namespaceModels = new ArrayList<>(namespaces);
+    for (int n = 0; n < namespaces; n++) {
+      String namespace = "ns" + n;
+      String parent = "ns" + ((n + 1) % namespaces);
+      List<RelationDefinitionModel> relations = new ArrayList<>(relationsPerNamespace);
+      for (int r = 0; r < relationsPerNamespace; r++) {
+        String name = "rel" + r;
+        if (r % 3 == 2) {
+          // union of direct targets and the same relation on the parent namespace
+          NodeModel self =
+              new NodeModel(
+                  "child", null, new NodeExpressionModel("self", null, null, null, null));
+          NodeModel inherited =
+              new NodeModel(
+                  "child",
+                  null,
+                  new NodeExpressionModel("relationLeft", "parent", namespace, name, parent));
+          relations.add(
+              new RelationDefinitionModel(
+                  name, List.of(), new NodeModel("union", List.of(self, inherited), null)));
+        } else if (r % 3 == 1) {
+          relations.add(new RelationDefinitionModel(name, List.of("user", "group")));
+        } else {
+          relations.add(new RelationDefinitionModel(name, List.of("user")));
+        }
+      }
+      namespaceModels.add(new NamespaceModel(namespace, relations));
+    }
+    return new SchemaModel("benchmark", namespaceModels);
+  }
+}
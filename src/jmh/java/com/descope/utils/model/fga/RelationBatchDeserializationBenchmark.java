@@ -0,0 +1,48 @@
+package com.descope.utils.model.fga;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.descope.utils.BenchmarkData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** Measures reading a relation file in the {@code {"relations": [...]}} batch format. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RelationBatchDeserializationBenchmark {
+
+  @Param({"1000", "100000"})
+  public int tuples;
+
+  private ObjectMapper objectMapper;
+  private byte[] json;
+
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper = new ObjectMapper();
+    // Written as a map so the input has only the fields a real relation file has
+    json = objectMapper.writeValueAsBytes(Map.of("relations", BenchmarkData.tuples(tuples)));
+  }
+
+  @Benchmark
+  public RelationBatchModel readRelationBatch() throws IOException {
+    return objectMapper.readValue(json, RelationBatchModel.class);
+  }
+}
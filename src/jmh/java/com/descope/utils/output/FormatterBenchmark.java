@@ -0,0 +1,62 @@
+package com.descope.utils.output;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.descope.utils.BenchmarkData;
+import com.descope.utils.model.OperationResult;
+
+/**
+ * Measures formatting large results, such as the tuples returned by {@code query-fga-relations} and
+ * the schema returned by {@code load-rebac-schema}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatterBenchmark {
+
+  @Param({"tuples", "schema"})
+  public String payload;
+
+  @Param({"10000"})
+  public int size;
+
+  private JsonFormatter jsonFormatter;
+  private TextFormatter textFormatter;
+  private OperationResult<?> result;
+
+  @Setup
+  public void setUp() {
+    jsonFormatter = new JsonFormatter();
+    textFormatter = new TextFormatter();
+    Object data =
+        "tuples".equals(payload)
+            ? BenchmarkData.tuples(size)
+            : BenchmarkData.schema(size / 30, 30);
+    result = OperationResult.success(data, "Found " + size + " item(s)");
+  }
+
+  @Benchmark
+  public String formatJson() {
+    return jsonFormatter.format(result);
+  }
+
+  @Benchmark
+  public String formatText() {
+    return textFormatter.format(result);
+  }
+}
@@ -0,0 +1,45 @@
+package com.descope.utils.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.descope.model.authz.Relation;
+import com.descope.utils.BenchmarkData;
+import com.descope.utils.model.fga.RelationTupleModel;
+
+/** Measures the conversion of relation tuples to the SDK relations sent to the API. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RelationConversionBenchmark {
+
+  @Param({"500", "1000000"})
+  public int tuples;
+
+  private List<RelationTupleModel> models;
+
+  @Setup
+  public void setUp() {
+    models = BenchmarkData.tuples(tuples);
+  }
+
+  @Benchmark
+  public List<Relation> toSdkRelations() {
+    return AuthzService.toSdkRelations(models);
+  }
+}
@@ -0,0 +1,57 @@
+package com.descope.utils.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.descope.model.authz.Schema;
+import com.descope.utils.BenchmarkData;
+import com.descope.utils.model.rebac.SchemaModel;
+
+/** Measures the conversion of large ReBAC schemas between our models and the SDK models. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaConversionBenchmark {
+
+  @Param({"10", "200"})
+  public int namespaces;
+
+  @Param({"30"})
+  public int relationsPerNamespace;
+
+  private AuthzService authzService;
+  private SchemaModel schemaModel;
+  private Schema sdkSchema;
+
+  @Setup
+  public void setUp() {
+    // The conversions do not call the API, so no DescopeService is needed
+    authzService = new AuthzService(null);
+    schemaModel = BenchmarkData.schema(namespaces, relationsPerNamespace);
+    sdkSchema = authzService.convertToSdkSchema(schemaModel);
+  }
+
+  @Benchmark
+  public Schema convertToSdkSchema() {
+    return authzService.convertToSdkSchema(schemaModel);
+  }
+
+  @Benchmark
+  public SchemaModel convertFromSdkSchema() {
+    return authzService.convertFromSdkSchema(sdkSchema);
+  }
+}
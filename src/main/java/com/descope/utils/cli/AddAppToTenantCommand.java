@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +26,7 @@ import picocli.CommandLine.Option;
     name = "add-app-to-tenant",
     description = "Associate an application with a tenant",
     mixinStandardHelpOptions = true)
-public class AddAppToTenantCommand implements Runnable {
+public class AddAppToTenantCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(AddAppToTenantCommand.class);
 
@@ -47,7 +49,7 @@ public class AddAppToTenantCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -64,12 +66,12 @@ public class AddAppToTenantCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to add app to tenant", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
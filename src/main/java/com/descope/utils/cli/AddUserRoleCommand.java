@@ -1,6 +1,7 @@
 package com.descope.utils.cli;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,6 +10,7 @@ import com.descope.utils.config.ConfigurationService;
 import com.descope.utils.config.DescopeConfig;
 import com.descope.utils.model.OperationResult;
 import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.service.RoleService;
 import com.descope.utils.service.UserService;
 
 import jakarta.inject.Inject;
@@ -20,13 +22,14 @@ import picocli.CommandLine.Parameters;
 /**
  * Command to add roles to a user.
  *
- * <p>Adds one or more roles to a user at project level or within a specific tenant.
+ * <p>Adds one or more roles to a user at project level or within a specific tenant. Unknown role
+ * names are reported before the user is changed.
  */
 @Command(
     name = "add-user-role",
     description = "Add roles to a user",
     mixinStandardHelpOptions = true)
-public class AddUserRoleCommand implements Runnable {
+public class AddUserRoleCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(AddUserRoleCommand.class);
 
@@ -49,10 +52,11 @@ public class AddUserRoleCommand implements Runnable {
 
   @Inject private ConfigurationService configService;
   @Inject private UserService userService;
+  @Inject private RoleService roleService;
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -62,6 +66,15 @@ public class AddUserRoleCommand implements Runnable {
       String context = tenantId != null ? " in tenant: " + tenantId : " (project-level)";
       logger.info("Adding roles {} to user: {}{}", roles, loginId, context);
 
+      // Check the role names before changing the user
+      List<String> unknownRoles = roleService.findUnknownRoles(config, tenantId, roles);
+      if (!unknownRoles.isEmpty()) {
+        OperationResult<Void> failure =
+            OperationResult.failure("Unknown role(s)" + context + ": " + unknownRoles);
+        System.out.println(outputFormatter.format(failure, globalOptions.getOutputFormat()));
+        return 1;
+      }
+
       // Add the roles
       OperationResult<Void> result;
       if (tenantId != null && !tenantId.isEmpty()) {
@@ -75,12 +88,12 @@ public class AddUserRoleCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to add roles to user", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,7 +28,7 @@ import picocli.CommandLine.Parameters;
     name = "authenticate",
     description = "Authenticate a user with password and get JWT tokens",
     mixinStandardHelpOptions = true)
-public class AuthenticateCommand implements Runnable {
+public class AuthenticateCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(AuthenticateCommand.class);
 
@@ -54,7 +56,7 @@ public class AuthenticateCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -78,12 +80,12 @@ public class AuthenticateCommand implements Runnable {
       }
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to authenticate user", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 
@@ -0,0 +1,135 @@
+package com.descope.utils.cli;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.input.InputFormat;
+import com.descope.utils.input.RowReader;
+import com.descope.utils.input.UserImportRecord;
+import com.descope.utils.journal.CheckpointJournal;
+import com.descope.utils.model.BulkOperationSummary;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.OutputFormat;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to create many Descope users from a CSV or JSON Lines file.
+ *
+ * <p>The file is streamed row by row and users are created concurrently with a bounded number of
+ * requests in flight. A result line is printed for each row as soon as it completes, followed by a
+ * summary.
+ */
+@Command(
+    name = "bulk-create-users",
+    description = "Create Descope users in bulk from a CSV or JSON Lines file",
+    mixinStandardHelpOptions = true)
+public class BulkCreateUsersCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(BulkCreateUsersCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Mixin private CheckpointOptions checkpointOptions;
+
+  @Option(
+      names = {"-f", "--file"},
+      description = "Path to a CSV (with header) or JSON Lines file of users",
+      required = true)
+  private String file;
+
+  @Option(
+      names = {"--input-format"},
+      description = "Input file format: CSV or JSONL (default: detected from file extension)")
+  private InputFormat inputFormat;
+
+  @Option(
+      names = {"-t", "--tenant-id"},
+      description = "Default tenant ID for rows that do not specify one")
+  private String tenantId;
+
+  @Option(
+      names = {"-c", "--concurrency"},
+      description = "Maximum number of concurrent create requests (default: ${DEFAULT-VALUE})",
+      defaultValue = "8")
+  private int concurrency;
+
+  @Inject private ConfigurationService configService;
+  @Inject private UserService userService;
+  @Inject private OutputFormatter outputFormatter;
+  @Inject private ObjectMapper objectMapper;
+
+  @Override
+  public Integer call() {
+    try {
+      // Load configuration
+      DescopeConfig config =
+          configService.loadConfiguration(
+              globalOptions.getProjectId(), globalOptions.getManagementKey());
+
+      File inputFile = new File(file);
+      if (!inputFile.exists()) {
+        System.err.println("Error: File not found: " + file);
+        return 1;
+      }
+
+      InputFormat format = inputFormat != null ? inputFormat : InputFormat.fromFileName(file);
+      OutputFormat outputFormat = globalOptions.getOutputFormat();
+
+      logger.info("Bulk creating users from {} ({})", file, format);
+
+      BulkOperationSummary summary;
+      try (RowReader reader = RowReader.open(inputFile.toPath(), format, objectMapper);
+          CheckpointJournal journal =
+              checkpointOptions.open("bulk-create-users tenant=" + tenantId, inputFile.toPath())) {
+        if (journal != null) {
+          journal.skipCommitted(reader);
+        }
+        Iterator<UserImportRecord> records =
+            reader.map(row -> UserImportRecord.fromRow(row, tenantId));
+        summary =
+            userService.createUsers(
+                config,
+                records,
+                concurrency,
+                row -> {
+                  if (journal != null) {
+                    journal.record(row.getRow(), row.getResult().isSuccess());
+                  }
+                  System.out.println(outputFormatter.formatRow(row, outputFormat));
+                });
+        if (journal != null) {
+          summary = summary.withSkipped(journal.getCommittedCount());
+        }
+      }
+
+      // Print the summary after all rows
+      String message = "Processed " + summary.getTotal() + " user(s)";
+      if (!summary.isAllSucceeded()) {
+        message += " with " + summary.getFailed() + " failure(s)";
+      }
+      System.out.println(
+          outputFormatter.format(OperationResult.success(summary, message), outputFormat));
+
+      // Exit with appropriate code
+      return summary.isAllSucceeded() ? 0 : 1;
+
+    } catch (Exception e) {
+      logger.error("Failed to bulk create users", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.descope.utils.cli;
+
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.service.ApplicationService;
+import com.descope.utils.service.AuthzService;
+import com.descope.utils.service.FederatedApplicationService;
+import com.descope.utils.service.MetadataStore;
+import com.descope.utils.service.RoleService;
+import com.descope.utils.service.TenantService;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+
+/**
+ * Command to drop a project's cached metadata, so that the next command loads it from the API.
+ *
+ * <p>Clears the project's files in the cache directory and, inside a {@code shell} or daemon
+ * session, the session's in-memory copies as well.
+ */
+@Command(
+    name = "clear",
+    description = "Delete the project's cached metadata",
+    mixinStandardHelpOptions = true)
+public class CacheClearCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(CacheClearCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Inject private ConfigurationService configService;
+  @Inject private MetadataStore metadataStore;
+  @Inject private TenantService tenantService;
+  @Inject private RoleService roleService;
+  @Inject private ApplicationService applicationService;
+  @Inject private FederatedApplicationService federatedApplicationService;
+  @Inject private AuthzService authzService;
+  @Inject private OutputFormatter outputFormatter;
+
+  @Override
+  public Integer call() {
+    try {
+      // Load configuration
+      DescopeConfig config =
+          configService.loadConfiguration(
+              globalOptions.getProjectId(), globalOptions.getManagementKey());
+
+      // Delete the files, then the copies held by this session
+      int deleted = metadataStore.clear(config);
+      tenantService.invalidateIndex(config);
+      roleService.invalidateCatalog(config);
+      applicationService.invalidateIndex(config);
+      federatedApplicationService.invalidateIndex(config);
+      authzService.invalidateSchema(config);
+
+      String message = "No cache directory is configured; cleared in-memory metadata only";
+      if (metadataStore.isEnabled()) {
+        message =
+            "Deleted " + deleted + " cache file(s) from " + metadataStore.projectDirectory(config);
+      }
+      logger.info(message);
+
+      // Format and print the result
+      OperationResult<Void> result = OperationResult.success(null, message);
+      System.out.println(outputFormatter.format(result, globalOptions.getOutputFormat()));
+      return 0;
+
+    } catch (Exception e) {
+      logger.error("Failed to clear the metadata cache", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+}
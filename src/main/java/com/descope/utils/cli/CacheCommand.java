@@ -0,0 +1,27 @@
+package com.descope.utils.cli;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+
+/**
+ * Command group for the on-disk metadata cache.
+ *
+ * <p>The cache is enabled by setting the DESCOPE_CACHE_DIR environment variable or the {@code
+ * descope.cache-dir} system property. It holds each project's tenants, roles, inbound apps, SSO
+ * apps and ReBAC schema, so that consecutive invocations from a shell script do not reload them.
+ */
+@Command(
+    name = "cache",
+    description = "Manage the on-disk metadata cache shared across invocations",
+    mixinStandardHelpOptions = true,
+    subcommands = {CacheRefreshCommand.class, CacheClearCommand.class})
+public class CacheCommand implements Runnable {
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Override
+  public void run() {
+    // When no subcommand is specified, show help
+    System.out.println("Please specify refresh or clear. Use cache --help for details.");
+  }
+}
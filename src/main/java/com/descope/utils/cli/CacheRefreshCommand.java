@@ -0,0 +1,106 @@
+package com.descope.utils.cli;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.service.ApplicationService;
+import com.descope.utils.service.AuthzService;
+import com.descope.utils.service.FederatedApplicationService;
+import com.descope.utils.service.MetadataStore;
+import com.descope.utils.service.RoleService;
+import com.descope.utils.service.TenantService;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+
+/**
+ * Command to load a project's metadata again and replace the cached copies.
+ *
+ * <p>Each kind of metadata is loaded independently, so one that fails, for example because the
+ * management key lacks access to it, does not stop the others from being refreshed.
+ */
+@Command(
+    name = "refresh",
+    description = "Reload tenants, roles, apps, SSO apps and the ReBAC schema into the cache",
+    mixinStandardHelpOptions = true)
+public class CacheRefreshCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(CacheRefreshCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Inject private ConfigurationService configService;
+  @Inject private MetadataStore metadataStore;
+  @Inject private TenantService tenantService;
+  @Inject private RoleService roleService;
+  @Inject private ApplicationService applicationService;
+  @Inject private FederatedApplicationService federatedApplicationService;
+  @Inject private AuthzService authzService;
+  @Inject private OutputFormatter outputFormatter;
+
+  @Override
+  public Integer call() {
+    try {
+      // Load configuration
+      DescopeConfig config =
+          configService.loadConfiguration(
+              globalOptions.getProjectId(), globalOptions.getManagementKey());
+
+      Map<String, Integer> counts = new LinkedHashMap<>();
+      List<String> failures = new ArrayList<>();
+      refresh("tenants", tenantService::refreshIndex, config, counts, failures);
+      refresh("roles", roleService::refreshCatalog, config, counts, failures);
+      refresh("apps", applicationService::refreshIndex, config, counts, failures);
+      refresh("sso-apps", federatedApplicationService::refreshIndex, config, counts, failures);
+      refresh("rebac-schema", authzService::refreshSchema, config, counts, failures);
+
+      String message = "Refreshed " + counts.keySet();
+      if (metadataStore.isEnabled()) {
+        message += " in " + metadataStore.projectDirectory(config);
+      } else {
+        message += " in memory only; set DESCOPE_CACHE_DIR to keep them on disk";
+      }
+      if (!failures.isEmpty()) {
+        message += "; failed: " + String.join("; ", failures);
+      }
+
+      // Format and print the result
+      OperationResult<Map<String, Integer>> result = OperationResult.success(counts, message);
+      System.out.println(outputFormatter.format(result, globalOptions.getOutputFormat()));
+
+      // Exit with appropriate code
+      return failures.isEmpty() ? 0 : 1;
+
+    } catch (Exception e) {
+      logger.error("Failed to refresh the metadata cache", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  private static void refresh(
+      String kind,
+      ToIntFunction<DescopeConfig> loader,
+      DescopeConfig config,
+      Map<String, Integer> counts,
+      List<String> failures) {
+    try {
+      counts.put(kind, loader.applyAsInt(config));
+    } catch (RuntimeException e) {
+      logger.warn("Failed to refresh {}: {}", kind, e.getMessage());
+      failures.add(kind + ": " + e.getMessage());
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.descope.utils.cli;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,7 +29,7 @@ import picocli.CommandLine.Option;
     name = "check-fga-relation",
     description = "Check if FGA relation tuple(s) exist",
     mixinStandardHelpOptions = true)
-public class CheckFgaRelationCommand implements Runnable {
+public class CheckFgaRelationCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(CheckFgaRelationCommand.class);
 
@@ -63,7 +64,7 @@ public class CheckFgaRelationCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -91,12 +92,12 @@ public class CheckFgaRelationCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to check FGA relation", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
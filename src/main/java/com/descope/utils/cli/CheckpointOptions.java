@@ -0,0 +1,72 @@
+package com.descope.utils.cli;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.descope.utils.journal.CheckpointJournal;
+
+import picocli.CommandLine.Option;
+
+/**
+ * Checkpoint options shared by long-running bulk commands.
+ *
+ * <p>When enabled, committed rows are recorded in a local journal so that a failed or interrupted
+ * run can be restarted with {@code --resume} and skip the work that was already done.
+ */
+public class CheckpointOptions {
+
+  @Option(
+      names = {"--journal"},
+      description =
+          "Record progress in this checkpoint journal (default with --resume: <file>.journal)")
+  private String journal;
+
+  @Option(
+      names = {"--resume"},
+      description = "Resume from the checkpoint journal, skipping rows that were already committed")
+  private boolean resume;
+
+  /**
+   * Gets the journal path from command line.
+   *
+   * @return The journal path, or null if not specified
+   */
+  public String getJournal() {
+    return journal;
+  }
+
+  /**
+   * Checks if resuming was requested.
+   *
+   * @return true if the command should resume from its journal
+   */
+  public boolean isResume() {
+    return resume;
+  }
+
+  /**
+   * Checks if checkpointing is enabled.
+   *
+   * @return true if either a journal or resume was requested
+   */
+  public boolean isEnabled() {
+    return journal != null || resume;
+  }
+
+  /**
+   * Opens the checkpoint journal for an input file.
+   *
+   * @param operation The operation name and any options that change how rows are applied
+   * @param input The input file
+   * @return The open journal, or null if checkpointing is not enabled
+   * @throws IOException if the journal cannot be opened
+   */
+  public CheckpointJournal open(String operation, Path input) throws IOException {
+    if (!isEnabled()) {
+      return null;
+    }
+    Path path = journal != null ? Paths.get(journal) : CheckpointJournal.defaultPath(input);
+    return CheckpointJournal.open(path, CheckpointJournal.fingerprint(operation, input), resume);
+  }
+}
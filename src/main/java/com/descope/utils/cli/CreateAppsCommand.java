@@ -0,0 +1,111 @@
+package com.descope.utils.cli;
+
+import java.io.File;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.input.ApplicationImportRecord;
+import com.descope.utils.input.InputFormat;
+import com.descope.utils.input.RowReader;
+import com.descope.utils.model.BulkOperationSummary;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.OutputFormat;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.service.ApplicationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to create many Descope applications from a CSV or JSON Lines file.
+ *
+ * <p>The project's applications are loaded once and every row is checked against that snapshot,
+ * so rerunning the same file only creates the applications that are still missing. A result line
+ * is printed for each row as soon as it completes, followed by a summary.
+ */
+@Command(
+    name = "create-apps",
+    description = "Create Descope applications in bulk from a CSV or JSON Lines file",
+    mixinStandardHelpOptions = true)
+public class CreateAppsCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(CreateAppsCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Option(
+      names = {"-f", "--file"},
+      description = "Path to a CSV (with header) or JSON Lines file of applications",
+      required = true)
+  private String file;
+
+  @Option(
+      names = {"--input-format"},
+      description = "Input file format: CSV or JSONL (default: detected from file extension)")
+  private InputFormat inputFormat;
+
+  @Option(
+      names = {"-c", "--concurrency"},
+      description = "Maximum number of concurrent create requests (default: ${DEFAULT-VALUE})",
+      defaultValue = "4")
+  private int concurrency;
+
+  @Inject private ConfigurationService configService;
+  @Inject private ApplicationService applicationService;
+  @Inject private OutputFormatter outputFormatter;
+  @Inject private ObjectMapper objectMapper;
+
+  @Override
+  public Integer call() {
+    try {
+      // Load configuration
+      DescopeConfig config =
+          configService.loadConfiguration(
+              globalOptions.getProjectId(), globalOptions.getManagementKey());
+
+      File inputFile = new File(file);
+      if (!inputFile.exists()) {
+        System.err.println("Error: File not found: " + file);
+        return 1;
+      }
+
+      InputFormat format = inputFormat != null ? inputFormat : InputFormat.fromFileName(file);
+      OutputFormat outputFormat = globalOptions.getOutputFormat();
+
+      logger.info("Bulk creating applications from {} ({})", file, format);
+
+      BulkOperationSummary summary;
+      try (RowReader reader = RowReader.open(inputFile.toPath(), format, objectMapper)) {
+        summary =
+            applicationService.createApplications(
+                config,
+                reader.map(ApplicationImportRecord::fromRow),
+                concurrency,
+                row -> System.out.println(outputFormatter.formatRow(row, outputFormat)));
+      }
+
+      // Print the summary after all rows
+      String message = "Processed " + summary.getTotal() + " application(s)";
+      if (!summary.isAllSucceeded()) {
+        message += " with " + summary.getFailed() + " failure(s)";
+      }
+      System.out.println(
+          outputFormatter.format(OperationResult.success(summary, message), outputFormat));
+
+      // Exit with appropriate code
+      return summary.isAllSucceeded() ? 0 : 1;
+
+    } catch (Exception e) {
+      logger.error("Failed to bulk create applications", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,7 +29,7 @@ import picocli.CommandLine.Parameters;
     name = "create-federated-app",
     description = "Create a new Descope federated application (OIDC or SAML)",
     mixinStandardHelpOptions = true)
-public class CreateFederatedAppCommand implements Runnable {
+public class CreateFederatedAppCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(CreateFederatedAppCommand.class);
 
@@ -52,12 +54,17 @@ public class CreateFederatedAppCommand implements Runnable {
       description = "Login page URL for the federated application")
   private String loginPageUrl;
 
+  @Option(
+      names = {"--verify"},
+      description = "Load the created application back and print what Descope stored")
+  private boolean verify;
+
   @Inject private ConfigurationService configService;
   @Inject private FederatedApplicationService federatedApplicationService;
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -71,8 +78,7 @@ public class CreateFederatedAppCommand implements Runnable {
       } catch (IllegalArgumentException e) {
         logger.error("Invalid federated application type: {}", type);
         System.err.println("Error: " + e.getMessage());
-        System.exit(1);
-        return;
+        return 1;
       }
 
       logger.info("Creating {} federated application: {}", federatedAppType, name);
@@ -80,19 +86,19 @@ public class CreateFederatedAppCommand implements Runnable {
       // Create the federated application
       OperationResult<FederatedApplication> result =
           federatedApplicationService.createFederatedApplication(
-              config, name, description, federatedAppType, loginPageUrl);
+              config, name, description, federatedAppType, loginPageUrl, verify);
 
       // Format and print the result
       String output = outputFormatter.format(result, globalOptions.getOutputFormat());
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to create federated application", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
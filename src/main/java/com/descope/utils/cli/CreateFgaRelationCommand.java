@@ -3,14 +3,19 @@ package com.descope.utils.cli;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.LongPredicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.descope.utils.config.ConfigurationService;
 import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.input.RelationTupleReader;
+import com.descope.utils.journal.CheckpointJournal;
+import com.descope.utils.model.BulkOperationSummary;
 import com.descope.utils.model.OperationResult;
-import com.descope.utils.model.fga.RelationBatchModel;
+import com.descope.utils.model.OutputFormat;
 import com.descope.utils.model.fga.RelationTupleModel;
 import com.descope.utils.output.OutputFormatter;
 import com.descope.utils.service.AuthzService;
@@ -31,12 +36,14 @@ import picocli.CommandLine.Option;
     name = "create-fga-relation",
     description = "Create FGA relation tuple(s) between targets and resources",
     mixinStandardHelpOptions = true)
-public class CreateFgaRelationCommand implements Runnable {
+public class CreateFgaRelationCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(CreateFgaRelationCommand.class);
 
   @Mixin private GlobalOptions globalOptions;
 
+  @Mixin private CheckpointOptions checkpointOptions;
+
   @Option(
       names = {"-r", "--resource"},
       description = "Resource identifier (e.g., 'document:report-123')")
@@ -62,13 +69,26 @@ public class CreateFgaRelationCommand implements Runnable {
       description = "Path to JSON file containing relation tuples")
   private String file;
 
+  @Option(
+      names = {"--chunk-size"},
+      description =
+          "Relation tuples per request when loading from --file (default: ${DEFAULT-VALUE})",
+      defaultValue = "500")
+  private int chunkSize;
+
+  @Option(
+      names = {"-c", "--concurrency"},
+      description = "Maximum number of concurrent requests (default: ${DEFAULT-VALUE})",
+      defaultValue = "4")
+  private int concurrency;
+
   @Inject private ConfigurationService configService;
   @Inject private AuthzService authzService;
   @Inject private OutputFormatter outputFormatter;
   @Inject private ObjectMapper objectMapper;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Validate input
       if (file == null
@@ -78,8 +98,7 @@ public class CreateFgaRelationCommand implements Runnable {
               || target == null)) {
         System.err.println(
             "Error: Either provide --file or all of --resource, --relation, --namespace, and --target");
-        System.exit(1);
-        return;
+        return 1;
       }
 
       if (file != null
@@ -88,8 +107,12 @@ public class CreateFgaRelationCommand implements Runnable {
               || namespace != null
               || target != null)) {
         System.err.println("Error: Cannot specify both --file and individual relation options");
-        System.exit(1);
-        return;
+        return 1;
+      }
+
+      if (file == null && checkpointOptions.isEnabled()) {
+        System.err.println("Error: --journal and --resume require --file");
+        return 1;
       }
 
       // Load configuration
@@ -97,43 +120,93 @@ public class CreateFgaRelationCommand implements Runnable {
           configService.loadConfiguration(
               globalOptions.getProjectId(), globalOptions.getManagementKey());
 
-      List<RelationTupleModel> tuples;
-
       if (file != null) {
-        // Load relations from file
-        logger.info("Loading relation tuples from file: {}", file);
-        File jsonFile = new File(file);
-        if (!jsonFile.exists()) {
-          System.err.println("Error: File not found: " + file);
-          System.exit(1);
-          return;
-        }
-        RelationBatchModel batch = objectMapper.readValue(jsonFile, RelationBatchModel.class);
-        tuples = batch.getRelations();
-        logger.info("Loaded {} relation tuple(s) from file", tuples.size());
-      } else {
-        // Create single relation from command-line options
-        logger.info("Creating single relation tuple");
-        RelationTupleModel tuple =
-            new RelationTupleModel(resource, relationDefinition, namespace, target);
-        tuples = Collections.singletonList(tuple);
+        return createFromFile(config);
       }
 
-      // Create relations
+      // Create single relation from command-line options
+      logger.info("Creating single relation tuple");
+      RelationTupleModel tuple =
+          new RelationTupleModel(resource, relationDefinition, namespace, target);
       OperationResult<List<RelationTupleModel>> result =
-          authzService.createRelations(config, tuples);
+          authzService.createRelations(config, Collections.singletonList(tuple));
 
       // Format and print the result
       String output = outputFormatter.format(result, globalOptions.getOutputFormat());
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to create FGA relation(s)", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
+
+  /**
+   * Creates the relations in a file as concurrent chunks.
+   *
+   * <p>Tuples are numbered by their position in the file, starting at 1. When checkpointing is
+   * enabled, tuples committed by a previous run are skipped and each chunk is recorded in the
+   * journal as it completes, so a rerun with {@code --resume} retries only the failed chunks.
+   *
+   * @return The exit code
+   */
+  private int createFromFile(DescopeConfig config) throws Exception {
+    logger.info("Loading relation tuples from file: {}", file);
+    File jsonFile = new File(file);
+    if (!jsonFile.exists()) {
+      System.err.println("Error: File not found: " + file);
+      return 1;
+    }
+
+    OutputFormat outputFormat = globalOptions.getOutputFormat();
+    BulkOperationSummary summary;
+    try (RelationTupleReader tuples = RelationTupleReader.open(jsonFile.toPath(), objectMapper);
+        CheckpointJournal journal =
+            checkpointOptions.open("create-fga-relation", jsonFile.toPath())) {
+      LongPredicate skip = journal != null ? journal::isCommitted : row -> false;
+      summary =
+          authzService.createRelations(
+              config,
+              tuples,
+              chunkSize,
+              concurrency,
+              skip,
+              chunk -> {
+                if (chunk.getSent() == 0) {
+                  return;
+                }
+                if (journal != null) {
+                  journal.recordChunk(
+                      chunk.getFirstRow(), chunk.getLastRow(), chunk.getResult().isSuccess());
+                }
+                if (!chunk.getResult().isSuccess()) {
+                  System.err.println(
+                      "Error: tuples "
+                          + chunk.getFirstRow()
+                          + "-"
+                          + chunk.getLastRow()
+                          + ": "
+                          + chunk.getResult().getErrorMessage());
+                }
+              });
+    }
+
+    // Print the summary after all chunks
+    String message = "Created " + summary.getCreated() + " relation tuple(s)";
+    if (!summary.isAllSucceeded()) {
+      message += " with " + summary.getFailed() + " failure(s)";
+      if (checkpointOptions.isEnabled()) {
+        message += "; rerun with --resume to retry";
+      }
+    }
+    System.out.println(
+        outputFormatter.format(OperationResult.success(summary, message), outputFormat));
+
+    // Exit with appropriate code
+    return summary.isAllSucceeded() ? 0 : 1;
+  }
 }
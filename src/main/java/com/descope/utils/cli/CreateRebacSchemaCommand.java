@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +27,7 @@ import picocli.CommandLine.Option;
     name = "create-rebac-schema",
     description = "Create or update a ReBAC authorization schema from a JSON file",
     mixinStandardHelpOptions = true)
-public class CreateRebacSchemaCommand implements Runnable {
+public class CreateRebacSchemaCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(CreateRebacSchemaCommand.class);
 
@@ -48,7 +50,7 @@ public class CreateRebacSchemaCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -65,12 +67,12 @@ public class CreateRebacSchemaCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to create ReBAC schema", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -1,6 +1,7 @@
 package com.descope.utils.cli;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +28,7 @@ import picocli.CommandLine.Parameters;
     name = "create-role",
     description = "Create a new RBAC role",
     mixinStandardHelpOptions = true)
-public class CreateRoleCommand implements Runnable {
+public class CreateRoleCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(CreateRoleCommand.class);
 
@@ -57,7 +58,7 @@ public class CreateRoleCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -76,12 +77,12 @@ public class CreateRoleCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to create role", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
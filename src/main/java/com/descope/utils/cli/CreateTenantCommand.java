@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,7 +28,7 @@ import picocli.CommandLine.Parameters;
     name = "create-tenant",
     description = "Create a new Descope tenant",
     mixinStandardHelpOptions = true)
-public class CreateTenantCommand implements Runnable {
+public class CreateTenantCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(CreateTenantCommand.class);
 
@@ -45,7 +47,7 @@ public class CreateTenantCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -62,12 +64,12 @@ public class CreateTenantCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to create tenant", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
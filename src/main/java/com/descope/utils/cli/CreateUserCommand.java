@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,7 +28,7 @@ import picocli.CommandLine.Parameters;
     name = "create-user",
     description = "Create a new Descope user",
     mixinStandardHelpOptions = true)
-public class CreateUserCommand implements Runnable {
+public class CreateUserCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(CreateUserCommand.class);
 
@@ -51,7 +53,7 @@ public class CreateUserCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -68,12 +70,12 @@ public class CreateUserCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to create user", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
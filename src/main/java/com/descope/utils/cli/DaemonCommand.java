@@ -0,0 +1,141 @@
+package com.descope.utils.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.daemon.DaemonProtocol;
+import com.descope.utils.daemon.DaemonRequest;
+import com.descope.utils.daemon.DaemonServer;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to serve other commands over a Unix domain socket.
+ *
+ * <p>This command keeps one process running and accepts command invocations from {@link
+ * com.descope.utils.daemon.DaemonClient}, so callers that run many short commands pay for starting
+ * Quarkus and creating Descope clients once instead of on every call. Requests run concurrently,
+ * each parsed into a fresh command instance, and share the cached Descope clients. Credentials sent
+ * by the client take precedence over the global options given to {@code daemon}, and relative file
+ * paths are resolved against the client's working directory.
+ */
+@Command(
+    name = "daemon",
+    description = "Serve commands from thin clients over a Unix domain socket",
+    mixinStandardHelpOptions = true)
+public class DaemonCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(DaemonCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Option(
+      names = {"-s", "--socket"},
+      description = "Path of the socket file (default: descope-utils-<user>.sock in the temp dir)")
+  private String socket;
+
+  @Option(
+      names = {"--max-concurrent"},
+      description = "Maximum number of commands running at once (default: ${DEFAULT-VALUE})",
+      defaultValue = "16")
+  private int maxConcurrent;
+
+  @Inject private CommandLine.IFactory factory;
+
+  @Override
+  public Integer call() {
+    if (maxConcurrent < 1) {
+      System.err.println("Error: --max-concurrent must be at least 1");
+      return 2;
+    }
+
+    Path socketPath = socket != null ? Path.of(socket) : DaemonProtocol.defaultSocketPath();
+    String workingDirectory = Path.of("").toAbsolutePath().toString();
+
+    try (DaemonServer server =
+        new DaemonServer(
+            socketPath,
+            maxConcurrent,
+            (request, out, err) -> execute(request, workingDirectory, err))) {
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> stop(server)));
+      System.err.println("Listening on " + socketPath);
+      server.serve();
+      return 0;
+    } catch (IOException e) {
+      logger.error("Daemon failed", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  /**
+   * Runs one request. Commands print to {@link System#out} and {@link System#err}, which the server
+   * routes to the client for the duration of the request.
+   *
+   * @return The exit code of the command
+   */
+  private int execute(DaemonRequest request, String workingDirectory, PrintStream err) {
+    List<String> args = request.args();
+    String name = args.isEmpty() ? "" : args.get(0);
+    if ("daemon".equals(name) || "shell".equals(name) || "stub-server".equals(name)) {
+      err.println("Error: " + name + " cannot run inside the daemon");
+      return 2;
+    }
+
+    CommandLine commandLine = new CommandLine(new DescopeUtilsCommand(), factory);
+    if (!args.isEmpty()
+        && request.workingDirectory() != null
+        && !workingDirectory.equals(request.workingDirectory())) {
+      args = resolvePaths(commandLine, args, Path.of(request.workingDirectory()));
+    }
+    commandLine.setDefaultValueProvider(
+        new GlobalOptionDefaults(
+            request.projectId() != null ? request.projectId() : globalOptions.getProjectId(),
+            request.managementKey() != null
+                ? request.managementKey()
+                : globalOptions.getManagementKey(),
+            globalOptions.getOutputFormat()));
+    return commandLine.execute(args.toArray(new String[0]));
+  }
+
+  /**
+   * Resolves the relative file paths of a request against the client's directory. A script run by
+   * {@code run-script} is also told to resolve the paths on its lines against it.
+   *
+   * @return The command name followed by the resolved arguments
+   */
+  private static List<String> resolvePaths(
+      CommandLine commandLine, List<String> args, Path clientDirectory) {
+    String name = args.get(0);
+    List<String> resolved = new ArrayList<>(args.size() + 2);
+    resolved.add(name);
+    if ("run-script".equals(name)
+        && args.stream().noneMatch(arg -> arg.startsWith("--base-directory"))) {
+      resolved.add("--base-directory");
+      resolved.add(clientDirectory.toString());
+    }
+    resolved.addAll(
+        PathArguments.resolve(
+            commandLine.getSubcommands().get(name), args.subList(1, args.size()), clientDirectory));
+    return resolved;
+  }
+
+  private static void stop(DaemonServer server) {
+    try {
+      server.close();
+    } catch (IOException e) {
+      logger.warn("Failed to stop daemon: {}", e.getMessage());
+    }
+  }
+}
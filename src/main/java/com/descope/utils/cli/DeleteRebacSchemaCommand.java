@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,7 +25,7 @@ import picocli.CommandLine.Mixin;
     name = "delete-rebac-schema",
     description = "Delete the current ReBAC authorization schema",
     mixinStandardHelpOptions = true)
-public class DeleteRebacSchemaCommand implements Runnable {
+public class DeleteRebacSchemaCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(DeleteRebacSchemaCommand.class);
 
@@ -34,7 +36,7 @@ public class DeleteRebacSchemaCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -51,12 +53,12 @@ public class DeleteRebacSchemaCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to delete ReBAC schema", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,7 +23,7 @@ import picocli.CommandLine.Parameters;
  * <p>Deletes a role at project level or from a specific tenant.
  */
 @Command(name = "delete-role", description = "Delete an RBAC role", mixinStandardHelpOptions = true)
-public class DeleteRoleCommand implements Runnable {
+public class DeleteRoleCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(DeleteRoleCommand.class);
 
@@ -40,7 +42,7 @@ public class DeleteRoleCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -58,12 +60,12 @@ public class DeleteRoleCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to delete role", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -14,8 +14,10 @@ import picocli.CommandLine.Mixin;
     mixinStandardHelpOptions = true,
     subcommands = {
       CreateAppCommand.class,
+      CreateAppsCommand.class,
       CreateTenantCommand.class,
       CreateUserCommand.class,
+      BulkCreateUsersCommand.class,
       CreateFederatedAppCommand.class,
       AddAppToTenantCommand.class,
       CreateRebacSchemaCommand.class,
@@ -24,11 +26,16 @@ import picocli.CommandLine.Mixin;
       CreateFgaRelationCommand.class,
       DeleteFgaRelationCommand.class,
       CheckFgaRelationCommand.class,
+      EvaluateFgaRelationsCommand.class,
+      ExportFgaRelationsCommand.class,
+      ImportFgaRelationsCommand.class,
+      SyncFgaRelationsCommand.class,
       QueryFgaRelationsCommand.class,
       AuthenticateCommand.class,
       SignUpCommand.class,
       SetPasswordCommand.class,
       MigrateLegacyUserCommand.class,
+      MigrateLegacyUsersCommand.class,
       UpdateUserAttributeCommand.class,
       CreateRoleCommand.class,
       ListRolesCommand.class,
@@ -36,7 +43,13 @@ import picocli.CommandLine.Mixin;
       DeleteRoleCommand.class,
       AddUserRoleCommand.class,
       RemoveUserRoleCommand.class,
-      SetUserRolesCommand.class
+      SetUserRolesCommand.class,
+      CacheCommand.class,
+      ShellCommand.class,
+      RunScriptCommand.class,
+      DaemonCommand.class,
+      StubServerCommand.class,
+      LoadTestCommand.class
     })
 public class DescopeUtilsCommand implements Runnable {
 
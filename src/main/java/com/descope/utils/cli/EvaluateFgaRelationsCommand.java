@@ -0,0 +1,298 @@
+package com.descope.utils.cli;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.input.RelationTupleReader;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.OutputFormat;
+import com.descope.utils.model.RowResult;
+import com.descope.utils.model.fga.EvaluationSummary;
+import com.descope.utils.model.fga.RelationQueryModel;
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.descope.utils.model.rebac.SchemaModel;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.rebac.RebacEvaluator;
+import com.descope.utils.rebac.TupleSource;
+import com.descope.utils.rebac.TupleStore;
+import com.descope.utils.service.AuthzService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to evaluate FGA relation checks locally.
+ *
+ * <p>This command compiles a ReBAC schema file and evaluates checks against an exported relation
+ * file without calling Descope. A random sample of the checks can be compared with the results
+ * returned by Descope to validate the local evaluation.
+ */
+@Command(
+    name = "evaluate-fga-relations",
+    description = "Evaluate FGA relation checks locally against a schema and relation file",
+    mixinStandardHelpOptions = true)
+public class EvaluateFgaRelationsCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(EvaluateFgaRelationsCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Option(
+      names = {"-s", "--schema"},
+      description = "Path to JSON file containing the ReBAC schema",
+      required = true)
+  private String schemaFile;
+
+  @Option(
+      names = {"--tuples"},
+      description = "Path to JSON, JSON Lines or snapshot file containing the relation tuples",
+      required = true)
+  private String tuplesFile;
+
+  @Option(
+      names = {"-q", "--queries"},
+      description = "Path to JSON or JSON Lines file of checks, in relation tuple format")
+  private String queriesFile;
+
+  @Option(
+      names = {"-r", "--resource"},
+      description = "Resource identifier (e.g., 'document:report-123')")
+  private String resource;
+
+  @Option(
+      names = {"--relation"},
+      description = "Relation definition name (e.g., 'owner', 'viewer')")
+  private String relationDefinition;
+
+  @Option(
+      names = {"-n", "--namespace"},
+      description = "Namespace for the resource")
+  private String namespace;
+
+  @Option(
+      names = {"-t", "--target"},
+      description = "Target/subject identifier (e.g., 'user:alice@example.com')")
+  private String target;
+
+  @Option(
+      names = {"--verify"},
+      description = "Compare a random sample of this many checks with Descope (default: none)",
+      defaultValue = "0")
+  private int verify;
+
+  @Option(
+      names = {"--summary-only"},
+      description = "Print only the summary, not one line per check")
+  private boolean summaryOnly;
+
+  @Inject private ConfigurationService configService;
+  @Inject private AuthzService authzService;
+  @Inject private OutputFormatter outputFormatter;
+  @Inject private ObjectMapper objectMapper;
+
+  @Override
+  public Integer call() {
+    try {
+      // Validate input
+      boolean single =
+          resource != null || relationDefinition != null || namespace != null || target != null;
+      if (queriesFile == null
+          && (resource == null
+              || relationDefinition == null
+              || namespace == null
+              || target == null)) {
+        System.err.println(
+            "Error: Either provide --queries or all of --resource, --relation, --namespace,"
+                + " and --target");
+        return 1;
+      }
+
+      if (queriesFile != null && single) {
+        System.err.println("Error: Cannot specify both --queries and individual check options");
+        return 1;
+      }
+
+      for (String path : new String[] {schemaFile, tuplesFile, queriesFile}) {
+        if (path != null && !new File(path).exists()) {
+          System.err.println("Error: File not found: " + path);
+          return 1;
+        }
+      }
+
+      // Compile the schema and load the tuples
+      logger.info("Compiling ReBAC schema from file: {}", schemaFile);
+      SchemaModel schema = objectMapper.readValue(new File(schemaFile), SchemaModel.class);
+      RebacEvaluator evaluator = RebacEvaluator.compile(schema);
+
+      logger.info("Loading relation tuples from file: {}", tuplesFile);
+      TupleStore tuples = TupleStore.load(new File(tuplesFile).toPath(), objectMapper);
+      logger.info("Loaded {} relation tuple(s)", tuples.size());
+
+      // Evaluate the checks
+      OutputFormat outputFormat = globalOptions.getOutputFormat();
+      List<Check> sample = new ArrayList<>();
+      long checks = 0;
+      long allowed = 0;
+      long start = System.nanoTime();
+
+      if (queriesFile != null) {
+        try (RelationTupleReader queries =
+            RelationTupleReader.open(new File(queriesFile).toPath(), objectMapper)) {
+          while (queries.hasNext()) {
+            Check check = evaluate(evaluator, tuples, ++checks, queries.next());
+            allowed += check.allowed() ? 1 : 0;
+            sample(sample, check, checks);
+            print(check, outputFormat);
+          }
+        }
+      } else {
+        RelationTupleModel query =
+            new RelationTupleModel(resource, relationDefinition, namespace, target);
+        Check check = evaluate(evaluator, tuples, ++checks, query);
+        allowed += check.allowed() ? 1 : 0;
+        sample(sample, check, checks);
+        print(check, outputFormat);
+      }
+
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      EvaluationSummary summary =
+          new EvaluationSummary(tuples.size(), checks, allowed, 0, 0, elapsedMillis);
+
+      // Compare the sample with Descope
+      if (!sample.isEmpty()) {
+        summary = summary.withVerification(sample.size(), verifySample(sample));
+      }
+
+      // Print the summary after all checks
+      String message = "Evaluated " + checks + " check(s) locally";
+      if (summary.getMismatches() > 0) {
+        message += "; " + summary.getMismatches() + " differ from Descope";
+      }
+      System.out.println(
+          outputFormatter.format(OperationResult.success(summary, message), outputFormat));
+
+      // Exit with appropriate code
+      return summary.getMismatches() == 0 ? 0 : 1;
+
+    } catch (Exception e) {
+      logger.error("Failed to evaluate FGA relation(s)", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  private static Check evaluate(
+      RebacEvaluator evaluator, TupleSource tuples, long row, RelationTupleModel query) {
+    try {
+      boolean allowed =
+          evaluator.check(
+              tuples,
+              query.getNamespace(),
+              query.getResource(),
+              query.getRelationDefinition(),
+              query.getTarget());
+      return new Check(row, query, allowed);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Check " + row + ": " + e.getMessage(), e);
+    }
+  }
+
+  /** Keeps a uniform random sample of at most {@code verify} checks (reservoir sampling). */
+  private void sample(List<Check> sample, Check check, long seen) {
+    if (sample.size() < verify) {
+      sample.add(check);
+    } else if (verify > 0) {
+      long slot = ThreadLocalRandom.current().nextLong(seen);
+      if (slot < verify) {
+        sample.set((int) slot, check);
+      }
+    }
+  }
+
+  private void print(Check check, OutputFormat outputFormat) {
+    if (summaryOnly) {
+      return;
+    }
+    RowResult<Boolean> row =
+        new RowResult<>(
+            check.row(),
+            key(check.query()),
+            OperationResult.success(check.allowed(), check.allowed() ? "allowed" : "denied"));
+    System.out.println(outputFormatter.formatRow(row, outputFormat));
+  }
+
+  /**
+   * Checks the sampled queries with Descope and reports every difference.
+   *
+   * @return The number of mismatches
+   */
+  private long verifySample(List<Check> sample) {
+    sample.sort((a, b) -> Long.compare(a.row(), b.row()));
+    List<RelationQueryModel> queries = new ArrayList<>(sample.size());
+    for (Check check : sample) {
+      queries.add(
+          new RelationQueryModel(
+              check.query().getResource(),
+              check.query().getRelationDefinition(),
+              check.query().getNamespace(),
+              check.query().getTarget()));
+    }
+
+    logger.info("Verifying {} sampled check(s) with Descope", queries.size());
+    DescopeConfig config =
+        configService.loadConfiguration(
+            globalOptions.getProjectId(), globalOptions.getManagementKey());
+    OperationResult<List<com.descope.model.authz.RelationQuery>> result =
+        authzService.checkRelations(config, queries);
+    if (!result.isSuccess()) {
+      throw new RuntimeException("Failed to verify sample: " + result.getErrorMessage());
+    }
+    List<com.descope.model.authz.RelationQuery> remote = result.getData();
+    if (remote == null || remote.size() != sample.size()) {
+      throw new RuntimeException("Failed to verify sample: Descope returned an unexpected result");
+    }
+
+    long mismatches = 0;
+    for (int i = 0; i < sample.size(); i++) {
+      Check check = sample.get(i);
+      boolean expected = remote.get(i).isHasRelation();
+      if (expected != check.allowed()) {
+        mismatches++;
+        System.err.println(
+            "Mismatch: check "
+                + check.row()
+                + " "
+                + key(check.query())
+                + ": local="
+                + (check.allowed() ? "allowed" : "denied")
+                + ", descope="
+                + (expected ? "allowed" : "denied"));
+      }
+    }
+    return mismatches;
+  }
+
+  private static String key(RelationTupleModel query) {
+    return query.getNamespace()
+        + ":"
+        + query.getResource()
+        + "#"
+        + query.getRelationDefinition()
+        + "@"
+        + query.getTarget();
+  }
+
+  /** A check and its local result. */
+  private record Check(long row, RelationTupleModel query, boolean allowed) {}
+}
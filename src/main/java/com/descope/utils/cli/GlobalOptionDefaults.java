@@ -0,0 +1,48 @@
+package com.descope.utils.cli;
+
+import com.descope.utils.model.OutputFormat;
+
+import picocli.CommandLine;
+
+/**
+ * Supplies global option values as defaults for commands run inside another command.
+ *
+ * <p>Used by the commands that run other commands in-process, so the global options of the outer
+ * command apply to every inner command unless the inner command overrides them.
+ */
+class GlobalOptionDefaults implements CommandLine.IDefaultValueProvider {
+
+  private final String projectId;
+  private final String managementKey;
+  private final OutputFormat outputFormat;
+
+  /**
+   * Creates a new GlobalOptionDefaults.
+   *
+   * @param projectId The default project ID, or null for none
+   * @param managementKey The default management key, or null for none
+   * @param outputFormat The default output format
+   */
+  GlobalOptionDefaults(String projectId, String managementKey, OutputFormat outputFormat) {
+    this.projectId = projectId;
+    this.managementKey = managementKey;
+    this.outputFormat = outputFormat;
+  }
+
+  @Override
+  public String defaultValue(CommandLine.Model.ArgSpec argSpec) {
+    if (!(argSpec instanceof CommandLine.Model.OptionSpec option)) {
+      return null;
+    }
+    switch (option.longestName()) {
+      case "--project-id":
+        return projectId;
+      case "--management-key":
+        return managementKey;
+      case "--output":
+        return outputFormat.name();
+      default:
+        return null;
+    }
+  }
+}
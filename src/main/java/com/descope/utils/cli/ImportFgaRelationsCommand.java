@@ -0,0 +1,134 @@
+package com.descope.utils.cli;
+
+import java.io.File;
+import java.util.concurrent.Callable;
+import java.util.function.LongPredicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.fga.TupleSnapshot;
+import com.descope.utils.journal.CheckpointJournal;
+import com.descope.utils.model.BulkOperationSummary;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.OutputFormat;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.service.AuthzService;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to import FGA relation tuples from a binary snapshot.
+ *
+ * <p>This command memory-maps a snapshot written by {@code export-fga-relations} and creates its
+ * tuples in concurrent chunks.
+ */
+@Command(
+    name = "import-fga-relations",
+    description = "Create the FGA relation tuples stored in a snapshot file",
+    mixinStandardHelpOptions = true)
+public class ImportFgaRelationsCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(ImportFgaRelationsCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Mixin private CheckpointOptions checkpointOptions;
+
+  @Option(
+      names = {"-f", "--file"},
+      description = "Path to the snapshot file",
+      required = true)
+  private String file;
+
+  @Option(
+      names = {"--chunk-size"},
+      description = "Relation tuples per request (default: ${DEFAULT-VALUE})",
+      defaultValue = "500")
+  private int chunkSize;
+
+  @Option(
+      names = {"-c", "--concurrency"},
+      description = "Maximum number of concurrent requests (default: ${DEFAULT-VALUE})",
+      defaultValue = "4")
+  private int concurrency;
+
+  @Inject private ConfigurationService configService;
+  @Inject private AuthzService authzService;
+  @Inject private OutputFormatter outputFormatter;
+
+  @Override
+  public Integer call() {
+    try {
+      File snapshotFile = new File(file);
+      if (!snapshotFile.exists()) {
+        System.err.println("Error: File not found: " + file);
+        return 1;
+      }
+
+      // Load configuration
+      DescopeConfig config =
+          configService.loadConfiguration(
+              globalOptions.getProjectId(), globalOptions.getManagementKey());
+
+      TupleSnapshot snapshot = TupleSnapshot.open(snapshotFile.toPath());
+      logger.info("Mapped {} relation tuple(s) from {}", snapshot.size(), file);
+
+      OutputFormat outputFormat = globalOptions.getOutputFormat();
+      BulkOperationSummary summary;
+      try (CheckpointJournal journal =
+          checkpointOptions.open("import-fga-relations", snapshotFile.toPath())) {
+        LongPredicate skip = journal != null ? journal::isCommitted : row -> false;
+        summary =
+            authzService.createRelations(
+                config,
+                snapshot.iterator(),
+                chunkSize,
+                concurrency,
+                skip,
+                chunk -> {
+                  if (chunk.getSent() == 0) {
+                    return;
+                  }
+                  if (journal != null) {
+                    journal.recordChunk(
+                        chunk.getFirstRow(), chunk.getLastRow(), chunk.getResult().isSuccess());
+                  }
+                  if (!chunk.getResult().isSuccess()) {
+                    System.err.println(
+                        "Error: tuples "
+                            + chunk.getFirstRow()
+                            + "-"
+                            + chunk.getLastRow()
+                            + ": "
+                            + chunk.getResult().getErrorMessage());
+                  }
+                });
+      }
+
+      // Print the summary after all chunks
+      String message = "Imported " + summary.getCreated() + " relation tuple(s)";
+      if (!summary.isAllSucceeded()) {
+        message += " with " + summary.getFailed() + " failure(s)";
+        if (checkpointOptions.isEnabled()) {
+          message += "; rerun with --resume to retry";
+        }
+      }
+      System.out.println(
+          outputFormatter.format(OperationResult.success(summary, message), outputFormat));
+
+      // Exit with appropriate code
+      return summary.isAllSucceeded() ? 0 : 1;
+
+    } catch (Exception e) {
+      logger.error("Failed to import FGA relations", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+}
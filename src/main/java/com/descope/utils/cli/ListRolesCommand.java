@@ -1,6 +1,7 @@
 package com.descope.utils.cli;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,35 +17,47 @@ import com.descope.utils.service.RoleService;
 import jakarta.inject.Inject;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
 
 /**
  * Command to list all RBAC roles.
  *
- * <p>Lists all roles in the project, including both project-level and tenant-specific roles.
+ * <p>Lists all roles in the project, including both project-level and tenant-specific roles. The
+ * list can be narrowed to the roles that grant a permission or belong to a tenant.
  */
 @Command(name = "list-roles", description = "List all RBAC roles", mixinStandardHelpOptions = true)
-public class ListRolesCommand implements Runnable {
+public class ListRolesCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(ListRolesCommand.class);
 
   @Mixin private GlobalOptions globalOptions;
 
+  @Option(
+      names = {"--permission"},
+      description = "Only list roles that grant this permission")
+  private String permission;
+
+  @Option(
+      names = {"-t", "--tenant"},
+      description = "Only list roles of this tenant")
+  private String tenantId;
+
   @Inject private ConfigurationService configService;
   @Inject private RoleService roleService;
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
           configService.loadConfiguration(
               globalOptions.getProjectId(), globalOptions.getManagementKey());
 
-      logger.info("Listing all roles");
+      logger.info("Listing roles (permission: {}, tenant: {})", permission, tenantId);
 
       // List the roles
-      OperationResult<List<Role>> result = roleService.listRoles(config);
+      OperationResult<List<Role>> result = roleService.listRoles(config, permission, tenantId);
 
       // Format and print the result
       if (globalOptions.getOutputFormat() == OutputFormat.JSON) {
@@ -55,12 +68,12 @@ public class ListRolesCommand implements Runnable {
       }
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to list roles", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 
@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +26,7 @@ import picocli.CommandLine.Mixin;
     name = "load-rebac-schema",
     description = "Load and display the current ReBAC authorization schema",
     mixinStandardHelpOptions = true)
-public class LoadRebacSchemaCommand implements Runnable {
+public class LoadRebacSchemaCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(LoadRebacSchemaCommand.class);
 
@@ -35,7 +37,7 @@ public class LoadRebacSchemaCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -52,12 +54,12 @@ public class LoadRebacSchemaCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to load ReBAC schema", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -0,0 +1,254 @@
+package com.descope.utils.cli;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.load.LoadGenerator;
+import com.descope.utils.load.LoadOperation;
+import com.descope.utils.load.LoadProfile;
+import com.descope.utils.load.OperationMix;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.fga.RelationQueryModel;
+import com.descope.utils.model.load.LoadTestReport;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.service.AuthenticationService;
+import com.descope.utils.service.AuthzService;
+import com.descope.utils.service.UserService;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to measure how many requests per second a Descope project sustains.
+ *
+ * <p>This command sends a weighted mix of relation checks, who-can-access queries, password
+ * sign-ins and user creations, either from a fixed number of concurrent workers or at a fixed
+ * request rate, and reports latency percentiles, throughput and failures for each operation.
+ * Resources, targets and login IDs are used in turn from the lists given on the command line.
+ * Users created by the test get email login IDs that are unique to the run and are not deleted
+ * afterwards.
+ */
+@Command(
+    name = "load-test",
+    description = "Measure latency and throughput of a mix of Descope operations",
+    mixinStandardHelpOptions = true)
+public class LoadTestCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(LoadTestCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Option(
+      names = {"--mix"},
+      description =
+          "Operations and weights, from check, who-can-access, authenticate and create-user"
+              + " (default: ${DEFAULT-VALUE})",
+      defaultValue = "check")
+  private String mix;
+
+  @Option(
+      names = {"-c", "--concurrency"},
+      description = "Maximum number of requests in flight (default: ${DEFAULT-VALUE})",
+      defaultValue = "8")
+  private int concurrency;
+
+  @Option(
+      names = {"--rate"},
+      description =
+          "Target requests per second, or 0 to send as fast as the concurrency allows (default:"
+              + " ${DEFAULT-VALUE})",
+      defaultValue = "0")
+  private double rate;
+
+  @Option(
+      names = {"--duration"},
+      description = "Seconds to measure for (default: ${DEFAULT-VALUE})",
+      defaultValue = "30")
+  private long durationSeconds;
+
+  @Option(
+      names = {"--warmup"},
+      description = "Seconds to send requests before measuring (default: ${DEFAULT-VALUE})",
+      defaultValue = "5")
+  private long warmupSeconds;
+
+  @Option(
+      names = {"--requests"},
+      description = "Stop after this many measured requests, or 0 for no limit",
+      defaultValue = "0")
+  private long maxRequests;
+
+  @Option(
+      names = {"-n", "--namespace"},
+      description = "Namespace for check and who-can-access (default: ${DEFAULT-VALUE})",
+      defaultValue = "doc")
+  private String namespace;
+
+  @Option(
+      names = {"--relation"},
+      description = "Relation definition for check and who-can-access (default: ${DEFAULT-VALUE})",
+      defaultValue = "viewer")
+  private String relationDefinition;
+
+  @Option(
+      names = {"-r", "--resource"},
+      description = "Resource(s) for check and who-can-access (comma-separated)",
+      split = ",")
+  private List<String> resources = new ArrayList<>();
+
+  @Option(
+      names = {"-t", "--target"},
+      description = "Target(s) for check (comma-separated)",
+      split = ",")
+  private List<String> targets = new ArrayList<>();
+
+  @Option(
+      names = {"-l", "--login-id"},
+      description = "Existing login ID(s) for authenticate (comma-separated)",
+      split = ",")
+  private List<String> loginIds = new ArrayList<>();
+
+  @Option(
+      names = {"-w", "--password"},
+      description = "Password of the users given with --login-id",
+      interactive = true,
+      arity = "0..1")
+  private String password;
+
+  @Option(
+      names = {"--login-id-prefix"},
+      description = "Prefix for login IDs of created users (default: ${DEFAULT-VALUE})",
+      defaultValue = "load-test")
+  private String loginIdPrefix;
+
+  @Option(
+      names = {"--email-domain"},
+      description = "Email domain of created users (default: ${DEFAULT-VALUE})",
+      defaultValue = "example.com")
+  private String emailDomain;
+
+  @Option(
+      names = {"--tenant-id"},
+      description = "Tenant for created users")
+  private String tenantId;
+
+  @Option(
+      names = {"--seed"},
+      description = "Seed for choosing operations (default: ${DEFAULT-VALUE})",
+      defaultValue = "1")
+  private long seed;
+
+  @Inject private ConfigurationService configService;
+  @Inject private AuthzService authzService;
+  @Inject private AuthenticationService authenticationService;
+  @Inject private UserService userService;
+  @Inject private OutputFormatter outputFormatter;
+
+  @Override
+  public Integer call() {
+    OperationMix operationMix;
+    LoadProfile profile;
+    try {
+      operationMix = OperationMix.parse(mix);
+      profile =
+          new LoadProfile(
+              concurrency,
+              rate,
+              Duration.ofSeconds(durationSeconds),
+              Duration.ofSeconds(warmupSeconds),
+              maxRequests);
+      checkInputs(operationMix.getOperations());
+    } catch (IllegalArgumentException e) {
+      System.err.println("Error: " + e.getMessage());
+      return 2;
+    }
+
+    try {
+      // Load configuration
+      DescopeConfig config =
+          configService.loadConfiguration(
+              globalOptions.getProjectId(), globalOptions.getManagementKey());
+
+      logger.info(
+          "Running load test: mix={}, concurrency={}, rate={}, duration={}s, warmup={}s",
+          mix,
+          concurrency,
+          rate,
+          durationSeconds,
+          warmupSeconds);
+
+      // Login IDs of created users must not collide with earlier runs
+      String runId = Long.toString(System.currentTimeMillis(), 36);
+      LoadTestReport report =
+          new LoadGenerator(operationMix, profile, seed)
+              .run((operation, sequence) -> send(config, operation, sequence, runId));
+
+      String message = "Sent " + report.getTotal().getRequests() + " measured request(s)";
+      if (!report.isAllSucceeded()) {
+        message += " with " + report.getTotal().getErrors() + " failure(s)";
+      }
+      System.out.println(
+          outputFormatter.format(
+              OperationResult.success(report, message), globalOptions.getOutputFormat()));
+
+      // Exit with appropriate code
+      return report.isAllSucceeded() ? 0 : 1;
+
+    } catch (Exception e) {
+      logger.error("Failed to run load test", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  private void checkInputs(List<LoadOperation> operations) {
+    Set<LoadOperation> used = Set.copyOf(operations);
+    if ((used.contains(LoadOperation.CHECK) || used.contains(LoadOperation.WHO_CAN_ACCESS))
+        && resources.isEmpty()) {
+      throw new IllegalArgumentException("--resource is required for check and who-can-access");
+    }
+    if (used.contains(LoadOperation.CHECK) && targets.isEmpty()) {
+      throw new IllegalArgumentException("--target is required for check");
+    }
+    if (used.contains(LoadOperation.AUTHENTICATE) && (loginIds.isEmpty() || password == null)) {
+      throw new IllegalArgumentException("--login-id and --password are required for authenticate");
+    }
+  }
+
+  private void send(DescopeConfig config, LoadOperation operation, long sequence, String runId) {
+    switch (operation) {
+      case CHECK -> {
+        RelationQueryModel query =
+            new RelationQueryModel(
+                pick(resources, sequence), relationDefinition, namespace, pick(targets, sequence));
+        authzService.checkRelations(config, List.of(query));
+      }
+      case WHO_CAN_ACCESS ->
+          authzService.whoCanAccess(
+              config, pick(resources, sequence), relationDefinition, namespace);
+      case AUTHENTICATE ->
+          authenticationService.authenticateWithPassword(
+              config, pick(loginIds, sequence), password);
+      case CREATE_USER ->
+          userService.createUser(
+              config,
+              loginIdPrefix + "-" + runId + "-" + sequence + "@" + emailDomain,
+              null,
+              tenantId);
+    }
+  }
+
+  private static String pick(List<String> values, long sequence) {
+    return values.get((int) (sequence % values.size()));
+  }
+}
@@ -1,6 +1,7 @@
 package com.descope.utils.cli;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +28,7 @@ import picocli.CommandLine.Option;
     name = "migrate-legacy-user",
     description = "Migrate a legacy user to Descope with their existing bcrypt password",
     mixinStandardHelpOptions = true)
-public class MigrateLegacyUserCommand implements Runnable {
+public class MigrateLegacyUserCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(MigrateLegacyUserCommand.class);
 
@@ -74,7 +75,7 @@ public class MigrateLegacyUserCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -93,12 +94,12 @@ public class MigrateLegacyUserCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to migrate user", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -0,0 +1,144 @@
+package com.descope.utils.cli;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.input.InputFormat;
+import com.descope.utils.input.LegacyUserRecord;
+import com.descope.utils.input.RowReader;
+import com.descope.utils.journal.CheckpointJournal;
+import com.descope.utils.model.BulkOperationSummary;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.OutputFormat;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.service.MigrationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to migrate many legacy users to Descope from an export file.
+ *
+ * <p>The export is streamed row by row and users are sent to the batch create API in batches, with
+ * several batches in flight at once. Existing bcrypt password hashes are preserved. A result line
+ * is printed for each row as soon as its batch completes, followed by a summary.
+ */
+@Command(
+    name = "migrate-legacy-users",
+    description = "Migrate legacy users in bulk from a CSV or JSON Lines export file",
+    mixinStandardHelpOptions = true)
+public class MigrateLegacyUsersCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(MigrateLegacyUsersCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Mixin private CheckpointOptions checkpointOptions;
+
+  @Option(
+      names = {"-f", "--file"},
+      description = "Path to a CSV (with header) or JSON Lines export of legacy users",
+      required = true)
+  private String file;
+
+  @Option(
+      names = {"--input-format"},
+      description = "Input file format: CSV or JSONL (default: detected from file extension)")
+  private InputFormat inputFormat;
+
+  @Option(
+      names = {"-t", "--tenant"},
+      description = "Default tenant ID for rows that do not specify one")
+  private String tenantId;
+
+  @Option(
+      names = {"--batch-size"},
+      description = "Number of users per batch request (default: ${DEFAULT-VALUE})",
+      defaultValue = "100")
+  private int batchSize;
+
+  @Option(
+      names = {"-c", "--concurrency"},
+      description = "Maximum number of batch requests in flight (default: ${DEFAULT-VALUE})",
+      defaultValue = "4")
+  private int concurrency;
+
+  @Inject private ConfigurationService configService;
+  @Inject private MigrationService migrationService;
+  @Inject private OutputFormatter outputFormatter;
+  @Inject private ObjectMapper objectMapper;
+
+  @Override
+  public Integer call() {
+    try {
+      // Load configuration
+      DescopeConfig config =
+          configService.loadConfiguration(
+              globalOptions.getProjectId(), globalOptions.getManagementKey());
+
+      File inputFile = new File(file);
+      if (!inputFile.exists()) {
+        System.err.println("Error: File not found: " + file);
+        return 1;
+      }
+
+      InputFormat format = inputFormat != null ? inputFormat : InputFormat.fromFileName(file);
+      OutputFormat outputFormat = globalOptions.getOutputFormat();
+
+      logger.info("Migrating legacy users from {} ({})", file, format);
+
+      BulkOperationSummary summary;
+      try (RowReader reader = RowReader.open(inputFile.toPath(), format, objectMapper);
+          CheckpointJournal journal =
+              checkpointOptions.open(
+                  "migrate-legacy-users tenant=" + tenantId, inputFile.toPath())) {
+        if (journal != null) {
+          journal.skipCommitted(reader);
+        }
+        Iterator<LegacyUserRecord> records =
+            reader.map(row -> LegacyUserRecord.fromRow(row, tenantId));
+        summary =
+            migrationService.migrateLegacyUsers(
+                config,
+                records,
+                batchSize,
+                concurrency,
+                row -> {
+                  if (journal != null) {
+                    journal.record(row.getRow(), row.getResult().isSuccess());
+                  }
+                  System.out.println(outputFormatter.formatRow(row, outputFormat));
+                });
+        if (journal != null) {
+          summary = summary.withSkipped(journal.getCommittedCount());
+        }
+      }
+
+      // Print the summary after all rows
+      String message =
+          "Migrated " + summary.getCreated() + " of " + summary.getTotal() + " user(s)";
+      if (!summary.isAllSucceeded()) {
+        message += " with " + summary.getFailed() + " failure(s)";
+      }
+      System.out.println(
+          outputFormatter.format(OperationResult.success(summary, message), outputFormat));
+
+      // Exit with appropriate code
+      return summary.isAllSucceeded() ? 0 : 1;
+
+    } catch (Exception e) {
+      logger.error("Failed to migrate legacy users", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+}
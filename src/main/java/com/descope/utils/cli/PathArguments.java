@@ -0,0 +1,65 @@
+package com.descope.utils.cli;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import picocli.CommandLine;
+
+/**
+ * Resolves the relative file paths in a command's arguments against a directory.
+ *
+ * <p>Used by the commands that run other commands in-process on behalf of a caller in another
+ * directory, such as {@code daemon}, so {@code -f users.csv} reads the caller's file rather than
+ * one next to the process.
+ */
+final class PathArguments {
+
+  /** The options whose value is a file path, by their longest name. */
+  private static final Set<String> PATH_OPTIONS =
+      Set.of("--file", "--journal", "--schema", "--tuples", "--queries", "--base-directory");
+
+  private PathArguments() {}
+
+  /**
+   * Resolves the values of path options against a directory.
+   *
+   * @param command The command the arguments are for, or null if there is no such command
+   * @param args The arguments, without the command name
+   * @param directory The directory relative paths are resolved against
+   * @return The arguments with every relative path option value made absolute
+   */
+  static List<String> resolve(CommandLine command, List<String> args, Path directory) {
+    if (command == null) {
+      return args;
+    }
+    CommandLine.Model.CommandSpec spec = command.getCommandSpec();
+    List<String> resolved = new ArrayList<>(args.size());
+    for (int i = 0; i < args.size(); i++) {
+      String arg = args.get(i);
+      int equals = arg.indexOf('=');
+      String name = equals > 0 ? arg.substring(0, equals) : arg;
+      if (!name.startsWith("-") || !isPathOption(spec, name)) {
+        resolved.add(arg);
+      } else if (equals > 0) {
+        resolved.add(name + "=" + resolve(arg.substring(equals + 1), directory));
+      } else {
+        resolved.add(arg);
+        if (i + 1 < args.size()) {
+          resolved.add(resolve(args.get(++i), directory));
+        }
+      }
+    }
+    return resolved;
+  }
+
+  private static boolean isPathOption(CommandLine.Model.CommandSpec spec, String name) {
+    CommandLine.Model.OptionSpec option = spec.findOption(name);
+    return option != null && PATH_OPTIONS.contains(option.longestName());
+  }
+
+  private static String resolve(String path, Path directory) {
+    return path.isEmpty() || Path.of(path).isAbsolute() ? path : directory.resolve(path).toString();
+  }
+}
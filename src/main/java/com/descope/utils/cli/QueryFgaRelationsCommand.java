@@ -1,6 +1,7 @@
 package com.descope.utils.cli;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,7 +29,7 @@ import picocli.CommandLine.Option;
     name = "query-fga-relations",
     description = "Query FGA relations with different modes",
     mixinStandardHelpOptions = true)
-public class QueryFgaRelationsCommand implements Runnable {
+public class QueryFgaRelationsCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(QueryFgaRelationsCommand.class);
 
@@ -65,7 +66,7 @@ public class QueryFgaRelationsCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Validate mode
       if (!"who-can-access".equals(mode)
@@ -73,8 +74,7 @@ public class QueryFgaRelationsCommand implements Runnable {
           && !"target-access".equals(mode)) {
         System.err.println(
             "Error: Invalid mode. Must be one of: who-can-access, resource-relations, target-access");
-        System.exit(1);
-        return;
+        return 1;
       }
 
       // Validate required options for each mode
@@ -82,20 +82,17 @@ public class QueryFgaRelationsCommand implements Runnable {
         if (resource == null || relationDefinition == null || namespace == null) {
           System.err.println(
               "Error: who-can-access mode requires --resource, --relation, and --namespace");
-          System.exit(1);
-          return;
+          return 1;
         }
       } else if ("resource-relations".equals(mode)) {
         if (resource == null) {
           System.err.println("Error: resource-relations mode requires --resource");
-          System.exit(1);
-          return;
+          return 1;
         }
       } else if ("target-access".equals(mode)) {
         if (target == null) {
           System.err.println("Error: target-access mode requires --target");
-          System.exit(1);
-          return;
+          return 1;
         }
       }
 
@@ -115,7 +112,7 @@ public class QueryFgaRelationsCommand implements Runnable {
             authzService.whoCanAccess(config, resource, relationDefinition, namespace);
         String output = outputFormatter.format(result, globalOptions.getOutputFormat());
         System.out.println(output);
-        System.exit(result.isSuccess() ? 0 : 1);
+        return result.isSuccess() ? 0 : 1;
 
       } else if ("resource-relations".equals(mode)) {
         logger.info("Querying relations for resource: {}", resource);
@@ -123,21 +120,21 @@ public class QueryFgaRelationsCommand implements Runnable {
             authzService.resourceRelations(config, resource);
         String output = outputFormatter.format(result, globalOptions.getOutputFormat());
         System.out.println(output);
-        System.exit(result.isSuccess() ? 0 : 1);
+        return result.isSuccess() ? 0 : 1;
 
-      } else if ("target-access".equals(mode)) {
+      } else {
         logger.info("Querying what target can access: {}", target);
         OperationResult<List<RelationTupleModel>> result =
             authzService.whatCanTargetAccess(config, target);
         String output = outputFormatter.format(result, globalOptions.getOutputFormat());
         System.out.println(output);
-        System.exit(result.isSuccess() ? 0 : 1);
+        return result.isSuccess() ? 0 : 1;
       }
 
     } catch (Exception e) {
       logger.error("Failed to query FGA relations", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -1,6 +1,7 @@
 package com.descope.utils.cli;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,7 +27,7 @@ import picocli.CommandLine.Parameters;
     name = "remove-user-role",
     description = "Remove roles from a user",
     mixinStandardHelpOptions = true)
-public class RemoveUserRoleCommand implements Runnable {
+public class RemoveUserRoleCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(RemoveUserRoleCommand.class);
 
@@ -52,7 +53,7 @@ public class RemoveUserRoleCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -75,12 +76,12 @@ public class RemoveUserRoleCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to remove roles from user", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -0,0 +1,358 @@
+package com.descope.utils.cli;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.BulkOperationSummary;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.OutputFormat;
+import com.descope.utils.model.fga.RelationChunkResult;
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.script.ScriptLine;
+import com.descope.utils.script.ScriptPlan;
+import com.descope.utils.script.ScriptScheduler;
+import com.descope.utils.script.ScriptStep;
+import com.descope.utils.service.AuthzService;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to run a script of commands concurrently.
+ *
+ * <p>This command parses the whole script before running anything, so a typo on the last line is
+ * reported before the first line changes anything. Consecutive single-tuple {@code
+ * create-fga-relation} and {@code delete-fga-relation} lines are merged into batched requests, and
+ * lines that do not depend on each other run concurrently. See {@link ScriptPlan} for how
+ * dependencies are worked out. Global options given to {@code run-script} are used as defaults for
+ * every line, as in {@code shell}.
+ */
+@Command(
+    name = "run-script",
+    description = "Run a script of commands concurrently, batching FGA relation lines",
+    mixinStandardHelpOptions = true)
+public class RunScriptCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(RunScriptCommand.class);
+
+  private static final Set<String> NOT_SCRIPTABLE =
+      Set.of("shell", "daemon", "run-script", "stub-server");
+
+  /** The subcommand classes of {@link DescopeUtilsCommand}, by command name. */
+  private static final Map<String, Class<?>> COMMANDS = commandClasses();
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Option(
+      names = {"-f", "--file"},
+      description = "Path to a script file with one command per line",
+      required = true)
+  private String file;
+
+  @Option(
+      names = {"-c", "--concurrency"},
+      description = "Maximum number of steps running at once (default: ${DEFAULT-VALUE})",
+      defaultValue = "4")
+  private int concurrency;
+
+  @Option(
+      names = {"--chunk-size"},
+      description = "Relation tuples per request in merged batches (default: ${DEFAULT-VALUE})",
+      defaultValue = "500")
+  private int chunkSize;
+
+  @Option(
+      names = {"-e", "--stop-on-error"},
+      description = "Start no more lines after the first failure")
+  private boolean stopOnError;
+
+  @Option(
+      names = {"--dry-run"},
+      description = "Print the steps and their dependencies without running them")
+  private boolean dryRun;
+
+  @Option(
+      names = {"--base-directory"},
+      description = "Resolve relative file paths on the lines against this directory")
+  private String baseDirectory;
+
+  @Inject private CommandLine.IFactory factory;
+  @Inject private ConfigurationService configService;
+  @Inject private AuthzService authzService;
+  @Inject private OutputFormatter outputFormatter;
+
+  @Override
+  public Integer call() {
+    if (concurrency < 1) {
+      System.err.println("Error: --concurrency must be at least 1");
+      return 2;
+    }
+    File scriptFile = new File(file);
+    if (!scriptFile.exists()) {
+      System.err.println("Error: File not found: " + file);
+      return 1;
+    }
+
+    // Parse every line up front
+    List<ScriptLine> lines;
+    try {
+      lines = parse(scriptFile);
+    } catch (IOException e) {
+      logger.error("Failed to read script", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+    if (lines == null) {
+      return 2;
+    }
+
+    ScriptPlan plan = ScriptPlan.of(lines);
+    logger.info("Planned {} line(s) as {} step(s)", plan.getLineCount(), plan.getSteps().size());
+    if (dryRun) {
+      plan.getSteps().forEach(step -> System.out.println(describe(step)));
+      return 0;
+    }
+
+    GlobalOptionDefaults defaults =
+        new GlobalOptionDefaults(
+            globalOptions.getProjectId(),
+            globalOptions.getManagementKey(),
+            globalOptions.getOutputFormat());
+    List<ScriptScheduler.Outcome> outcomes =
+        new ScriptScheduler(concurrency, stopOnError)
+            .run(plan, step -> run(step, defaults), this::report);
+
+    long failed = 0;
+    long skipped = 0;
+    for (ScriptScheduler.Outcome outcome : outcomes) {
+      if (outcome.status() == ScriptScheduler.Status.FAILED) {
+        failed += outcome.step().getLines().size();
+      } else if (outcome.status() == ScriptScheduler.Status.SKIPPED) {
+        skipped += outcome.step().getLines().size();
+      }
+    }
+    logger.info(
+        "Ran {} line(s) in {} step(s), {} failed, {} skipped",
+        plan.getLineCount(),
+        plan.getSteps().size(),
+        failed,
+        skipped);
+    return failed == 0 && skipped == 0 ? 0 : 1;
+  }
+
+  /**
+   * Parses the script into lines.
+   *
+   * @return The lines, or null if any line is invalid; every invalid line has been reported
+   */
+  private List<ScriptLine> parse(File scriptFile) throws IOException {
+    CommandLine parser = new CommandLine(new DescopeUtilsCommand(), factory);
+    List<ScriptLine> lines = new ArrayList<>();
+    boolean valid = true;
+    try (BufferedReader reader =
+        Files.newBufferedReader(scriptFile.toPath(), StandardCharsets.UTF_8)) {
+      long lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+          continue;
+        }
+        try {
+          List<String> args = resolvePaths(parser, ShellCommand.tokenize(trimmed));
+          lines.add(parseLine(parser, lineNumber, args));
+        } catch (IllegalArgumentException | CommandLine.ParameterException e) {
+          System.err.println("Error: line " + lineNumber + ": " + e.getMessage());
+          valid = false;
+        }
+      }
+    }
+    return valid ? lines : null;
+  }
+
+  private List<String> resolvePaths(CommandLine parser, List<String> args) {
+    if (baseDirectory == null || args.isEmpty()) {
+      return args;
+    }
+    List<String> resolved = new ArrayList<>(args.size());
+    resolved.add(args.get(0));
+    resolved.addAll(
+        PathArguments.resolve(
+            parser.getSubcommands().get(args.get(0)),
+            args.subList(1, args.size()),
+            Path.of(baseDirectory)));
+    return resolved;
+  }
+
+  private ScriptLine parseLine(CommandLine parser, long lineNumber, List<String> args) {
+    CommandLine.ParseResult result = parser.parseArgs(args.toArray(new String[0]));
+    if (!result.hasSubcommand() || !args.get(0).equals(result.subcommand().commandSpec().name())) {
+      throw new IllegalArgumentException("Line must start with a command name");
+    }
+    CommandLine.ParseResult command = result.subcommand();
+    String name = command.commandSpec().name();
+    if (NOT_SCRIPTABLE.contains(name)) {
+      throw new IllegalArgumentException(name + " cannot run inside a script");
+    }
+
+    Map<String, String> options = new LinkedHashMap<>();
+    for (CommandLine.Model.OptionSpec option : command.matchedOptions()) {
+      options.put(option.longestName(), String.join(",", option.stringValues()));
+    }
+    String subject =
+        command.matchedPositionals().isEmpty()
+            ? null
+            : command.matchedPositionals().get(0).stringValues().get(0);
+    return new ScriptLine(lineNumber, args, name, subject, options);
+  }
+
+  /**
+   * Runs one step on a scheduler thread.
+   *
+   * @return The exit code of the step
+   */
+  private int run(ScriptStep step, GlobalOptionDefaults defaults) {
+    if (step.getKind() != ScriptStep.Kind.COMMAND) {
+      return runBatch(step);
+    }
+    ScriptLine line = step.getFirstLine();
+    try {
+      CommandLine commandLine =
+          new CommandLine(factory.create(COMMANDS.get(line.command())), factory);
+      commandLine.setDefaultValueProvider(defaults);
+      List<String> args = line.args().subList(1, line.args().size());
+      return commandLine.execute(args.toArray(new String[0]));
+    } catch (Exception e) {
+      logger.error("Failed to run line {}", line.lineNumber(), e);
+      System.err.println("Error: line " + line.lineNumber() + ": " + e.getMessage());
+      return 1;
+    }
+  }
+
+  /**
+   * Creates or deletes the tuples of a merged run of relation lines in chunked requests.
+   *
+   * @return The exit code of the batch
+   */
+  private int runBatch(ScriptStep step) {
+    ScriptLine first = step.getFirstLine();
+    List<ScriptLine> lines = step.getLines();
+    boolean create = step.getKind() == ScriptStep.Kind.CREATE_RELATIONS;
+    try {
+      DescopeConfig config =
+          configService.loadConfiguration(
+              valueOr(first.option("--project-id"), globalOptions.getProjectId()),
+              valueOr(first.option("--management-key"), globalOptions.getManagementKey()));
+      OutputFormat outputFormat =
+          first.option("--output") != null
+              ? OutputFormat.valueOf(first.option("--output"))
+              : globalOptions.getOutputFormat();
+
+      // Tuples are numbered by their position in the batch, starting at 1
+      Consumer<RelationChunkResult> listener =
+          chunk -> {
+            if (chunk.getSent() > 0 && !chunk.getResult().isSuccess()) {
+              System.err.println(
+                  "Error: lines "
+                      + lines.get((int) chunk.getFirstRow() - 1).lineNumber()
+                      + "-"
+                      + lines.get((int) chunk.getLastRow() - 1).lineNumber()
+                      + ": "
+                      + chunk.getResult().getErrorMessage());
+            }
+          };
+      Iterator<RelationTupleModel> tuples = step.getTuples().iterator();
+      BulkOperationSummary summary =
+          create
+              ? authzService.createRelations(
+                  config, tuples, chunkSize, concurrency, row -> false, listener)
+              : authzService.deleteRelations(
+                  config, tuples, chunkSize, concurrency, row -> false, listener);
+
+      String message =
+          (create ? "Created " : "Deleted ")
+              + summary.getSucceeded()
+              + " relation tuple(s) from "
+              + step.describe();
+      if (!summary.isAllSucceeded()) {
+        message += " with " + summary.getFailed() + " failure(s)";
+      }
+      System.out.println(
+          outputFormatter.format(OperationResult.success(summary, message), outputFormat));
+      return summary.isAllSucceeded() ? 0 : 1;
+
+    } catch (Exception e) {
+      logger.error("Failed to run {}", step.describe(), e);
+      System.err.println("Error: " + step.describe() + ": " + e.getMessage());
+      return 1;
+    }
+  }
+
+  private void report(ScriptScheduler.Outcome outcome) {
+    ScriptStep step = outcome.step();
+    if (outcome.status() == ScriptScheduler.Status.FAILED) {
+      System.err.println(
+          "Error: " + step.describe() + " failed with exit code " + outcome.exitCode());
+    } else if (outcome.status() == ScriptScheduler.Status.SKIPPED) {
+      System.err.println("Skipped " + step.describe() + " after an earlier failure");
+    }
+  }
+
+  private static String describe(ScriptStep step) {
+    StringBuilder description = new StringBuilder();
+    description.append("step ").append(step.getIndex() + 1).append(": ").append(step.describe());
+    if (step.getKind() == ScriptStep.Kind.COMMAND) {
+      description.append(" ").append(step.getFirstLine().command());
+    } else {
+      description
+          .append(step.getKind() == ScriptStep.Kind.CREATE_RELATIONS ? " create " : " delete ")
+          .append(step.getLines().size())
+          .append(" relation tuple(s)");
+    }
+    if (!step.getDependencies().isEmpty()) {
+      description
+          .append(" after steps ")
+          .append(
+              step.getDependencies().stream()
+                  .map(dependency -> String.valueOf(dependency.getIndex() + 1))
+                  .collect(Collectors.joining(", ")));
+    }
+    return description.toString();
+  }
+
+  private static Map<String, Class<?>> commandClasses() {
+    Map<String, Class<?>> commands = new HashMap<>();
+    for (Class<?> command : DescopeUtilsCommand.class.getAnnotation(Command.class).subcommands()) {
+      commands.put(command.getAnnotation(Command.class).name(), command);
+    }
+    return commands;
+  }
+
+  private static String valueOr(String value, String fallback) {
+    return value != null ? value : fallback;
+  }
+}
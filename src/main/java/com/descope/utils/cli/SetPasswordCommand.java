@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,7 +28,7 @@ import picocli.CommandLine.Parameters;
     name = "set-password",
     description = "Set a password for an existing user",
     mixinStandardHelpOptions = true)
-public class SetPasswordCommand implements Runnable {
+public class SetPasswordCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(SetPasswordCommand.class);
 
@@ -54,7 +56,7 @@ public class SetPasswordCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -77,12 +79,12 @@ public class SetPasswordCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to set password for user", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -1,6 +1,7 @@
 package com.descope.utils.cli;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,6 +10,7 @@ import com.descope.utils.config.ConfigurationService;
 import com.descope.utils.config.DescopeConfig;
 import com.descope.utils.model.OperationResult;
 import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.service.RoleService;
 import com.descope.utils.service.UserService;
 
 import jakarta.inject.Inject;
@@ -21,13 +23,13 @@ import picocli.CommandLine.Parameters;
  * Command to set roles for a user.
  *
  * <p>Sets the roles for a user, replacing all existing roles at project level or within a specific
- * tenant.
+ * tenant. If any role name is unknown, the user's roles are left unchanged.
  */
 @Command(
     name = "set-user-roles",
     description = "Set roles for a user (replaces all existing roles)",
     mixinStandardHelpOptions = true)
-public class SetUserRolesCommand implements Runnable {
+public class SetUserRolesCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(SetUserRolesCommand.class);
 
@@ -50,10 +52,11 @@ public class SetUserRolesCommand implements Runnable {
 
   @Inject private ConfigurationService configService;
   @Inject private UserService userService;
+  @Inject private RoleService roleService;
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -63,6 +66,15 @@ public class SetUserRolesCommand implements Runnable {
       String context = tenantId != null ? " in tenant: " + tenantId : " (project-level)";
       logger.info("Setting roles {} for user: {}{}", roles, loginId, context);
 
+      // Check the role names before changing the user
+      List<String> unknownRoles = roleService.findUnknownRoles(config, tenantId, roles);
+      if (!unknownRoles.isEmpty()) {
+        OperationResult<Void> failure =
+            OperationResult.failure("Unknown role(s)" + context + ": " + unknownRoles);
+        System.out.println(outputFormatter.format(failure, globalOptions.getOutputFormat()));
+        return 1;
+      }
+
       // Set the roles
       OperationResult<Void> result;
       if (tenantId != null && !tenantId.isEmpty()) {
@@ -76,12 +88,12 @@ public class SetUserRolesCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to set roles for user", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
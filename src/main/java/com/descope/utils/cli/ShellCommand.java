@@ -0,0 +1,199 @@
+package com.descope.utils.cli;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to run other commands in a single, long-lived process.
+ *
+ * <p>This command reads one command per line from a script file or standard input and runs it
+ * in-process, so Quarkus, the CDI beans and the cached Descope clients are initialized once for the
+ * whole session instead of once per command. Each line is parsed into a fresh command instance, so
+ * options never carry over from one line to the next. Global options given to {@code shell} are
+ * used as defaults for every line.
+ */
+@Command(
+    name = "shell",
+    description = "Run commands from a script file or standard input in a single process",
+    mixinStandardHelpOptions = true)
+public class ShellCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(ShellCommand.class);
+
+  private static final String PROMPT = "descope-utils> ";
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Option(
+      names = {"-f", "--file"},
+      description = "Path to a script file with one command per line (default: standard input)")
+  private String file;
+
+  @Option(
+      names = {"-e", "--stop-on-error"},
+      description = "Stop at the first command that fails and return its exit code")
+  private boolean stopOnError;
+
+  @Inject private CommandLine.IFactory factory;
+
+  @Override
+  public Integer call() {
+    if (file != null && !new File(file).exists()) {
+      System.err.println("Error: File not found: " + file);
+      return 1;
+    }
+
+    boolean interactive = file == null && System.console() != null;
+    int commands = 0;
+    int failures = 0;
+
+    try (BufferedReader reader = openInput()) {
+      long lineNumber = 0;
+      String line;
+      while (true) {
+        if (interactive) {
+          System.out.print(PROMPT);
+          System.out.flush();
+        }
+        if ((line = reader.readLine()) == null) {
+          break;
+        }
+        lineNumber++;
+
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+          continue;
+        }
+        if ("exit".equals(trimmed) || "quit".equals(trimmed)) {
+          break;
+        }
+
+        commands++;
+        int exitCode = execute(lineNumber, trimmed);
+        if (exitCode != 0) {
+          failures++;
+          if (stopOnError) {
+            System.err.println("Error: Stopping after failed command on line " + lineNumber);
+            return exitCode;
+          }
+        }
+      }
+    } catch (IOException e) {
+      logger.error("Failed to read shell input", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+
+    logger.info("Ran {} command(s), {} failed", commands, failures);
+    return failures == 0 ? 0 : 1;
+  }
+
+  private BufferedReader openInput() throws IOException {
+    if (file != null) {
+      return Files.newBufferedReader(new File(file).toPath(), StandardCharsets.UTF_8);
+    }
+    return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Runs one command line.
+   *
+   * @return The exit code of the command
+   */
+  private int execute(long lineNumber, String line) {
+    List<String> args;
+    try {
+      args = tokenize(line);
+    } catch (IllegalArgumentException e) {
+      System.err.println("Error: line " + lineNumber + ": " + e.getMessage());
+      return 2;
+    }
+    if ("shell".equals(args.get(0))) {
+      System.err.println("Error: line " + lineNumber + ": shell cannot be nested");
+      return 2;
+    }
+
+    CommandLine commandLine = new CommandLine(new DescopeUtilsCommand(), factory);
+    commandLine.setDefaultValueProvider(
+        new GlobalOptionDefaults(
+            globalOptions.getProjectId(),
+            globalOptions.getManagementKey(),
+            globalOptions.getOutputFormat()));
+    return commandLine.execute(args.toArray(new String[0]));
+  }
+
+  /**
+   * Splits a command line into arguments.
+   *
+   * <p>Arguments are separated by whitespace. Single quotes preserve everything up to the closing
+   * quote; double quotes preserve everything except backslash escapes. Outside single quotes, a
+   * backslash escapes the next character.
+   *
+   * @param line The command line
+   * @return The arguments
+   * @throws IllegalArgumentException if a quote is not closed or the line ends with a backslash
+   */
+  static List<String> tokenize(String line) {
+    List<String> args = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    boolean inArgument = false;
+    char quote = 0;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quote == '\'') {
+        if (c == '\'') {
+          quote = 0;
+        } else {
+          current.append(c);
+        }
+      } else if (c == '\\') {
+        if (++i == line.length()) {
+          throw new IllegalArgumentException("Line ends with an escape character");
+        }
+        current.append(line.charAt(i));
+        inArgument = true;
+      } else if (quote == '"') {
+        if (c == '"') {
+          quote = 0;
+        } else {
+          current.append(c);
+        }
+      } else if (c == '\'' || c == '"') {
+        quote = c;
+        inArgument = true;
+      } else if (Character.isWhitespace(c)) {
+        if (inArgument) {
+          args.add(current.toString());
+          current.setLength(0);
+          inArgument = false;
+        }
+      } else {
+        current.append(c);
+        inArgument = true;
+      }
+    }
+    if (quote != 0) {
+      throw new IllegalArgumentException("Unterminated " + quote + " quote");
+    }
+    if (inArgument) {
+      args.add(current.toString());
+    }
+    return args;
+  }
+}
@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,7 +28,7 @@ import picocli.CommandLine.Parameters;
     name = "signup",
     description = "Sign up a new user with password authentication",
     mixinStandardHelpOptions = true)
-public class SignUpCommand implements Runnable {
+public class SignUpCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(SignUpCommand.class);
 
@@ -69,7 +71,7 @@ public class SignUpCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -93,12 +95,12 @@ public class SignUpCommand implements Runnable {
       }
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to sign up user", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 
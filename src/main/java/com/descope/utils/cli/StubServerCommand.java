@@ -0,0 +1,120 @@
+package com.descope.utils.cli;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.stub.StubDescopeServer;
+import com.descope.utils.stub.StubFaults;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to run a local stand-in for the Descope API.
+ *
+ * <p>This command serves the Descope endpoints used by this tool from memory until it is
+ * interrupted, so pipelines can be load-tested and throughput problems reproduced without a real
+ * project. Point other commands at it with the DESCOPE_BASE_URL environment variable. Latency,
+ * server errors and rate limiting can be injected to see how a pipeline behaves under them.
+ */
+@Command(
+    name = "stub-server",
+    description = "Run a local in-memory stand-in for the Descope API",
+    mixinStandardHelpOptions = true)
+public class StubServerCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(StubServerCommand.class);
+
+  @Option(
+      names = {"--port"},
+      description = "Port to listen on, or 0 for any free port (default: ${DEFAULT-VALUE})",
+      defaultValue = "8085")
+  private int port;
+
+  @Option(
+      names = {"--latency"},
+      description = "Delay added to every request in milliseconds (default: ${DEFAULT-VALUE})",
+      defaultValue = "0")
+  private long latencyMillis;
+
+  @Option(
+      names = {"--jitter"},
+      description = "Maximum random extra delay in milliseconds (default: ${DEFAULT-VALUE})",
+      defaultValue = "0")
+  private long jitterMillis;
+
+  @Option(
+      names = {"--error-rate"},
+      description = "Fraction of requests that fail with HTTP 503 (default: ${DEFAULT-VALUE})",
+      defaultValue = "0")
+  private double errorRate;
+
+  @Option(
+      names = {"--rate-limit-rate"},
+      description = "Fraction of requests rejected with HTTP 429 (default: ${DEFAULT-VALUE})",
+      defaultValue = "0")
+  private double rateLimitRate;
+
+  @Option(
+      names = {"--requests-per-second"},
+      description =
+          "Requests per project per second before HTTP 429, or 0 for no limit (default:"
+              + " ${DEFAULT-VALUE})",
+      defaultValue = "0")
+  private int requestsPerSecond;
+
+  @Option(
+      names = {"--retry-after"},
+      description = "Retry-After seconds sent with HTTP 429 (default: ${DEFAULT-VALUE})",
+      defaultValue = "1")
+  private int retryAfterSeconds;
+
+  @Option(
+      names = {"--seed"},
+      description = "Seed for injected failures and jitter (default: ${DEFAULT-VALUE})",
+      defaultValue = "1")
+  private long seed;
+
+  @Inject private ObjectMapper objectMapper;
+
+  @Override
+  public Integer call() {
+    StubFaults faults;
+    try {
+      faults =
+          new StubFaults(
+              Duration.ofMillis(latencyMillis),
+              Duration.ofMillis(jitterMillis),
+              errorRate,
+              rateLimitRate,
+              requestsPerSecond,
+              retryAfterSeconds);
+    } catch (IllegalArgumentException e) {
+      System.err.println("Error: " + e.getMessage());
+      return 2;
+    }
+
+    CountDownLatch stopped = new CountDownLatch(1);
+    try (StubDescopeServer server = StubDescopeServer.start(port, faults, seed, objectMapper)) {
+      Runtime.getRuntime().addShutdownHook(new Thread(stopped::countDown));
+      System.err.println("Stub Descope API listening on " + server.getBaseUrl());
+      System.err.println("Use it with: export DESCOPE_BASE_URL=" + server.getBaseUrl());
+      stopped.await();
+      return 0;
+    } catch (IOException e) {
+      logger.error("Stub server failed", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,269 @@
+package com.descope.utils.cli;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.fga.RelationDiff;
+import com.descope.utils.model.BulkOperationSummary;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.OutputFormat;
+import com.descope.utils.model.RowResult;
+import com.descope.utils.model.fga.RelationChunkResult;
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.descope.utils.model.fga.SyncSummary;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.rebac.TupleStore;
+import com.descope.utils.service.AuthzService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+/**
+ * Command to make the FGA relations in Descope match a relation file.
+ *
+ * <p>This command fetches the current relations of every resource in the file, plus any extra
+ * resources and targets given as options, and computes the difference with the file. Only the
+ * missing tuples are created and only the tuples that are no longer wanted are deleted. Tuples of
+ * resources and targets outside that scope are never touched.
+ */
+@Command(
+    name = "sync-fga-relations",
+    description = "Create and delete FGA relation tuples so that Descope matches a relation file",
+    mixinStandardHelpOptions = true)
+public class SyncFgaRelationsCommand implements Callable<Integer> {
+
+  private static final Logger logger = LoggerFactory.getLogger(SyncFgaRelationsCommand.class);
+
+  @Mixin private GlobalOptions globalOptions;
+
+  @Option(
+      names = {"-f", "--file"},
+      description = "Path to JSON, JSON Lines or snapshot file containing the desired tuples",
+      required = true)
+  private String file;
+
+  @Option(
+      names = {"-r", "--resource"},
+      description =
+          "Additional resource identifier(s) to manage (comma-separated); their tuples are deleted"
+              + " unless they are in the file",
+      split = ",")
+  private List<String> resources = new ArrayList<>();
+
+  @Option(
+      names = {"-t", "--target"},
+      description =
+          "Target identifier(s) to manage (comma-separated); their tuples are deleted unless they"
+              + " are in the file",
+      split = ",")
+  private List<String> targets = new ArrayList<>();
+
+  @Option(
+      names = {"--dry-run"},
+      description = "Print the planned changes without applying them")
+  private boolean dryRun;
+
+  @Option(
+      names = {"--chunk-size"},
+      description = "Relation tuples per request (default: ${DEFAULT-VALUE})",
+      defaultValue = "500")
+  private int chunkSize;
+
+  @Option(
+      names = {"-c", "--concurrency"},
+      description = "Maximum number of concurrent requests (default: ${DEFAULT-VALUE})",
+      defaultValue = "4")
+  private int concurrency;
+
+  @Inject private ConfigurationService configService;
+  @Inject private AuthzService authzService;
+  @Inject private OutputFormatter outputFormatter;
+  @Inject private ObjectMapper objectMapper;
+
+  @Override
+  public Integer call() {
+    try {
+      File desiredFile = new File(file);
+      if (!desiredFile.exists()) {
+        System.err.println("Error: File not found: " + file);
+        return 1;
+      }
+
+      // Load configuration
+      DescopeConfig config =
+          configService.loadConfiguration(
+              globalOptions.getProjectId(), globalOptions.getManagementKey());
+
+      long start = System.nanoTime();
+
+      // Load the desired state and work out which resources it manages
+      logger.info("Loading desired relation tuples from file: {}", file);
+      TupleStore desired = TupleStore.load(desiredFile.toPath(), objectMapper);
+      Set<ResourceKey> managed = new HashSet<>();
+      Set<String> fetch = new LinkedHashSet<>(resources);
+      for (RelationTupleModel tuple : desired) {
+        managed.add(new ResourceKey(tuple.getNamespace(), tuple.getResource()));
+        fetch.add(tuple.getResource());
+      }
+      Set<String> extraResources = new HashSet<>(resources);
+      Set<String> managedTargets = new HashSet<>(targets);
+
+      // Fetch the current state of every managed resource and target in parallel
+      TupleStore.Builder builder = TupleStore.builder();
+      authzService.crawlRelations(
+          config,
+          fetch,
+          managedTargets,
+          0,
+          concurrency,
+          tuple -> {
+            // resourceRelations matches the identifier in every namespace; keep only those in scope
+            if (managed.contains(new ResourceKey(tuple.getNamespace(), tuple.getResource()))
+                || extraResources.contains(tuple.getResource())
+                || managedTargets.contains(tuple.getTarget())) {
+              builder.add(tuple);
+            }
+          });
+      TupleStore current = builder.build();
+
+      RelationDiff diff = RelationDiff.between(desired, current);
+      logger.info(
+          "Sync plan: {} to create, {} to delete",
+          diff.getCreates().size(),
+          diff.getDeletes().size());
+
+      OutputFormat outputFormat = globalOptions.getOutputFormat();
+      long created = 0;
+      long deleted = 0;
+      long failed = 0;
+
+      if (dryRun) {
+        printPlan(diff, outputFormat);
+      } else {
+        // Create before deleting, so a tuple that moves between relations never loses access
+        if (!diff.getCreates().isEmpty()) {
+          BulkOperationSummary result =
+              authzService.createRelations(
+                  config,
+                  diff.getCreates().iterator(),
+                  chunkSize,
+                  concurrency,
+                  row -> false,
+                  chunk -> reportFailure("create", chunk));
+          created = result.getSucceeded();
+          failed += result.getFailed();
+        }
+        if (!diff.getDeletes().isEmpty()) {
+          BulkOperationSummary result =
+              authzService.deleteRelations(
+                  config,
+                  diff.getDeletes().iterator(),
+                  chunkSize,
+                  concurrency,
+                  row -> false,
+                  chunk -> reportFailure("delete", chunk));
+          deleted = result.getSucceeded();
+          failed += result.getFailed();
+        }
+      }
+
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      SyncSummary summary =
+          new SyncSummary(
+              desired.size(),
+              current.size(),
+              diff.getCreates().size(),
+              diff.getDeletes().size(),
+              created,
+              deleted,
+              failed,
+              dryRun,
+              elapsedMillis);
+
+      // Print the summary after the plan or the changes
+      String message;
+      if (diff.isEmpty()) {
+        message = "Relations are already in sync";
+      } else if (dryRun) {
+        message =
+            "Would create "
+                + diff.getCreates().size()
+                + " and delete "
+                + diff.getDeletes().size()
+                + " relation tuple(s)";
+      } else {
+        message = "Created " + created + " and deleted " + deleted + " relation tuple(s)";
+        if (failed > 0) {
+          message += " with " + failed + " failure(s)";
+        }
+      }
+      System.out.println(
+          outputFormatter.format(OperationResult.success(summary, message), outputFormat));
+
+      // Exit with appropriate code
+      return summary.isAllSucceeded() ? 0 : 1;
+
+    } catch (Exception e) {
+      logger.error("Failed to sync FGA relations", e);
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  private void printPlan(RelationDiff diff, OutputFormat outputFormat) {
+    long row = 0;
+    for (RelationTupleModel tuple : diff.getCreates()) {
+      printPlanRow(++row, tuple, "create", outputFormat);
+    }
+    for (RelationTupleModel tuple : diff.getDeletes()) {
+      printPlanRow(++row, tuple, "delete", outputFormat);
+    }
+  }
+
+  private void printPlanRow(
+      long row, RelationTupleModel tuple, String action, OutputFormat outputFormat) {
+    RowResult<RelationTupleModel> result =
+        new RowResult<>(row, key(tuple), OperationResult.success(tuple, action));
+    System.out.println(outputFormatter.formatRow(result, outputFormat));
+  }
+
+  private static void reportFailure(String action, RelationChunkResult chunk) {
+    if (chunk.getSent() > 0 && !chunk.getResult().isSuccess()) {
+      System.err.println(
+          "Error: failed to "
+              + action
+              + " tuples "
+              + chunk.getFirstRow()
+              + "-"
+              + chunk.getLastRow()
+              + ": "
+              + chunk.getResult().getErrorMessage());
+    }
+  }
+
+  private static String key(RelationTupleModel tuple) {
+    return tuple.getNamespace()
+        + ":"
+        + tuple.getResource()
+        + "#"
+        + tuple.getRelationDefinition()
+        + "@"
+        + tuple.getTarget();
+  }
+
+  /** A resource identifier qualified by its namespace. */
+  private record ResourceKey(String namespace, String resource) {}
+}
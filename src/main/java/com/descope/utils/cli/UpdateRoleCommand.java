@@ -1,6 +1,7 @@
 package com.descope.utils.cli;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +28,7 @@ import picocli.CommandLine.Parameters;
     name = "update-role",
     description = "Update an existing RBAC role",
     mixinStandardHelpOptions = true)
-public class UpdateRoleCommand implements Runnable {
+public class UpdateRoleCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(UpdateRoleCommand.class);
 
@@ -62,7 +63,7 @@ public class UpdateRoleCommand implements Runnable {
   @Inject private OutputFormatter outputFormatter;
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -85,12 +86,12 @@ public class UpdateRoleCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to update role", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 }
@@ -1,5 +1,7 @@
 package com.descope.utils.cli;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +27,7 @@ import picocli.CommandLine.Parameters;
     name = "update-user-attribute",
     description = "Update a custom attribute on an existing user",
     mixinStandardHelpOptions = true)
-public class UpdateUserAttributeCommand implements Runnable {
+public class UpdateUserAttributeCommand implements Callable<Integer> {
 
   private static final Logger logger = LoggerFactory.getLogger(UpdateUserAttributeCommand.class);
 
@@ -66,7 +68,7 @@ public class UpdateUserAttributeCommand implements Runnable {
   }
 
   @Override
-  public void run() {
+  public Integer call() {
     try {
       // Load configuration
       DescopeConfig config =
@@ -92,12 +94,12 @@ public class UpdateUserAttributeCommand implements Runnable {
       System.out.println(output);
 
       // Exit with appropriate code
-      System.exit(result.isSuccess() ? 0 : 1);
+      return result.isSuccess() ? 0 : 1;
 
     } catch (Exception e) {
       logger.error("Failed to update custom attribute", e);
       System.err.println("Error: " + e.getMessage());
-      System.exit(1);
+      return 1;
     }
   }
 
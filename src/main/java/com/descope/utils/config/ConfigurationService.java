@@ -21,6 +21,10 @@ import jakarta.enterprise.context.ApplicationScoped;
  *   <li>Environment variables (DESCOPE_PROJECT_ID, DESCOPE_MANAGEMENT_KEY)
  *   <li>Files (~/git/tmp/descope/project_id, ~/git/tmp/descope/management_key)
  * </ol>
+ *
+ * <p>The Descope API base URL can be overridden with the {@code descope.base-url} system property
+ * or the DESCOPE_BASE_URL environment variable, in that order, for example to run against a local
+ * stub server.
  */
 @ApplicationScoped
 public class ConfigurationService {
@@ -29,6 +33,8 @@ public class ConfigurationService {
 
   private static final String ENV_PROJECT_ID = "DESCOPE_PROJECT_ID";
   private static final String ENV_MANAGEMENT_KEY = "DESCOPE_MANAGEMENT_KEY";
+  private static final String ENV_BASE_URL = "DESCOPE_BASE_URL";
+  private static final String PROPERTY_BASE_URL = "descope.base-url";
   private static final String DEFAULT_PROJECT_ID_FILE =
       System.getProperty("user.home") + "/git/tmp/descope/project_id";
   private static final String DEFAULT_MANAGEMENT_KEY_FILE =
@@ -43,6 +49,11 @@ public class ConfigurationService {
    * @throws IllegalStateException if configuration cannot be loaded from any source
    */
   public DescopeConfig loadConfiguration(String cliProjectId, String cliManagementKey) {
+    return loadCredentials(cliProjectId, cliManagementKey)
+        .withBaseUrl(baseUrl(System.getProperty(PROPERTY_BASE_URL), System.getenv(ENV_BASE_URL)));
+  }
+
+  private DescopeConfig loadCredentials(String cliProjectId, String cliManagementKey) {
     // Try command-line arguments first
     if (isValidCredential(cliProjectId) && isValidCredential(cliManagementKey)) {
       logger.info("Using Descope credentials from command-line arguments");
@@ -126,6 +137,28 @@ public class ConfigurationService {
     }
   }
 
+  /**
+   * Picks the API base URL override.
+   *
+   * @param property The value of the {@code descope.base-url} system property
+   * @param environment The value of the DESCOPE_BASE_URL environment variable
+   * @return The base URL, or null to use the SDK default
+   * @throws IllegalArgumentException if the chosen value is not an http or https URL
+   */
+  String baseUrl(String property, String environment) {
+    String baseUrl = isValidCredential(property) ? property.trim() : environment;
+    if (!isValidCredential(baseUrl)) {
+      return null;
+    }
+    baseUrl = baseUrl.trim();
+    if (!baseUrl.startsWith("http://") && !baseUrl.startsWith("https://")) {
+      throw new IllegalArgumentException(
+          "Descope base URL must be an http or https URL: " + baseUrl);
+    }
+    logger.info("Using Descope API base URL: {}", baseUrl);
+    return baseUrl;
+  }
+
   /**
    * Validates if a credential string is non-null and non-empty.
    *
@@ -5,22 +5,38 @@ import java.util.Objects;
 /**
  * Immutable configuration holder for Descope credentials.
  *
- * <p>Contains the project ID and management key required to interact with the Descope API.
+ * <p>Contains the project ID and management key required to interact with the Descope API, and
+ * optionally a base URL that replaces the default Descope API endpoint, for example to point at a
+ * local stub server.
  */
 public class DescopeConfig {
 
   private final String projectId;
   private final String managementKey;
   private final CredentialSource source;
+  private final String baseUrl;
 
   /**
-   * Creates a new DescopeConfig instance.
+   * Creates a new DescopeConfig instance for the default Descope API endpoint.
    *
    * @param projectId The Descope project ID
    * @param managementKey The Descope management key
    * @param source The source from which credentials were loaded
    */
   public DescopeConfig(String projectId, String managementKey, CredentialSource source) {
+    this(projectId, managementKey, source, null);
+  }
+
+  /**
+   * Creates a new DescopeConfig instance.
+   *
+   * @param projectId The Descope project ID
+   * @param managementKey The Descope management key
+   * @param source The source from which credentials were loaded
+   * @param baseUrl The Descope API base URL, or null for the SDK default
+   */
+  public DescopeConfig(
+      String projectId, String managementKey, CredentialSource source, String baseUrl) {
     this.projectId = Objects.requireNonNull(projectId, "Project ID cannot be null");
     this.managementKey = Objects.requireNonNull(managementKey, "Management key cannot be null");
     this.source = Objects.requireNonNull(source, "Credential source cannot be null");
@@ -31,6 +47,7 @@ public class DescopeConfig {
     if (managementKey.trim().isEmpty()) {
       throw new IllegalArgumentException("Management key cannot be empty");
     }
+    this.baseUrl = baseUrl == null || baseUrl.isBlank() ? null : baseUrl.trim();
   }
 
   /**
@@ -60,6 +77,25 @@ public class DescopeConfig {
     return source;
   }
 
+  /**
+   * Gets the Descope API base URL override.
+   *
+   * @return The base URL, or null to use the SDK default
+   */
+  public String getBaseUrl() {
+    return baseUrl;
+  }
+
+  /**
+   * Returns a copy of this configuration that uses the given API base URL.
+   *
+   * @param baseUrl The Descope API base URL, or null for the SDK default
+   * @return The new configuration
+   */
+  public DescopeConfig withBaseUrl(String baseUrl) {
+    return new DescopeConfig(projectId, managementKey, source, baseUrl);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -71,12 +107,13 @@ public class DescopeConfig {
     DescopeConfig that = (DescopeConfig) o;
     return Objects.equals(projectId, that.projectId)
         && Objects.equals(managementKey, that.managementKey)
-        && source == that.source;
+        && source == that.source
+        && Objects.equals(baseUrl, that.baseUrl);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(projectId, managementKey, source);
+    return Objects.hash(projectId, managementKey, source, baseUrl);
   }
 
   @Override
@@ -88,6 +125,7 @@ public class DescopeConfig {
         + ", managementKey='***'"
         + ", source="
         + source
+        + (baseUrl != null ? ", baseUrl='" + baseUrl + '\'' : "")
         + '}';
   }
 }
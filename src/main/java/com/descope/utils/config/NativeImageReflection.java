@@ -0,0 +1,131 @@
+package com.descope.utils.config;
+
+import com.descope.enums.NodeExpressionType;
+import com.descope.enums.NodeType;
+import com.descope.model.auth.AssociatedTenant;
+import com.descope.model.auth.AuthenticationInfo;
+import com.descope.model.auth.Token;
+import com.descope.model.authz.Namespace;
+import com.descope.model.authz.Node;
+import com.descope.model.authz.NodeExpression;
+import com.descope.model.authz.Relation;
+import com.descope.model.authz.RelationDefinition;
+import com.descope.model.authz.RelationQuery;
+import com.descope.model.authz.Schema;
+import com.descope.model.inbound.InboundApp;
+import com.descope.model.inbound.InboundAppCreateResponse;
+import com.descope.model.inbound.InboundAppRequest;
+import com.descope.model.roles.RoleResponse;
+import com.descope.model.ssoapp.OIDCApplicationRequest;
+import com.descope.model.ssoapp.SAMLApplicationRequest;
+import com.descope.model.ssoapp.SSOApplication;
+import com.descope.model.tenant.Tenant;
+import com.descope.model.user.User;
+import com.descope.model.user.request.BatchUserPasswordBcrypt;
+import com.descope.model.user.request.BatchUserPasswordHashed;
+import com.descope.model.user.request.BatchUserRequest;
+import com.descope.model.user.request.UserRequest;
+import com.descope.model.user.response.UserResponse;
+import com.descope.model.user.response.UserResponseDetails;
+import com.descope.model.user.response.UsersBatchResponse;
+import com.descope.model.user.response.UsersFailedResponse;
+import com.descope.utils.model.Application;
+import com.descope.utils.model.AuthenticationResult;
+import com.descope.utils.model.BulkOperationSummary;
+import com.descope.utils.model.FederatedAppType;
+import com.descope.utils.model.FederatedApplication;
+import com.descope.utils.model.MigratedUser;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.OutputFormat;
+import com.descope.utils.model.RowResult;
+import com.descope.utils.model.fga.EvaluationSummary;
+import com.descope.utils.model.fga.FgaResultModel;
+import com.descope.utils.model.fga.RelationBatchModel;
+import com.descope.utils.model.fga.RelationChunkResult;
+import com.descope.utils.model.fga.RelationQueryModel;
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.descope.utils.model.fga.SyncSummary;
+import com.descope.utils.model.load.LoadTestReport;
+import com.descope.utils.model.load.OperationStats;
+import com.descope.utils.model.rebac.NamespaceModel;
+import com.descope.utils.model.rebac.NodeExpressionModel;
+import com.descope.utils.model.rebac.NodeModel;
+import com.descope.utils.model.rebac.RelationDefinitionModel;
+import com.descope.utils.model.rebac.SchemaModel;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Registers the classes that Jackson reads and writes reflectively for the native image.
+ *
+ * <p>A native executable only keeps the constructors, fields and methods that are registered at
+ * build time. This covers the models written by the JSON output format and read from input files,
+ * and the Descope SDK models that the services exchange with the management API. Response
+ * wrappers used only inside the SDK are not listed here; see the README for capturing them with the
+ * native-image tracing agent.
+ */
+@RegisterForReflection(
+    targets = {
+      // Output and input models
+      Application.class,
+      AuthenticationResult.class,
+      BulkOperationSummary.class,
+      FederatedAppType.class,
+      FederatedApplication.class,
+      MigratedUser.class,
+      OperationResult.class,
+      OutputFormat.class,
+      RowResult.class,
+      com.descope.utils.model.Role.class,
+      com.descope.utils.model.Tenant.class,
+      com.descope.utils.model.User.class,
+      EvaluationSummary.class,
+      FgaResultModel.class,
+      RelationBatchModel.class,
+      RelationChunkResult.class,
+      RelationQueryModel.class,
+      RelationTupleModel.class,
+      SyncSummary.class,
+      LoadTestReport.class,
+      OperationStats.class,
+      NamespaceModel.class,
+      NodeExpressionModel.class,
+      NodeModel.class,
+      RelationDefinitionModel.class,
+      SchemaModel.class,
+      // Descope SDK models
+      AssociatedTenant.class,
+      AuthenticationInfo.class,
+      Token.class,
+      Namespace.class,
+      Node.class,
+      NodeExpression.class,
+      NodeExpressionType.class,
+      NodeType.class,
+      Relation.class,
+      RelationDefinition.class,
+      RelationQuery.class,
+      Schema.class,
+      InboundApp.class,
+      InboundAppCreateResponse.class,
+      InboundAppRequest.class,
+      RoleResponse.class,
+      com.descope.model.roles.Role.class,
+      OIDCApplicationRequest.class,
+      SAMLApplicationRequest.class,
+      SSOApplication.class,
+      Tenant.class,
+      User.class,
+      BatchUserPasswordBcrypt.class,
+      BatchUserPasswordHashed.class,
+      BatchUserRequest.class,
+      UserRequest.class,
+      UserResponse.class,
+      UserResponseDetails.class,
+      UsersBatchResponse.class,
+      UsersFailedResponse.class
+    })
+public final class NativeImageReflection {
+
+  private NativeImageReflection() {}
+}
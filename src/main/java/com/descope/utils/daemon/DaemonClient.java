@@ -0,0 +1,93 @@
+package com.descope.utils.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Thin client that forwards its arguments to a running daemon.
+ *
+ * <p>The client only uses the JDK, so it starts in milliseconds instead of booting Quarkus:
+ *
+ * <pre>
+ * java -cp descope-utils.jar com.descope.utils.daemon.DaemonClient [--socket PATH] COMMAND ...
+ * </pre>
+ *
+ * <p>The command's output is streamed to the client's standard output and standard error, and the
+ * client exits with the command's exit code. {@code DESCOPE_PROJECT_ID} and {@code
+ * DESCOPE_MANAGEMENT_KEY} from the client's environment are sent along, so several projects can
+ * share one daemon.
+ */
+public final class DaemonClient {
+
+  private DaemonClient() {}
+
+  /**
+   * Forwards a command to the daemon and exits with its exit code.
+   *
+   * @param args {@code [--socket PATH]} followed by the command and its arguments
+   */
+  public static void main(String[] args) {
+    Path socketPath = DaemonProtocol.defaultSocketPath();
+    int first = 0;
+    if (args.length >= 2 && "--socket".equals(args[0])) {
+      socketPath = Path.of(args[1]);
+      first = 2;
+    }
+    if (first == args.length) {
+      System.err.println("Usage: DaemonClient [--socket PATH] COMMAND [ARGS...]");
+      System.exit(2);
+    }
+
+    DaemonRequest request =
+        new DaemonRequest(
+            Arrays.asList(args).subList(first, args.length),
+            Path.of("").toAbsolutePath().toString(),
+            System.getenv("DESCOPE_PROJECT_ID"),
+            System.getenv("DESCOPE_MANAGEMENT_KEY"));
+    try {
+      System.exit(send(socketPath, request, System.out, System.err));
+    } catch (IOException e) {
+      System.err.println(
+          "Error: Could not reach the daemon on "
+              + socketPath
+              + " ("
+              + e.getMessage()
+              + "); start it with 'descope-utils daemon'");
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Sends a request to the daemon and copies its output.
+   *
+   * @param socketPath The path of the daemon's socket file
+   * @param request The request
+   * @param stdout Where the command's standard output is copied
+   * @param stderr Where the command's standard error is copied
+   * @return The exit code of the command
+   * @throws IOException if the daemon cannot be reached or the connection fails
+   */
+  public static int send(
+      Path socketPath, DaemonRequest request, OutputStream stdout, OutputStream stderr)
+      throws IOException {
+    try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+      channel.connect(UnixDomainSocketAddress.of(socketPath));
+      DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+      DaemonProtocol.writeRequest(out, request);
+      DataInputStream in =
+          new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+      return DaemonProtocol.readResponse(in, stdout, stderr);
+    }
+  }
+}
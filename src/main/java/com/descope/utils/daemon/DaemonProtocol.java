@@ -0,0 +1,189 @@
+package com.descope.utils.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The wire format between {@link DaemonClient} and {@link DaemonServer}.
+ *
+ * <p>A connection carries exactly one command. The client sends a request: a version byte, the
+ * working directory, the optional project ID and management key, and the arguments. The server
+ * answers with a sequence of frames, each starting with a type byte. Standard output and standard
+ * error frames carry a length-prefixed chunk of bytes and are written as soon as the command
+ * flushes them, so output streams back while the command runs. A single exit frame carrying the
+ * exit code ends the response.
+ *
+ * <p>This class only depends on the JDK, so the client can run without starting Quarkus.
+ */
+public final class DaemonProtocol {
+
+  /** The protocol version sent at the start of every request. */
+  public static final byte VERSION = 1;
+
+  /** Frame type of a chunk of standard output. */
+  public static final byte STDOUT = 1;
+
+  /** Frame type of a chunk of standard error. */
+  public static final byte STDERR = 2;
+
+  /** Frame type of the exit code that ends a response. */
+  public static final byte EXIT = 3;
+
+  private static final int MAX_STRING_BYTES = 1 << 20;
+  private static final int MAX_ARGS = 4096;
+
+  private DaemonProtocol() {}
+
+  /**
+   * Gets the socket path used when none is given.
+   *
+   * @return {@code descope-utils-<user>.sock} in the temporary directory
+   */
+  public static Path defaultSocketPath() {
+    String user = System.getProperty("user.name", "user").replaceAll("[^A-Za-z0-9._-]", "_");
+    return Path.of(System.getProperty("java.io.tmpdir"), "descope-utils-" + user + ".sock");
+  }
+
+  /**
+   * Writes a request.
+   *
+   * @param out The stream to write to
+   * @param request The request
+   * @throws IOException if the request cannot be written
+   */
+  public static void writeRequest(DataOutputStream out, DaemonRequest request)
+      throws IOException {
+    out.writeByte(VERSION);
+    writeString(out, request.workingDirectory());
+    writeNullableString(out, request.projectId());
+    writeNullableString(out, request.managementKey());
+    out.writeInt(request.args().size());
+    for (String arg : request.args()) {
+      writeString(out, arg);
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads a request.
+   *
+   * @param in The stream to read from
+   * @return The request
+   * @throws IOException if the request cannot be read or was written by another protocol version
+   */
+  public static DaemonRequest readRequest(DataInputStream in) throws IOException {
+    byte version = in.readByte();
+    if (version != VERSION) {
+      throw new IOException("Unsupported daemon protocol version: " + version);
+    }
+    String workingDirectory = readString(in);
+    String projectId = readNullableString(in);
+    String managementKey = readNullableString(in);
+    int count = in.readInt();
+    if (count < 0 || count > MAX_ARGS) {
+      throw new IOException("Invalid argument count: " + count);
+    }
+    List<String> args = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      args.add(readString(in));
+    }
+    return new DaemonRequest(args, workingDirectory, projectId, managementKey);
+  }
+
+  /**
+   * Writes a chunk of standard output or standard error.
+   *
+   * @param out The stream to write to
+   * @param type {@link #STDOUT} or {@link #STDERR}
+   * @param bytes The buffer holding the chunk
+   * @param offset The start of the chunk in the buffer
+   * @param length The length of the chunk
+   * @throws IOException if the frame cannot be written
+   */
+  public static void writeChunk(
+      DataOutputStream out, byte type, byte[] bytes, int offset, int length) throws IOException {
+    out.writeByte(type);
+    out.writeInt(length);
+    out.write(bytes, offset, length);
+  }
+
+  /**
+   * Writes the exit frame that ends a response.
+   *
+   * @param out The stream to write to
+   * @param exitCode The exit code of the command
+   * @throws IOException if the frame cannot be written
+   */
+  public static void writeExit(DataOutputStream out, int exitCode) throws IOException {
+    out.writeByte(EXIT);
+    out.writeInt(exitCode);
+    out.flush();
+  }
+
+  /**
+   * Reads a response, copying its output frames as they arrive.
+   *
+   * @param in The stream to read from
+   * @param stdout Where standard output chunks are copied
+   * @param stderr Where standard error chunks are copied
+   * @return The exit code of the command
+   * @throws IOException if the response cannot be read or ends without an exit frame
+   */
+  public static int readResponse(DataInputStream in, OutputStream stdout, OutputStream stderr)
+      throws IOException {
+    byte[] buffer = new byte[8192];
+    while (true) {
+      byte type = in.readByte();
+      if (type == EXIT) {
+        return in.readInt();
+      }
+      if (type != STDOUT && type != STDERR) {
+        throw new IOException("Unknown daemon frame type: " + type);
+      }
+      OutputStream target = type == STDOUT ? stdout : stderr;
+      int remaining = in.readInt();
+      while (remaining > 0) {
+        int read = in.read(buffer, 0, Math.min(buffer.length, remaining));
+        if (read < 0) {
+          throw new IOException("Daemon closed the connection mid-frame");
+        }
+        target.write(buffer, 0, read);
+        remaining -= read;
+      }
+      target.flush();
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      writeString(out, value);
+    }
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0 || length > MAX_STRING_BYTES) {
+      throw new IOException("Invalid string length: " + length);
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static String readNullableString(DataInputStream in) throws IOException {
+    return in.readBoolean() ? readString(in) : null;
+  }
+}
@@ -0,0 +1,19 @@
+package com.descope.utils.daemon;
+
+import java.util.List;
+
+/**
+ * A command invocation sent from a client to the daemon.
+ *
+ * @param args The command-line arguments, starting with the subcommand name
+ * @param workingDirectory The client's working directory
+ * @param projectId The client's project ID, or null to use the daemon's configuration
+ * @param managementKey The client's management key, or null to use the daemon's configuration
+ */
+public record DaemonRequest(
+    List<String> args, String workingDirectory, String projectId, String managementKey) {
+
+  public DaemonRequest {
+    args = List.copyOf(args);
+  }
+}
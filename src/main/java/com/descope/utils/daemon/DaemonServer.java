@@ -0,0 +1,246 @@
+package com.descope.utils.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accepts command invocations on a Unix domain socket and runs them concurrently.
+ *
+ * <p>Each connection carries one {@link DaemonRequest}. Requests run on a fixed pool of threads
+ * and their output is streamed back to the client as {@link DaemonProtocol} frames. While the
+ * server is running, {@link System#out} and {@link System#err} are routed per thread, so a command
+ * that prints to them writes to the client that invoked it.
+ *
+ * <p>The socket file is only accessible to the current user, since a request runs with the
+ * daemon's credentials when it does not carry its own. It is bound inside a directory that only the
+ * current user can enter and restricted before it is linked to its path, so there is no moment at
+ * which another user can connect. The server refuses to start where it cannot do this.
+ */
+public final class DaemonServer implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(DaemonServer.class);
+
+  private static final Set<PosixFilePermission> PRIVATE_DIRECTORY =
+      PosixFilePermissions.fromString("rwx------");
+  private static final Set<PosixFilePermission> PRIVATE_SOCKET =
+      PosixFilePermissions.fromString("rw-------");
+
+  /** Runs one request. */
+  @FunctionalInterface
+  public interface Handler {
+
+    /**
+     * Runs a request.
+     *
+     * @param request The request
+     * @param out The request's standard output
+     * @param err The request's standard error
+     * @return The exit code to send to the client
+     * @throws Exception if the request fails; the client receives the message and exit code 1
+     */
+    int handle(DaemonRequest request, PrintStream out, PrintStream err) throws Exception;
+  }
+
+  private final Path socketPath;
+  private final Handler handler;
+  private final ExecutorService executor;
+  private volatile ServerSocketChannel server;
+
+  /**
+   * Creates a new DaemonServer.
+   *
+   * @param socketPath The path of the socket file
+   * @param maxConcurrent The maximum number of requests that run at the same time
+   * @param handler Runs each request
+   */
+  public DaemonServer(Path socketPath, int maxConcurrent, Handler handler) {
+    if (maxConcurrent < 1) {
+      throw new IllegalArgumentException("maxConcurrent must be at least 1");
+    }
+    this.socketPath = socketPath;
+    this.handler = handler;
+    AtomicInteger threads = new AtomicInteger();
+    this.executor =
+        Executors.newFixedThreadPool(
+            maxConcurrent,
+            runnable -> {
+              Thread thread = new Thread(runnable, "daemon-request-" + threads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Binds the socket and serves requests until {@link #close()} is called.
+   *
+   * @throws IOException if the socket cannot be bound or restricted to the current user, or another
+   *     daemon is already listening on it
+   */
+  public void serve() throws IOException {
+    removeStaleSocket();
+    ServerSocketChannel channel = bind();
+    server = channel;
+
+    PrintStream originalOut = System.out;
+    PrintStream originalErr = System.err;
+    RoutingOutputStream out = new RoutingOutputStream(originalOut);
+    RoutingOutputStream err = new RoutingOutputStream(originalErr);
+    System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+    System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+
+    logger.info("Daemon listening on {}", socketPath);
+    try {
+      while (channel.isOpen()) {
+        SocketChannel connection;
+        try {
+          connection = channel.accept();
+        } catch (AsynchronousCloseException e) {
+          break;
+        }
+        executor.execute(() -> serve(connection, out, err));
+      }
+    } finally {
+      executor.shutdown();
+      try {
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      System.setOut(originalOut);
+      System.setErr(originalErr);
+      Files.deleteIfExists(socketPath);
+      logger.info("Daemon stopped");
+    }
+  }
+
+  /** Stops accepting requests; requests already running are allowed to finish. */
+  @Override
+  public void close() throws IOException {
+    ServerSocketChannel channel = server;
+    if (channel != null) {
+      channel.close();
+    }
+  }
+
+  private void serve(SocketChannel connection, RoutingOutputStream out, RoutingOutputStream err) {
+    try (connection) {
+      DataInputStream in =
+          new DataInputStream(new BufferedInputStream(Channels.newInputStream(connection)));
+      DataOutputStream response =
+          new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(connection)));
+      DaemonRequest request = DaemonProtocol.readRequest(in);
+
+      PrintStream requestOut = framePrintStream(response, DaemonProtocol.STDOUT);
+      PrintStream requestErr = framePrintStream(response, DaemonProtocol.STDERR);
+      out.route(requestOut);
+      err.route(requestErr);
+      int exitCode;
+      try {
+        exitCode = handler.handle(request, requestOut, requestErr);
+      } catch (Exception e) {
+        logger.error("Daemon request failed", e);
+        requestErr.println("Error: " + e.getMessage());
+        exitCode = 1;
+      } finally {
+        out.clear();
+        err.clear();
+        requestOut.flush();
+        requestErr.flush();
+      }
+      DaemonProtocol.writeExit(response, exitCode);
+    } catch (IOException e) {
+      // Usually the client went away before the response was written
+      logger.warn("Daemon connection failed: {}", e.getMessage());
+    }
+  }
+
+  private static PrintStream framePrintStream(DataOutputStream response, byte type) {
+    return new PrintStream(
+        new BufferedOutputStream(new FrameOutputStream(response, type)),
+        true,
+        StandardCharsets.UTF_8);
+  }
+
+  private void removeStaleSocket() throws IOException {
+    if (!Files.exists(socketPath)) {
+      return;
+    }
+    if (isListening(socketPath)) {
+      throw new IOException("A daemon is already listening on " + socketPath);
+    }
+    // Nobody is listening; the file was left behind by a daemon that did not shut down cleanly
+    logger.info("Removing stale socket file {}", socketPath);
+    Files.delete(socketPath);
+  }
+
+  private static boolean isListening(Path socketPath) {
+    try (SocketChannel probe = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private ServerSocketChannel bind() throws IOException {
+    Path directory;
+    try {
+      directory =
+          Files.createTempDirectory(
+              socketPath.toAbsolutePath().getParent(),
+              ".descope-daemon-",
+              PosixFilePermissions.asFileAttribute(PRIVATE_DIRECTORY));
+    } catch (UnsupportedOperationException e) {
+      throw notRestrictable(e);
+    }
+    Path bound = directory.resolve(socketPath.getFileName());
+    ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    try {
+      channel.bind(UnixDomainSocketAddress.of(bound));
+      Files.setPosixFilePermissions(bound, PRIVATE_SOCKET);
+      // Unlike a move, a link never replaces a socket bound by a daemon that started meanwhile
+      Files.createLink(socketPath, bound);
+      return channel;
+    } catch (FileAlreadyExistsException e) {
+      channel.close();
+      throw new IOException("A daemon is already listening on " + socketPath, e);
+    } catch (UnsupportedOperationException e) {
+      channel.close();
+      throw notRestrictable(e);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    } finally {
+      Files.deleteIfExists(bound);
+      Files.deleteIfExists(directory);
+    }
+  }
+
+  private IOException notRestrictable(UnsupportedOperationException cause) {
+    return new IOException(
+        "Cannot restrict " + socketPath + " to the current user: " + cause.getMessage(), cause);
+  }
+}
@@ -0,0 +1,38 @@
+package com.descope.utils.daemon;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes everything it receives as frames of one type on a shared connection.
+ *
+ * <p>Standard output and standard error of a request share the connection, so writes are
+ * synchronized on it and every frame is flushed to the client straight away.
+ */
+final class FrameOutputStream extends OutputStream {
+
+  private final DataOutputStream connection;
+  private final byte type;
+
+  FrameOutputStream(DataOutputStream connection, byte type) {
+    this.connection = connection;
+    this.type = type;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[] {(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    if (length == 0) {
+      return;
+    }
+    synchronized (connection) {
+      DaemonProtocol.writeChunk(connection, type, bytes, offset, length);
+      connection.flush();
+    }
+  }
+}
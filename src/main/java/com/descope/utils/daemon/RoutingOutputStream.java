@@ -0,0 +1,73 @@
+package com.descope.utils.daemon;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An output stream that sends each thread's writes to the stream routed for that thread.
+ *
+ * <p>Commands print to {@link System#out} and {@link System#err}, which are global. The daemon
+ * installs one of these as each, and routes the request's streams on the thread that runs the
+ * request, so concurrent commands never see each other's output. Threads started while a route is
+ * set, such as the worker threads of {@code run-script} and the bulk commands, inherit it. Once the
+ * route is cleared those threads write to the fallback stream, as do threads without a route.
+ */
+final class RoutingOutputStream extends OutputStream {
+
+  private final OutputStream fallback;
+  private final InheritableThreadLocal<Route> route = new InheritableThreadLocal<>();
+
+  RoutingOutputStream(OutputStream fallback) {
+    this.fallback = fallback;
+  }
+
+  /**
+   * Sends the current thread's writes, and those of threads it starts, to a stream until {@link
+   * #clear()} is called.
+   *
+   * @param target The stream to write to
+   */
+  void route(OutputStream target) {
+    route.set(new Route(target));
+  }
+
+  /** Sends the writes of the current thread and the threads it started back to the fallback. */
+  void clear() {
+    Route current = route.get();
+    if (current != null) {
+      current.target = null;
+    }
+    route.remove();
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    current().write(b);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    current().write(bytes, offset, length);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    current().flush();
+  }
+
+  private OutputStream current() {
+    Route current = route.get();
+    OutputStream target = current != null ? current.target : null;
+    return target != null ? target : fallback;
+  }
+
+  /** The route shared by a request's thread and the threads it starts. */
+  private static final class Route {
+
+    private volatile OutputStream target;
+
+    private Route(OutputStream target) {
+      this.target = target;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.descope.utils.fga;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.descope.utils.rebac.TupleStore;
+
+/**
+ * The changes needed to turn one set of relation tuples into another.
+ *
+ * <p>Both sides are held in {@link TupleStore}s, so every membership test is a lookup on interned
+ * symbols rather than a comparison of four strings. Tuples that appear on both sides are left
+ * alone.
+ */
+public final class RelationDiff {
+
+  private final List<RelationTupleModel> creates;
+  private final List<RelationTupleModel> deletes;
+
+  private RelationDiff(List<RelationTupleModel> creates, List<RelationTupleModel> deletes) {
+    this.creates = Collections.unmodifiableList(creates);
+    this.deletes = Collections.unmodifiableList(deletes);
+  }
+
+  /**
+   * Computes the difference between the desired and the current tuples.
+   *
+   * @param desired The tuples that should exist
+   * @param current The tuples that exist now
+   * @return The tuples to create and the tuples to delete
+   */
+  public static RelationDiff between(TupleStore desired, TupleStore current) {
+    return new RelationDiff(missingFrom(desired, current), missingFrom(current, desired));
+  }
+
+  /**
+   * Gets the tuples that are desired but do not exist.
+   *
+   * @return The tuples to create, grouped by resource
+   */
+  public List<RelationTupleModel> getCreates() {
+    return creates;
+  }
+
+  /**
+   * Gets the tuples that exist but are not desired.
+   *
+   * @return The tuples to delete, grouped by resource
+   */
+  public List<RelationTupleModel> getDeletes() {
+    return deletes;
+  }
+
+  /**
+   * Checks whether both sides already hold the same tuples.
+   *
+   * @return true if there is nothing to create or delete
+   */
+  public boolean isEmpty() {
+    return creates.isEmpty() && deletes.isEmpty();
+  }
+
+  private static List<RelationTupleModel> missingFrom(TupleStore source, TupleStore other) {
+    List<RelationTupleModel> missing = new ArrayList<>();
+    for (RelationTupleModel tuple : source) {
+      if (!other.contains(
+          tuple.getNamespace(),
+          tuple.getResource(),
+          tuple.getRelationDefinition(),
+          tuple.getTarget())) {
+        missing.add(tuple);
+      }
+    }
+    return missing;
+  }
+}
@@ -0,0 +1,232 @@
+package com.descope.utils.fga;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+
+/**
+ * Read-only, memory-mapped view of a binary tuple snapshot.
+ *
+ * <p>A snapshot stores every distinct string once in a string table and each tuple as four int
+ * symbol IDs (namespace, resource, relation definition, target) in separate columns. The file is
+ * mapped rather than read, so opening a snapshot costs no heap beyond a lazily filled array of
+ * decoded strings, and tuples are read directly from the mapped columns. Instances are safe for
+ * concurrent reads.
+ *
+ * <p>Layout, all integers big-endian:
+ *
+ * <pre>
+ *   int magic ("DFGS"), int version, int stringCount, int tupleCount, int stringBytes
+ *   int[stringCount + 1] string offsets into the UTF-8 bytes
+ *   byte[stringBytes] UTF-8 bytes, padded to a multiple of 4
+ *   int[tupleCount] namespace IDs, resource IDs, relation IDs, target IDs
+ * </pre>
+ *
+ * <p>A single mapping is limited to 2 GB, which holds roughly 100 million tuples.
+ */
+public final class TupleSnapshot implements Iterable<RelationTupleModel> {
+
+  static final int MAGIC = 0x44464753;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 20;
+
+  private final IntBuffer offsets;
+  private final ByteBuffer strings;
+  private final IntBuffer namespaces;
+  private final IntBuffer resources;
+  private final IntBuffer relations;
+  private final IntBuffer targets;
+  private final String[] decoded;
+  private final int size;
+
+  TupleSnapshot(ByteBuffer buffer, String source) throws IOException {
+    if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not a tuple snapshot: " + source);
+    }
+    int version = buffer.getInt(4);
+    if (version != VERSION) {
+      throw new IOException("Unsupported tuple snapshot version " + version + ": " + source);
+    }
+    int stringCount = buffer.getInt(8);
+    int tupleCount = buffer.getInt(12);
+    int stringBytes = buffer.getInt(16);
+
+    long bytesStart = HEADER_BYTES + 4L * (stringCount + 1);
+    long columnsStart = align(bytesStart + stringBytes);
+    long end = columnsStart + 16L * tupleCount;
+    if (stringCount < 0 || tupleCount < 0 || stringBytes < 0 || end != buffer.capacity()) {
+      throw new IOException("Truncated or corrupt tuple snapshot: " + source);
+    }
+
+    this.offsets = buffer.slice(HEADER_BYTES, 4 * (stringCount + 1)).asIntBuffer();
+    this.strings = buffer.slice((int) bytesStart, stringBytes);
+    this.namespaces = column(buffer, columnsStart, tupleCount, 0);
+    this.resources = column(buffer, columnsStart, tupleCount, 1);
+    this.relations = column(buffer, columnsStart, tupleCount, 2);
+    this.targets = column(buffer, columnsStart, tupleCount, 3);
+    this.decoded = new String[stringCount];
+    this.size = tupleCount;
+  }
+
+  /**
+   * Memory-maps a snapshot file.
+   *
+   * @param path The snapshot file
+   * @return The mapped snapshot
+   * @throws IOException if the file cannot be mapped or is not a valid snapshot
+   */
+  public static TupleSnapshot open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Tuple snapshot is larger than 2 GB: " + path);
+      }
+      // The mapping stays valid after the channel is closed
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new TupleSnapshot(buffer, path.toString());
+    }
+  }
+
+  /**
+   * Checks whether a file starts with the snapshot magic number.
+   *
+   * @param path The file to check
+   * @return true if the file looks like a tuple snapshot
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean isSnapshot(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer magic = ByteBuffer.allocate(4);
+      return channel.read(magic) == 4 && magic.getInt(0) == MAGIC;
+    }
+  }
+
+  /**
+   * Gets the number of tuples.
+   *
+   * @return The tuple count
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the number of distinct strings in the string table.
+   *
+   * @return The symbol count
+   */
+  public int symbolCount() {
+    return decoded.length;
+  }
+
+  /**
+   * Gets the string for a symbol ID, decoding it on first use.
+   *
+   * @param id The symbol ID
+   * @return The string
+   */
+  public String symbol(int id) {
+    if (id < 0 || id >= decoded.length) {
+      throw new IllegalStateException("Corrupt tuple snapshot: symbol " + id + " out of range");
+    }
+    String value = decoded[id];
+    if (value == null) {
+      int start = offsets.get(id);
+      byte[] bytes = new byte[offsets.get(id + 1) - start];
+      strings.get(start, bytes);
+      value = new String(bytes, StandardCharsets.UTF_8);
+      // Racing threads decode the same immutable value, so a plain write is safe
+      decoded[id] = value;
+    }
+    return value;
+  }
+
+  /**
+   * Gets the namespace symbol ID of a tuple.
+   *
+   * @param index The tuple index
+   * @return The symbol ID
+   */
+  public int namespaceId(int index) {
+    return namespaces.get(index);
+  }
+
+  /**
+   * Gets the resource symbol ID of a tuple.
+   *
+   * @param index The tuple index
+   * @return The symbol ID
+   */
+  public int resourceId(int index) {
+    return resources.get(index);
+  }
+
+  /**
+   * Gets the relation definition symbol ID of a tuple.
+   *
+   * @param index The tuple index
+   * @return The symbol ID
+   */
+  public int relationId(int index) {
+    return relations.get(index);
+  }
+
+  /**
+   * Gets the target symbol ID of a tuple.
+   *
+   * @param index The tuple index
+   * @return The symbol ID
+   */
+  public int targetId(int index) {
+    return targets.get(index);
+  }
+
+  /**
+   * Decodes a tuple.
+   *
+   * @param index The tuple index
+   * @return The relation tuple
+   */
+  public RelationTupleModel get(int index) {
+    return new RelationTupleModel(
+        symbol(resourceId(index)),
+        symbol(relationId(index)),
+        symbol(namespaceId(index)),
+        symbol(targetId(index)));
+  }
+
+  @Override
+  public Iterator<RelationTupleModel> iterator() {
+    return new Iterator<>() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public RelationTupleModel next() {
+        if (next >= size) {
+          throw new NoSuchElementException();
+        }
+        return get(next++);
+      }
+    };
+  }
+
+  static long align(long position) {
+    return (position + 3) & ~3L;
+  }
+
+  private static IntBuffer column(ByteBuffer buffer, long columnsStart, int count, int column) {
+    return buffer.slice((int) (columnsStart + 4L * count * column), 4 * count).asIntBuffer();
+  }
+}
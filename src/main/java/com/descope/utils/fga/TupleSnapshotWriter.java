@@ -0,0 +1,153 @@
+package com.descope.utils.fga;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+
+/**
+ * Builds a binary tuple snapshot.
+ *
+ * <p>Strings are dictionary-encoded as they are added and tuples are buffered as four ints each.
+ * On write, tuples are sorted so that tuples of the same resource are adjacent and duplicates are
+ * dropped. See {@link TupleSnapshot} for the file layout.
+ */
+public final class TupleSnapshotWriter {
+
+  private final Map<String, Integer> ids = new HashMap<>();
+  private final List<String> symbols = new ArrayList<>();
+  private int[] columns = new int[4 * 1024];
+  private int size;
+
+  /**
+   * Adds a tuple.
+   *
+   * @param tuple The tuple to add
+   */
+  public void add(RelationTupleModel tuple) {
+    if (4 * (size + 1) > columns.length) {
+      columns = Arrays.copyOf(columns, Math.max(columns.length * 2, 4 * (size + 1)));
+    }
+    int base = 4 * size;
+    columns[base] = intern(tuple.getNamespace());
+    columns[base + 1] = intern(tuple.getResource());
+    columns[base + 2] = intern(tuple.getRelationDefinition());
+    columns[base + 3] = intern(tuple.getTarget());
+    size++;
+  }
+
+  /**
+   * Gets the number of tuples added, including duplicates.
+   *
+   * @return The tuple count
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Writes the snapshot.
+   *
+   * <p>The file is written next to the destination and moved into place, so readers never see a
+   * partial snapshot.
+   *
+   * @param path The destination file
+   * @return The number of distinct tuples written
+   * @throws IOException if the file cannot be written
+   */
+  public int write(Path path) throws IOException {
+    int[] order = distinctOrder();
+
+    byte[][] encoded = new byte[symbols.size()][];
+    long stringBytes = 0;
+    for (int i = 0; i < encoded.length; i++) {
+      encoded[i] = symbols.get(i).getBytes(StandardCharsets.UTF_8);
+      stringBytes += encoded[i].length;
+    }
+    long bytesStart = TupleSnapshot.HEADER_BYTES + 4L * (encoded.length + 1);
+    long columnsStart = TupleSnapshot.align(bytesStart + stringBytes);
+    if (columnsStart + 16L * order.length > Integer.MAX_VALUE) {
+      throw new IOException("Tuple snapshot would exceed 2 GB");
+    }
+
+    Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+      out.writeInt(TupleSnapshot.MAGIC);
+      out.writeInt(TupleSnapshot.VERSION);
+      out.writeInt(encoded.length);
+      out.writeInt(order.length);
+      out.writeInt((int) stringBytes);
+
+      int offset = 0;
+      out.writeInt(offset);
+      for (byte[] bytes : encoded) {
+        offset += bytes.length;
+        out.writeInt(offset);
+      }
+      for (byte[] bytes : encoded) {
+        out.write(bytes);
+      }
+      for (long i = bytesStart + stringBytes; i < columnsStart; i++) {
+        out.writeByte(0);
+      }
+
+      for (int column = 0; column < 4; column++) {
+        for (int index : order) {
+          out.writeInt(columns[4 * index + column]);
+        }
+      }
+    }
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    return order.length;
+  }
+
+  private int intern(String value) {
+    Integer id = ids.get(value);
+    if (id == null) {
+      id = symbols.size();
+      ids.put(value, id);
+      symbols.add(value);
+    }
+    return id;
+  }
+
+  /** Sorts tuple indexes by (namespace, resource, relation, target) and drops duplicates. */
+  private int[] distinctOrder() {
+    Integer[] sorted = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      sorted[i] = i;
+    }
+    Comparator<Integer> byColumns =
+        (a, b) -> {
+          for (int column = 0; column < 4; column++) {
+            int cmp = Integer.compare(columns[4 * a + column], columns[4 * b + column]);
+            if (cmp != 0) {
+              return cmp;
+            }
+          }
+          return 0;
+        };
+    Arrays.sort(sorted, byColumns);
+
+    int[] order = new int[size];
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (i == 0 || byColumns.compare(sorted[i - 1], sorted[i]) != 0) {
+        order[count++] = sorted[i];
+      }
+    }
+    return Arrays.copyOf(order, count);
+  }
+}
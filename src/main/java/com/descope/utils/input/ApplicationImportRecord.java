@@ -0,0 +1,24 @@
+package com.descope.utils.input;
+
+/**
+ * An inbound application to create, read from a bulk import file.
+ *
+ * <p>Recognized fields are {@code name} and {@code description}. Values are not validated here so
+ * that a bad row can be reported as a per-row failure instead of aborting the whole import.
+ *
+ * @param rowNumber The 1-based data row number in the input file
+ * @param name The application name (may be null if missing from the row)
+ * @param description The application description (optional)
+ */
+public record ApplicationImportRecord(long rowNumber, String name, String description) {
+
+  /**
+   * Converts an input row into an application import record.
+   *
+   * @param row The input row
+   * @return The application import record
+   */
+  public static ApplicationImportRecord fromRow(InputRow row) {
+    return new ApplicationImportRecord(row.rowNumber(), row.get("name"), row.get("description"));
+  }
+}
@@ -0,0 +1,26 @@
+package com.descope.utils.input;
+
+import java.util.Locale;
+
+/** Enumeration of supported record file formats for bulk commands. */
+public enum InputFormat {
+  /** Comma-separated values with a header row. */
+  CSV,
+
+  /** JSON Lines: one JSON object per line. */
+  JSONL;
+
+  /**
+   * Detects the input format from a file name extension.
+   *
+   * @param fileName The file name or path
+   * @return JSONL for .jsonl/.ndjson/.json files, CSV otherwise
+   */
+  public static InputFormat fromFileName(String fileName) {
+    String lower = fileName.toLowerCase(Locale.ROOT);
+    if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson") || lower.endsWith(".json")) {
+      return JSONL;
+    }
+    return CSV;
+  }
+}
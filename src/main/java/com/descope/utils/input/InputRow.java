@@ -0,0 +1,52 @@
+package com.descope.utils.input;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A single record read from a bulk input file.
+ *
+ * <p>Field names are matched case-insensitively so that CSV headers such as {@code LoginId} and
+ * JSON keys such as {@code loginId} resolve to the same value.
+ *
+ * @param rowNumber The 1-based data row number (header rows are not counted)
+ * @param fields The record fields keyed by lower-case field name
+ */
+public record InputRow(long rowNumber, Map<String, String> fields) {
+
+  /**
+   * Gets the first non-blank value among the given field names.
+   *
+   * @param names Candidate field names, in order of preference
+   * @return The trimmed value, or null if none of the fields is present
+   */
+  public String get(String... names) {
+    for (String name : names) {
+      String value = fields.get(RowReader.normalize(name));
+      if (value != null && !value.isBlank()) {
+        return value.trim();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets a comma-separated field as a list.
+   *
+   * @param names Candidate field names, in order of preference
+   * @return The list of trimmed, non-empty values (empty if the field is absent)
+   */
+  public List<String> getList(String... names) {
+    String value = get(names);
+    if (value == null) {
+      return Collections.emptyList();
+    }
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(s -> !s.isEmpty())
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,47 @@
+package com.descope.utils.input;
+
+import java.util.List;
+
+/**
+ * A legacy user to migrate, read from a bulk export file.
+ *
+ * <p>Recognized fields are {@code email}, {@code firstName}, {@code lastName}, {@code tenantId}
+ * (or {@code tenant}), {@code roles} (comma-separated or a JSON array) and {@code bcryptHash} (or
+ * {@code passwordHash}). The email address is also used as the login ID.
+ *
+ * @param rowNumber The 1-based data row number in the input file
+ * @param email The user's email address (may be null if missing from the row)
+ * @param firstName The user's first name (optional)
+ * @param lastName The user's last name (optional)
+ * @param tenantId The tenant to associate the user with (may be null)
+ * @param roles The role names to assign in the tenant
+ * @param bcryptHash The user's existing bcrypt password hash (may be null if missing)
+ */
+public record LegacyUserRecord(
+    long rowNumber,
+    String email,
+    String firstName,
+    String lastName,
+    String tenantId,
+    List<String> roles,
+    String bcryptHash) {
+
+  /**
+   * Converts an input row into a legacy user record.
+   *
+   * @param row The input row
+   * @param defaultTenantId Tenant ID to use when the row does not specify one (may be null)
+   * @return The legacy user record
+   */
+  public static LegacyUserRecord fromRow(InputRow row, String defaultTenantId) {
+    String tenantId = row.get("tenantId", "tenant");
+    return new LegacyUserRecord(
+        row.rowNumber(),
+        row.get("email"),
+        row.get("firstName", "givenName"),
+        row.get("lastName", "familyName"),
+        tenantId != null ? tenantId : defaultTenantId,
+        row.getList("roles"),
+        row.get("bcryptHash", "passwordHash", "hash"));
+  }
+}
@@ -0,0 +1,171 @@
+package com.descope.utils.input;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Streaming reader for relation tuple files.
+ *
+ * <p>Two layouts are supported: a batch document of the form {@code {"relations": [...]}}, and JSON
+ * Lines with one tuple object per line. Tuples are parsed one at a time with a {@link JsonParser},
+ * so files far larger than the heap can be processed. The layout is detected from the content, not
+ * the file name.
+ */
+public class RelationTupleReader implements Iterator<RelationTupleModel>, Closeable {
+
+  private static final String RELATIONS_FIELD = "relations";
+
+  private final JsonParser parser;
+  private final ObjectMapper objectMapper;
+  private final boolean batch;
+
+  private RelationTupleModel next;
+  private boolean finished;
+  private long count;
+
+  private RelationTupleReader(JsonParser parser, ObjectMapper objectMapper, boolean batch) {
+    this.parser = parser;
+    this.objectMapper = objectMapper;
+    this.batch = batch;
+  }
+
+  /**
+   * Opens a relation tuple file for streaming.
+   *
+   * @param path The file path
+   * @param objectMapper The mapper used to bind tuples
+   * @return A reader positioned before the first tuple
+   * @throws IOException if the file cannot be read or has neither supported layout
+   */
+  public static RelationTupleReader open(Path path, ObjectMapper objectMapper) throws IOException {
+    boolean batch = isBatchDocument(path, objectMapper);
+    JsonParser parser = objectMapper.getFactory().createParser(path.toFile());
+    try {
+      if (batch) {
+        seekRelations(parser);
+      }
+      return new RelationTupleReader(parser, objectMapper, batch);
+    } catch (IOException | RuntimeException e) {
+      parser.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Checks whether the file holds a batch document.
+   *
+   * @return true if the first object has a top-level {@code relations} field, false if it looks
+   *     like a tuple (JSON Lines)
+   */
+  private static boolean isBatchDocument(Path path, ObjectMapper objectMapper) throws IOException {
+    try (JsonParser probe = objectMapper.getFactory().createParser(path.toFile())) {
+      if (probe.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(probe, "Expected a JSON object");
+      }
+      while (probe.nextToken() == JsonToken.FIELD_NAME) {
+        if (RELATIONS_FIELD.equals(probe.currentName())) {
+          return true;
+        }
+        probe.nextToken();
+        probe.skipChildren();
+      }
+      return false;
+    }
+  }
+
+  /** Advances a parser to the first element of the top-level {@code relations} array. */
+  private static void seekRelations(JsonParser parser) throws IOException {
+    parser.nextToken();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      JsonToken value = parser.nextToken();
+      if (RELATIONS_FIELD.equals(parser.currentName())) {
+        if (value != JsonToken.START_ARRAY) {
+          throw new JsonParseException(parser, "Field 'relations' must be an array");
+        }
+        return;
+      }
+      parser.skipChildren();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      next = readNext();
+      if (next == null) {
+        finished = true;
+        if (count == 0) {
+          throw new IllegalArgumentException("Relations list cannot be empty");
+        }
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public RelationTupleModel next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    RelationTupleModel tuple = next;
+    next = null;
+    return tuple;
+  }
+
+  /**
+   * Gets the number of tuples read so far.
+   *
+   * @return The tuple count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+  private RelationTupleModel readNext() {
+    try {
+      JsonToken token = parser.nextToken();
+      if (token == null || (batch && token == JsonToken.END_ARRAY)) {
+        return null;
+      }
+      if (token != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException(
+            "Relation tuple " + (count + 1) + " is not a JSON object (line " + line() + ")");
+      }
+      RelationTupleModel tuple = objectMapper.readValue(parser, RelationTupleModel.class);
+      count++;
+      return tuple;
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(
+          "Invalid relation tuple " + (count + 1) + " (line " + line() + "): " + rootMessage(e), e);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read relation tuple " + (count + 1), e);
+    }
+  }
+
+  private long line() {
+    return parser.currentLocation().getLineNr();
+  }
+
+  private static String rootMessage(JsonProcessingException e) {
+    Throwable cause = e.getCause();
+    return cause != null && cause.getMessage() != null
+        ? cause.getMessage()
+        : e.getOriginalMessage();
+  }
+}
@@ -0,0 +1,274 @@
+package com.descope.utils.input;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Streaming reader for CSV and JSON Lines record files.
+ *
+ * <p>Rows are read lazily, one line at a time, so arbitrarily large files can be processed with
+ * constant memory. CSV files must start with a header row; quoted fields with embedded commas and
+ * doubled quotes are supported, but a record may not span multiple lines. JSON Lines files contain
+ * one object per line; array values are flattened into comma-separated strings.
+ */
+public class RowReader implements Iterator<InputRow>, Closeable {
+
+  private final BufferedReader reader;
+  private final InputFormat format;
+  private final ObjectMapper objectMapper;
+
+  private List<String> header;
+  private LongPredicate excluded = row -> false;
+  private InputRow next;
+  private long lineNumber;
+  private long rowNumber;
+
+  /**
+   * Creates a new RowReader over an open reader.
+   *
+   * @param reader The source reader (closed when this reader is closed)
+   * @param format The record format
+   * @param objectMapper The mapper used to parse JSON Lines
+   */
+  public RowReader(BufferedReader reader, InputFormat format, ObjectMapper objectMapper) {
+    this.reader = reader;
+    this.format = format;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Opens a record file for streaming.
+   *
+   * @param path The file path
+   * @param format The record format
+   * @param objectMapper The mapper used to parse JSON Lines
+   * @return A reader positioned before the first data row
+   * @throws IOException if the file cannot be opened
+   */
+  public static RowReader open(Path path, InputFormat format, ObjectMapper objectMapper)
+      throws IOException {
+    return new RowReader(
+        Files.newBufferedReader(path, StandardCharsets.UTF_8), format, objectMapper);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readNext();
+    }
+    return next != null;
+  }
+
+  @Override
+  public InputRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    InputRow row = next;
+    next = null;
+    return row;
+  }
+
+  /**
+   * Returns a lazy view of the remaining rows converted by the given function.
+   *
+   * @param mapper Converts each row into a record
+   * @param <T> The record type
+   * @return An iterator that reads from this reader on demand
+   */
+  public <T> Iterator<T> map(Function<InputRow, T> mapper) {
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return RowReader.this.hasNext();
+      }
+
+      @Override
+      public T next() {
+        return mapper.apply(RowReader.this.next());
+      }
+    };
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  /**
+   * Skips data rows without parsing their fields.
+   *
+   * <p>Used when resuming a bulk operation to fast-forward past rows that were already committed.
+   * Row numbers of the rows that follow are unaffected.
+   *
+   * @param rows The number of data rows to skip
+   * @return The number of rows actually skipped (less than requested at end of input)
+   */
+  public long skip(long rows) {
+    long skipped = 0;
+    if (rows > 0 && next != null) {
+      next = null;
+      skipped++;
+    }
+    while (skipped < rows && nextDataLine() != null) {
+      rowNumber++;
+      skipped++;
+    }
+    return skipped;
+  }
+
+  /**
+   * Excludes data rows by row number.
+   *
+   * <p>Excluded rows are skipped without parsing their fields and do not change the numbering of
+   * the remaining rows.
+   *
+   * @param excluded Returns true for row numbers that should be skipped
+   */
+  public void exclude(LongPredicate excluded) {
+    this.excluded = excluded;
+  }
+
+  private InputRow readNext() {
+    String line;
+    while ((line = nextDataLine()) != null) {
+      rowNumber++;
+      if (!excluded.test(rowNumber)) {
+        return new InputRow(
+            rowNumber, format == InputFormat.CSV ? csvFields(line) : jsonFields(line));
+      }
+    }
+    return null;
+  }
+
+  private String nextDataLine() {
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+          line = line.substring(1);
+        }
+        if (line.isBlank()) {
+          continue;
+        }
+        if (format == InputFormat.CSV && header == null) {
+          header = new ArrayList<>();
+          for (String column : parseCsvLine(line)) {
+            header.add(normalize(column));
+          }
+          continue;
+        }
+        return line;
+      }
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read line " + (lineNumber + 1), e);
+    }
+  }
+
+  private Map<String, String> csvFields(String line) {
+    List<String> values = parseCsvLine(line);
+    Map<String, String> fields = new HashMap<>();
+    for (int i = 0; i < header.size() && i < values.size(); i++) {
+      fields.put(header.get(i), values.get(i));
+    }
+    return fields;
+  }
+
+  private Map<String, String> jsonFields(String line) {
+    JsonNode node;
+    try {
+      node = objectMapper.readTree(line);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(
+          "Invalid JSON on line " + lineNumber + ": " + e.getOriginalMessage(), e);
+    }
+    if (node == null || !node.isObject()) {
+      throw new IllegalArgumentException("Line " + lineNumber + " is not a JSON object");
+    }
+    Map<String, String> fields = new HashMap<>();
+    node.fields()
+        .forEachRemaining(
+            entry -> {
+              JsonNode value = entry.getValue();
+              if (value.isNull()) {
+                return;
+              }
+              String text;
+              if (value.isArray()) {
+                List<String> items = new ArrayList<>();
+                value.forEach(item -> items.add(item.asText()));
+                text = String.join(",", items);
+              } else if (value.isValueNode()) {
+                text = value.asText();
+              } else {
+                text = value.toString();
+              }
+              fields.put(normalize(entry.getKey()), text);
+            });
+    return fields;
+  }
+
+  /**
+   * Splits a single CSV line into fields.
+   *
+   * @param line The CSV line
+   * @return The unquoted field values
+   */
+  static List<String> parseCsvLine(String line) {
+    List<String> values = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          current.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          current.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        values.add(current.toString());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    values.add(current.toString());
+    return values;
+  }
+
+  /**
+   * Normalizes a field name for case- and separator-insensitive lookup.
+   *
+   * @param name The raw field name
+   * @return The lower-case name without underscores, dashes or surrounding whitespace
+   */
+  static String normalize(String name) {
+    return name.trim().replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+  }
+}
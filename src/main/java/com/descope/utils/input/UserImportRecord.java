@@ -0,0 +1,32 @@
+package com.descope.utils.input;
+
+/**
+ * A user to provision, read from a bulk import file.
+ *
+ * <p>Recognized fields are {@code loginId} (or {@code login}), {@code email} and {@code tenantId}
+ * (or {@code tenant}). Values are not validated here so that a bad row can be reported as a
+ * per-row failure instead of aborting the whole import.
+ *
+ * @param rowNumber The 1-based data row number in the input file
+ * @param loginId The user's login ID (may be null if missing from the row)
+ * @param email The user's email address (optional)
+ * @param tenantId The tenant to associate the user with (optional)
+ */
+public record UserImportRecord(long rowNumber, String loginId, String email, String tenantId) {
+
+  /**
+   * Converts an input row into a user import record.
+   *
+   * @param row The input row
+   * @param defaultTenantId Tenant ID to use when the row does not specify one (may be null)
+   * @return The user import record
+   */
+  public static UserImportRecord fromRow(InputRow row, String defaultTenantId) {
+    String tenantId = row.get("tenantId", "tenant");
+    return new UserImportRecord(
+        row.rowNumber(),
+        row.get("loginId", "login"),
+        row.get("email"),
+        tenantId != null ? tenantId : defaultTenantId);
+  }
+}
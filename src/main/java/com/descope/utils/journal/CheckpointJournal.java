@@ -0,0 +1,362 @@
+package com.descope.utils.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.input.RowReader;
+
+/**
+ * Append-only journal of committed rows for resumable bulk operations.
+ *
+ * <p>The journal is a small text file next to the input. It starts with a header identifying the
+ * input it was written for, followed by one entry per committed chunk:
+ *
+ * <pre>
+ * # descope-utils checkpoint v1
+ * # input bulk-create-users size=1048576 sha256=9f2c...
+ * C 1-256
+ * C 257-400,402-512 F 401
+ * </pre>
+ *
+ * <p>{@code C} lists the rows that completed successfully and {@code F} the rows that failed. Only
+ * successful rows are skipped on resume, so failed rows are retried. Entries are appended through
+ * a {@link FileChannel} and fsynced at most once per sync interval rather than per entry; a crash
+ * can therefore lose the last interval of entries, which only causes those rows to be retried. A
+ * partially written trailing entry is discarded when the journal is reopened.
+ */
+public class CheckpointJournal implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(CheckpointJournal.class);
+
+  static final String HEADER = "# descope-utils checkpoint v1";
+  static final String INPUT_PREFIX = "# input ";
+
+  /** Number of per-row outcomes buffered before an entry is written. */
+  static final int DEFAULT_ROWS_PER_ENTRY = 256;
+
+  /** Minimum time between fsyncs of the journal file. */
+  static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofSeconds(1);
+
+  private final Path path;
+  private final FileChannel channel;
+  private final RowRanges resumed;
+  private final int rowsPerEntry;
+  private final long syncIntervalNanos;
+  private final LongSupplier nanoClock;
+
+  private final RowRanges pendingSucceeded = new RowRanges();
+  private final RowRanges pendingFailed = new RowRanges();
+  private long lastSyncNanos;
+  private boolean unsynced;
+
+  CheckpointJournal(
+      Path path,
+      FileChannel channel,
+      RowRanges resumed,
+      int rowsPerEntry,
+      Duration syncInterval,
+      LongSupplier nanoClock) {
+    this.path = path;
+    this.channel = channel;
+    this.resumed = resumed;
+    this.rowsPerEntry = rowsPerEntry;
+    this.syncIntervalNanos = syncInterval.toNanos();
+    this.nanoClock = nanoClock;
+    this.lastSyncNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * Opens a journal for writing, optionally resuming from an existing one.
+   *
+   * @param path The journal file path
+   * @param fingerprint Identifies the input and operation (see {@link #fingerprint})
+   * @param resume Whether to continue an existing journal
+   * @return The open journal
+   * @throws IOException if the journal cannot be read or written
+   * @throws IllegalStateException if a journal exists and resume was not requested, or if the
+   *     existing journal was written for a different input
+   */
+  public static CheckpointJournal open(Path path, String fingerprint, boolean resume)
+      throws IOException {
+    return open(
+        path,
+        fingerprint,
+        resume,
+        DEFAULT_ROWS_PER_ENTRY,
+        DEFAULT_SYNC_INTERVAL,
+        System::nanoTime);
+  }
+
+  static CheckpointJournal open(
+      Path path,
+      String fingerprint,
+      boolean resume,
+      int rowsPerEntry,
+      Duration syncInterval,
+      LongSupplier nanoClock)
+      throws IOException {
+    boolean exists = Files.exists(path) && Files.size(path) > 0;
+    if (exists && !resume) {
+      throw new IllegalStateException(
+          "Checkpoint journal already exists: "
+              + path
+              + ". Use --resume to continue or delete it to start over");
+    }
+
+    RowRanges resumed = new RowRanges();
+    FileChannel channel;
+    if (exists) {
+      byte[] content = Files.readAllBytes(path);
+      int end = lastLineEnd(content);
+      parse(new String(content, 0, end, StandardCharsets.UTF_8), fingerprint, path, resumed);
+      channel = FileChannel.open(path, StandardOpenOption.WRITE);
+      // Drop a trailing entry that was cut off by a crash
+      channel.truncate(end);
+      channel.position(end);
+      logger.info("Resuming from {}: {} row(s) already committed", path, resumed.size());
+    } else {
+      if (resume) {
+        logger.info("No checkpoint journal at {}; starting from the beginning", path);
+      }
+      channel =
+          FileChannel.open(
+              path,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING);
+      write(channel, HEADER + "\n" + INPUT_PREFIX + fingerprint + "\n");
+      channel.force(true);
+    }
+    return new CheckpointJournal(path, channel, resumed, rowsPerEntry, syncInterval, nanoClock);
+  }
+
+  /**
+   * Computes the fingerprint of an input file for a given operation.
+   *
+   * <p>The whole file is hashed so that a journal is never applied to an edited input.
+   *
+   * @param operation The operation name and any options that change how rows are applied
+   * @param input The input file
+   * @return A single-line fingerprint
+   * @throws IOException if the file cannot be read
+   */
+  public static String fingerprint(String operation, Path input) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+    try (InputStream in = Files.newInputStream(input)) {
+      byte[] buffer = new byte[64 * 1024];
+      int read;
+      while ((read = in.read(buffer)) > 0) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return operation
+        + " size="
+        + Files.size(input)
+        + " sha256="
+        + HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Gets the default journal location for an input file.
+   *
+   * @param input The input file
+   * @return The input path with a {@code .journal} suffix
+   */
+  public static Path defaultPath(Path input) {
+    return input.resolveSibling(input.getFileName() + ".journal");
+  }
+
+  /**
+   * Gets the journal file path.
+   *
+   * @return The path
+   */
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Checks whether a row was committed by a previous run.
+   *
+   * @param row The row number
+   * @return true if the row can be skipped
+   */
+  public boolean isCommitted(long row) {
+    return resumed.contains(row);
+  }
+
+  /**
+   * Gets the number of rows committed by previous runs.
+   *
+   * @return The committed row count
+   */
+  public long getCommittedCount() {
+    return resumed.size();
+  }
+
+  /**
+   * Positions a reader so that it only returns rows not committed by a previous run.
+   *
+   * <p>The leading run of committed rows is skipped outright; later committed rows are excluded
+   * as they are read. Neither is parsed.
+   *
+   * @param reader The input reader, positioned before the first data row
+   */
+  public void skipCommitted(RowReader reader) {
+    reader.skip(resumed.contiguousPrefix());
+    reader.exclude(resumed::contains);
+  }
+
+  /**
+   * Records the outcome of a single row.
+   *
+   * <p>Outcomes are buffered and written as one entry per {@code rowsPerEntry} rows.
+   *
+   * @param row The row number
+   * @param succeeded Whether the row was committed successfully
+   */
+  public synchronized void record(long row, boolean succeeded) {
+    (succeeded ? pendingSucceeded : pendingFailed).add(row);
+    if (pendingSucceeded.size() + pendingFailed.size() >= rowsPerEntry) {
+      writeEntry();
+    }
+  }
+
+  /**
+   * Records the outcome of a contiguous chunk of rows and writes it immediately.
+   *
+   * @param firstRow The first row in the chunk
+   * @param lastRow The last row in the chunk
+   * @param succeeded Whether the whole chunk was committed successfully
+   */
+  public synchronized void recordChunk(long firstRow, long lastRow, boolean succeeded) {
+    (succeeded ? pendingSucceeded : pendingFailed).add(firstRow, lastRow);
+    commit();
+  }
+
+  /**
+   * Writes the buffered outcomes as one entry.
+   *
+   * <p>The entry is forced to disk only if the sync interval has elapsed since the last sync.
+   */
+  public synchronized void commit() {
+    writeEntry();
+  }
+
+  /** Writes any buffered outcomes and forces them to disk. */
+  public synchronized void flush() {
+    writeEntry();
+    if (unsynced) {
+      sync();
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void writeEntry() {
+    if (pendingSucceeded.isEmpty() && pendingFailed.isEmpty()) {
+      return;
+    }
+    StringBuilder entry = new StringBuilder("C ").append(pendingSucceeded.format());
+    if (!pendingFailed.isEmpty()) {
+      entry.append(" F ").append(pendingFailed.format());
+    }
+    entry.append('\n');
+    try {
+      write(channel, entry.toString());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write checkpoint journal " + path, e);
+    }
+    pendingSucceeded.clear();
+    pendingFailed.clear();
+    unsynced = true;
+
+    if (nanoClock.getAsLong() - lastSyncNanos >= syncIntervalNanos) {
+      sync();
+    }
+  }
+
+  private void sync() {
+    try {
+      channel.force(false);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to sync checkpoint journal " + path, e);
+    }
+    lastSyncNanos = nanoClock.getAsLong();
+    unsynced = false;
+  }
+
+  private static void write(FileChannel channel, String text) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static int lastLineEnd(byte[] content) {
+    for (int i = content.length - 1; i >= 0; i--) {
+      if (content[i] == '\n') {
+        return i + 1;
+      }
+    }
+    return 0;
+  }
+
+  private static void parse(String content, String fingerprint, Path path, RowRanges committed) {
+    String[] lines = content.split("\n");
+    if (lines.length < 2 || !lines[0].equals(HEADER) || !lines[1].startsWith(INPUT_PREFIX)) {
+      throw new IllegalStateException("Not a checkpoint journal: " + path);
+    }
+    if (!lines[1].substring(INPUT_PREFIX.length()).equals(fingerprint)) {
+      throw new IllegalStateException(
+          "Checkpoint journal "
+              + path
+              + " was written for a different input file or operation; delete it to start over");
+    }
+    for (int i = 2; i < lines.length; i++) {
+      String line = lines[i];
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      String[] parts = line.split(" ");
+      try {
+        if (!parts[0].equals("C") || parts.length < 2) {
+          throw new IllegalArgumentException("unknown entry");
+        }
+        // Entries with no successful rows are written as "C  F <rows>"
+        committed.parseAndAdd(parts[1]);
+      } catch (IllegalArgumentException e) {
+        throw new IllegalStateException(
+            "Corrupt checkpoint journal " + path + " at line " + (i + 1) + ": " + line, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.descope.utils.journal;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A set of row numbers stored as merged, inclusive ranges.
+ *
+ * <p>Bulk operations complete rows in long contiguous runs, so even millions of committed rows
+ * usually collapse into a handful of ranges.
+ */
+class RowRanges {
+
+  // Range start -> range end (inclusive); ranges never overlap or touch
+  private final TreeMap<Long, Long> ranges = new TreeMap<>();
+  private long size;
+
+  /**
+   * Adds a single row.
+   *
+   * @param row The row number
+   */
+  void add(long row) {
+    add(row, row);
+  }
+
+  /**
+   * Adds an inclusive range of rows.
+   *
+   * @param first The first row in the range
+   * @param last The last row in the range
+   */
+  void add(long first, long last) {
+    if (last < first) {
+      throw new IllegalArgumentException("Invalid range " + first + "-" + last);
+    }
+    long start = first;
+    long end = last;
+
+    // Merge with a range that overlaps or touches the start
+    Map.Entry<Long, Long> floor = ranges.floorEntry(start);
+    if (floor != null && floor.getValue() >= start - 1) {
+      start = floor.getKey();
+      end = Math.max(end, floor.getValue());
+      size -= floor.getValue() - floor.getKey() + 1;
+      ranges.remove(floor.getKey());
+    }
+
+    // Absorb every range that starts inside or right after the new range
+    Map.Entry<Long, Long> next = ranges.ceilingEntry(start);
+    while (next != null && next.getKey() <= end + 1) {
+      end = Math.max(end, next.getValue());
+      size -= next.getValue() - next.getKey() + 1;
+      ranges.remove(next.getKey());
+      next = ranges.ceilingEntry(start);
+    }
+
+    ranges.put(start, end);
+    size += end - start + 1;
+  }
+
+  /**
+   * Checks whether a row is in the set.
+   *
+   * @param row The row number
+   * @return true if the row has been added
+   */
+  boolean contains(long row) {
+    Map.Entry<Long, Long> floor = ranges.floorEntry(row);
+    return floor != null && floor.getValue() >= row;
+  }
+
+  /**
+   * Gets the highest row N such that every row from 1 to N is in the set.
+   *
+   * @return The length of the contiguous prefix, or 0 if row 1 is missing
+   */
+  long contiguousPrefix() {
+    Map.Entry<Long, Long> first = ranges.firstEntry();
+    return first != null && first.getKey() <= 1 ? first.getValue() : 0;
+  }
+
+  /**
+   * Gets the number of rows in the set.
+   *
+   * @return The row count
+   */
+  long size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the set is empty.
+   *
+   * @return true if no rows have been added
+   */
+  boolean isEmpty() {
+    return ranges.isEmpty();
+  }
+
+  /** Removes all rows. */
+  void clear() {
+    ranges.clear();
+    size = 0;
+  }
+
+  /**
+   * Formats the set as comma-separated ranges, e.g. {@code 1-200,202,205-300}.
+   *
+   * @return The formatted ranges
+   */
+  String format() {
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<Long, Long> range : ranges.entrySet()) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(range.getKey());
+      if (!range.getValue().equals(range.getKey())) {
+        sb.append('-').append(range.getValue());
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Adds every range in the formatted representation produced by {@link #format()}.
+   *
+   * @param formatted The formatted ranges
+   * @throws NumberFormatException if the text is not a valid range list
+   */
+  void parseAndAdd(String formatted) {
+    if (formatted.isEmpty()) {
+      return;
+    }
+    for (String part : formatted.split(",")) {
+      int dash = part.indexOf('-');
+      if (dash < 0) {
+        add(Long.parseLong(part));
+      } else {
+        add(Long.parseLong(part.substring(0, dash)), Long.parseLong(part.substring(dash + 1)));
+      }
+    }
+  }
+}
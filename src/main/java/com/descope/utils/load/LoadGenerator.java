@@ -0,0 +1,278 @@
+package com.descope.utils.load;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.descope.exception.DescopeException;
+import com.descope.utils.model.load.LoadTestReport;
+import com.descope.utils.model.load.OperationStats;
+
+/**
+ * Sends a weighted mix of operations and records how long each one takes.
+ *
+ * <p>Latencies are recorded in HdrHistogram histograms with microsecond resolution, including the
+ * latency of requests that failed. In a fixed-rate run a request's latency is measured from the
+ * time it was scheduled to start, not from the time a worker picked it up, so a target that stalls
+ * cannot hide the backlog it causes by delaying the requests that would have observed it.
+ */
+public final class LoadGenerator {
+
+  /** Sends one request of a load test. */
+  @FunctionalInterface
+  public interface Operation {
+
+    /**
+     * Sends one request.
+     *
+     * @param operation The operation to send
+     * @param sequence A number unique to this request within the run, starting at 0
+     * @throws Exception if the request failed
+     */
+    void run(LoadOperation operation, long sequence) throws Exception;
+  }
+
+  private static final long HIGHEST_MICROS = TimeUnit.HOURS.toMicros(1);
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final OperationMix mix;
+  private final LoadProfile profile;
+  private final long seed;
+
+  /**
+   * Creates a new LoadGenerator.
+   *
+   * @param mix The operations to send and their weights
+   * @param profile The concurrency, rate and duration of the run
+   * @param seed The seed for choosing operations, so that runs are repeatable
+   */
+  public LoadGenerator(OperationMix mix, LoadProfile profile, long seed) {
+    this.mix = mix;
+    this.profile = profile;
+    this.seed = seed;
+  }
+
+  /**
+   * Runs the load test.
+   *
+   * <p>Blocks until the run is over and every request in flight has completed. If the calling
+   * thread is interrupted the run stops early and reports what was measured so far.
+   *
+   * @param operation Sends each request
+   * @return The latency, throughput and errors of each operation and of all operations together
+   */
+  public LoadTestReport run(Operation operation) {
+    Run run = new Run(operation, System.nanoTime());
+    ExecutorService executor =
+        Executors.newFixedThreadPool(profile.concurrency(), threadFactory("load-test"));
+    try {
+      if (profile.rate() > 0) {
+        openLoop(executor, run);
+      } else {
+        closedLoop(executor, run);
+      }
+      executor.shutdown();
+      executor.awaitTermination(Long.MAX_VALUE, NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+    return run.report(System.nanoTime());
+  }
+
+  private void closedLoop(ExecutorService executor, Run run) {
+    for (int i = 0; i < profile.concurrency(); i++) {
+      SplittableRandom random = new SplittableRandom(seed + i);
+      executor.execute(
+          () -> {
+            while (!Thread.currentThread().isInterrupted()) {
+              long began = System.nanoTime();
+              if (!run.admit(began)) {
+                return;
+              }
+              run.execute(mix.pick(random.nextDouble()), began);
+            }
+          });
+    }
+  }
+
+  private void openLoop(ExecutorService executor, Run run) throws InterruptedException {
+    SplittableRandom random = new SplittableRandom(seed);
+    Semaphore inFlight = new Semaphore(profile.concurrency());
+    double intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.rate();
+    for (long i = 0; ; i++) {
+      long scheduled = run.startNanos + (long) (i * intervalNanos);
+      if (!run.admit(scheduled)) {
+        return;
+      }
+      sleepUntil(scheduled);
+      LoadOperation next = mix.pick(random.nextDouble());
+      inFlight.acquire();
+      executor.execute(
+          () -> {
+            try {
+              run.execute(next, scheduled);
+            } finally {
+              inFlight.release();
+            }
+          });
+    }
+  }
+
+  private static void sleepUntil(long nanos) throws InterruptedException {
+    for (long wait = nanos - System.nanoTime(); wait > 0; wait = nanos - System.nanoTime()) {
+      LockSupport.parkNanos(wait);
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+    }
+  }
+
+  /**
+   * Describes a failure for the error breakdown.
+   *
+   * <p>Uses the Descope error code when the failure carries one, and otherwise the class of the
+   * innermost cause, which is the most specific description of what went wrong.
+   *
+   * @param failure The exception thrown by the operation
+   * @return A short description of the kind of failure
+   */
+  static String errorType(Throwable failure) {
+    Throwable root = failure;
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof DescopeException descope
+          && descope.getCode() != null
+          && !descope.getCode().isBlank()) {
+        return cause.getClass().getSimpleName() + " " + descope.getCode();
+      }
+      root = cause;
+    }
+    return root.getClass().getSimpleName();
+  }
+
+  private static ThreadFactory threadFactory(String name) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** The state of one run, shared by the workers. */
+  private final class Run {
+
+    private final Operation operation;
+    private final long startNanos;
+    private final long measureFromNanos;
+    private final long deadlineNanos;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong measured = new AtomicLong();
+    private final Map<LoadOperation, AbstractHistogram> latencies =
+        new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, Map<String, LongAdder>> errors =
+        new EnumMap<>(LoadOperation.class);
+
+    Run(Operation operation, long startNanos) {
+      this.operation = operation;
+      this.startNanos = startNanos;
+      this.measureFromNanos = startNanos + profile.warmup().toNanos();
+      this.deadlineNanos = measureFromNanos + profile.duration().toNanos();
+      // Filled before any worker starts and only read afterwards
+      for (LoadOperation op : mix.getOperations()) {
+        latencies.put(op, new ConcurrentHistogram(HIGHEST_MICROS, SIGNIFICANT_DIGITS));
+        errors.put(op, new ConcurrentHashMap<>());
+      }
+    }
+
+    /** Decides whether a request starting at the given time is part of the run. */
+    boolean admit(long requestNanos) {
+      if (requestNanos - deadlineNanos >= 0) {
+        return false;
+      }
+      return requestNanos - measureFromNanos < 0
+          || profile.maxRequests() == 0
+          || measured.incrementAndGet() <= profile.maxRequests();
+    }
+
+    void execute(LoadOperation op, long requestNanos) {
+      Exception failure = null;
+      try {
+        operation.run(op, sequence.getAndIncrement());
+      } catch (Exception e) {
+        failure = e;
+      }
+      if (requestNanos - measureFromNanos < 0) {
+        return;
+      }
+      long micros = NANOSECONDS.toMicros(System.nanoTime() - requestNanos);
+      latencies.get(op).recordValue(Math.max(0, Math.min(micros, HIGHEST_MICROS)));
+      if (failure != null) {
+        errors.get(op).computeIfAbsent(errorType(failure), k -> new LongAdder()).increment();
+      }
+    }
+
+    LoadTestReport report(long endNanos) {
+      long elapsedNanos = Math.max(0, endNanos - measureFromNanos);
+      double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+      List<OperationStats> operations = new ArrayList<>();
+      Histogram allLatencies = new Histogram(HIGHEST_MICROS, SIGNIFICANT_DIGITS);
+      Map<String, Long> allErrors = new TreeMap<>();
+      for (LoadOperation op : mix.getOperations()) {
+        Map<String, Long> opErrors = new TreeMap<>();
+        errors.get(op).forEach((type, count) -> opErrors.put(type, count.sum()));
+        opErrors.forEach((type, count) -> allErrors.merge(type, count, Long::sum));
+        allLatencies.add(latencies.get(op));
+        operations.add(stats(op.getLabel(), latencies.get(op), opErrors, seconds));
+      }
+      return new LoadTestReport(
+          profile.concurrency(),
+          profile.rate(),
+          NANOSECONDS.toMillis(elapsedNanos),
+          operations,
+          stats("total", allLatencies, allErrors, seconds));
+    }
+  }
+
+  private static OperationStats stats(
+      String name, AbstractHistogram latencies, Map<String, Long> errors, double seconds) {
+    long requests = latencies.getTotalCount();
+    long failed = errors.values().stream().mapToLong(Long::longValue).sum();
+    return new OperationStats(
+        name,
+        requests,
+        failed,
+        seconds > 0 ? requests / seconds : 0,
+        latencies.getMean() / 1000.0,
+        millis(latencies.getValueAtPercentile(50)),
+        millis(latencies.getValueAtPercentile(90)),
+        millis(latencies.getValueAtPercentile(99)),
+        millis(latencies.getValueAtPercentile(99.9)),
+        millis(latencies.getMaxValue()),
+        errors);
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+}
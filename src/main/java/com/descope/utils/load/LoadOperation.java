@@ -0,0 +1,48 @@
+package com.descope.utils.load;
+
+/** An operation that a load test can send. */
+public enum LoadOperation {
+
+  /** Checks relation tuples with hasRelations. */
+  CHECK("check"),
+
+  /** Signs a user in with a password. */
+  AUTHENTICATE("authenticate"),
+
+  /** Creates a new user. */
+  CREATE_USER("create-user"),
+
+  /** Lists the targets with a relation to a resource. */
+  WHO_CAN_ACCESS("who-can-access");
+
+  private final String label;
+
+  LoadOperation(String label) {
+    this.label = label;
+  }
+
+  /**
+   * Gets the name used for this operation on the command line and in reports.
+   *
+   * @return The label
+   */
+  public String getLabel() {
+    return label;
+  }
+
+  /**
+   * Finds an operation by its label.
+   *
+   * @param label The label, for example {@code who-can-access}
+   * @return The operation
+   * @throws IllegalArgumentException if no operation has that label
+   */
+  public static LoadOperation fromLabel(String label) {
+    for (LoadOperation operation : values()) {
+      if (operation.label.equals(label)) {
+        return operation;
+      }
+    }
+    throw new IllegalArgumentException("Unknown operation: " + label);
+  }
+}
@@ -0,0 +1,45 @@
+package com.descope.utils.load;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * How hard and for how long a {@link LoadGenerator} drives the target.
+ *
+ * <p>With a {@code rate} of 0 the generator runs a closed loop: {@code concurrency} workers each
+ * send the next request as soon as the previous one completes. With a positive rate it runs an open
+ * loop: requests are scheduled at fixed intervals and at most {@code concurrency} are in flight at
+ * once. Requests started during {@code warmup} are sent but not measured. The run ends after {@code
+ * duration} has elapsed past the warm-up, or after {@code maxRequests} measured requests if that is
+ * positive, whichever comes first.
+ *
+ * @param concurrency The maximum number of requests in flight
+ * @param rate The target requests per second, or 0 to run at fixed concurrency
+ * @param duration How long to measure for, after the warm-up
+ * @param warmup How long to send requests before measuring
+ * @param maxRequests The number of measured requests after which to stop, or 0 for no limit
+ */
+public record LoadProfile(
+    int concurrency, double rate, Duration duration, Duration warmup, long maxRequests) {
+
+  /** Validates the settings. */
+  public LoadProfile {
+    Objects.requireNonNull(duration, "Duration cannot be null");
+    Objects.requireNonNull(warmup, "Warm-up cannot be null");
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be at least 1");
+    }
+    if (rate < 0 || Double.isNaN(rate) || Double.isInfinite(rate)) {
+      throw new IllegalArgumentException("Rate must be a non-negative number");
+    }
+    if (duration.isNegative() || duration.isZero()) {
+      throw new IllegalArgumentException("Duration must be positive");
+    }
+    if (warmup.isNegative()) {
+      throw new IllegalArgumentException("Warm-up cannot be negative");
+    }
+    if (maxRequests < 0) {
+      throw new IllegalArgumentException("Maximum requests cannot be negative");
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.descope.utils.load;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighted choice of operations for a load test.
+ *
+ * <p>A mix is written as comma-separated {@code operation=weight} pairs, for example {@code
+ * check=80,who-can-access=15,create-user=5}. Weights are relative and need not add up to 100; an
+ * operation without a weight has weight 1.
+ */
+public final class OperationMix {
+
+  private final List<LoadOperation> operations;
+  private final double[] cumulative;
+
+  private OperationMix(Map<LoadOperation, Double> weights) {
+    this.operations = new ArrayList<>(weights.keySet());
+    this.cumulative = new double[operations.size()];
+    double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+    double sum = 0;
+    for (int i = 0; i < operations.size(); i++) {
+      sum += weights.get(operations.get(i)) / total;
+      cumulative[i] = sum;
+    }
+  }
+
+  /**
+   * Parses a mix.
+   *
+   * @param spec Comma-separated {@code operation=weight} pairs
+   * @return The mix
+   * @throws IllegalArgumentException if an operation is unknown or repeated, or a weight is not a
+   *     positive number
+   */
+  public static OperationMix parse(String spec) {
+    Map<LoadOperation, Double> weights = new EnumMap<>(LoadOperation.class);
+    for (String part : spec.split(",")) {
+      String trimmed = part.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      int equals = trimmed.indexOf('=');
+      LoadOperation operation =
+          LoadOperation.fromLabel(equals < 0 ? trimmed : trimmed.substring(0, equals).trim());
+      double weight;
+      try {
+        weight = equals < 0 ? 1 : Double.parseDouble(trimmed.substring(equals + 1).trim());
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid weight in mix: " + trimmed);
+      }
+      if (!(weight > 0)) {
+        throw new IllegalArgumentException("Weight must be positive: " + trimmed);
+      }
+      if (weights.put(operation, weight) != null) {
+        throw new IllegalArgumentException("Operation repeated in mix: " + operation.getLabel());
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("Mix must name at least one operation");
+    }
+    return new OperationMix(weights);
+  }
+
+  /**
+   * Gets the operations in the mix.
+   *
+   * @return The operations, in declaration order
+   */
+  public List<LoadOperation> getOperations() {
+    return List.copyOf(operations);
+  }
+
+  /**
+   * Picks an operation.
+   *
+   * @param uniform A uniformly distributed number in [0, 1)
+   * @return The operation whose share of the weight contains {@code uniform}
+   */
+  public LoadOperation pick(double uniform) {
+    for (int i = 0; i < cumulative.length - 1; i++) {
+      if (uniform < cumulative[i]) {
+        return operations.get(i);
+      }
+    }
+    return operations.get(operations.size() - 1);
+  }
+}
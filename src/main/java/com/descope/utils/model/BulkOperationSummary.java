@@ -0,0 +1,246 @@
+package com.descope.utils.model;
+
+/**
+ * Aggregate counts for a bulk operation.
+ *
+ * <p>Produced at the end of a bulk command after all per-row results have been emitted.
+ */
+public class BulkOperationSummary {
+
+  private final long total;
+  private final long created;
+  private final long alreadyExists;
+  private final long failed;
+  private final long skipped;
+  private final long retries;
+  private final long elapsedMillis;
+
+  /**
+   * Creates a new BulkOperationSummary.
+   *
+   * @param total The number of rows processed
+   * @param created The number of rows that created a new resource
+   * @param alreadyExists The number of rows whose resource already existed
+   * @param failed The number of rows that failed
+   * @param elapsedMillis The wall-clock duration of the operation in milliseconds
+   */
+  public BulkOperationSummary(
+      long total, long created, long alreadyExists, long failed, long elapsedMillis) {
+    this(total, created, alreadyExists, failed, 0, elapsedMillis);
+  }
+
+  /**
+   * Creates a new BulkOperationSummary for a resumed operation.
+   *
+   * @param total The number of rows processed
+   * @param created The number of rows that created a new resource
+   * @param alreadyExists The number of rows whose resource already existed
+   * @param failed The number of rows that failed
+   * @param skipped The number of rows skipped because a previous run already committed them
+   * @param elapsedMillis The wall-clock duration of the operation in milliseconds
+   */
+  public BulkOperationSummary(
+      long total, long created, long alreadyExists, long failed, long skipped, long elapsedMillis) {
+    this(total, created, alreadyExists, failed, skipped, 0, elapsedMillis);
+  }
+
+  /**
+   * Creates a new BulkOperationSummary with a retry count.
+   *
+   * @param total The number of rows processed
+   * @param created The number of rows that created a new resource
+   * @param alreadyExists The number of rows whose resource already existed
+   * @param failed The number of rows that failed
+   * @param skipped The number of rows skipped because a previous run already committed them
+   * @param retries The number of requests sent again after a failure
+   * @param elapsedMillis The wall-clock duration of the operation in milliseconds
+   */
+  public BulkOperationSummary(
+      long total,
+      long created,
+      long alreadyExists,
+      long failed,
+      long skipped,
+      long retries,
+      long elapsedMillis) {
+    this.total = total;
+    this.created = created;
+    this.alreadyExists = alreadyExists;
+    this.failed = failed;
+    this.skipped = skipped;
+    this.retries = retries;
+    this.elapsedMillis = elapsedMillis;
+  }
+
+  /**
+   * Gets the number of rows processed.
+   *
+   * @return The total row count
+   */
+  public long getTotal() {
+    return total;
+  }
+
+  /**
+   * Gets the number of rows that created a new resource.
+   *
+   * @return The created count
+   */
+  public long getCreated() {
+    return created;
+  }
+
+  /**
+   * Gets the number of rows whose resource already existed.
+   *
+   * @return The already-exists count
+   */
+  public long getAlreadyExists() {
+    return alreadyExists;
+  }
+
+  /**
+   * Gets the number of rows that succeeded, whether or not they created a new resource.
+   *
+   * @return The succeeded count
+   */
+  public long getSucceeded() {
+    return total - failed;
+  }
+
+  /**
+   * Gets the number of rows that failed.
+   *
+   * @return The failed count
+   */
+  public long getFailed() {
+    return failed;
+  }
+
+  /**
+   * Gets the number of rows skipped because a previous run already committed them.
+   *
+   * @return The skipped count
+   */
+  public long getSkipped() {
+    return skipped;
+  }
+
+  /**
+   * Gets the number of requests sent again after a transient failure or a rate-limit rejection.
+   *
+   * @return The retry count
+   */
+  public long getRetries() {
+    return retries;
+  }
+
+  /**
+   * Gets the wall-clock duration of the operation.
+   *
+   * @return The elapsed time in milliseconds
+   */
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  /**
+   * Gets the average throughput of the operation.
+   *
+   * @return Rows processed per second
+   */
+  public double getRowsPerSecond() {
+    return elapsedMillis > 0 ? total * 1000.0 / elapsedMillis : total;
+  }
+
+  /**
+   * Returns a copy of this summary with the given number of skipped rows.
+   *
+   * @param skippedRows The number of rows a previous run already committed
+   * @return The updated summary
+   */
+  public BulkOperationSummary withSkipped(long skippedRows) {
+    return new BulkOperationSummary(
+        total, created, alreadyExists, failed, skippedRows, retries, elapsedMillis);
+  }
+
+  /**
+   * Checks whether every row succeeded.
+   *
+   * @return true if no row failed
+   */
+  public boolean isAllSucceeded() {
+    return failed == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkOperationSummary{"
+        + "total="
+        + total
+        + ", created="
+        + created
+        + ", alreadyExists="
+        + alreadyExists
+        + ", failed="
+        + failed
+        + ", skipped="
+        + skipped
+        + ", retries="
+        + retries
+        + ", elapsedMillis="
+        + elapsedMillis
+        + '}';
+  }
+
+  /** Mutable counter used while a bulk operation is running. */
+  public static final class Tally {
+
+    private final long startNanos = System.nanoTime();
+    private long total;
+    private long created;
+    private long alreadyExists;
+    private long failed;
+    private long retries;
+
+    /**
+     * Records the outcome of one row.
+     *
+     * @param result The row's operation result
+     */
+    public void record(OperationResult<?> result) {
+      record(result, 1);
+    }
+
+    /**
+     * Records the outcome of a request that covered several rows.
+     *
+     * <p>The result's retries are counted once, since they belong to the request.
+     *
+     * @param result The request's operation result
+     * @param rows The number of rows the request covered
+     */
+    public void record(OperationResult<?> result, long rows) {
+      total += rows;
+      retries += result.getRetries();
+      if (!result.isSuccess()) {
+        failed += rows;
+      } else if (result.isCreated()) {
+        created += rows;
+      } else if (result.isAlreadyExists()) {
+        alreadyExists += rows;
+      }
+    }
+
+    /**
+     * Builds the summary for the rows recorded so far.
+     *
+     * @return The bulk operation summary
+     */
+    public BulkOperationSummary toSummary() {
+      long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+      return new BulkOperationSummary(
+          total, created, alreadyExists, failed, 0, retries, elapsedMillis);
+    }
+  }
+}
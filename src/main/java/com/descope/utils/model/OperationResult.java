@@ -16,6 +16,7 @@ public class OperationResult<T> {
   private final T data;
   private final String message;
   private final String errorMessage;
+  private final int retries;
 
   /**
    * Creates a successful operation result.
@@ -26,12 +27,7 @@ public class OperationResult<T> {
    * @param alreadyExists Whether the resource already existed
    */
   private OperationResult(T data, String message, boolean created, boolean alreadyExists) {
-    this.success = true;
-    this.created = created;
-    this.alreadyExists = alreadyExists;
-    this.data = data;
-    this.message = message;
-    this.errorMessage = null;
+    this(true, created, alreadyExists, data, message, null, 0);
   }
 
   /**
@@ -40,12 +36,31 @@ public class OperationResult<T> {
    * @param errorMessage The error message
    */
   private OperationResult(String errorMessage) {
-    this.success = false;
-    this.created = false;
-    this.alreadyExists = false;
-    this.data = null;
-    this.message = null;
-    this.errorMessage = Objects.requireNonNull(errorMessage, "Error message cannot be null");
+    this(
+        false,
+        false,
+        false,
+        null,
+        null,
+        Objects.requireNonNull(errorMessage, "Error message cannot be null"),
+        0);
+  }
+
+  private OperationResult(
+      boolean success,
+      boolean created,
+      boolean alreadyExists,
+      T data,
+      String message,
+      String errorMessage,
+      int retries) {
+    this.success = success;
+    this.created = created;
+    this.alreadyExists = alreadyExists;
+    this.data = data;
+    this.message = message;
+    this.errorMessage = errorMessage;
+    this.retries = retries;
   }
 
   /**
@@ -106,6 +121,20 @@ public class OperationResult<T> {
     return new OperationResult<>(errorMessage);
   }
 
+  /**
+   * Returns a copy of this result with the given retry count.
+   *
+   * @param retries The number of times the operation's requests were sent again
+   * @return The updated result
+   */
+  public OperationResult<T> withRetries(int retries) {
+    if (retries == this.retries) {
+      return this;
+    }
+    return new OperationResult<>(
+        success, created, alreadyExists, data, message, errorMessage, retries);
+  }
+
   /**
    * Checks if the operation was successful.
    *
@@ -169,6 +198,15 @@ public class OperationResult<T> {
     return errorMessage;
   }
 
+  /**
+   * Gets the number of times the operation's requests were sent again after a failure.
+   *
+   * @return The retry count, 0 if every request succeeded on its first attempt
+   */
+  public int getRetries() {
+    return retries;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -181,6 +219,7 @@ public class OperationResult<T> {
     return success == that.success
         && created == that.created
         && alreadyExists == that.alreadyExists
+        && retries == that.retries
         && Objects.equals(data, that.data)
         && Objects.equals(message, that.message)
         && Objects.equals(errorMessage, that.errorMessage);
@@ -188,7 +227,7 @@ public class OperationResult<T> {
 
   @Override
   public int hashCode() {
-    return Objects.hash(success, created, alreadyExists, data, message, errorMessage);
+    return Objects.hash(success, created, alreadyExists, data, message, errorMessage, retries);
   }
 
   @Override
@@ -0,0 +1,77 @@
+package com.descope.utils.model;
+
+import java.util.Objects;
+
+/**
+ * The outcome of processing a single row of a bulk input file.
+ *
+ * @param <T> The type of data returned for the row
+ */
+public class RowResult<T> {
+
+  private final long row;
+  private final String key;
+  private final OperationResult<T> result;
+
+  /**
+   * Creates a new RowResult.
+   *
+   * @param row The 1-based data row number in the input file
+   * @param key A human-readable identifier for the row (e.g., the login ID), may be null
+   * @param result The operation result for the row
+   */
+  public RowResult(long row, String key, OperationResult<T> result) {
+    this.row = row;
+    this.key = key;
+    this.result = Objects.requireNonNull(result, "Result cannot be null");
+  }
+
+  /**
+   * Gets the row number.
+   *
+   * @return The 1-based data row number
+   */
+  public long getRow() {
+    return row;
+  }
+
+  /**
+   * Gets the row identifier.
+   *
+   * @return The row key, or null if the row could not be identified
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the operation result for the row.
+   *
+   * @return The operation result
+   */
+  public OperationResult<T> getResult() {
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    RowResult<?> that = (RowResult<?>) o;
+    return row == that.row && Objects.equals(key, that.key) && Objects.equals(result, that.result);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(row, key, result);
+  }
+
+  @Override
+  public String toString() {
+    return "RowResult{row=" + row + ", key='" + key + "', result=" + result + '}';
+  }
+}
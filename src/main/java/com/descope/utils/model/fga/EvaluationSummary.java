@@ -0,0 +1,138 @@
+package com.descope.utils.model.fga;
+
+/**
+ * Aggregate counts for a local relation evaluation run.
+ *
+ * <p>Produced at the end of an evaluation after all per-query results have been emitted.
+ */
+public class EvaluationSummary {
+
+  private final long tuples;
+  private final long checks;
+  private final long allowed;
+  private final long verified;
+  private final long mismatches;
+  private final long elapsedMillis;
+
+  /**
+   * Creates a new EvaluationSummary.
+   *
+   * @param tuples The number of tuples loaded
+   * @param checks The number of checks evaluated
+   * @param allowed The number of checks that were allowed
+   * @param verified The number of checks compared against Descope
+   * @param mismatches The number of verified checks whose local result differed
+   * @param elapsedMillis The wall-clock duration of the checks in milliseconds
+   */
+  public EvaluationSummary(
+      long tuples, long checks, long allowed, long verified, long mismatches, long elapsedMillis) {
+    this.tuples = tuples;
+    this.checks = checks;
+    this.allowed = allowed;
+    this.verified = verified;
+    this.mismatches = mismatches;
+    this.elapsedMillis = elapsedMillis;
+  }
+
+  /**
+   * Gets the number of tuples loaded.
+   *
+   * @return The tuple count
+   */
+  public long getTuples() {
+    return tuples;
+  }
+
+  /**
+   * Gets the number of checks evaluated.
+   *
+   * @return The check count
+   */
+  public long getChecks() {
+    return checks;
+  }
+
+  /**
+   * Gets the number of checks that were allowed.
+   *
+   * @return The allowed count
+   */
+  public long getAllowed() {
+    return allowed;
+  }
+
+  /**
+   * Gets the number of checks that were denied.
+   *
+   * @return The denied count
+   */
+  public long getDenied() {
+    return checks - allowed;
+  }
+
+  /**
+   * Gets the number of checks compared against Descope.
+   *
+   * @return The verified count
+   */
+  public long getVerified() {
+    return verified;
+  }
+
+  /**
+   * Gets the number of verified checks whose local result differed from Descope.
+   *
+   * @return The mismatch count
+   */
+  public long getMismatches() {
+    return mismatches;
+  }
+
+  /**
+   * Gets the wall-clock duration of the checks.
+   *
+   * @return The elapsed time in milliseconds
+   */
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  /**
+   * Gets the evaluation throughput.
+   *
+   * @return Checks per second, or 0 if no time elapsed
+   */
+  public double getChecksPerSecond() {
+    return elapsedMillis > 0 ? checks * 1000.0 / elapsedMillis : 0;
+  }
+
+  /**
+   * Returns a copy with verification results.
+   *
+   * @param verifiedChecks The number of checks compared against Descope
+   * @param mismatchedChecks The number of verified checks whose local result differed
+   * @return A new summary
+   */
+  public EvaluationSummary withVerification(long verifiedChecks, long mismatchedChecks) {
+    return new EvaluationSummary(
+        tuples, checks, allowed, verifiedChecks, mismatchedChecks, elapsedMillis);
+  }
+
+  @Override
+  public String toString() {
+    return "EvaluationSummary{"
+        + "tuples="
+        + tuples
+        + ", checks="
+        + checks
+        + ", allowed="
+        + allowed
+        + ", verified="
+        + verified
+        + ", mismatches="
+        + mismatches
+        + ", elapsedMillis="
+        + elapsedMillis
+        + '}';
+  }
+}
@@ -0,0 +1,86 @@
+package com.descope.utils.model.fga;
+
+import java.util.Objects;
+
+import com.descope.utils.model.OperationResult;
+
+/**
+ * The outcome of writing one chunk of relation tuples.
+ *
+ * <p>A chunk is a contiguous slice of the input, identified by the 1-based positions of its first
+ * and last tuple. Tuples inside the slice that were skipped (for example because a previous run
+ * already committed them) are not sent, so {@link #getSent()} can be smaller than the slice.
+ */
+public class RelationChunkResult {
+
+  private final long firstRow;
+  private final long lastRow;
+  private final int sent;
+  private final OperationResult<String> result;
+
+  /**
+   * Creates a new RelationChunkResult.
+   *
+   * @param firstRow The position of the first tuple in the chunk
+   * @param lastRow The position of the last tuple in the chunk
+   * @param sent The number of tuples sent in the request
+   * @param result The outcome of the request
+   */
+  public RelationChunkResult(
+      long firstRow, long lastRow, int sent, OperationResult<String> result) {
+    this.firstRow = firstRow;
+    this.lastRow = lastRow;
+    this.sent = sent;
+    this.result = Objects.requireNonNull(result, "Result cannot be null");
+  }
+
+  /**
+   * Gets the position of the first tuple in the chunk.
+   *
+   * @return The 1-based first position
+   */
+  public long getFirstRow() {
+    return firstRow;
+  }
+
+  /**
+   * Gets the position of the last tuple in the chunk.
+   *
+   * @return The 1-based last position
+   */
+  public long getLastRow() {
+    return lastRow;
+  }
+
+  /**
+   * Gets the number of tuples sent in the request.
+   *
+   * @return The sent tuple count
+   */
+  public int getSent() {
+    return sent;
+  }
+
+  /**
+   * Gets the outcome of the request.
+   *
+   * @return The operation result
+   */
+  public OperationResult<String> getResult() {
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "RelationChunkResult{"
+        + "firstRow="
+        + firstRow
+        + ", lastRow="
+        + lastRow
+        + ", sent="
+        + sent
+        + ", result="
+        + result
+        + '}';
+  }
+}
@@ -0,0 +1,167 @@
+package com.descope.utils.model.fga;
+
+/**
+ * Aggregate counts for a relation sync run.
+ *
+ * <p>Produced at the end of a sync after the plan has been printed or applied.
+ */
+public class SyncSummary {
+
+  private final long desired;
+  private final long current;
+  private final long toCreate;
+  private final long toDelete;
+  private final long created;
+  private final long deleted;
+  private final long failed;
+  private final boolean dryRun;
+  private final long elapsedMillis;
+
+  /**
+   * Creates a new SyncSummary.
+   *
+   * @param desired The number of desired tuples
+   * @param current The number of existing tuples in scope
+   * @param toCreate The number of tuples the plan creates
+   * @param toDelete The number of tuples the plan deletes
+   * @param created The number of tuples created
+   * @param deleted The number of tuples deleted
+   * @param failed The number of tuples whose create or delete failed
+   * @param dryRun Whether the plan was only printed
+   * @param elapsedMillis The wall-clock duration of the sync in milliseconds
+   */
+  public SyncSummary(
+      long desired,
+      long current,
+      long toCreate,
+      long toDelete,
+      long created,
+      long deleted,
+      long failed,
+      boolean dryRun,
+      long elapsedMillis) {
+    this.desired = desired;
+    this.current = current;
+    this.toCreate = toCreate;
+    this.toDelete = toDelete;
+    this.created = created;
+    this.deleted = deleted;
+    this.failed = failed;
+    this.dryRun = dryRun;
+    this.elapsedMillis = elapsedMillis;
+  }
+
+  /**
+   * Gets the number of desired tuples.
+   *
+   * @return The desired count
+   */
+  public long getDesired() {
+    return desired;
+  }
+
+  /**
+   * Gets the number of existing tuples in scope.
+   *
+   * @return The current count
+   */
+  public long getCurrent() {
+    return current;
+  }
+
+  /**
+   * Gets the number of tuples the plan creates.
+   *
+   * @return The planned create count
+   */
+  public long getToCreate() {
+    return toCreate;
+  }
+
+  /**
+   * Gets the number of tuples the plan deletes.
+   *
+   * @return The planned delete count
+   */
+  public long getToDelete() {
+    return toDelete;
+  }
+
+  /**
+   * Gets the number of tuples created.
+   *
+   * @return The created count
+   */
+  public long getCreated() {
+    return created;
+  }
+
+  /**
+   * Gets the number of tuples deleted.
+   *
+   * @return The deleted count
+   */
+  public long getDeleted() {
+    return deleted;
+  }
+
+  /**
+   * Gets the number of tuples whose create or delete failed.
+   *
+   * @return The failed count
+   */
+  public long getFailed() {
+    return failed;
+  }
+
+  /**
+   * Checks whether the plan was only printed.
+   *
+   * @return true for a dry run
+   */
+  public boolean isDryRun() {
+    return dryRun;
+  }
+
+  /**
+   * Gets the wall-clock duration of the sync.
+   *
+   * @return The elapsed time in milliseconds
+   */
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  /**
+   * Checks whether every planned change was applied.
+   *
+   * @return true if nothing failed
+   */
+  public boolean isAllSucceeded() {
+    return failed == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "SyncSummary{"
+        + "desired="
+        + desired
+        + ", current="
+        + current
+        + ", toCreate="
+        + toCreate
+        + ", toDelete="
+        + toDelete
+        + ", created="
+        + created
+        + ", deleted="
+        + deleted
+        + ", failed="
+        + failed
+        + ", dryRun="
+        + dryRun
+        + ", elapsedMillis="
+        + elapsedMillis
+        + '}';
+  }
+}
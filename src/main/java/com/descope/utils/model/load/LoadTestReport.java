@@ -0,0 +1,108 @@
+package com.descope.utils.model.load;
+
+import java.util.List;
+
+/**
+ * Results of a load test run.
+ *
+ * <p>Holds the settings the test ran with, the statistics for each operation in the mix and the
+ * statistics for all operations together.
+ */
+public class LoadTestReport {
+
+  private final int concurrency;
+  private final double targetRate;
+  private final long elapsedMillis;
+  private final List<OperationStats> operations;
+  private final OperationStats total;
+
+  /**
+   * Creates a new LoadTestReport.
+   *
+   * @param concurrency The maximum number of requests in flight
+   * @param targetRate The target requests per second, or 0 when running at fixed concurrency
+   * @param elapsedMillis The measured duration, excluding warm-up, in milliseconds
+   * @param operations The statistics for each operation
+   * @param total The statistics for all operations together
+   */
+  public LoadTestReport(
+      int concurrency,
+      double targetRate,
+      long elapsedMillis,
+      List<OperationStats> operations,
+      OperationStats total) {
+    this.concurrency = concurrency;
+    this.targetRate = targetRate;
+    this.elapsedMillis = elapsedMillis;
+    this.operations = List.copyOf(operations);
+    this.total = total;
+  }
+
+  /**
+   * Gets the maximum number of requests in flight.
+   *
+   * @return The concurrency
+   */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * Gets the target rate.
+   *
+   * @return Requests per second, or 0 when running at fixed concurrency
+   */
+  public double getTargetRate() {
+    return targetRate;
+  }
+
+  /**
+   * Gets the measured duration, excluding warm-up.
+   *
+   * @return The elapsed time in milliseconds
+   */
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  /**
+   * Gets the statistics for each operation.
+   *
+   * @return The per-operation statistics, in mix order
+   */
+  public List<OperationStats> getOperations() {
+    return operations;
+  }
+
+  /**
+   * Gets the statistics for all operations together.
+   *
+   * @return The overall statistics
+   */
+  public OperationStats getTotal() {
+    return total;
+  }
+
+  /**
+   * Checks whether every request succeeded.
+   *
+   * @return true if no request failed
+   */
+  public boolean isAllSucceeded() {
+    return total.getErrors() == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "LoadTestReport{"
+        + "concurrency="
+        + concurrency
+        + ", targetRate="
+        + targetRate
+        + ", elapsedMillis="
+        + elapsedMillis
+        + ", total="
+        + total
+        + '}';
+  }
+}
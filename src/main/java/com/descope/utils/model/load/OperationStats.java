@@ -0,0 +1,184 @@
+package com.descope.utils.model.load;
+
+import java.util.Map;
+
+/**
+ * Latency, throughput and error counts for one operation of a load test.
+ *
+ * <p>Latencies are in milliseconds. In a fixed-rate test they are measured from the time each
+ * request was scheduled to start, so time spent waiting for a free worker is included.
+ */
+public class OperationStats {
+
+  private final String operation;
+  private final long requests;
+  private final long errors;
+  private final double throughput;
+  private final double meanMillis;
+  private final double p50Millis;
+  private final double p90Millis;
+  private final double p99Millis;
+  private final double p999Millis;
+  private final double maxMillis;
+  private final Map<String, Long> errorsByType;
+
+  /**
+   * Creates a new OperationStats.
+   *
+   * @param operation The operation name, or "total" for all operations together
+   * @param requests The number of requests measured
+   * @param errors The number of requests that failed
+   * @param throughput The measured requests per second
+   * @param meanMillis The mean latency
+   * @param p50Millis The median latency
+   * @param p90Millis The 90th percentile latency
+   * @param p99Millis The 99th percentile latency
+   * @param p999Millis The 99.9th percentile latency
+   * @param maxMillis The maximum latency
+   * @param errorsByType The number of failures by error type
+   */
+  public OperationStats(
+      String operation,
+      long requests,
+      long errors,
+      double throughput,
+      double meanMillis,
+      double p50Millis,
+      double p90Millis,
+      double p99Millis,
+      double p999Millis,
+      double maxMillis,
+      Map<String, Long> errorsByType) {
+    this.operation = operation;
+    this.requests = requests;
+    this.errors = errors;
+    this.throughput = throughput;
+    this.meanMillis = meanMillis;
+    this.p50Millis = p50Millis;
+    this.p90Millis = p90Millis;
+    this.p99Millis = p99Millis;
+    this.p999Millis = p999Millis;
+    this.maxMillis = maxMillis;
+    this.errorsByType = Map.copyOf(errorsByType);
+  }
+
+  /**
+   * Gets the operation name.
+   *
+   * @return The operation name, or "total"
+   */
+  public String getOperation() {
+    return operation;
+  }
+
+  /**
+   * Gets the number of requests measured.
+   *
+   * @return The request count
+   */
+  public long getRequests() {
+    return requests;
+  }
+
+  /**
+   * Gets the number of requests that failed.
+   *
+   * @return The error count
+   */
+  public long getErrors() {
+    return errors;
+  }
+
+  /**
+   * Gets the measured throughput.
+   *
+   * @return Requests per second
+   */
+  public double getThroughput() {
+    return throughput;
+  }
+
+  /**
+   * Gets the mean latency.
+   *
+   * @return The mean in milliseconds
+   */
+  public double getMeanMillis() {
+    return meanMillis;
+  }
+
+  /**
+   * Gets the median latency.
+   *
+   * @return The 50th percentile in milliseconds
+   */
+  public double getP50Millis() {
+    return p50Millis;
+  }
+
+  /**
+   * Gets the 90th percentile latency.
+   *
+   * @return The 90th percentile in milliseconds
+   */
+  public double getP90Millis() {
+    return p90Millis;
+  }
+
+  /**
+   * Gets the 99th percentile latency.
+   *
+   * @return The 99th percentile in milliseconds
+   */
+  public double getP99Millis() {
+    return p99Millis;
+  }
+
+  /**
+   * Gets the 99.9th percentile latency.
+   *
+   * @return The 99.9th percentile in milliseconds
+   */
+  public double getP999Millis() {
+    return p999Millis;
+  }
+
+  /**
+   * Gets the maximum latency.
+   *
+   * @return The maximum in milliseconds
+   */
+  public double getMaxMillis() {
+    return maxMillis;
+  }
+
+  /**
+   * Gets the number of failures by error type.
+   *
+   * @return Failure counts keyed by error type
+   */
+  public Map<String, Long> getErrorsByType() {
+    return errorsByType;
+  }
+
+  @Override
+  public String toString() {
+    return "OperationStats{"
+        + "operation='"
+        + operation
+        + '\''
+        + ", requests="
+        + requests
+        + ", errors="
+        + errors
+        + ", throughput="
+        + throughput
+        + ", p50Millis="
+        + p50Millis
+        + ", p99Millis="
+        + p99Millis
+        + ", p999Millis="
+        + p999Millis
+        + '}';
+  }
+}
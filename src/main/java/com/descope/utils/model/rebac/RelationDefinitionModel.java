@@ -37,6 +37,16 @@ public class RelationDefinitionModel {
     this.complexDefinition = complexDefinition;
   }
 
+  /**
+   * Creates a new RelationDefinitionModel instance without a complex definition.
+   *
+   * @param name The name of the relation (e.g., "owner", "viewer", "editor")
+   * @param targetNamespaces The list of target namespaces this relation can reference
+   */
+  public RelationDefinitionModel(String name, List<String> targetNamespaces) {
+    this(name, targetNamespaces, null);
+  }
+
   /**
    * Gets the relation name.
    *
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.RowResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -22,6 +23,7 @@ public class JsonFormatter {
 
   private static final Logger logger = LoggerFactory.getLogger(JsonFormatter.class);
   private final ObjectMapper objectMapper;
+  private final ObjectMapper lineMapper;
 
   public JsonFormatter() {
     this.objectMapper = new ObjectMapper();
@@ -31,6 +33,8 @@ public class JsonFormatter {
     this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     this.objectMapper.setSerializationInclusion(
         com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL);
+    // Row output is newline-delimited, so each record must stay on a single line
+    this.lineMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
   }
 
   /**
@@ -56,10 +60,80 @@ public class JsonFormatter {
     }
   }
 
+  /**
+   * Formats a single bulk-operation row as one line of JSON.
+   *
+   * @param row The row result to format
+   * @param <T> The type of data in the row result
+   * @return Single-line JSON string representation
+   */
+  public <T> String formatRow(RowResult<T> row) {
+    OperationResult<T> result = row.getResult();
+    try {
+      JsonRowResponse<T> response =
+          result.isSuccess()
+              ? new JsonRowResponse<>(
+                  row.getRow(),
+                  row.getKey(),
+                  true,
+                  status(result),
+                  result.getData(),
+                  result.getMessage(),
+                  null,
+                  retries(result))
+              : new JsonRowResponse<>(
+                  row.getRow(),
+                  row.getKey(),
+                  false,
+                  status(result),
+                  null,
+                  null,
+                  result.getErrorMessage(),
+                  retries(result));
+      return lineMapper.writeValueAsString(response);
+    } catch (JsonProcessingException e) {
+      logger.error("Failed to serialize row result to JSON", e);
+      return "{\"row\": "
+          + row.getRow()
+          + ", \"success\": false, \"error\": \"Failed to format row as JSON\"}";
+    }
+  }
+
+  // Omitted from the output when the row needed no retries
+  private static Integer retries(OperationResult<?> result) {
+    return result.getRetries() > 0 ? result.getRetries() : null;
+  }
+
+  private static String status(OperationResult<?> result) {
+    if (!result.isSuccess()) {
+      return "failed";
+    } else if (result.isCreated()) {
+      return "created";
+    } else if (result.isAlreadyExists()) {
+      return "already_exists";
+    }
+    return "success";
+  }
+
   /**
    * Internal record for JSON response structure.
    *
    * @param <T> The type of data
    */
   private record JsonResponse<T>(boolean success, T data, String message, String error) {}
+
+  /**
+   * Internal record for a single JSON row.
+   *
+   * @param <T> The type of data
+   */
+  private record JsonRowResponse<T>(
+      long row,
+      String key,
+      boolean success,
+      String status,
+      T data,
+      String message,
+      String error,
+      Integer retries) {}
 }
@@ -2,6 +2,7 @@ package com.descope.utils.output;
 
 import com.descope.utils.model.OperationResult;
 import com.descope.utils.model.OutputFormat;
+import com.descope.utils.model.RowResult;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -37,4 +38,22 @@ public class OutputFormatter {
       case TEXT -> textFormatter.format(result);
     };
   }
+
+  /**
+   * Formats a single bulk-operation row as one line of output.
+   *
+   * <p>JSON rows are emitted as compact single-line objects so that bulk output can be consumed as
+   * JSON Lines.
+   *
+   * @param row The row result to format
+   * @param format The desired output format
+   * @param <T> The type of data in the row result
+   * @return The formatted line without a trailing newline
+   */
+  public <T> String formatRow(RowResult<T> row, OutputFormat format) {
+    return switch (format) {
+      case JSON -> jsonFormatter.formatRow(row);
+      case TEXT -> textFormatter.formatRow(row);
+    };
+  }
 }
@@ -1,10 +1,20 @@
 package com.descope.utils.output;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
 import com.descope.utils.model.Application;
+import com.descope.utils.model.BulkOperationSummary;
 import com.descope.utils.model.FederatedApplication;
 import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.RowResult;
 import com.descope.utils.model.Tenant;
 import com.descope.utils.model.User;
+import com.descope.utils.model.fga.EvaluationSummary;
+import com.descope.utils.model.fga.SyncSummary;
+import com.descope.utils.model.load.LoadTestReport;
+import com.descope.utils.model.load.OperationStats;
 import com.descope.utils.model.rebac.NamespaceModel;
 import com.descope.utils.model.rebac.RelationDefinitionModel;
 import com.descope.utils.model.rebac.SchemaModel;
@@ -38,6 +48,28 @@ public class TextFormatter {
     }
   }
 
+  /**
+   * Formats a single bulk-operation row as one line of text.
+   *
+   * @param row The row result to format
+   * @param <T> The type of data in the row result
+   * @return Single-line text representation without a trailing newline
+   */
+  public <T> String formatRow(RowResult<T> row) {
+    OperationResult<T> result = row.getResult();
+    StringBuilder sb = new StringBuilder();
+    sb.append(result.isSuccess() ? SUCCESS_PREFIX : ERROR_PREFIX);
+    sb.append("[row ").append(row.getRow()).append("] ");
+    if (row.getKey() != null) {
+      sb.append(row.getKey()).append(": ");
+    }
+    sb.append(result.isSuccess() ? result.getMessage() : "Error: " + result.getErrorMessage());
+    if (result.getRetries() > 0) {
+      sb.append(" (retries: ").append(result.getRetries()).append(")");
+    }
+    return sb.toString();
+  }
+
   /**
    * Formats a successful operation result.
    *
@@ -85,6 +117,14 @@ public class TextFormatter {
       return formatUser(user);
     } else if (data instanceof SchemaModel schema) {
       return formatSchema(schema);
+    } else if (data instanceof BulkOperationSummary summary) {
+      return formatBulkSummary(summary);
+    } else if (data instanceof EvaluationSummary summary) {
+      return formatEvaluationSummary(summary);
+    } else if (data instanceof SyncSummary summary) {
+      return formatSyncSummary(summary);
+    } else if (data instanceof LoadTestReport report) {
+      return formatLoadTestReport(report);
     } else {
       return data.toString();
     }
@@ -173,6 +213,148 @@ public class TextFormatter {
     return sb.toString();
   }
 
+  /**
+   * Formats a BulkOperationSummary for display.
+   *
+   * @param summary The summary to format
+   * @return Formatted summary string
+   */
+  private String formatBulkSummary(BulkOperationSummary summary) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Bulk Operation Summary:\n");
+    sb.append("  Total:          ").append(summary.getTotal()).append("\n");
+    if (summary.getSucceeded() == summary.getCreated() + summary.getAlreadyExists()) {
+      sb.append("  Created:        ").append(summary.getCreated()).append("\n");
+      sb.append("  Already Exists: ").append(summary.getAlreadyExists()).append("\n");
+    } else {
+      sb.append("  Succeeded:      ").append(summary.getSucceeded()).append("\n");
+    }
+    sb.append("  Failed:         ").append(summary.getFailed()).append("\n");
+    if (summary.getSkipped() > 0) {
+      sb.append("  Skipped:        ").append(summary.getSkipped()).append(" (resumed)\n");
+    }
+    if (summary.getRetries() > 0) {
+      sb.append("  Retries:        ").append(summary.getRetries()).append("\n");
+    }
+    sb.append("  Elapsed:        ").append(summary.getElapsedMillis()).append(" ms\n");
+    sb.append("  Throughput:     ")
+        .append(String.format(Locale.ROOT, "%.1f", summary.getRowsPerSecond()))
+        .append(" rows/s\n");
+    return sb.toString();
+  }
+
+  /**
+   * Formats a local evaluation summary for display.
+   *
+   * @param summary The summary to format
+   * @return Formatted summary string
+   */
+  private String formatEvaluationSummary(EvaluationSummary summary) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Evaluation Summary:\n");
+    sb.append("  Tuples:     ").append(summary.getTuples()).append("\n");
+    sb.append("  Checks:     ").append(summary.getChecks()).append("\n");
+    sb.append("  Allowed:    ").append(summary.getAllowed()).append("\n");
+    sb.append("  Denied:     ").append(summary.getDenied()).append("\n");
+    if (summary.getVerified() > 0) {
+      sb.append("  Verified:   ").append(summary.getVerified()).append("\n");
+      sb.append("  Mismatches: ").append(summary.getMismatches()).append("\n");
+    }
+    sb.append("  Elapsed:    ").append(summary.getElapsedMillis()).append(" ms\n");
+    sb.append("  Throughput: ")
+        .append(String.format(Locale.ROOT, "%.1f", summary.getChecksPerSecond()))
+        .append(" checks/s\n");
+    return sb.toString();
+  }
+
+  /**
+   * Formats a relation sync summary for display.
+   *
+   * @param summary The summary to format
+   * @return Formatted summary string
+   */
+  private String formatSyncSummary(SyncSummary summary) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(summary.isDryRun() ? "Sync Plan (dry run):\n" : "Sync Summary:\n");
+    sb.append("  Desired:   ").append(summary.getDesired()).append("\n");
+    sb.append("  Current:   ").append(summary.getCurrent()).append("\n");
+    sb.append("  To Create: ").append(summary.getToCreate()).append("\n");
+    sb.append("  To Delete: ").append(summary.getToDelete()).append("\n");
+    if (!summary.isDryRun()) {
+      sb.append("  Created:   ").append(summary.getCreated()).append("\n");
+      sb.append("  Deleted:   ").append(summary.getDeleted()).append("\n");
+      sb.append("  Failed:    ").append(summary.getFailed()).append("\n");
+    }
+    sb.append("  Elapsed:   ").append(summary.getElapsedMillis()).append(" ms\n");
+    return sb.toString();
+  }
+
+  /**
+   * Formats a load test report for display.
+   *
+   * @param report The report to format
+   * @return Formatted report string
+   */
+  private String formatLoadTestReport(LoadTestReport report) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Load Test Report:\n");
+    sb.append("  Concurrency: ").append(report.getConcurrency()).append("\n");
+    if (report.getTargetRate() > 0) {
+      sb.append("  Target Rate: ")
+          .append(String.format(Locale.ROOT, "%.1f", report.getTargetRate()))
+          .append(" req/s\n");
+    }
+    sb.append("  Elapsed:     ").append(report.getElapsedMillis()).append(" ms\n\n");
+    sb.append(
+        String.format(
+            Locale.ROOT,
+            "  %-16s %9s %7s %9s %9s %9s %9s %9s %9s\n",
+            "Operation",
+            "Requests",
+            "Errors",
+            "Req/s",
+            "p50 ms",
+            "p90 ms",
+            "p99 ms",
+            "p99.9 ms",
+            "Max ms"));
+    for (OperationStats stats : report.getOperations()) {
+      sb.append(formatOperationStats(stats));
+    }
+    sb.append(formatOperationStats(report.getTotal()));
+
+    if (report.getTotal().getErrors() > 0) {
+      sb.append("\n  Errors:\n");
+      for (OperationStats stats : report.getOperations()) {
+        for (Map.Entry<String, Long> entry : new TreeMap<>(stats.getErrorsByType()).entrySet()) {
+          sb.append("    ")
+              .append(stats.getOperation())
+              .append(": ")
+              .append(entry.getKey())
+              .append(" x")
+              .append(entry.getValue())
+              .append("\n");
+        }
+      }
+    }
+    return sb.toString();
+  }
+
+  private String formatOperationStats(OperationStats stats) {
+    return String.format(
+        Locale.ROOT,
+        "  %-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f\n",
+        stats.getOperation(),
+        stats.getRequests(),
+        stats.getErrors(),
+        stats.getThroughput(),
+        stats.getP50Millis(),
+        stats.getP90Millis(),
+        stats.getP99Millis(),
+        stats.getP999Millis(),
+        stats.getMaxMillis());
+  }
+
   /**
    * Formats a ReBAC Schema for display.
    *
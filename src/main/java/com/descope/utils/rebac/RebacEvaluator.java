@@ -0,0 +1,363 @@
+package com.descope.utils.rebac;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.descope.utils.model.fga.RelationQueryModel;
+import com.descope.utils.model.rebac.NamespaceModel;
+import com.descope.utils.model.rebac.NodeExpressionModel;
+import com.descope.utils.model.rebac.NodeModel;
+import com.descope.utils.model.rebac.RelationDefinitionModel;
+import com.descope.utils.model.rebac.SchemaModel;
+
+/**
+ * In-process evaluator for ReBAC relation checks.
+ *
+ * <p>A {@link SchemaModel} is compiled once into a graph of expressions in which every relation
+ * reference is resolved up front, so a check only performs tuple lookups. Checks run against any
+ * {@link TupleSource} without network calls. The evaluator is immutable and safe to share between
+ * threads.
+ *
+ * <p>Node types follow the schema format: {@code union} and {@code intersect} combine their
+ * children, {@code sub} grants the first child minus all others, and {@code child} evaluates its
+ * expression. Expression types are resolved as follows:
+ *
+ * <ul>
+ *   <li>{@code self}: the tuple (resource, relation, target) exists.
+ *   <li>{@code targetSet}: a tuple (resource, relation, T) exists and the target has {@code
+ *       targetRelationDefinition} to T.
+ *   <li>{@code relationLeft}: a tuple (resource, {@code relationDefinition}, X) exists and the
+ *       target has {@code targetRelationDefinition} to X.
+ *   <li>{@code relationRight}: a tuple (X, {@code relationDefinition}, resource) exists and the
+ *       target has {@code targetRelationDefinition} to X.
+ * </ul>
+ *
+ * <p>A relation without a complex definition behaves as {@code self}. Unknown node and expression
+ * types fall back to {@code child} and {@code self}, as when a schema is uploaded. Results are
+ * memoized per check, and a path that cycles back to a relation already being evaluated grants
+ * nothing.
+ */
+public final class RebacEvaluator {
+
+  private final Map<String, Map<String, Relation>> relations;
+
+  private RebacEvaluator(Map<String, Map<String, Relation>> relations) {
+    this.relations = relations;
+  }
+
+  /**
+   * Compiles a schema.
+   *
+   * @param schema The ReBAC schema
+   * @return An evaluator for the schema
+   * @throws IllegalArgumentException if the schema is malformed or references undefined relations
+   */
+  public static RebacEvaluator compile(SchemaModel schema) {
+    Map<String, Map<String, Relation>> relations = new HashMap<>();
+
+    // Declare every relation first so that expressions can reference them in any order
+    for (NamespaceModel namespace : schema.getNamespaces()) {
+      Map<String, Relation> byName = new HashMap<>();
+      if (relations.put(namespace.getName(), byName) != null) {
+        throw new IllegalArgumentException("Duplicate namespace: " + namespace.getName());
+      }
+      for (RelationDefinitionModel definition : namespace.getRelationDefinitions()) {
+        Relation relation = new Relation(namespace.getName(), definition.getName());
+        if (byName.put(definition.getName(), relation) != null) {
+          throw new IllegalArgumentException("Duplicate relation definition: " + relation);
+        }
+      }
+    }
+
+    Compiler compiler = new Compiler(relations);
+    for (NamespaceModel namespace : schema.getNamespaces()) {
+      for (RelationDefinitionModel definition : namespace.getRelationDefinitions()) {
+        Relation relation = relations.get(namespace.getName()).get(definition.getName());
+        relation.body =
+            definition.getComplexDefinition() == null
+                ? new Direct(relation)
+                : compiler.node(relation, definition.getComplexDefinition());
+      }
+    }
+    return new RebacEvaluator(relations);
+  }
+
+  /**
+   * Checks whether a target has a relation to a resource.
+   *
+   * @param tuples The tuples to evaluate against
+   * @param namespace The resource namespace
+   * @param resource The resource identifier
+   * @param relation The relation definition name
+   * @param target The target identifier
+   * @return true if the relation holds
+   * @throws IllegalArgumentException if the relation is not defined in the schema
+   */
+  public boolean check(
+      TupleSource tuples, String namespace, String resource, String relation, String target) {
+    Relation compiled = relation(namespace, relation);
+    if (compiled.body instanceof Direct) {
+      // Plain relations need no per-check state
+      return tuples.contains(namespace, resource, relation, target);
+    }
+    return new Evaluation(tuples, target).check(compiled, resource);
+  }
+
+  /**
+   * Checks a relation query.
+   *
+   * @param tuples The tuples to evaluate against
+   * @param query The query to check
+   * @return true if the relation holds
+   * @throws IllegalArgumentException if the relation is not defined in the schema
+   */
+  public boolean check(TupleSource tuples, RelationQueryModel query) {
+    return check(
+        tuples,
+        query.getNamespace(),
+        query.getResource(),
+        query.getRelationDefinition(),
+        query.getTarget());
+  }
+
+  private Relation relation(String namespace, String name) {
+    Map<String, Relation> byName = relations.get(namespace);
+    Relation relation = byName != null ? byName.get(name) : null;
+    if (relation == null) {
+      throw new IllegalArgumentException(
+          "Relation '" + namespace + "#" + name + "' is not defined in the schema");
+    }
+    return relation;
+  }
+
+  /** A relation definition and its compiled body. */
+  private static final class Relation {
+
+    private final String namespace;
+    private final String name;
+    private Expr body;
+
+    Relation(String namespace, String name) {
+      this.namespace = namespace;
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return namespace + "#" + name;
+    }
+  }
+
+  /** A compiled node or expression, evaluated for one resource. */
+  private interface Expr {
+    boolean eval(Evaluation evaluation, String resource);
+  }
+
+  private record Direct(Relation relation) implements Expr {
+    @Override
+    public boolean eval(Evaluation evaluation, String resource) {
+      return evaluation.tuples.contains(
+          relation.namespace, resource, relation.name, evaluation.target);
+    }
+  }
+
+  private record TargetSet(Relation relation, Relation targetRelation) implements Expr {
+    @Override
+    public boolean eval(Evaluation evaluation, String resource) {
+      return evaluation.tuples.anyTarget(
+          relation.namespace,
+          resource,
+          relation.name,
+          set -> evaluation.check(targetRelation, set));
+    }
+  }
+
+  private record RelationLeft(String namespace, String relation, Relation targetRelation)
+      implements Expr {
+    @Override
+    public boolean eval(Evaluation evaluation, String resource) {
+      return evaluation.tuples.anyTarget(
+          namespace, resource, relation, other -> evaluation.check(targetRelation, other));
+    }
+  }
+
+  private record RelationRight(String namespace, String relation, Relation targetRelation)
+      implements Expr {
+    @Override
+    public boolean eval(Evaluation evaluation, String resource) {
+      return evaluation.tuples.anyResource(
+          namespace, relation, resource, other -> evaluation.check(targetRelation, other));
+    }
+  }
+
+  private record Union(Expr[] children) implements Expr {
+    @Override
+    public boolean eval(Evaluation evaluation, String resource) {
+      for (Expr child : children) {
+        if (child.eval(evaluation, resource)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private record Intersect(Expr[] children) implements Expr {
+    @Override
+    public boolean eval(Evaluation evaluation, String resource) {
+      for (Expr child : children) {
+        if (!child.eval(evaluation, resource)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private record Sub(Expr base, Expr[] excluded) implements Expr {
+    @Override
+    public boolean eval(Evaluation evaluation, String resource) {
+      if (!base.eval(evaluation, resource)) {
+        return false;
+      }
+      for (Expr child : excluded) {
+        if (child.eval(evaluation, resource)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /** Per-check state: the target, memoized results and the relations being evaluated. */
+  private static final class Evaluation {
+
+    private final TupleSource tuples;
+    private final String target;
+    private final Map<Visit, Boolean> results = new HashMap<>();
+    private final Set<Visit> inProgress = new HashSet<>();
+    private int cycles;
+
+    Evaluation(TupleSource tuples, String target) {
+      this.tuples = tuples;
+      this.target = target;
+    }
+
+    boolean check(Relation relation, String resource) {
+      Visit visit = new Visit(relation, resource);
+      Boolean known = results.get(visit);
+      if (known != null) {
+        return known;
+      }
+      if (!inProgress.add(visit)) {
+        cycles++;
+        return false;
+      }
+      int cyclesBefore = cycles;
+      boolean result = relation.body.eval(this, resource);
+      inProgress.remove(visit);
+      // A result that depended on a cut cycle is only valid for this path
+      if (cycles == cyclesBefore) {
+        results.put(visit, result);
+      }
+      return result;
+    }
+  }
+
+  /** A relation evaluated for a resource; relations compare by identity. */
+  private record Visit(Relation relation, String resource) {}
+
+  /** Resolves schema nodes into expressions. */
+  private static final class Compiler {
+
+    private final Map<String, Map<String, Relation>> relations;
+
+    Compiler(Map<String, Map<String, Relation>> relations) {
+      this.relations = relations;
+    }
+
+    Expr node(Relation owner, NodeModel node) {
+      String type = node.getNType() != null ? node.getNType().toLowerCase(Locale.ROOT) : "child";
+      switch (type) {
+        case "union":
+          return new Union(children(owner, type, node, 1));
+        case "intersect":
+          return new Intersect(children(owner, type, node, 1));
+        case "sub":
+          Expr[] children = children(owner, type, node, 2);
+          return new Sub(children[0], Arrays.copyOfRange(children, 1, children.length));
+        default:
+          if (node.getExpression() == null) {
+            throw new IllegalArgumentException(owner + ": child node has no expression");
+          }
+          return expression(owner, node.getExpression());
+      }
+    }
+
+    private Expr[] children(Relation owner, String type, NodeModel node, int min) {
+      List<NodeModel> children = node.getChildren();
+      if (children == null || children.size() < min) {
+        throw new IllegalArgumentException(
+            owner + ": " + type + " node needs at least " + min + " child node(s)");
+      }
+      Expr[] compiled = new Expr[children.size()];
+      for (int i = 0; i < compiled.length; i++) {
+        compiled[i] = node(owner, children.get(i));
+      }
+      return compiled;
+    }
+
+    private Expr expression(Relation owner, NodeExpressionModel expression) {
+      String type =
+          expression.getNeType() != null
+              ? expression.getNeType().toLowerCase(Locale.ROOT).replace("_", "")
+              : "self";
+      switch (type) {
+        case "targetset":
+          return new TargetSet(owner, targetRelation(owner, expression));
+        case "relationleft":
+          return new RelationLeft(
+              namespaceOrOwner(owner, expression.getRelationDefinitionNamespace()),
+              required(owner, expression.getRelationDefinition(), "relationDefinition"),
+              targetRelation(owner, expression));
+        case "relationright":
+          return new RelationRight(
+              namespaceOrOwner(owner, expression.getRelationDefinitionNamespace()),
+              required(owner, expression.getRelationDefinition(), "relationDefinition"),
+              targetRelation(owner, expression));
+        default:
+          return new Direct(owner);
+      }
+    }
+
+    private Relation targetRelation(Relation owner, NodeExpressionModel expression) {
+      String namespace =
+          namespaceOrOwner(owner, expression.getTargetRelationDefinitionNamespace());
+      String name =
+          required(owner, expression.getTargetRelationDefinition(), "targetRelationDefinition");
+      Map<String, Relation> byName = relations.get(namespace);
+      Relation relation = byName != null ? byName.get(name) : null;
+      if (relation == null) {
+        throw new IllegalArgumentException(
+            owner + ": references undefined relation '" + namespace + "#" + name + "'");
+      }
+      return relation;
+    }
+
+    private static String namespaceOrOwner(Relation owner, String namespace) {
+      return namespace != null ? namespace : owner.namespace;
+    }
+
+    private static String required(Relation owner, String value, String field) {
+      if (value == null) {
+        throw new IllegalArgumentException(owner + ": expression is missing " + field);
+      }
+      return value;
+    }
+  }
+}
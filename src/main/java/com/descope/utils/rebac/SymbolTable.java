@@ -0,0 +1,109 @@
+package com.descope.utils.rebac;
+
+import java.util.Arrays;
+
+/**
+ * Interns strings into dense int symbols.
+ *
+ * <p>Symbols are numbered from 0 in the order they are first interned. Lookups use an
+ * open-addressing table of ints, so a symbol costs one array slot and one table slot on top of the
+ * string itself. Not thread-safe while interning; concurrent lookups are safe once interning has
+ * finished.
+ */
+final class SymbolTable {
+
+  private String[] symbols = new String[64];
+  private int[] slots = new int[128];
+  private int size;
+
+  /**
+   * Gets the symbol for a string, assigning the next free symbol on first use.
+   *
+   * @param value The string to intern
+   * @return The symbol
+   */
+  int intern(String value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Cannot intern a null value");
+    }
+    int mask = slots.length - 1;
+    for (int slot = hash(value) & mask; ; slot = (slot + 1) & mask) {
+      int id = slots[slot] - 1;
+      if (id < 0) {
+        return add(slot, value);
+      }
+      if (symbols[id].equals(value)) {
+        return id;
+      }
+    }
+  }
+
+  /**
+   * Looks up the symbol of a string without interning it.
+   *
+   * @param value The string to look up
+   * @return The symbol, or -1 if the string was never interned
+   */
+  int find(String value) {
+    if (value == null) {
+      return -1;
+    }
+    int mask = slots.length - 1;
+    for (int slot = hash(value) & mask; ; slot = (slot + 1) & mask) {
+      int id = slots[slot] - 1;
+      if (id < 0 || symbols[id].equals(value)) {
+        return id;
+      }
+    }
+  }
+
+  /**
+   * Gets the string of a symbol.
+   *
+   * @param id The symbol
+   * @return The string
+   */
+  String symbol(int id) {
+    return symbols[id];
+  }
+
+  /**
+   * Gets the number of symbols.
+   *
+   * @return The symbol count
+   */
+  int size() {
+    return size;
+  }
+
+  private int add(int slot, String value) {
+    if (size == symbols.length) {
+      symbols = Arrays.copyOf(symbols, size + (size >> 1));
+    }
+    symbols[size] = value;
+    slots[slot] = ++size;
+    // Keep the table at most half full so probe sequences stay short
+    if (2 * size > slots.length) {
+      rehash();
+    }
+    return size - 1;
+  }
+
+  private void rehash() {
+    slots = new int[slots.length * 2];
+    int mask = slots.length - 1;
+    for (int id = 0; id < size; id++) {
+      int slot = hash(symbols[id]) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = id + 1;
+    }
+  }
+
+  private static int hash(String value) {
+    // Spread the bits of String.hashCode, which is cached, before masking
+    int hash = value.hashCode() * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,45 @@
+package com.descope.utils.rebac;
+
+import java.util.function.Predicate;
+
+/**
+ * Read-only view of a set of relation tuples used by the local ReBAC evaluator.
+ *
+ * <p>A tuple states that {@code target} has {@code relation} to {@code resource} in {@code
+ * namespace}. Implementations must be safe for concurrent reads.
+ */
+public interface TupleSource {
+
+  /**
+   * Checks whether a tuple exists.
+   *
+   * @param namespace The resource namespace
+   * @param resource The resource identifier
+   * @param relation The relation definition name
+   * @param target The target identifier
+   * @return true if the tuple exists
+   */
+  boolean contains(String namespace, String resource, String relation, String target);
+
+  /**
+   * Tests the targets of a resource's relation until one matches.
+   *
+   * @param namespace The resource namespace
+   * @param resource The resource identifier
+   * @param relation The relation definition name
+   * @param test Predicate applied to each target
+   * @return true as soon as the predicate returns true for a target, false otherwise
+   */
+  boolean anyTarget(String namespace, String resource, String relation, Predicate<String> test);
+
+  /**
+   * Tests the resources that have a relation to a target until one matches.
+   *
+   * @param namespace The resource namespace
+   * @param relation The relation definition name
+   * @param target The target identifier
+   * @param test Predicate applied to each resource
+   * @return true as soon as the predicate returns true for a resource, false otherwise
+   */
+  boolean anyResource(String namespace, String relation, String target, Predicate<String> test);
+}
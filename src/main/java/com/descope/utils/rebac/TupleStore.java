@@ -0,0 +1,511 @@
+package com.descope.utils.rebac;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import com.descope.utils.fga.TupleSnapshot;
+import com.descope.utils.input.RelationTupleReader;
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Immutable tuple source backed by interned, primitive indexes.
+ *
+ * <p>Every string is interned into an int symbol and every (namespace, relation definition) pair
+ * into an int relation ID. The forward index maps a resource symbol to its sorted (relation,
+ * target) entries and the reverse index maps a target symbol to its sorted (relation, resource)
+ * entries. Each entry is a single {@code long}, and both indexes are stored as offset and entry
+ * arrays rather than collections, so a store takes about 16 bytes per tuple plus the distinct
+ * strings, and building it about 28 bytes per tuple temporarily. 50 million tuples fit in a few
+ * GB of heap.
+ *
+ * <p>Lookups are a hash probe per string followed by a binary search. Queries only return tuples
+ * stored in the store; use {@link RebacEvaluator} to resolve relations derived from a schema.
+ * Instances are safe for concurrent reads.
+ */
+public final class TupleStore implements TupleSource, Iterable<RelationTupleModel> {
+
+  private final SymbolTable symbols;
+  private final RelationTable relations;
+  private final Index forward;
+  private final Index reverse;
+
+  private TupleStore(SymbolTable symbols, RelationTable relations, Index forward, Index reverse) {
+    this.symbols = symbols;
+    this.relations = relations;
+    this.forward = forward;
+    this.reverse = reverse;
+  }
+
+  /**
+   * Creates a builder.
+   *
+   * @return A new, empty builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Loads all tuples from an iterator.
+   *
+   * @param tuples The tuples to load
+   * @return A populated tuple store
+   */
+  public static TupleStore load(Iterator<RelationTupleModel> tuples) {
+    Builder builder = builder();
+    while (tuples.hasNext()) {
+      builder.add(tuples.next());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Loads all tuples from a snapshot. Each distinct string is decoded once.
+   *
+   * @param snapshot The snapshot to load
+   * @return A populated tuple store
+   */
+  public static TupleStore load(TupleSnapshot snapshot) {
+    return builder().addAll(snapshot).build();
+  }
+
+  /**
+   * Loads all tuples from a file.
+   *
+   * @param path A tuple snapshot, a {@code {"relations": [...]}} document or a JSON Lines file
+   * @param objectMapper The mapper used to parse JSON files
+   * @return A populated tuple store
+   * @throws IOException if the file cannot be read
+   */
+  public static TupleStore load(Path path, ObjectMapper objectMapper) throws IOException {
+    if (TupleSnapshot.isSnapshot(path)) {
+      return load(TupleSnapshot.open(path));
+    }
+    try (RelationTupleReader reader = RelationTupleReader.open(path, objectMapper)) {
+      return load(reader);
+    }
+  }
+
+  /**
+   * Gets the number of distinct tuples.
+   *
+   * @return The tuple count
+   */
+  public int size() {
+    return forward.entries.length;
+  }
+
+  /**
+   * Gets the number of distinct strings.
+   *
+   * @return The symbol count
+   */
+  public int symbolCount() {
+    return symbols.size();
+  }
+
+  @Override
+  public boolean contains(String namespace, String resource, String relation, String target) {
+    int resourceId = symbols.find(resource);
+    int relationId = relations.find(symbols.find(namespace), symbols.find(relation));
+    int targetId = symbols.find(target);
+    return resourceId >= 0
+        && relationId >= 0
+        && targetId >= 0
+        && forward.contains(resourceId, relationId, targetId);
+  }
+
+  @Override
+  public boolean anyTarget(
+      String namespace, String resource, String relation, Predicate<String> test) {
+    return forward.any(
+        symbols.find(resource),
+        relations.find(symbols.find(namespace), symbols.find(relation)),
+        id -> test.test(symbols.symbol(id)));
+  }
+
+  @Override
+  public boolean anyResource(
+      String namespace, String relation, String target, Predicate<String> test) {
+    return reverse.any(
+        symbols.find(target),
+        relations.find(symbols.find(namespace), symbols.find(relation)),
+        id -> test.test(symbols.symbol(id)));
+  }
+
+  /**
+   * Lists the targets that have a relation to a resource.
+   *
+   * @param resource The resource identifier
+   * @param relationDefinition The relation definition name
+   * @param namespace The namespace
+   * @return The targets, in symbol order
+   */
+  public List<String> whoCanAccess(String resource, String relationDefinition, String namespace) {
+    List<String> targets = new ArrayList<>();
+    forward.any(
+        symbols.find(resource),
+        relations.find(symbols.find(namespace), symbols.find(relationDefinition)),
+        id -> !targets.add(symbols.symbol(id)));
+    return targets;
+  }
+
+  /**
+   * Lists all tuples of a resource.
+   *
+   * @param resource The resource identifier
+   * @return The tuples, grouped by relation
+   */
+  public List<RelationTupleModel> resourceRelations(String resource) {
+    List<RelationTupleModel> tuples = new ArrayList<>();
+    int resourceId = symbols.find(resource);
+    if (resourceId >= 0) {
+      for (int i = forward.offsets[resourceId]; i < forward.offsets[resourceId + 1]; i++) {
+        tuples.add(tuple(resourceId, forward.entries[i]));
+      }
+    }
+    return tuples;
+  }
+
+  /**
+   * Lists all tuples in which an identifier is the target.
+   *
+   * @param target The target identifier
+   * @return The tuples, grouped by relation
+   */
+  public List<RelationTupleModel> whatCanTargetAccess(String target) {
+    List<RelationTupleModel> tuples = new ArrayList<>();
+    int targetId = symbols.find(target);
+    if (targetId >= 0) {
+      for (int i = reverse.offsets[targetId]; i < reverse.offsets[targetId + 1]; i++) {
+        long entry = reverse.entries[i];
+        int relationId = relationOf(entry);
+        tuples.add(
+            new RelationTupleModel(
+                symbols.symbol(valueOf(entry)),
+                symbols.symbol(relations.relation(relationId)),
+                symbols.symbol(relations.namespace(relationId)),
+                target));
+      }
+    }
+    return tuples;
+  }
+
+  /** Iterates over all tuples, grouped by resource. */
+  @Override
+  public Iterator<RelationTupleModel> iterator() {
+    return new Iterator<>() {
+      private int resourceId;
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < forward.entries.length;
+      }
+
+      @Override
+      public RelationTupleModel next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        while (forward.offsets[resourceId + 1] <= next) {
+          resourceId++;
+        }
+        return tuple(resourceId, forward.entries[next++]);
+      }
+    };
+  }
+
+  private RelationTupleModel tuple(int resourceId, long entry) {
+    int relationId = relationOf(entry);
+    return new RelationTupleModel(
+        symbols.symbol(resourceId),
+        symbols.symbol(relations.relation(relationId)),
+        symbols.symbol(relations.namespace(relationId)),
+        symbols.symbol(valueOf(entry)));
+  }
+
+  private static long entry(int relationId, int valueId) {
+    return ((long) relationId << 32) | valueId;
+  }
+
+  private static int relationOf(long entry) {
+    return (int) (entry >>> 32);
+  }
+
+  private static int valueOf(long entry) {
+    return (int) entry;
+  }
+
+  /**
+   * Compressed adjacency index: the entries of key {@code k} are {@code entries[offsets[k]]} up to
+   * {@code entries[offsets[k + 1]]}, sorted by relation and then by value.
+   */
+  private static final class Index {
+
+    private final int[] offsets;
+    private final long[] entries;
+
+    Index(int[] offsets, long[] entries) {
+      this.offsets = offsets;
+      this.entries = entries;
+    }
+
+    boolean contains(int key, int relationId, int valueId) {
+      return Arrays.binarySearch(
+              entries, offsets[key], offsets[key + 1], entry(relationId, valueId))
+          >= 0;
+    }
+
+    boolean any(int key, int relationId, IntPredicate test) {
+      if (key < 0 || relationId < 0) {
+        return false;
+      }
+      int end = offsets[key + 1];
+      for (int i = lowerBound(offsets[key], end, entry(relationId, 0));
+          i < end && relationOf(entries[i]) == relationId;
+          i++) {
+        if (test.test(valueOf(entries[i]))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private int lowerBound(int from, int to, long key) {
+      while (from < to) {
+        int mid = (from + to) >>> 1;
+        if (entries[mid] < key) {
+          from = mid + 1;
+        } else {
+          to = mid;
+        }
+      }
+      return from;
+    }
+  }
+
+  /** Interns (namespace, relation definition) symbol pairs into dense relation IDs. */
+  private static final class RelationTable {
+
+    private int[] namespaces = new int[16];
+    private int[] relations = new int[16];
+    private long[] keys = new long[32];
+    private int[] slots = new int[32];
+    private int size;
+
+    int intern(int namespace, int relation) {
+      long key = entry(namespace, relation);
+      int mask = slots.length - 1;
+      for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+        if (slots[slot] == 0) {
+          return add(slot, key, namespace, relation);
+        }
+        if (keys[slot] == key) {
+          return slots[slot] - 1;
+        }
+      }
+    }
+
+    int find(int namespace, int relation) {
+      if (namespace < 0 || relation < 0) {
+        return -1;
+      }
+      long key = entry(namespace, relation);
+      int mask = slots.length - 1;
+      for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+        if (slots[slot] == 0 || keys[slot] == key) {
+          return slots[slot] - 1;
+        }
+      }
+    }
+
+    int namespace(int id) {
+      return namespaces[id];
+    }
+
+    int relation(int id) {
+      return relations[id];
+    }
+
+    private int add(int slot, long key, int namespace, int relation) {
+      if (size == namespaces.length) {
+        namespaces = Arrays.copyOf(namespaces, size * 2);
+        relations = Arrays.copyOf(relations, size * 2);
+      }
+      namespaces[size] = namespace;
+      relations[size] = relation;
+      keys[slot] = key;
+      slots[slot] = ++size;
+      if (2 * size > slots.length) {
+        long[] oldKeys = keys;
+        int[] oldSlots = slots;
+        keys = new long[oldKeys.length * 2];
+        slots = new int[oldSlots.length * 2];
+        int mask = slots.length - 1;
+        for (int i = 0; i < oldSlots.length; i++) {
+          if (oldSlots[i] != 0) {
+            int s = hash(oldKeys[i]) & mask;
+            while (slots[s] != 0) {
+              s = (s + 1) & mask;
+            }
+            keys[s] = oldKeys[i];
+            slots[s] = oldSlots[i];
+          }
+        }
+      }
+      return size - 1;
+    }
+
+    private static int hash(long key) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32));
+    }
+  }
+
+  /** Collects tuples and builds an immutable {@link TupleStore}. Not thread-safe. */
+  public static final class Builder {
+
+    private final SymbolTable symbols = new SymbolTable();
+    private final RelationTable relations = new RelationTable();
+    private int[] resources = new int[1024];
+    private int[] relationIds = new int[1024];
+    private int[] targets = new int[1024];
+    private int size;
+
+    private Builder() {}
+
+    /**
+     * Adds a tuple. Duplicate tuples are dropped when the store is built.
+     *
+     * @param tuple The tuple to add
+     * @return This builder
+     */
+    public Builder add(RelationTupleModel tuple) {
+      return add(
+          tuple.getNamespace(),
+          tuple.getResource(),
+          tuple.getRelationDefinition(),
+          tuple.getTarget());
+    }
+
+    /**
+     * Adds a tuple. Duplicate tuples are dropped when the store is built.
+     *
+     * @param namespace The resource namespace
+     * @param resource The resource identifier
+     * @param relation The relation definition name
+     * @param target The target identifier
+     * @return This builder
+     */
+    public Builder add(String namespace, String resource, String relation, String target) {
+      int relationId = relations.intern(symbols.intern(namespace), symbols.intern(relation));
+      append(symbols.intern(resource), relationId, symbols.intern(target));
+      return this;
+    }
+
+    /**
+     * Adds all tuples of a snapshot, decoding each distinct string once.
+     *
+     * @param snapshot The snapshot to add
+     * @return This builder
+     */
+    public Builder addAll(TupleSnapshot snapshot) {
+      int[] ids = new int[snapshot.symbolCount()];
+      Arrays.fill(ids, -1);
+      for (int i = 0; i < snapshot.size(); i++) {
+        int namespace = intern(snapshot, ids, snapshot.namespaceId(i));
+        int relation = intern(snapshot, ids, snapshot.relationId(i));
+        append(
+            intern(snapshot, ids, snapshot.resourceId(i)),
+            relations.intern(namespace, relation),
+            intern(snapshot, ids, snapshot.targetId(i)));
+      }
+      return this;
+    }
+
+    /**
+     * Builds the store. The builder cannot be used afterwards.
+     *
+     * @return The tuple store
+     */
+    public TupleStore build() {
+      checkOpen();
+      int keys = symbols.size();
+      Index forward = index(resources, targets, keys);
+      Index reverse = index(targets, resources, keys);
+      resources = null;
+      relationIds = null;
+      targets = null;
+      return new TupleStore(symbols, relations, forward, reverse);
+    }
+
+    private int intern(TupleSnapshot snapshot, int[] ids, int snapshotId) {
+      int id = ids[snapshotId];
+      if (id < 0) {
+        id = symbols.intern(snapshot.symbol(snapshotId));
+        ids[snapshotId] = id;
+      }
+      return id;
+    }
+
+    private void append(int resource, int relationId, int target) {
+      checkOpen();
+      if (size == resources.length) {
+        int capacity = size + (size >> 1);
+        resources = Arrays.copyOf(resources, capacity);
+        relationIds = Arrays.copyOf(relationIds, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+      }
+      resources[size] = resource;
+      relationIds[size] = relationId;
+      targets[size] = target;
+      size++;
+    }
+
+    private void checkOpen() {
+      if (resources == null) {
+        throw new IllegalStateException("Tuple store has already been built");
+      }
+    }
+
+    /** Groups tuples by key with a counting sort, then sorts and de-duplicates each group. */
+    private Index index(int[] keyColumn, int[] valueColumn, int keyCount) {
+      int[] offsets = new int[keyCount + 1];
+      for (int i = 0; i < size; i++) {
+        offsets[keyColumn[i] + 1]++;
+      }
+      for (int k = 0; k < keyCount; k++) {
+        offsets[k + 1] += offsets[k];
+      }
+      int[] cursors = Arrays.copyOf(offsets, keyCount);
+      long[] entries = new long[size];
+      for (int i = 0; i < size; i++) {
+        entries[cursors[keyColumn[i]]++] = entry(relationIds[i], valueColumn[i]);
+      }
+
+      int distinct = 0;
+      for (int k = 0; k < keyCount; k++) {
+        int from = offsets[k];
+        int to = offsets[k + 1];
+        Arrays.sort(entries, from, to);
+        offsets[k] = distinct;
+        for (int i = from; i < to; i++) {
+          if (i == from || entries[i] != entries[i - 1]) {
+            entries[distinct++] = entries[i];
+          }
+        }
+      }
+      offsets[keyCount] = distinct;
+      return new Index(offsets, distinct == size ? entries : Arrays.copyOf(entries, distinct));
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.descope.utils.script;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One parsed command of a script.
+ *
+ * @param lineNumber The line number in the script, starting at 1
+ * @param args The arguments of the line, starting with the command name
+ * @param command The command name
+ * @param subject The first positional parameter, such as a login ID or tenant name, or null
+ * @param options The values of the options given on the line, keyed by their longest name; options
+ *     given more than once or with several values are joined with commas
+ */
+public record ScriptLine(
+    long lineNumber,
+    List<String> args,
+    String command,
+    String subject,
+    Map<String, String> options) {
+
+  public ScriptLine {
+    args = List.copyOf(args);
+    options = Map.copyOf(options);
+  }
+
+  /**
+   * Gets the value of an option.
+   *
+   * @param name The longest name of the option, such as {@code --tenant}
+   * @return The value, or null if the option was not given
+   */
+  public String option(String name) {
+    return options.get(name);
+  }
+}
@@ -0,0 +1,271 @@
+package com.descope.utils.script;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.descope.utils.service.TenantService;
+
+/**
+ * The steps of a script and the order they must run in.
+ *
+ * <p>Consecutive {@code create-fga-relation} lines that each give a single tuple are merged into
+ * one batch step, and so are consecutive {@code delete-fga-relation} lines, as long as they use the
+ * same global options.
+ *
+ * <p>Each step reads and writes a set of keys, such as {@code tenant:acme} or {@code user:alice},
+ * derived from its command and options. A step depends on the last earlier step that wrote any key
+ * it reads or writes, and a step that writes a key also depends on the earlier steps that read it
+ * since then. So {@code create-user --tenant-id acme} waits for {@code create-tenant Acme}, while
+ * two users in the same tenant can be created at the same time. Commands whose effects are not
+ * known, such as schema changes or bulk file imports, are barriers: they wait for every earlier
+ * step, and every later step waits for them.
+ */
+public final class ScriptPlan {
+
+  private static final List<String> GLOBAL_OPTIONS =
+      List.of("--project-id", "--management-key", "--output");
+
+  private final List<ScriptStep> steps;
+
+  private ScriptPlan(List<ScriptStep> steps) {
+    this.steps = Collections.unmodifiableList(steps);
+  }
+
+  /**
+   * Plans the steps of a script.
+   *
+   * @param lines The parsed lines, in script order
+   * @return The plan
+   */
+  public static ScriptPlan of(List<ScriptLine> lines) {
+    Planner planner = new Planner();
+    List<ScriptLine> batch = new ArrayList<>();
+    ScriptStep.Kind batchKind = null;
+    for (ScriptLine line : lines) {
+      ScriptStep.Kind kind = batchKind(line);
+      if (batchKind != null && (kind != batchKind || !sameGlobalOptions(batch.get(0), line))) {
+        planner.add(batchKind, batch);
+        batch.clear();
+        batchKind = null;
+      }
+      if (kind != null) {
+        batch.add(line);
+        batchKind = kind;
+      } else {
+        planner.add(ScriptStep.Kind.COMMAND, List.of(line));
+      }
+    }
+    if (batchKind != null) {
+      planner.add(batchKind, batch);
+    }
+    return new ScriptPlan(planner.steps);
+  }
+
+  /**
+   * Gets the steps in script order.
+   *
+   * @return The steps; each step only depends on steps before it
+   */
+  public List<ScriptStep> getSteps() {
+    return steps;
+  }
+
+  /**
+   * Gets the number of script lines in the plan.
+   *
+   * @return The line count
+   */
+  public int getLineCount() {
+    int count = 0;
+    for (ScriptStep step : steps) {
+      count += step.getLines().size();
+    }
+    return count;
+  }
+
+  private static ScriptStep.Kind batchKind(ScriptLine line) {
+    if (line.option("--file") != null
+        || line.option("--resource") == null
+        || line.option("--relation") == null
+        || line.option("--namespace") == null
+        || line.option("--target") == null) {
+      return null;
+    }
+    switch (line.command()) {
+      case "create-fga-relation":
+        return ScriptStep.Kind.CREATE_RELATIONS;
+      case "delete-fga-relation":
+        return ScriptStep.Kind.DELETE_RELATIONS;
+      default:
+        return null;
+    }
+  }
+
+  private static boolean sameGlobalOptions(ScriptLine a, ScriptLine b) {
+    for (String option : GLOBAL_OPTIONS) {
+      if (!Objects.equals(a.option(option), b.option(option))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Works out the keys a line reads and writes.
+   *
+   * @return false if the effects of the line are not known and it must run as a barrier
+   */
+  private static boolean access(ScriptLine line, Set<String> reads, Set<String> writes) {
+    String subject = line.subject();
+    switch (line.command()) {
+      case "create-tenant":
+        if (subject == null) {
+          return false;
+        }
+        // Approximate: an existing tenant with the same name keeps its own ID
+        writes.add("tenant:" + TenantService.tenantId(subject));
+        return true;
+      case "add-app-to-tenant":
+        addKey(writes, "tenant:", line.option("--tenant-id"));
+        reads.add("apps");
+        return true;
+      case "create-app":
+      case "create-apps":
+      case "create-federated-app":
+        writes.add("apps");
+        return true;
+      case "create-user":
+        addKey(writes, "user:", subject);
+        addKey(reads, "tenant:", line.option("--tenant-id"));
+        return subject != null;
+      case "add-user-role":
+      case "remove-user-role":
+      case "set-user-roles":
+        addKey(writes, "user:", subject);
+        addKey(reads, "tenant:", line.option("--tenant"));
+        addRoleKeys(reads, line.option("--tenant"), line.option("--roles"));
+        return subject != null;
+      case "set-password":
+      case "update-user-attribute":
+        addKey(writes, "user:", subject);
+        return subject != null;
+      case "create-role":
+      case "update-role":
+      case "delete-role":
+        addKey(writes, roleKeyPrefix(line.option("--tenant")), subject);
+        addKey(writes, roleKeyPrefix(line.option("--tenant")), line.option("--new-name"));
+        addKey(reads, "tenant:", line.option("--tenant"));
+        return subject != null;
+      case "create-fga-relation":
+      case "delete-fga-relation":
+        if (batchKind(line) == null) {
+          return false;
+        }
+        writes.add(
+            "relation:"
+                + line.option("--namespace")
+                + ":"
+                + line.option("--resource")
+                + "#"
+                + line.option("--relation")
+                + "@"
+                + line.option("--target"));
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static void addKey(Set<String> keys, String prefix, String id) {
+    if (id != null) {
+      keys.add(prefix + id);
+    }
+  }
+
+  private static String roleKeyPrefix(String tenant) {
+    return tenant != null ? "role:" + tenant + "/" : "role:";
+  }
+
+  /** Adds the keys of comma-separated roles, which may be project roles or roles of the tenant. */
+  private static void addRoleKeys(Set<String> keys, String tenant, String roles) {
+    if (roles == null) {
+      return;
+    }
+    for (String role : roles.split(",")) {
+      String name = role.trim();
+      if (!name.isEmpty()) {
+        keys.add(roleKeyPrefix(null) + name);
+        if (tenant != null) {
+          keys.add(roleKeyPrefix(tenant) + name);
+        }
+      }
+    }
+  }
+
+  /** Builds the steps and their dependencies in script order. */
+  private static final class Planner {
+
+    private final List<ScriptStep> steps = new ArrayList<>();
+    private final Map<String, ScriptStep> lastWriter = new HashMap<>();
+    private final Map<String, List<ScriptStep>> readersSinceWrite = new HashMap<>();
+    private final List<ScriptStep> sinceBarrier = new ArrayList<>();
+    private ScriptStep barrier;
+
+    void add(ScriptStep.Kind kind, List<ScriptLine> lines) {
+      Set<String> reads = new LinkedHashSet<>();
+      Set<String> writes = new LinkedHashSet<>();
+      boolean known = true;
+      for (ScriptLine line : lines) {
+        known &= access(line, reads, writes);
+      }
+      reads.removeAll(writes);
+
+      Set<ScriptStep> dependencies = new LinkedHashSet<>();
+      if (barrier != null) {
+        dependencies.add(barrier);
+      }
+      if (!known) {
+        dependencies.addAll(sinceBarrier);
+      } else {
+        for (String key : reads) {
+          addIfPresent(dependencies, lastWriter.get(key));
+        }
+        for (String key : writes) {
+          addIfPresent(dependencies, lastWriter.get(key));
+          dependencies.addAll(readersSinceWrite.getOrDefault(key, List.of()));
+        }
+      }
+
+      ScriptStep step = new ScriptStep(steps.size(), kind, lines, new ArrayList<>(dependencies));
+      steps.add(step);
+
+      if (!known) {
+        barrier = step;
+        sinceBarrier.clear();
+        lastWriter.clear();
+        readersSinceWrite.clear();
+        return;
+      }
+      sinceBarrier.add(step);
+      for (String key : reads) {
+        readersSinceWrite.computeIfAbsent(key, k -> new ArrayList<>()).add(step);
+      }
+      for (String key : writes) {
+        lastWriter.put(key, step);
+        readersSinceWrite.remove(key);
+      }
+    }
+
+    private static void addIfPresent(Set<ScriptStep> dependencies, ScriptStep step) {
+      if (step != null) {
+        dependencies.add(step);
+      }
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package com.descope.utils.script;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the steps of a {@link ScriptPlan} concurrently, respecting their dependencies.
+ *
+ * <p>A step is started once every step it depends on has succeeded, with at most {@code
+ * concurrency} steps running at once. Ready steps start in script order. When a step fails, the
+ * steps that depend on it, directly or indirectly, are skipped; independent steps still run unless
+ * the scheduler stops on the first error. Outcomes are reported on the calling thread, so listeners
+ * do not need to be thread-safe.
+ */
+public final class ScriptScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(ScriptScheduler.class);
+
+  /** Runs one step. */
+  @FunctionalInterface
+  public interface StepRunner {
+
+    /**
+     * Runs a step.
+     *
+     * @param step The step
+     * @return The exit code; 0 means the step succeeded
+     */
+    int run(ScriptStep step);
+  }
+
+  /** How a step ended. */
+  public enum Status {
+    /** The step ran and returned exit code 0. */
+    SUCCEEDED,
+    /** The step ran and returned a non-zero exit code. */
+    FAILED,
+    /** The step did not run because a step it depends on failed, or the run stopped. */
+    SKIPPED
+  }
+
+  /**
+   * The outcome of one step.
+   *
+   * @param step The step
+   * @param status How the step ended
+   * @param exitCode The exit code of the step, or -1 if it was skipped
+   */
+  public record Outcome(ScriptStep step, Status status, int exitCode) {}
+
+  private final int concurrency;
+  private final boolean stopOnError;
+
+  /**
+   * Creates a new ScriptScheduler.
+   *
+   * @param concurrency Maximum number of steps running at once
+   * @param stopOnError Whether to start no more steps after the first failure
+   */
+  public ScriptScheduler(int concurrency, boolean stopOnError) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be at least 1");
+    }
+    this.concurrency = concurrency;
+    this.stopOnError = stopOnError;
+  }
+
+  /**
+   * Runs every step of a plan.
+   *
+   * <p>Blocks until no step is running and no more steps can start.
+   *
+   * @param plan The plan
+   * @param runner Runs each step on a worker thread
+   * @param listener Receives each outcome on the calling thread as it becomes known
+   * @return The outcomes, in step order
+   */
+  public List<Outcome> run(ScriptPlan plan, StepRunner runner, Consumer<Outcome> listener) {
+    List<ScriptStep> steps = plan.getSteps();
+    Outcome[] outcomes = new Outcome[steps.size()];
+    int[] pending = new int[steps.size()];
+    List<List<ScriptStep>> dependents = new ArrayList<>(steps.size());
+    Deque<ScriptStep> ready = new ArrayDeque<>();
+    for (ScriptStep step : steps) {
+      dependents.add(new ArrayList<>());
+      pending[step.getIndex()] = step.getDependencies().size();
+      for (ScriptStep dependency : step.getDependencies()) {
+        dependents.get(dependency.getIndex()).add(step);
+      }
+      if (pending[step.getIndex()] == 0) {
+        ready.add(step);
+      }
+    }
+
+    AtomicInteger threads = new AtomicInteger();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            concurrency,
+            runnable -> {
+              Thread thread = new Thread(runnable, "script-" + threads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      CompletionService<Outcome> completion = new ExecutorCompletionService<>(executor);
+      int inFlight = 0;
+      boolean stopped = false;
+      while (true) {
+        while (!stopped && inFlight < concurrency && !ready.isEmpty()) {
+          ScriptStep step = ready.poll();
+          completion.submit(() -> execute(runner, step));
+          inFlight++;
+        }
+        if (inFlight == 0) {
+          break;
+        }
+
+        Outcome outcome = take(completion);
+        inFlight--;
+        record(outcomes, outcome, listener);
+        if (outcome.status() == Status.SUCCEEDED) {
+          for (ScriptStep dependent : dependents.get(outcome.step().getIndex())) {
+            if (--pending[dependent.getIndex()] == 0 && outcomes[dependent.getIndex()] == null) {
+              ready.add(dependent);
+            }
+          }
+        } else {
+          stopped |= stopOnError;
+          skipDependents(outcome.step(), dependents, outcomes, listener);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Steps left over after stopping on an error
+    for (ScriptStep step : steps) {
+      if (outcomes[step.getIndex()] == null) {
+        record(outcomes, new Outcome(step, Status.SKIPPED, -1), listener);
+      }
+    }
+    return Arrays.asList(outcomes);
+  }
+
+  private static Outcome execute(StepRunner runner, ScriptStep step) {
+    int exitCode;
+    try {
+      exitCode = runner.run(step);
+    } catch (RuntimeException e) {
+      logger.error("Script step at {} failed", step.describe(), e);
+      exitCode = 1;
+    }
+    return new Outcome(step, exitCode == 0 ? Status.SUCCEEDED : Status.FAILED, exitCode);
+  }
+
+  private static void skipDependents(
+      ScriptStep failed,
+      List<List<ScriptStep>> dependents,
+      Outcome[] outcomes,
+      Consumer<Outcome> listener) {
+    Deque<ScriptStep> queue = new ArrayDeque<>(dependents.get(failed.getIndex()));
+    while (!queue.isEmpty()) {
+      ScriptStep step = queue.poll();
+      if (outcomes[step.getIndex()] == null) {
+        record(outcomes, new Outcome(step, Status.SKIPPED, -1), listener);
+        queue.addAll(dependents.get(step.getIndex()));
+      }
+    }
+  }
+
+  private static void record(Outcome[] outcomes, Outcome outcome, Consumer<Outcome> listener) {
+    outcomes[outcome.step().getIndex()] = outcome;
+    listener.accept(outcome);
+  }
+
+  private static Outcome take(CompletionService<Outcome> completion) {
+    try {
+      return completion.take().get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for script steps", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Script step failed: " + e.getCause().getMessage(), e);
+    }
+  }
+}
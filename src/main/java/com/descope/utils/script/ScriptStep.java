@@ -0,0 +1,115 @@
+package com.descope.utils.script;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+
+/**
+ * A unit of work in a {@link ScriptPlan}: either one script line, or a run of consecutive
+ * single-tuple relation lines merged into one batch.
+ */
+public final class ScriptStep {
+
+  /** What a step does when it runs. */
+  public enum Kind {
+    /** Runs the line as a command. */
+    COMMAND,
+    /** Creates the tuples of all the lines in one batch. */
+    CREATE_RELATIONS,
+    /** Deletes the tuples of all the lines in one batch. */
+    DELETE_RELATIONS
+  }
+
+  private final int index;
+  private final Kind kind;
+  private final List<ScriptLine> lines;
+  private final List<ScriptStep> dependencies;
+
+  ScriptStep(int index, Kind kind, List<ScriptLine> lines, List<ScriptStep> dependencies) {
+    this.index = index;
+    this.kind = kind;
+    this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
+    this.dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+  }
+
+  /**
+   * Gets the position of the step in its plan.
+   *
+   * @return The index, starting at 0
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Gets what the step does.
+   *
+   * @return The kind of step
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * Gets the script lines of the step.
+   *
+   * @return One line for a command, one or more lines for a relation batch
+   */
+  public List<ScriptLine> getLines() {
+    return lines;
+  }
+
+  /**
+   * Gets the steps that must succeed before this step can run.
+   *
+   * @return The earlier steps this step depends on
+   */
+  public List<ScriptStep> getDependencies() {
+    return dependencies;
+  }
+
+  /**
+   * Gets the first script line of the step.
+   *
+   * @return The first line
+   */
+  public ScriptLine getFirstLine() {
+    return lines.get(0);
+  }
+
+  /**
+   * Gets the relation tuples of a relation batch.
+   *
+   * @return The tuples, one per line
+   */
+  public List<RelationTupleModel> getTuples() {
+    List<RelationTupleModel> tuples = new ArrayList<>(lines.size());
+    for (ScriptLine line : lines) {
+      tuples.add(
+          new RelationTupleModel(
+              line.option("--resource"),
+              line.option("--relation"),
+              line.option("--namespace"),
+              line.option("--target")));
+    }
+    return tuples;
+  }
+
+  /**
+   * Describes where the step is in the script.
+   *
+   * @return {@code line N} or {@code lines N-M}
+   */
+  public String describe() {
+    long first = getFirstLine().lineNumber();
+    long last = lines.get(lines.size() - 1).lineNumber();
+    return first == last ? "line " + first : "lines " + first + "-" + last;
+  }
+
+  @Override
+  public String toString() {
+    return "ScriptStep{" + "kind=" + kind + ", " + describe() + '}';
+  }
+}
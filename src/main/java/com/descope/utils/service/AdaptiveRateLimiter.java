@@ -0,0 +1,151 @@
+package com.descope.utils.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket whose rate adapts to the rate limits the server enforces.
+ *
+ * <p>Each request takes one token; tokens refill at the current rate up to one second's worth.
+ * The rate grows additively while requests succeed, by about {@code increasePerSecond} requests
+ * per second for every second of traffic, and is halved when the server rejects a request as rate
+ * limited. Several rejections from requests that were already in flight only halve the rate once.
+ * A rejection also stops all requests until the server's Retry-After delay has passed. This is the
+ * AIMD scheme TCP uses for congestion control, and settles just below the rate the server accepts.
+ */
+public class AdaptiveRateLimiter {
+
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /** Rejections within this long of the last decrease are taken as the same overload. */
+  private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final double minRate;
+  private final double maxRate;
+  private final double increasePerSecond;
+  private final LongSupplier nanoClock;
+
+  private double rate;
+  private double tokens;
+  private long lastRefillNanos;
+  private long pausedUntilNanos;
+  private long lastDecreaseNanos;
+
+  /**
+   * Creates a new AdaptiveRateLimiter.
+   *
+   * @param initialRate The starting rate in requests per second
+   * @param minRate The rate never goes below this
+   * @param maxRate The rate never goes above this
+   * @param increasePerSecond How fast the rate grows while requests succeed
+   * @param nanoClock Monotonic clock in nanoseconds
+   */
+  public AdaptiveRateLimiter(
+      double initialRate,
+      double minRate,
+      double maxRate,
+      double increasePerSecond,
+      LongSupplier nanoClock) {
+    if (!(minRate > 0) || minRate > initialRate || initialRate > maxRate) {
+      throw new IllegalArgumentException("Rates must satisfy 0 < min <= initial <= max");
+    }
+    this.minRate = minRate;
+    this.maxRate = maxRate;
+    this.increasePerSecond = increasePerSecond;
+    this.nanoClock = nanoClock;
+    this.rate = initialRate;
+    this.tokens = capacity();
+    long now = nanoClock.getAsLong();
+    this.lastRefillNanos = now;
+    this.pausedUntilNanos = now;
+    this.lastDecreaseNanos = now - DECREASE_COOLDOWN_NANOS;
+  }
+
+  /**
+   * Waits until a request may be sent.
+   *
+   * @throws IllegalStateException if the thread is interrupted while waiting
+   */
+  public void acquire() {
+    long deadline = nanoClock.getAsLong() + reserve();
+    long wait;
+    while ((wait = deadline - nanoClock.getAsLong()) > 0) {
+      LockSupport.parkNanos(wait);
+      if (Thread.interrupted()) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for the rate limiter");
+      }
+    }
+  }
+
+  /**
+   * Takes a token and returns how long the caller must wait before using it.
+   *
+   * <p>The token is taken immediately even if none is available, so waiting callers are served in
+   * the order they called.
+   *
+   * @return The wait in nanoseconds, or 0 to send now
+   */
+  synchronized long reserve() {
+    long now = nanoClock.getAsLong();
+    refill(now);
+    tokens -= 1;
+    long pause = Math.max(0, pausedUntilNanos - now);
+    long debt = tokens < 0 ? (long) (-tokens * NANOS_PER_SECOND / rate) : 0;
+    return pause + debt;
+  }
+
+  /** Records a request that the server accepted. */
+  public synchronized void onSuccess() {
+    rate = Math.min(maxRate, rate + increasePerSecond / rate);
+  }
+
+  /**
+   * Records a request that the server rejected as rate limited.
+   *
+   * @param retryAfterSeconds How long the server asked clients to wait, or 0 if it did not say
+   * @return true if this rejection lowered the rate, false if it was part of an overload that had
+   *     already lowered it
+   */
+  public synchronized boolean onRateLimited(int retryAfterSeconds) {
+    long now = nanoClock.getAsLong();
+    refill(now);
+    long resume = now + TimeUnit.SECONDS.toNanos(Math.max(0, retryAfterSeconds));
+    if (resume - pausedUntilNanos > 0) {
+      pausedUntilNanos = resume;
+    }
+    // Do not let tokens saved up before the rejection burst out when the pause ends
+    tokens = Math.min(tokens, 0);
+    if (now - lastDecreaseNanos < DECREASE_COOLDOWN_NANOS) {
+      return false;
+    }
+    lastDecreaseNanos = now;
+    rate = Math.max(minRate, rate / 2);
+    return true;
+  }
+
+  /**
+   * Gets the current rate.
+   *
+   * @return Requests per second
+   */
+  public synchronized double getRate() {
+    return rate;
+  }
+
+  private void refill(long now) {
+    // No tokens accrue while paused
+    long from = pausedUntilNanos - lastRefillNanos > 0 ? pausedUntilNanos : lastRefillNanos;
+    if (now - from > 0) {
+      tokens = Math.min(capacity(), tokens + (now - from) * rate / NANOS_PER_SECOND);
+    }
+    if (now - lastRefillNanos > 0) {
+      lastRefillNanos = now;
+    }
+  }
+
+  private double capacity() {
+    return Math.max(1, rate);
+  }
+}
@@ -0,0 +1,20 @@
+package com.descope.utils.service;
+
+/**
+ * A group of Descope API endpoints that share a rate limit.
+ *
+ * <p>Descope limits each project's request rate separately for the management API, the
+ * authorization (ReBAC) API and the end-user authentication API, so requests are throttled per
+ * project and per family.
+ */
+public enum ApiFamily {
+
+  /** Management endpoints for users, tenants, roles and applications. */
+  MANAGEMENT,
+
+  /** Authorization endpoints for the ReBAC schema and relations. */
+  AUTHZ,
+
+  /** End-user authentication endpoints such as password sign-in. */
+  AUTH
+}
@@ -0,0 +1,32 @@
+package com.descope.utils.service;
+
+/**
+ * Thrown instead of sending an SDK call when its {@link IsolationGroup} cannot take it.
+ *
+ * <p>Either the group's circuit breaker is open because recent calls failed, or the group's
+ * bulkhead stayed full for longer than callers are allowed to wait. The call was never sent.
+ */
+public class ApiUnavailableException extends RuntimeException {
+
+  private final IsolationGroup group;
+
+  /**
+   * Creates a new ApiUnavailableException.
+   *
+   * @param group The isolation group that refused the call
+   * @param message The reason the call was refused
+   */
+  public ApiUnavailableException(IsolationGroup group, String message) {
+    super(message);
+    this.group = group;
+  }
+
+  /**
+   * Gets the isolation group that refused the call.
+   *
+   * @return The isolation group
+   */
+  public IsolationGroup getGroup() {
+    return group;
+  }
+}
@@ -1,8 +1,11 @@
 package com.descope.utils.service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,8 +17,11 @@ import com.descope.model.inbound.InboundAppCreateResponse;
 import com.descope.model.inbound.InboundAppRequest;
 import com.descope.sdk.mgmt.InboundAppsService;
 import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.input.ApplicationImportRecord;
 import com.descope.utils.model.Application;
+import com.descope.utils.model.BulkOperationSummary;
 import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.RowResult;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -24,23 +30,55 @@ import jakarta.inject.Inject;
  * Service for managing Descope applications.
  *
  * <p>Provides operations to create and check existence of Descope applications with idempotency
- * support.
+ * support. Existing applications are looked up in a per-project {@link NamedIndex} that is loaded
+ * once and then kept up to date with the applications this process creates, so the full application
+ * list is loaded only once per {@link #INDEX_TTL} however many applications are created. With a
+ * {@link MetadataStore} cache directory the index is shared with later invocations as well.
  */
 @ApplicationScoped
 public class ApplicationService {
 
   private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
 
+  /** How long an application index is used before the application list is loaded again. */
+  static final Duration INDEX_TTL = Duration.ofMinutes(5);
+
   private final DescopeService descopeService;
+  private final CatalogCache<NamedIndex<Application>> applicationIndexes;
+
+  /**
+   * Creates a new ApplicationService instance that keeps its application index in memory only.
+   *
+   * @param descopeService The base Descope service
+   */
+  public ApplicationService(DescopeService descopeService) {
+    this(descopeService, MetadataStore.disabled());
+  }
 
   /**
    * Creates a new ApplicationService instance.
    *
    * @param descopeService The base Descope service
+   * @param metadataStore The on-disk metadata cache shared across invocations
    */
   @Inject
-  public ApplicationService(DescopeService descopeService) {
+  public ApplicationService(DescopeService descopeService, MetadataStore metadataStore) {
+    this(
+        descopeService,
+        new CatalogCache<>(
+            INDEX_TTL, System::nanoTime, metadataStore, MetadataKind.APPLICATIONS));
+  }
+
+  /**
+   * Creates a new ApplicationService instance with a custom index cache.
+   *
+   * @param descopeService The base Descope service
+   * @param applicationIndexes The cache of application indexes per project
+   */
+  ApplicationService(
+      DescopeService descopeService, CatalogCache<NamedIndex<Application>> applicationIndexes) {
     this.descopeService = descopeService;
+    this.applicationIndexes = applicationIndexes;
   }
 
   /**
@@ -59,44 +97,198 @@ public class ApplicationService {
     logger.info("Creating application: {}", name);
 
     try {
-      DescopeClient client = descopeService.createClient(config);
-      InboundAppsService appsService = client.getManagementServices().getInboundAppsService();
-
-      // Check if an application with the same name already exists
-      InboundApp[] existingAppsArray = appsService.loadAllApplications();
-      List<InboundApp> existingApps = Arrays.asList(existingAppsArray);
-      for (InboundApp app : existingApps) {
-        if (app.getName().equals(name)) {
-          logger.info("Application '{}' already exists (ID: {})", name, app.getId());
-          Application existing =
-              new Application(
-                  app.getId(),
-                  app.getName(),
-                  app.getDescription() != null ? app.getDescription() : "",
-                  Instant.now());
-          return OperationResult.alreadyExists(
-              existing, "Application '" + name + "' already exists");
-        }
+      InboundAppsService appsService = appsService(config);
+      NamedIndex<Application> index =
+          applicationIndexes.get(config, () -> loadIndex(config, appsService));
+      OperationResult<Application> result = create(config, appsService, index, name, description);
+      if (result.isCreated()) {
+        applicationIndexes.persist(config, apps -> apps.put(result.getData()));
       }
+      return result;
+    } catch (DescopeException e) {
+      throw descopeService.wrapException("create application '" + name + "'", e);
+    }
+  }
 
-      // Create new application
-      InboundAppCreateResponse response =
-          appsService.createApplication(
-              InboundAppRequest.builder()
-                  .name(name)
-                  .description(description != null ? description : "")
-                  .build());
+  /**
+   * Creates applications from a stream of import records using a bounded pool of worker threads.
+   *
+   * <p>All rows are checked against one snapshot of the project's applications, loaded at most
+   * once, to which each created application is added as soon as it exists. A name that appears
+   * again while its first row is still being created is reported as a failure instead of creating
+   * a second application with the same name. Failures are reported per row and never abort the
+   * remaining rows.
+   *
+   * @param config The Descope configuration
+   * @param records The application records to create
+   * @param concurrency The maximum number of concurrent create requests
+   * @param sink Receives each row result as soon as it completes, on the calling thread
+   * @return Summary counts for the whole operation
+   */
+  public BulkOperationSummary createApplications(
+      DescopeConfig config,
+      Iterator<ApplicationImportRecord> records,
+      int concurrency,
+      Consumer<RowResult<Application>> sink) {
+    logger.info("Bulk creating applications with concurrency {}", concurrency);
 
-      Application application =
-          new Application(
-              response.getId(), name, description != null ? description : "", Instant.now());
+    InboundAppsService appsService = appsService(config);
+    NamedIndex<Application> index;
+    try {
+      index = applicationIndexes.get(config, () -> loadIndex(config, appsService));
+    } catch (DescopeException e) {
+      throw descopeService.wrapException("load applications", e);
+    }
+    BulkOperationSummary.Tally tally = new BulkOperationSummary.Tally();
+    List<Application> created = new ArrayList<>();
+
+    try (BoundedTaskRunner runner = new BoundedTaskRunner("create-apps", concurrency)) {
+      runner.run(
+          records,
+          record ->
+              new RowResult<>(
+                  record.rowNumber(),
+                  record.name(),
+                  descopeService.trackRetries(
+                      () -> createRow(config, appsService, index, record))),
+          row -> {
+            tally.record(row.getResult());
+            if (row.getResult().isCreated()) {
+              created.add(row.getResult().getData());
+            }
+            sink.accept(row);
+          });
+    } finally {
+      if (!created.isEmpty()) {
+        applicationIndexes.persist(config, apps -> created.forEach(apps::put));
+      }
+    }
 
-      logger.info("Successfully created application: {} (ID: {})", name, application.getId());
-      return OperationResult.created(
-          application, "Application '" + name + "' created successfully");
+    BulkOperationSummary summary = tally.toSummary();
+    logger.info(
+        "Bulk application creation finished: {} created, {} already existed, {} failed",
+        summary.getCreated(),
+        summary.getAlreadyExists(),
+        summary.getFailed());
+    return summary;
+  }
 
+  /**
+   * Drops the cached application index of a project, so that the next lookup loads all
+   * applications again.
+   *
+   * <p>Use this after applications were created, renamed or deleted outside this process.
+   *
+   * @param config The Descope configuration
+   */
+  public void invalidateIndex(DescopeConfig config) {
+    applicationIndexes.invalidate(config);
+  }
+
+  /**
+   * Loads a project's applications again, replacing the cached index in memory and on disk.
+   *
+   * @param config The Descope configuration
+   * @return The number of applications loaded
+   */
+  public int refreshIndex(DescopeConfig config) {
+    InboundAppsService appsService = appsService(config);
+    try {
+      applicationIndexes.invalidate(config);
+      return applicationIndexes.get(config, () -> loadIndex(config, appsService)).size();
     } catch (DescopeException e) {
-      throw descopeService.wrapException("create application '" + name + "'", e);
+      throw descopeService.wrapException("load applications", e);
+    }
+  }
+
+  private OperationResult<Application> createRow(
+      DescopeConfig config,
+      InboundAppsService appsService,
+      NamedIndex<Application> index,
+      ApplicationImportRecord record) {
+    String name = record.name();
+    if (name == null) {
+      return OperationResult.failure("Row " + record.rowNumber() + " has no name");
+    }
+
+    try {
+      return create(config, appsService, index, name, record.description());
+    } catch (DescopeException | ApiUnavailableException e) {
+      logger.debug("Failed to create application '{}': {}", name, e.getMessage());
+      return OperationResult.failure(
+          "Failed to create application '" + name + "': " + e.getMessage());
     }
   }
+
+  private OperationResult<Application> create(
+      DescopeConfig config,
+      InboundAppsService appsService,
+      NamedIndex<Application> index,
+      String name,
+      String description) {
+    // Check if an application with the same name already exists
+    Application existing = index.findByName(name);
+    if (existing == null && !index.tryClaim(name)) {
+      // Another request holds the name, or has created the application since the lookup
+      existing = index.findByName(name);
+      if (existing == null) {
+        return OperationResult.failure(
+            "Application '" + name + "' is already being created by another request");
+      }
+    }
+    if (existing != null) {
+      logger.info("Application '{}' already exists (ID: {})", name, existing.getId());
+      return OperationResult.alreadyExists(existing, "Application '" + name + "' already exists");
+    }
+
+    // Create new application
+    InboundAppRequest request =
+        InboundAppRequest.builder()
+            .name(name)
+            .description(description != null ? description : "")
+            .build();
+    InboundAppCreateResponse response;
+    try {
+      response =
+          descopeService.call(
+              config, SdkOperation.APP_CREATE, () -> appsService.createApplication(request));
+    } catch (RuntimeException e) {
+      index.release(name);
+      throw e;
+    }
+
+    Application application =
+        new Application(
+            response.getId(), name, description != null ? description : "", Instant.now());
+    index.put(application);
+
+    logger.info("Successfully created application: {} (ID: {})", name, application.getId());
+    return OperationResult.created(application, "Application '" + name + "' created successfully");
+  }
+
+  private NamedIndex<Application> loadIndex(
+      DescopeConfig config, InboundAppsService appsService) {
+    InboundApp[] apps =
+        descopeService.call(
+            config, SdkOperation.APP_LOAD_ALL, () -> appsService.loadAllApplications());
+    NamedIndex<Application> index = new NamedIndex<>(Application::getId, Application::getName);
+    for (InboundApp app : apps) {
+      index.put(
+          new Application(
+              app.getId(),
+              app.getName(),
+              app.getDescription() != null ? app.getDescription() : "",
+              Instant.now()));
+    }
+    logger.debug(
+        "Loaded {} application(s) into the index of project {}",
+        index.size(),
+        config.getProjectId());
+    return index;
+  }
+
+  private InboundAppsService appsService(DescopeConfig config) {
+    DescopeClient client = descopeService.createClient(config);
+    return client.getManagementServices().getInboundAppsService();
+  }
 }
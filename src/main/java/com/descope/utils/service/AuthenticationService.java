@@ -58,7 +58,9 @@ public class AuthenticationService {
       PasswordService passwordService = client.getAuthenticationServices().getPasswordService();
 
       // Perform password sign-in
-      AuthenticationInfo authInfo = passwordService.signIn(loginId, password);
+      AuthenticationInfo authInfo =
+          descopeService.call(
+              config, SdkOperation.AUTH_SIGN_IN, () -> passwordService.signIn(loginId, password));
 
       // Extract tokens and user info
       String sessionJwt = authInfo.getToken().getJwt();
@@ -128,7 +130,11 @@ public class AuthenticationService {
       User user = userBuilder.build();
 
       // Perform password sign-up
-      AuthenticationInfo authInfo = passwordService.signUp(loginId, user, password);
+      AuthenticationInfo authInfo =
+          descopeService.call(
+              config,
+              SdkOperation.AUTH_SIGN_UP,
+              () -> passwordService.signUp(loginId, user, password));
 
       // Extract tokens and user info
       String sessionJwt = authInfo.getToken().getJwt();
@@ -171,7 +177,10 @@ public class AuthenticationService {
       DescopeClient client = descopeService.createClient(config);
       UserService userService = client.getManagementServices().getUserService();
 
-      userService.setActivePassword(loginId, password);
+      descopeService.run(
+          config,
+          SdkOperation.USER_SET_PASSWORD,
+          () -> userService.setActivePassword(loginId, password));
 
       logger.info("Successfully set active password for user: {}", loginId);
       return OperationResult.success(null, "Active password set for '" + loginId + "'");
@@ -201,7 +210,10 @@ public class AuthenticationService {
       DescopeClient client = descopeService.createClient(config);
       UserService userService = client.getManagementServices().getUserService();
 
-      userService.setTemporaryPassword(loginId, password);
+      descopeService.run(
+          config,
+          SdkOperation.USER_SET_PASSWORD,
+          () -> userService.setTemporaryPassword(loginId, password));
 
       logger.info("Successfully set temporary password for user: {}", loginId);
       return OperationResult.success(
@@ -2,8 +2,15 @@ package com.descope.utils.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,7 +25,9 @@ import com.descope.model.authz.NodeExpression;
 import com.descope.model.authz.RelationDefinition;
 import com.descope.model.authz.Schema;
 import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.BulkOperationSummary;
 import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.fga.RelationChunkResult;
 import com.descope.utils.model.fga.RelationQueryModel;
 import com.descope.utils.model.fga.RelationTupleModel;
 import com.descope.utils.model.rebac.NamespaceModel;
@@ -33,25 +42,59 @@ import jakarta.inject.Inject;
  * Service for managing Descope ReBAC (Relationship-Based Access Control) authorization schemas.
  *
  * <p>Provides operations to create, load, and delete authorization schemas with idempotency
- * support.
+ * support. A loaded schema is cached per project for {@link #SCHEMA_TTL}, and with a {@link
+ * MetadataStore} cache directory it is shared with later invocations as well.
  */
 @ApplicationScoped
 public class AuthzService {
 
   private static final Logger logger = LoggerFactory.getLogger(AuthzService.class);
 
+  /** Default number of relation tuples sent per request. */
+  public static final int DEFAULT_CHUNK_SIZE = 500;
+
+  /** Default number of relation requests in flight. */
+  public static final int DEFAULT_CONCURRENCY = 4;
+
+  /** How long a loaded schema is used before it is loaded again. */
+  static final Duration SCHEMA_TTL = Duration.ofMinutes(5);
+
   private final DescopeService descopeService;
   private final ObjectMapper objectMapper;
+  private final CatalogCache<SchemaModel> schemas;
+
+  /**
+   * Creates a new AuthzService instance that caches schemas in memory only.
+   *
+   * @param descopeService The base Descope service
+   */
+  public AuthzService(DescopeService descopeService) {
+    this(descopeService, MetadataStore.disabled());
+  }
 
   /**
    * Creates a new AuthzService instance.
    *
    * @param descopeService The base Descope service
+   * @param metadataStore The on-disk metadata cache shared across invocations
    */
   @Inject
-  public AuthzService(DescopeService descopeService) {
+  public AuthzService(DescopeService descopeService, MetadataStore metadataStore) {
+    this(
+        descopeService,
+        new CatalogCache<>(SCHEMA_TTL, System::nanoTime, metadataStore, MetadataKind.REBAC_SCHEMA));
+  }
+
+  /**
+   * Creates a new AuthzService instance with a custom schema cache.
+   *
+   * @param descopeService The base Descope service
+   * @param schemas The cache of loaded schemas per project
+   */
+  AuthzService(DescopeService descopeService, CatalogCache<SchemaModel> schemas) {
     this.descopeService = descopeService;
     this.objectMapper = new ObjectMapper();
+    this.schemas = schemas;
   }
 
   /**
@@ -84,7 +127,9 @@ public class AuthzService {
 
       // Check if schema already exists (for idempotency)
       try {
-        Schema existingSchema = sdkAuthzService.loadSchema();
+        Schema existingSchema =
+            descopeService.call(
+                config, SdkOperation.SCHEMA_LOAD, () -> sdkAuthzService.loadSchema());
         if (existingSchema != null && existingSchema.getNamespaces() != null) {
           logger.info("Schema already exists, updating with upgrade={}", upgrade);
         }
@@ -94,7 +139,9 @@ public class AuthzService {
       }
 
       // Save the schema (create or update)
-      sdkAuthzService.saveSchema(schema, upgrade);
+      descopeService.run(
+          config, SdkOperation.SCHEMA_SAVE, () -> sdkAuthzService.saveSchema(schema, upgrade));
+      schemas.invalidate(config);
 
       logger.info(
           "Successfully created/updated ReBAC schema with {} namespaces",
@@ -112,7 +159,7 @@ public class AuthzService {
   }
 
   /**
-   * Loads the current ReBAC schema from Descope.
+   * Loads the current ReBAC schema from Descope, or from the cache if it was loaded recently.
    *
    * @param config The Descope configuration
    * @return OperationResult containing the current schema, or an error if no schema exists
@@ -121,20 +168,13 @@ public class AuthzService {
     logger.info("Loading current ReBAC schema");
 
     try {
-      DescopeClient client = descopeService.createClient(config);
-      com.descope.sdk.mgmt.AuthzService sdkAuthzService =
-          client.getManagementServices().getAuthzService();
-
-      Schema schema = sdkAuthzService.loadSchema();
+      SchemaModel schemaModel = schemas.get(config, () -> fetchSchema(config));
 
-      if (schema == null) {
+      if (schemaModel == null) {
         logger.info("No schema found");
         return OperationResult.failure("No schema exists");
       }
 
-      // Convert SDK schema to model
-      SchemaModel schemaModel = convertFromSdkSchema(schema);
-
       logger.info(
           "Successfully loaded schema with {} namespaces", schemaModel.getNamespaces().size());
       return OperationResult.success(schemaModel, "Schema loaded successfully");
@@ -164,7 +204,9 @@ public class AuthzService {
 
       // Check if schema exists
       try {
-        Schema existing = sdkAuthzService.loadSchema();
+        Schema existing =
+            descopeService.call(
+                config, SdkOperation.SCHEMA_LOAD, () -> sdkAuthzService.loadSchema());
         if (existing == null
             || existing.getNamespaces() == null
             || existing.getNamespaces().isEmpty()) {
@@ -177,7 +219,8 @@ public class AuthzService {
       }
 
       // Delete the schema
-      sdkAuthzService.deleteSchema();
+      descopeService.run(config, SdkOperation.SCHEMA_DELETE, () -> sdkAuthzService.deleteSchema());
+      schemas.invalidate(config);
 
       logger.info("Successfully deleted ReBAC schema");
       return OperationResult.created("", "Schema deleted successfully");
@@ -187,6 +230,45 @@ public class AuthzService {
     }
   }
 
+  /**
+   * Drops the cached schema of a project, so that the next load reads it from the API again.
+   *
+   * <p>Use this after the schema was changed outside this process.
+   *
+   * @param config The Descope configuration
+   */
+  public void invalidateSchema(DescopeConfig config) {
+    schemas.invalidate(config);
+  }
+
+  /**
+   * Loads the current ReBAC schema again, replacing the cached schema in memory and on disk.
+   *
+   * @param config The Descope configuration
+   * @return The number of namespaces in the schema, or 0 if no schema exists
+   */
+  public int refreshSchema(DescopeConfig config) {
+    schemas.invalidate(config);
+    OperationResult<SchemaModel> result = loadSchema(config);
+    return result.isSuccess() ? result.getData().getNamespaces().size() : 0;
+  }
+
+  /**
+   * Loads the current ReBAC schema from the API.
+   *
+   * @param config The Descope configuration
+   * @return The schema, or null if none exists
+   */
+  private SchemaModel fetchSchema(DescopeConfig config) {
+    DescopeClient client = descopeService.createClient(config);
+    com.descope.sdk.mgmt.AuthzService sdkAuthzService =
+        client.getManagementServices().getAuthzService();
+
+    Schema schema =
+        descopeService.call(config, SdkOperation.SCHEMA_LOAD, () -> sdkAuthzService.loadSchema());
+    return schema != null ? convertFromSdkSchema(schema) : null;
+  }
+
   /**
    * Reads a schema from a JSON file.
    *
@@ -208,10 +290,12 @@ public class AuthzService {
    * <p>This handles both simple targetNamespaces-based relations and complex computed relations
    * defined via complexDefinition.
    *
+   * <p>Package-private so the JMH benchmarks can measure it.
+   *
    * @param schemaModel The domain model schema
    * @return The SDK Schema
    */
-  private Schema convertToSdkSchema(SchemaModel schemaModel) {
+  Schema convertToSdkSchema(SchemaModel schemaModel) {
     List<Namespace> namespaces = new ArrayList<>();
 
     for (NamespaceModel nsModel : schemaModel.getNamespaces()) {
@@ -354,10 +438,12 @@ public class AuthzService {
    * <p>This extracts target namespaces from the Node-based expressions in a simplified way. For
    * complex expressions, only SELF-type expressions are extracted.
    *
+   * <p>Package-private so the JMH benchmarks can measure it.
+   *
    * @param sdkSchema The SDK Schema
    * @return The domain model schema
    */
-  private SchemaModel convertFromSdkSchema(Schema sdkSchema) {
+  SchemaModel convertFromSdkSchema(Schema sdkSchema) {
     List<NamespaceModel> namespaces = new ArrayList<>();
 
     for (Namespace ns : sdkSchema.getNamespaces()) {
@@ -409,7 +495,8 @@ public class AuthzService {
   /**
    * Creates one or more FGA relation tuples.
    *
-   * <p>This method creates authorization relationships between targets and resources.
+   * <p>This method creates authorization relationships between targets and resources. Lists larger
+   * than {@link #DEFAULT_CHUNK_SIZE} are split into chunks that are sent concurrently.
    *
    * @param config The Descope configuration
    * @param tuples The list of relation tuples to create
@@ -419,24 +506,33 @@ public class AuthzService {
       DescopeConfig config, List<RelationTupleModel> tuples) {
     logger.info("Creating {} FGA relation tuple(s)", tuples.size());
 
-    try {
-      DescopeClient client = descopeService.createClient(config);
-      com.descope.sdk.mgmt.AuthzService sdkAuthzService =
-          client.getManagementServices().getAuthzService();
-
-      // Convert models to SDK Relation objects
-      List<com.descope.model.authz.Relation> relations = new ArrayList<>();
-      for (RelationTupleModel tuple : tuples) {
-        com.descope.model.authz.Relation relation = new com.descope.model.authz.Relation();
-        relation.setResource(tuple.getResource());
-        relation.setRelationDefinition(tuple.getRelationDefinition());
-        relation.setNamespace(tuple.getNamespace());
-        relation.setTarget(tuple.getTarget());
-        relations.add(relation);
+    if (tuples.size() > DEFAULT_CHUNK_SIZE) {
+      BulkOperationSummary summary =
+          createRelations(
+              config,
+              tuples.iterator(),
+              DEFAULT_CHUNK_SIZE,
+              DEFAULT_CONCURRENCY,
+              row -> false,
+              chunk -> {});
+      if (!summary.isAllSucceeded()) {
+        return OperationResult.failure(
+            "Failed to create "
+                + summary.getFailed()
+                + " of "
+                + tuples.size()
+                + " relation tuple(s); see log for details");
       }
+      return OperationResult.created(
+          tuples, "Created " + tuples.size() + " relation tuple(s) successfully");
+    }
 
-      // Create the relations
-      sdkAuthzService.createRelations(relations);
+    try {
+      com.descope.sdk.mgmt.AuthzService sdkAuthzService = sdkAuthzService(config);
+      descopeService.run(
+          config,
+          SdkOperation.RELATIONS_CREATE,
+          () -> sdkAuthzService.createRelations(toSdkRelations(tuples)));
 
       logger.info("Successfully created {} relation tuple(s)", tuples.size());
       return OperationResult.created(
@@ -447,9 +543,53 @@ public class AuthzService {
     }
   }
 
+  /**
+   * Creates a stream of FGA relation tuples in concurrent chunks.
+   *
+   * <p>Tuples are cut into contiguous chunks of {@code chunkSize} and up to {@code concurrency}
+   * chunks are sent at once. A chunk that fails with a transient error is retried; a chunk that
+   * still fails is reported to the listener and does not stop the remaining chunks.
+   *
+   * @param config The Descope configuration
+   * @param tuples The relation tuples to create, consumed lazily
+   * @param chunkSize The maximum number of tuples per request
+   * @param concurrency The maximum number of requests in flight
+   * @param skip Returns true for 1-based tuple positions that must not be sent
+   * @param listener Receives each chunk result as it completes, on the calling thread
+   * @return Summary counts by tuple
+   */
+  public BulkOperationSummary createRelations(
+      DescopeConfig config,
+      Iterator<RelationTupleModel> tuples,
+      int chunkSize,
+      int concurrency,
+      LongPredicate skip,
+      Consumer<RelationChunkResult> listener) {
+    logger.info(
+        "Creating FGA relation tuples in chunks of {} with concurrency {}", chunkSize, concurrency);
+    com.descope.sdk.mgmt.AuthzService sdkAuthzService = sdkAuthzService(config);
+
+    BulkOperationSummary summary =
+        new RelationChunkWriter(chunkSize, concurrency)
+            .write(
+                "create-relations",
+                tuples,
+                skip,
+                chunk ->
+                    descopeService.trackRetries(() -> createChunk(config, sdkAuthzService, chunk)),
+                listener);
+
+    logger.info(
+        "Created {} relation tuple(s), {} failed", summary.getCreated(), summary.getFailed());
+    return summary;
+  }
+
   /**
    * Deletes one or more FGA relation tuples.
    *
+   * <p>Lists larger than {@link #DEFAULT_CHUNK_SIZE} are split into chunks that are sent
+   * concurrently.
+   *
    * @param config The Descope configuration
    * @param tuples The list of relation tuples to delete
    * @return OperationResult indicating success or failure
@@ -458,24 +598,32 @@ public class AuthzService {
       DescopeConfig config, List<RelationTupleModel> tuples) {
     logger.info("Deleting {} FGA relation tuple(s)", tuples.size());
 
-    try {
-      DescopeClient client = descopeService.createClient(config);
-      com.descope.sdk.mgmt.AuthzService sdkAuthzService =
-          client.getManagementServices().getAuthzService();
-
-      // Convert models to SDK Relation objects
-      List<com.descope.model.authz.Relation> relations = new ArrayList<>();
-      for (RelationTupleModel tuple : tuples) {
-        com.descope.model.authz.Relation relation = new com.descope.model.authz.Relation();
-        relation.setResource(tuple.getResource());
-        relation.setRelationDefinition(tuple.getRelationDefinition());
-        relation.setNamespace(tuple.getNamespace());
-        relation.setTarget(tuple.getTarget());
-        relations.add(relation);
+    if (tuples.size() > DEFAULT_CHUNK_SIZE) {
+      BulkOperationSummary summary =
+          deleteRelations(
+              config,
+              tuples.iterator(),
+              DEFAULT_CHUNK_SIZE,
+              DEFAULT_CONCURRENCY,
+              row -> false,
+              chunk -> {});
+      if (!summary.isAllSucceeded()) {
+        return OperationResult.failure(
+            "Failed to delete "
+                + summary.getFailed()
+                + " of "
+                + tuples.size()
+                + " relation tuple(s); see log for details");
       }
+      return OperationResult.created("", "Deleted " + tuples.size() + " relation tuple(s)");
+    }
 
-      // Delete the relations
-      sdkAuthzService.deleteRelations(relations);
+    try {
+      com.descope.sdk.mgmt.AuthzService sdkAuthzService = sdkAuthzService(config);
+      descopeService.run(
+          config,
+          SdkOperation.RELATIONS_DELETE,
+          () -> sdkAuthzService.deleteRelations(toSdkRelations(tuples)));
 
       logger.info("Successfully deleted {} relation tuple(s)", tuples.size());
       return OperationResult.created("", "Deleted " + tuples.size() + " relation tuple(s)");
@@ -485,6 +633,99 @@ public class AuthzService {
     }
   }
 
+  /**
+   * Deletes a stream of FGA relation tuples in concurrent chunks.
+   *
+   * <p>Tuples are cut into contiguous chunks of {@code chunkSize} and up to {@code concurrency}
+   * chunks are sent at once. A chunk that fails with a transient error is retried; a chunk that
+   * still fails is reported to the listener and does not stop the remaining chunks.
+   *
+   * @param config The Descope configuration
+   * @param tuples The relation tuples to delete, consumed lazily
+   * @param chunkSize The maximum number of tuples per request
+   * @param concurrency The maximum number of requests in flight
+   * @param skip Returns true for 1-based tuple positions that must not be sent
+   * @param listener Receives each chunk result as it completes, on the calling thread
+   * @return Summary counts by tuple
+   */
+  public BulkOperationSummary deleteRelations(
+      DescopeConfig config,
+      Iterator<RelationTupleModel> tuples,
+      int chunkSize,
+      int concurrency,
+      LongPredicate skip,
+      Consumer<RelationChunkResult> listener) {
+    logger.info(
+        "Deleting FGA relation tuples in chunks of {} with concurrency {}", chunkSize, concurrency);
+    com.descope.sdk.mgmt.AuthzService sdkAuthzService = sdkAuthzService(config);
+
+    BulkOperationSummary summary =
+        new RelationChunkWriter(chunkSize, concurrency)
+            .write(
+                "delete-relations",
+                tuples,
+                skip,
+                chunk ->
+                    descopeService.trackRetries(() -> deleteChunk(config, sdkAuthzService, chunk)),
+                listener);
+
+    logger.info(
+        "Deleted {} relation tuple(s), {} failed", summary.getSucceeded(), summary.getFailed());
+    return summary;
+  }
+
+  private OperationResult<String> createChunk(
+      DescopeConfig config,
+      com.descope.sdk.mgmt.AuthzService sdkAuthzService,
+      List<RelationTupleModel> chunk) {
+    try {
+      descopeService.run(
+          config,
+          SdkOperation.RELATIONS_CREATE,
+          () -> sdkAuthzService.createRelations(toSdkRelations(chunk)));
+      return OperationResult.created("", "Created " + chunk.size() + " relation tuple(s)");
+    } catch (DescopeException | ApiUnavailableException e) {
+      logger.error("Failed to create relation chunk: {}", e.getMessage());
+      return OperationResult.failure("Failed to create FGA relations: " + e.getMessage());
+    }
+  }
+
+  private OperationResult<String> deleteChunk(
+      DescopeConfig config,
+      com.descope.sdk.mgmt.AuthzService sdkAuthzService,
+      List<RelationTupleModel> chunk) {
+    try {
+      descopeService.run(
+          config,
+          SdkOperation.RELATIONS_DELETE,
+          () -> sdkAuthzService.deleteRelations(toSdkRelations(chunk)));
+      return OperationResult.success("", "Deleted " + chunk.size() + " relation tuple(s)");
+    } catch (DescopeException | ApiUnavailableException e) {
+      logger.error("Failed to delete relation chunk: {}", e.getMessage());
+      return OperationResult.failure("Failed to delete FGA relations: " + e.getMessage());
+    }
+  }
+
+  private com.descope.sdk.mgmt.AuthzService sdkAuthzService(DescopeConfig config) {
+    DescopeClient client = descopeService.createClient(config);
+    return client.getManagementServices().getAuthzService();
+  }
+
+  // Convert models to SDK Relation objects; package-private for the JMH benchmarks
+  static List<com.descope.model.authz.Relation> toSdkRelations(
+      List<RelationTupleModel> tuples) {
+    List<com.descope.model.authz.Relation> relations = new ArrayList<>(tuples.size());
+    for (RelationTupleModel tuple : tuples) {
+      com.descope.model.authz.Relation relation = new com.descope.model.authz.Relation();
+      relation.setResource(tuple.getResource());
+      relation.setRelationDefinition(tuple.getRelationDefinition());
+      relation.setNamespace(tuple.getNamespace());
+      relation.setTarget(tuple.getTarget());
+      relations.add(relation);
+    }
+    return relations;
+  }
+
   /**
    * Checks if specific FGA relation tuples exist.
    *
@@ -515,7 +756,10 @@ public class AuthzService {
 
       // Check the relations
       List<com.descope.model.authz.RelationQuery> results =
-          sdkAuthzService.hasRelations(relationQueries);
+          descopeService.call(
+              config,
+              SdkOperation.RELATIONS_HAS,
+              () -> sdkAuthzService.hasRelations(relationQueries));
 
       logger.info("Successfully checked {} relation query(ies)", queries.size());
       return OperationResult.success(results, "Checked " + queries.size() + " relation(s)");
@@ -547,7 +791,11 @@ public class AuthzService {
       com.descope.sdk.mgmt.AuthzService sdkAuthzService =
           client.getManagementServices().getAuthzService();
 
-      List<String> targets = sdkAuthzService.whoCanAccess(resource, relationDefinition, namespace);
+      List<String> targets =
+          descopeService.call(
+              config,
+              SdkOperation.RELATIONS_WHO_CAN_ACCESS,
+              () -> sdkAuthzService.whoCanAccess(resource, relationDefinition, namespace));
 
       logger.info("Found {} target(s) that can access the resource", targets.size());
       return OperationResult.success(targets, "Found " + targets.size() + " target(s) with access");
@@ -574,7 +822,10 @@ public class AuthzService {
           client.getManagementServices().getAuthzService();
 
       List<com.descope.model.authz.Relation> relations =
-          sdkAuthzService.resourceRelations(resource);
+          descopeService.call(
+              config,
+              SdkOperation.RELATIONS_LOAD_RESOURCE,
+              () -> sdkAuthzService.resourceRelations(resource));
 
       // Convert SDK relations to models
       List<RelationTupleModel> tuples = new ArrayList<>();
@@ -613,7 +864,10 @@ public class AuthzService {
           client.getManagementServices().getAuthzService();
 
       List<com.descope.model.authz.Relation> relations =
-          sdkAuthzService.whatCanTargetAccess(target);
+          descopeService.call(
+              config,
+              SdkOperation.RELATIONS_LOAD_TARGET,
+              () -> sdkAuthzService.whatCanTargetAccess(target));
 
       // Convert SDK relations to models
       List<RelationTupleModel> tuples = new ArrayList<>();
@@ -633,4 +887,114 @@ public class AuthzService {
       throw descopeService.wrapException("query target access", e);
     }
   }
+
+  /**
+   * Crawls relation tuples outward from seed resources and targets.
+   *
+   * <p>Seed resources are expanded with {@link #resourceRelations} and seed targets with {@link
+   * #whatCanTargetAccess}. For each further level up to {@code depth}, every resource and target
+   * discovered in the previous level is expanded in both directions, once. Requests within a level
+   * run concurrently. Tuples reachable by several paths are delivered more than once.
+   *
+   * <p>A failed request does not stop the requests of its level. Once the level has finished, the
+   * crawl stops and fails with the number of failed requests and the first error.
+   *
+   * @param config The Descope configuration
+   * @param resources The seed resource identifiers
+   * @param targets The seed target identifiers
+   * @param depth The number of levels to expand beyond the seeds
+   * @param concurrency The maximum number of requests in flight
+   * @param sink Receives every tuple found, on the calling thread
+   * @return The number of requests sent
+   * @throws RuntimeException if any request failed
+   */
+  public long crawlRelations(
+      DescopeConfig config,
+      Collection<String> resources,
+      Collection<String> targets,
+      int depth,
+      int concurrency,
+      Consumer<RelationTupleModel> sink) {
+    logger.info(
+        "Crawling relations from {} resource(s) and {} target(s) to depth {}",
+        resources.size(),
+        targets.size(),
+        depth);
+
+    Set<String> seenResources = new HashSet<>(resources);
+    Set<String> seenTargets = new HashSet<>(targets);
+    List<CrawlRequest> level = new ArrayList<>();
+    for (String resource : seenResources) {
+      level.add(new CrawlRequest(resource, true));
+    }
+    for (String target : seenTargets) {
+      level.add(new CrawlRequest(target, false));
+    }
+
+    long requests = 0;
+    long[] failed = new long[1];
+    String[] firstError = new String[1];
+    try (BoundedTaskRunner runner = new BoundedTaskRunner("crawl-relations", concurrency)) {
+      for (int d = 0; !level.isEmpty() && failed[0] == 0; d++) {
+        boolean expand = d < depth;
+        List<CrawlRequest> next = new ArrayList<>();
+        runner.run(
+            level.iterator(),
+            request -> crawl(config, request),
+            result -> {
+              if (!result.isSuccess()) {
+                if (failed[0]++ == 0) {
+                  firstError[0] = result.getErrorMessage();
+                }
+                return;
+              }
+              for (RelationTupleModel tuple : result.getData()) {
+                sink.accept(tuple);
+                if (expand) {
+                  enqueue(tuple.getResource(), seenResources, seenTargets, next);
+                  enqueue(tuple.getTarget(), seenResources, seenTargets, next);
+                }
+              }
+            });
+        requests += level.size();
+        level = next;
+      }
+    }
+
+    if (failed[0] > 0) {
+      throw new RuntimeException(
+          "Failed to crawl relations: "
+              + failed[0]
+              + " of "
+              + requests
+              + " request(s) failed, first error: "
+              + firstError[0]);
+    }
+    logger.info("Crawled relations with {} request(s)", requests);
+    return requests;
+  }
+
+  private OperationResult<List<RelationTupleModel>> crawl(
+      DescopeConfig config, CrawlRequest request) {
+    try {
+      return request.byResource()
+          ? resourceRelations(config, request.id())
+          : whatCanTargetAccess(config, request.id());
+    } catch (RuntimeException e) {
+      return OperationResult.failure(e.getMessage());
+    }
+  }
+
+  private static void enqueue(
+      String id, Set<String> seenResources, Set<String> seenTargets, List<CrawlRequest> next) {
+    if (seenResources.add(id)) {
+      next.add(new CrawlRequest(id, true));
+    }
+    if (seenTargets.add(id)) {
+      next.add(new CrawlRequest(id, false));
+    }
+  }
+
+  /** One crawl request: the relations of a resource, or what a target can access. */
+  private record CrawlRequest(String id, boolean byResource) {}
 }
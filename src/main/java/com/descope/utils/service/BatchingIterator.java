@@ -0,0 +1,51 @@
+package com.descope.utils.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Groups the elements of an iterator into fixed-size batches.
+ *
+ * <p>Batches are filled lazily as they are requested, so only one batch is buffered at a time. The
+ * last batch may be smaller than the batch size.
+ *
+ * @param <T> The element type
+ */
+public class BatchingIterator<T> implements Iterator<List<T>> {
+
+  private final Iterator<T> source;
+  private final int batchSize;
+
+  /**
+   * Creates a new BatchingIterator.
+   *
+   * @param source The elements to group
+   * @param batchSize The maximum number of elements per batch
+   */
+  public BatchingIterator(Iterator<T> source, int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be at least 1");
+    }
+    this.source = source;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return source.hasNext();
+  }
+
+  @Override
+  public List<T> next() {
+    if (!source.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    List<T> batch = new ArrayList<>(batchSize);
+    while (batch.size() < batchSize && source.hasNext()) {
+      batch.add(source.next());
+    }
+    return batch;
+  }
+}
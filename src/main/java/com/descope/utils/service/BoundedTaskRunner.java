@@ -0,0 +1,113 @@
+package com.descope.utils.service;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs a stream of independent tasks with a fixed upper bound on concurrency.
+ *
+ * <p>Inputs are pulled from an iterator only when a worker slot is free, so at most {@code
+ * concurrency} inputs are held in memory at once regardless of how large the source is. Results are
+ * handed to the sink on the calling thread in completion order, which means sinks do not need to be
+ * thread-safe.
+ */
+public class BoundedTaskRunner implements AutoCloseable {
+
+  private final ExecutorService executor;
+  private final int concurrency;
+
+  /**
+   * Creates a new BoundedTaskRunner.
+   *
+   * @param name Prefix used for worker thread names
+   * @param concurrency Maximum number of tasks running at once
+   */
+  public BoundedTaskRunner(String name, int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be at least 1");
+    }
+    this.concurrency = concurrency;
+    this.executor = Executors.newFixedThreadPool(concurrency, threadFactory(name));
+  }
+
+  /**
+   * Applies a task to every input and delivers each result to the sink.
+   *
+   * <p>Blocks until all inputs have been processed. If reading the input, running a task or the
+   * sink throws, tasks already in flight are allowed to finish and their results are delivered
+   * before the first exception is rethrown.
+   *
+   * @param inputs The inputs to process, consumed lazily
+   * @param task The task applied to each input
+   * @param sink Receives each result on the calling thread
+   * @param <I> The input type
+   * @param <R> The result type
+   */
+  public <I, R> void run(Iterator<I> inputs, Function<I, R> task, Consumer<R> sink) {
+    CompletionService<R> completion = new ExecutorCompletionService<>(executor);
+    int inFlight = 0;
+    RuntimeException failure = null;
+    try {
+      while (inputs.hasNext()) {
+        if (inFlight == concurrency) {
+          inFlight--;
+          sink.accept(take(completion));
+        }
+        I input = inputs.next();
+        completion.submit(() -> task.apply(input));
+        inFlight++;
+      }
+    } catch (RuntimeException e) {
+      failure = e;
+    } finally {
+      while (inFlight > 0) {
+        inFlight--;
+        try {
+          sink.accept(take(completion));
+        } catch (RuntimeException e) {
+          failure = failure == null ? e : failure;
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private static <R> R take(CompletionService<R> completion) {
+    try {
+      return completion.take().get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for task results", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("Task failed: " + cause.getMessage(), cause);
+    }
+  }
+
+  private static ThreadFactory threadFactory(String name) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
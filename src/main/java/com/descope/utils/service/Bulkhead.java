@@ -0,0 +1,75 @@
+package com.descope.utils.service;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of SDK calls of one {@link IsolationGroup} in flight at once.
+ *
+ * <p>When the group's API slows down, its calls pile up here instead of taking every worker thread
+ * in the process. A caller that cannot get a slot within the maximum wait fails with {@link
+ * ApiUnavailableException} and gets its thread back for other work.
+ */
+public class Bulkhead {
+
+  private final IsolationGroup group;
+  private final int maxConcurrentCalls;
+  private final long maxWaitNanos;
+  private final Semaphore permits;
+
+  /**
+   * Creates a new Bulkhead.
+   *
+   * @param group The isolation group the bulkhead protects
+   * @param maxConcurrentCalls The maximum number of calls in flight at once
+   * @param maxWait How long a caller waits for a slot before giving up
+   */
+  public Bulkhead(IsolationGroup group, int maxConcurrentCalls, Duration maxWait) {
+    if (maxConcurrentCalls < 1) {
+      throw new IllegalArgumentException("Max concurrent calls must be at least 1");
+    }
+    this.group = group;
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxWaitNanos = maxWait.toNanos();
+    // Fair, so a waiting caller is not overtaken by one that just arrived
+    this.permits = new Semaphore(maxConcurrentCalls, true);
+  }
+
+  /**
+   * Takes a slot, waiting up to the maximum wait for one to free up.
+   *
+   * @throws ApiUnavailableException if no slot freed up in time
+   * @throws IllegalStateException if the thread is interrupted while waiting
+   */
+  public void acquire() {
+    try {
+      if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+        throw new ApiUnavailableException(
+            group,
+            "Too many "
+                + group
+                + " calls in flight; no slot freed up within "
+                + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)
+                + " ms");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the " + group + " bulkhead");
+    }
+  }
+
+  /** Returns a slot taken by {@link #acquire()}. */
+  public void release() {
+    permits.release();
+  }
+
+  /**
+   * Gets the number of calls currently in flight.
+   *
+   * @return The number of taken slots
+   */
+  public int getActiveCalls() {
+    return maxConcurrentCalls - permits.availablePermits();
+  }
+}
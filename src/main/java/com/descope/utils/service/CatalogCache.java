@@ -0,0 +1,167 @@
+package com.descope.utils.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.descope.utils.config.DescopeConfig;
+
+/**
+ * Caches one catalog per project, such as an index of all tenants, loaded from the Management API.
+ *
+ * <p>A catalog is loaded on first use and reused until it is older than the time to live or is
+ * invalidated. Callers that change the underlying data keep the cached catalog coherent by
+ * updating it in place, so the catalog type must be safe for concurrent use. Threads that need
+ * the same project's catalog while it loads wait for that load instead of starting their own.
+ *
+ * <p>A cache backed by a {@link MetadataStore} reads a missing catalog from disk before loading it
+ * from the API, writes every catalog it loads, and applies the changes callers report to the
+ * stored catalog as well, so that the next CLI invocation starts from the same data.
+ *
+ * @param <C> The catalog type
+ */
+final class CatalogCache<C> {
+
+  private final Duration ttl;
+  private final LongSupplier nanoClock;
+  private final MetadataStore store;
+  private final MetadataKind<C> kind;
+  private final Map<ProjectKey, Slot<C>> slots = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new CatalogCache that keeps catalogs in memory only.
+   *
+   * @param ttl How long a loaded catalog is used before it is loaded again
+   * @param nanoClock Monotonic clock in nanoseconds
+   */
+  CatalogCache(Duration ttl, LongSupplier nanoClock) {
+    this(ttl, nanoClock, MetadataStore.disabled(), null);
+  }
+
+  /**
+   * Creates a new CatalogCache backed by a metadata store.
+   *
+   * @param ttl How long a loaded catalog is used, in memory or on disk, before it is loaded again
+   * @param nanoClock Monotonic clock in nanoseconds
+   * @param store The on-disk store, which may be disabled
+   * @param kind The kind of metadata this cache holds
+   */
+  CatalogCache(Duration ttl, LongSupplier nanoClock, MetadataStore store, MetadataKind<C> kind) {
+    this.ttl = ttl;
+    this.nanoClock = nanoClock;
+    this.store = store;
+    this.kind = kind;
+  }
+
+  /**
+   * Gets a project's catalog, loading it if it is missing or expired.
+   *
+   * <p>A catalog read from disk expires when its file would, not a full time to live after it was
+   * read.
+   *
+   * @param config The Descope configuration
+   * @param loader Loads the catalog from the API
+   * @return The catalog
+   */
+  C get(DescopeConfig config, Supplier<C> loader) {
+    Slot<C> slot = slots.computeIfAbsent(ProjectKey.of(config), key -> new Slot<>());
+    synchronized (slot) {
+      if (!isFresh(slot)) {
+        MetadataStore.Stored<C> stored = store.read(config, kind, ttl);
+        if (stored != null) {
+          slot.catalog = stored.catalog();
+          slot.loadedAtNanos = nanoClock.getAsLong() - stored.age().toNanos();
+        } else {
+          slot.catalog = loader.get();
+          slot.loadedAtNanos = nanoClock.getAsLong();
+          if (slot.catalog != null) {
+            store.writeIfAbsent(config, kind, slot.catalog, ttl);
+          }
+        }
+      }
+      return slot.catalog;
+    }
+  }
+
+  /**
+   * Gets a project's catalog if a fresh one is cached, without loading it.
+   *
+   * @param config The Descope configuration
+   * @return The catalog, or null if none is cached or it has expired
+   */
+  C getIfPresent(DescopeConfig config) {
+    Slot<C> slot = slots.get(ProjectKey.of(config));
+    if (slot == null) {
+      return null;
+    }
+    synchronized (slot) {
+      return isFresh(slot) ? slot.catalog : null;
+    }
+  }
+
+  /**
+   * Applies a change to a project's cached catalog, if a fresh one is cached, and to its stored
+   * copy.
+   *
+   * @param config The Descope configuration
+   * @param change Changes a catalog in place, applied to the cached and to the stored copy
+   */
+  void update(DescopeConfig config, Consumer<C> change) {
+    Slot<C> slot = slots.get(ProjectKey.of(config));
+    if (slot != null) {
+      synchronized (slot) {
+        if (isFresh(slot)) {
+          change.accept(slot.catalog);
+        }
+      }
+    }
+    persist(config, change);
+  }
+
+  /**
+   * Applies a change the caller already made to the cached catalog in place to its stored copy.
+   *
+   * <p>The change is applied to the stored catalog as it is on disk, rather than the cached
+   * catalog being written over it, so changes made by other invocations since it was read are
+   * kept.
+   *
+   * @param config The Descope configuration
+   * @param change Changes a catalog in place
+   */
+  void persist(DescopeConfig config, Consumer<C> change) {
+    store.update(config, kind, ttl, change);
+  }
+
+  /**
+   * Drops a project's catalog, in memory and on disk, so that the next {@link #get} loads it
+   * again.
+   *
+   * @param config The Descope configuration
+   */
+  void invalidate(DescopeConfig config) {
+    slots.remove(ProjectKey.of(config));
+    store.delete(config, kind);
+  }
+
+  private boolean isFresh(Slot<C> slot) {
+    return slot.catalog != null && nanoClock.getAsLong() - slot.loadedAtNanos < ttl.toNanos();
+  }
+
+  /** Catalogs describe a project's data, so the management key is not part of this key. */
+  private record ProjectKey(String projectId, String baseUrl) {
+
+    static ProjectKey of(DescopeConfig config) {
+      return new ProjectKey(config.getProjectId(), config.getBaseUrl());
+    }
+  }
+
+  /** A project's catalog and the time it was loaded. */
+  private static final class Slot<C> {
+
+    private C catalog;
+    private long loadedAtNanos;
+  }
+}
@@ -0,0 +1,205 @@
+package com.descope.utils.service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops calls to an API that keeps failing, and probes it until it recovers.
+ *
+ * <p>The breaker starts {@link State#CLOSED} and remembers whether each of the last {@code
+ * windowSize} calls failed. A call fails if it threw a transient error or took longer than the
+ * slow-call threshold. Once at least {@code minimumCalls} are remembered and the share of failures
+ * reaches the threshold, the breaker opens: every call is refused for {@code openDuration}, which
+ * gives the server room to recover and frees the callers' threads at once. After that the breaker
+ * is {@link State#HALF_OPEN} and lets {@code halfOpenProbes} calls through. If they all succeed,
+ * the breaker closes again with a clean window; if any fails, it opens for another period.
+ */
+public class CircuitBreaker {
+
+  /** The states a circuit breaker moves through. */
+  public enum State {
+    /** Calls are sent and their outcomes recorded. */
+    CLOSED,
+    /** Calls are refused until the open period ends. */
+    OPEN,
+    /** A limited number of probe calls are sent to see whether the API has recovered. */
+    HALF_OPEN
+  }
+
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long slowCallNanos;
+  private final long openNanos;
+  private final int halfOpenProbes;
+  private final LongSupplier nanoClock;
+
+  // Ring buffer of the outcomes of the last calls made while closed
+  private final boolean[] window;
+  private int windowStart;
+  private int windowCount;
+  private int windowFailures;
+
+  private State state = State.CLOSED;
+  private long openedAtNanos;
+  private int probesStarted;
+  private int probesSucceeded;
+
+  /**
+   * Creates a new CircuitBreaker.
+   *
+   * @param windowSize The number of recent calls the failure rate is computed over
+   * @param minimumCalls The number of calls needed before the breaker can open
+   * @param failureRateThreshold The share of failed calls, from 0 to 1, that opens the breaker
+   * @param slowCallThreshold Calls that take longer than this count as failures
+   * @param openDuration How long the breaker refuses calls once open
+   * @param halfOpenProbes The number of successful probe calls that close the breaker
+   * @param nanoClock Monotonic clock in nanoseconds
+   */
+  public CircuitBreaker(
+      int windowSize,
+      int minimumCalls,
+      double failureRateThreshold,
+      Duration slowCallThreshold,
+      Duration openDuration,
+      int halfOpenProbes,
+      LongSupplier nanoClock) {
+    if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize || halfOpenProbes < 1) {
+      throw new IllegalArgumentException(
+          "Window, minimum calls and probes must be positive, and minimum calls within the window");
+    }
+    if (!(failureRateThreshold > 0) || failureRateThreshold > 1) {
+      throw new IllegalArgumentException("Failure rate threshold must be above 0 and at most 1");
+    }
+    this.window = new boolean[windowSize];
+    this.minimumCalls = minimumCalls;
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallNanos = slowCallThreshold.toNanos();
+    this.openNanos = openDuration.toNanos();
+    this.halfOpenProbes = halfOpenProbes;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Asks whether a call may be sent now.
+   *
+   * <p>Every call that is allowed must be followed by exactly one of {@link #onSuccess}, {@link
+   * #onFailure} or {@link #onIgnored}, so that half-open probes are accounted for.
+   *
+   * @return true if the call may be sent
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openNanos) {
+      state = State.HALF_OPEN;
+      probesStarted = 0;
+      probesSucceeded = 0;
+    }
+    if (state == State.CLOSED) {
+      return true;
+    }
+    if (state == State.HALF_OPEN && probesStarted < halfOpenProbes) {
+      probesStarted++;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Records a call that got an answer from the server.
+   *
+   * @param durationNanos How long the call took; a slow call counts as a failure
+   * @return true if this outcome opened the breaker
+   */
+  public synchronized boolean onSuccess(long durationNanos) {
+    if (durationNanos > slowCallNanos) {
+      return record(true);
+    }
+    return record(false);
+  }
+
+  /**
+   * Records a call that failed with a transient error.
+   *
+   * @return true if this outcome opened the breaker
+   */
+  public synchronized boolean onFailure() {
+    return record(true);
+  }
+
+  /**
+   * Records a call whose outcome says nothing about the API's health, such as a rate-limit
+   * rejection.
+   */
+  public synchronized void onIgnored() {
+    if (state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+      probesStarted--;
+    }
+  }
+
+  /**
+   * Gets the current state.
+   *
+   * @return The state
+   */
+  public synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * Gets how long the breaker stays open after it trips.
+   *
+   * @return The open duration
+   */
+  public Duration getOpenDuration() {
+    return Duration.ofNanos(openNanos);
+  }
+
+  private boolean record(boolean failed) {
+    if (state == State.CLOSED) {
+      push(failed);
+      if (windowCount >= minimumCalls && windowFailures >= failureRateThreshold * windowCount) {
+        open();
+        return true;
+      }
+    } else if (state == State.HALF_OPEN) {
+      if (failed) {
+        open();
+        return true;
+      }
+      probesSucceeded++;
+      if (probesSucceeded >= halfOpenProbes) {
+        state = State.CLOSED;
+        clearWindow();
+      }
+    }
+    // Outcomes of calls that started before the breaker opened are no longer needed
+    return false;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAtNanos = nanoClock.getAsLong();
+    clearWindow();
+  }
+
+  private void push(boolean failed) {
+    if (windowCount == window.length) {
+      if (window[windowStart]) {
+        windowFailures--;
+      }
+      window[windowStart] = failed;
+      windowStart = (windowStart + 1) % window.length;
+    } else {
+      window[(windowStart + windowCount) % window.length] = failed;
+      windowCount++;
+    }
+    if (failed) {
+      windowFailures++;
+    }
+  }
+
+  private void clearWindow() {
+    windowStart = 0;
+    windowCount = 0;
+    windowFailures = 0;
+  }
+}
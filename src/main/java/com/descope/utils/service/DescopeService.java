@@ -1,42 +1,436 @@
 package com.descope.utils.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.descope.client.Config;
 import com.descope.client.DescopeClient;
+import com.descope.exception.DescopeException;
+import com.descope.exception.RateLimitExceededException;
 import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.OperationResult;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 
 /**
  * Base service for Descope SDK operations.
  *
  * <p>Provides the initialized Descope client and common error handling utilities for all Descope
- * service operations.
+ * service operations. Clients are cached per project and management key so that every service in
+ * the process shares the same warm HTTP connections instead of building a new client per
+ * operation. The API base URL is part of the cache key, so a client built for a stub server is
+ * never handed out for the real API.
+ *
+ * <p>SDK calls made through {@link #call} and {@link #run} are throttled by an {@link
+ * AdaptiveRateLimiter} shared by every thread that talks to the same project and {@link ApiFamily}.
+ * Requests the server rejects as rate limited slow the limiter down and are sent again once the
+ * server's Retry-After delay has passed.
+ *
+ * <p>Calls that fail with a transient error, such as a timeout, are sent again after a jittered
+ * exponential backoff if their {@link SdkOperation} is safe to repeat and its {@link RetryBudget}
+ * allows it. {@link #trackRetries} reports how many retries an operation needed.
+ *
+ * <p>Each {@link IsolationGroup} has its own {@link Bulkhead}, which caps the group's calls in
+ * flight across the process, and its own {@link CircuitBreaker} per project, which stops calls to
+ * the group while they keep failing. A slow or failing part of the API therefore only holds up the
+ * calls that need it: a stalled ReBAC query cannot take the threads that update users' roles.
  */
 @ApplicationScoped
 public class DescopeService {
 
   private static final Logger logger = LoggerFactory.getLogger(DescopeService.class);
 
+  /** Maximum number of distinct project/key clients kept alive at once. */
+  static final int DEFAULT_MAX_CLIENTS = 16;
+
+  /** Clients not used for this long are removed from the cache. */
+  static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+  /** Starting request rate for each project and API family, in requests per second. */
+  static final double DEFAULT_INITIAL_RATE = 100;
+
+  /** Highest request rate the limiter grows to, in requests per second. */
+  static final double DEFAULT_MAX_RATE = 1000;
+
+  /** Lowest request rate the limiter backs off to, in requests per second. */
+  static final double MIN_RATE = 1;
+
+  /** How fast the request rate grows while requests succeed, in requests per second per second. */
+  static final double RATE_INCREASE_PER_SECOND = 10;
+
+  /** How many times a request is sent before a rate-limit rejection is reported as a failure. */
+  static final int MAX_RATE_LIMITED_ATTEMPTS = 5;
+
+  /** Retries each call of an operation earns for later transient failures. */
+  static final double RETRY_RATIO = 0.2;
+
+  /** Retries each operation may spend before it has earned any. */
+  static final double RETRY_RESERVE = 10;
+
+  /** Maximum number of calls of one isolation group in flight at once. */
+  static final int BULKHEAD_MAX_CONCURRENT_CALLS = 32;
+
+  /** How long a call waits for a free bulkhead slot before it fails. */
+  static final Duration BULKHEAD_MAX_WAIT = Duration.ofSeconds(10);
+
+  /** Number of recent calls a circuit breaker computes its failure rate over. */
+  static final int CIRCUIT_WINDOW = 20;
+
+  /** Number of calls a circuit breaker needs to see before it can open. */
+  static final int CIRCUIT_MINIMUM_CALLS = 10;
+
+  /** Share of failed or slow calls that opens a circuit breaker. */
+  static final double CIRCUIT_FAILURE_RATE = 0.5;
+
+  /** Calls that take longer than this count as failures. */
+  static final Duration SLOW_CALL_THRESHOLD = Duration.ofSeconds(10);
+
+  /** How long an open circuit breaker refuses calls before it sends probes. */
+  static final Duration CIRCUIT_OPEN_DURATION = Duration.ofSeconds(30);
+
+  /** Number of successful probes that close a half-open circuit breaker. */
+  static final int CIRCUIT_HALF_OPEN_PROBES = 3;
+
+  private final Function<DescopeConfig, DescopeClient> clientFactory;
+  private final int maxClients;
+  private final long idleTimeoutNanos;
+  private final LongSupplier nanoClock;
+  private final RetryPolicy retryPolicy;
+  private final Map<RateLimitKey, AdaptiveRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+  private final Map<RetryBudgetKey, RetryBudget> retryBudgets = new ConcurrentHashMap<>();
+  private final ThreadLocal<RetryCounter> retryCounters = new ThreadLocal<>();
+  private final Map<IsolationGroup, Bulkhead> bulkheads = new EnumMap<>(IsolationGroup.class);
+  private final Map<CircuitKey, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+  // Access-ordered so the eldest entry is always the least recently used client
+  private final LinkedHashMap<ClientKey, CachedClient> clients =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  /** Creates a new DescopeService with the default cache settings. */
+  public DescopeService() {
+    this(DescopeService::newClient, DEFAULT_MAX_CLIENTS, DEFAULT_IDLE_TIMEOUT, System::nanoTime);
+  }
+
   /**
-   * Creates a Descope client instance from configuration.
+   * Creates a new DescopeService with custom cache settings.
    *
-   * <p>NOTE: This creates a new client each time. In production, consider caching or using a
-   * singleton pattern.
+   * @param clientFactory Factory used to build a client on a cache miss
+   * @param maxClients Maximum number of cached clients
+   * @param idleTimeout How long an unused client stays cached
+   * @param nanoClock Monotonic clock in nanoseconds
+   */
+  DescopeService(
+      Function<DescopeConfig, DescopeClient> clientFactory,
+      int maxClients,
+      Duration idleTimeout,
+      LongSupplier nanoClock) {
+    this(clientFactory, maxClients, idleTimeout, nanoClock, RetryPolicy.DEFAULT);
+  }
+
+  /**
+   * Creates a new DescopeService with custom cache and retry settings.
+   *
+   * @param clientFactory Factory used to build a client on a cache miss
+   * @param maxClients Maximum number of cached clients
+   * @param idleTimeout How long an unused client stays cached
+   * @param nanoClock Monotonic clock in nanoseconds
+   * @param retryPolicy How calls that fail with a transient error are retried
+   */
+  DescopeService(
+      Function<DescopeConfig, DescopeClient> clientFactory,
+      int maxClients,
+      Duration idleTimeout,
+      LongSupplier nanoClock,
+      RetryPolicy retryPolicy) {
+    if (maxClients < 1) {
+      throw new IllegalArgumentException("Max clients must be at least 1");
+    }
+    this.clientFactory = clientFactory;
+    this.maxClients = maxClients;
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+    this.nanoClock = nanoClock;
+    this.retryPolicy = retryPolicy;
+    for (IsolationGroup group : IsolationGroup.values()) {
+      bulkheads.put(group, new Bulkhead(group, BULKHEAD_MAX_CONCURRENT_CALLS, BULKHEAD_MAX_WAIT));
+    }
+  }
+
+  /**
+   * Returns a Descope client for the given configuration.
+   *
+   * <p>Clients are cached by project ID, a hash of the management key and the base URL. A cached
+   * client is reused until it has been idle for longer than the idle timeout or is evicted as the
+   * least recently used entry when the cache is full.
    *
    * @param config The Descope configuration containing credentials
    * @return A configured DescopeClient instance
    */
   public DescopeClient createClient(DescopeConfig config) {
-    logger.debug("Creating Descope client for project: {}", config.getProjectId());
-    Config sdkConfig =
-        Config.builder()
-            .projectId(config.getProjectId())
-            .managementKey(config.getManagementKey())
-            .build();
-    return new DescopeClient(sdkConfig);
+    ClientKey key = ClientKey.of(config);
+
+    synchronized (clients) {
+      long now = nanoClock.getAsLong();
+      removeIdle(now);
+
+      CachedClient cached = clients.get(key);
+      if (cached == null) {
+        logger.debug("Creating Descope client for project: {}", config.getProjectId());
+        cached = new CachedClient(clientFactory.apply(config));
+        clients.put(key, cached);
+        if (clients.size() > maxClients) {
+          Iterator<CachedClient> eldest = clients.values().iterator();
+          eldest.next();
+          eldest.remove();
+        }
+      }
+      cached.lastUsedNanos = now;
+      return cached.client;
+    }
+  }
+
+  /**
+   * Runs an SDK call under the rate limit of its project and API family, retrying failures that
+   * are likely to go away.
+   *
+   * <p>Waits for the rate limiter before each attempt. If the server rejects the call as rate
+   * limited, the rate is lowered and the call is sent again after the server's Retry-After delay,
+   * up to {@value #MAX_RATE_LIMITED_ATTEMPTS} attempts. Rejected calls were not executed by the
+   * server, so sending them again is safe for every operation.
+   *
+   * <p>If the call fails with a {@linkplain RetryPolicy#isTransient transient} error, it is sent
+   * again after a jittered exponential backoff, but only if the operation is not {@link
+   * Idempotency#UNSAFE}, the retry policy's attempt limit has not been reached and the operation's
+   * retry budget has a retry to spend. Other exceptions are thrown unchanged.
+   *
+   * <p>Once the rate limiter lets it through, each attempt takes a slot in the bulkhead of the
+   * operation's {@link IsolationGroup} and needs the permission of the group's circuit breaker for
+   * the project. If either refuses, the call is not sent and is not retried. Callers waiting out a
+   * long Retry-After therefore do not fill the bulkhead.
+   *
+   * @param config The Descope configuration the call is made with
+   * @param operation The SDK operation the call performs
+   * @param call The SDK call
+   * @param <T> The result type
+   * @return The result of the call
+   * @throws RateLimitExceededException if every attempt was rejected as rate limited
+   * @throws ApiUnavailableException if the operation's isolation group refused the call
+   */
+  public <T> T call(DescopeConfig config, SdkOperation operation, Supplier<T> call) {
+    AdaptiveRateLimiter limiter = rateLimiter(config, operation.getFamily());
+    RetryBudget budget = retryBudget(config, operation);
+    budget.deposit();
+    int rateLimitedAttempts = 0;
+    int failedAttempts = 0;
+    while (true) {
+      try {
+        return attempt(config, operation, limiter, call);
+      } catch (RateLimitExceededException e) {
+        rateLimitedAttempts++;
+        int retryAfterSeconds = e.getRetryAfterSeconds();
+        if (limiter.onRateLimited(retryAfterSeconds)) {
+          logger.warn(
+              "Rate limited by Descope ({} API, project {}); slowing down to {} requests/s",
+              operation.getFamily(),
+              config.getProjectId(),
+              Math.round(limiter.getRate()));
+        }
+        if (rateLimitedAttempts >= MAX_RATE_LIMITED_ATTEMPTS) {
+          throw e;
+        }
+        logger.debug(
+            "{} rate limited on attempt {}; retrying in {}s",
+            operation.getLabel(),
+            rateLimitedAttempts,
+            retryAfterSeconds);
+      } catch (RuntimeException e) {
+        failedAttempts++;
+        if (!shouldRetry(operation, budget, e, failedAttempts)) {
+          throw e;
+        }
+        long backoffNanos =
+            retryPolicy.backoffNanos(failedAttempts, ThreadLocalRandom.current().nextDouble());
+        logger.debug(
+            "{} failed on attempt {} ({}); retrying in {} ms",
+            operation.getLabel(),
+            failedAttempts,
+            e.getMessage(),
+            TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+        pause(backoffNanos);
+      }
+      // Only reached when the call is about to be sent again
+      RetryCounter counter = retryCounters.get();
+      if (counter != null) {
+        counter.retries++;
+      }
+    }
+  }
+
+  /**
+   * Runs an SDK call that returns nothing under the rate limit of its project and API family.
+   *
+   * @param config The Descope configuration the call is made with
+   * @param operation The SDK operation the call performs
+   * @param call The SDK call
+   * @throws RateLimitExceededException if every attempt was rejected as rate limited
+   * @throws ApiUnavailableException if the operation's isolation group refused the call
+   * @see #call(DescopeConfig, SdkOperation, Supplier)
+   */
+  public void run(DescopeConfig config, SdkOperation operation, Runnable call) {
+    call(
+        config,
+        operation,
+        () -> {
+          call.run();
+          return null;
+        });
+  }
+
+  /**
+   * Runs an operation and records on its result how many times its SDK calls were sent again.
+   *
+   * <p>Only calls made through {@link #call} and {@link #run} on the current thread are counted.
+   * Retries of nested tracked operations also count towards the enclosing one.
+   *
+   * @param operation The operation, typically a service method that makes several SDK calls
+   * @param <T> The type of data returned by the operation
+   * @return The operation's result with its retry count
+   */
+  public <T> OperationResult<T> trackRetries(Supplier<OperationResult<T>> operation) {
+    RetryCounter outer = retryCounters.get();
+    RetryCounter counter = new RetryCounter();
+    retryCounters.set(counter);
+    try {
+      return operation.get().withRetries(counter.retries);
+    } finally {
+      if (outer == null) {
+        retryCounters.remove();
+      } else {
+        outer.retries += counter.retries;
+        retryCounters.set(outer);
+      }
+    }
+  }
+
+  /**
+   * Checks whether the server rejected a create because the resource already exists.
+   *
+   * <p>Callers of {@link Idempotency#CONDITIONAL} operations use this to turn the rejection of a
+   * retried create, whose earlier attempt was applied after all, into an already-exists result.
+   *
+   * @param e The exception thrown by the SDK
+   * @return true if the message reports a duplicate
+   */
+  public static boolean isAlreadyExists(DescopeException e) {
+    String message = e.getMessage();
+    return message != null && message.toLowerCase(Locale.ROOT).contains("already exists");
+  }
+
+  /**
+   * Gets the rate limiter shared by all calls to a project and API family.
+   *
+   * @param config The Descope configuration
+   * @param family The API family
+   * @return The rate limiter
+   */
+  AdaptiveRateLimiter rateLimiter(DescopeConfig config, ApiFamily family) {
+    return rateLimiters.computeIfAbsent(
+        new RateLimitKey(config.getProjectId(), config.getBaseUrl(), family),
+        key ->
+            new AdaptiveRateLimiter(
+                DEFAULT_INITIAL_RATE,
+                MIN_RATE,
+                DEFAULT_MAX_RATE,
+                RATE_INCREASE_PER_SECOND,
+                nanoClock));
+  }
+
+  /**
+   * Gets the retry budget shared by all calls of an operation to a project.
+   *
+   * @param config The Descope configuration
+   * @param operation The SDK operation
+   * @return The retry budget
+   */
+  RetryBudget retryBudget(DescopeConfig config, SdkOperation operation) {
+    return retryBudgets.computeIfAbsent(
+        new RetryBudgetKey(config.getProjectId(), config.getBaseUrl(), operation),
+        key -> new RetryBudget(RETRY_RATIO, RETRY_RESERVE));
+  }
+
+  /**
+   * Gets the bulkhead shared by all calls of an isolation group in the process.
+   *
+   * @param group The isolation group
+   * @return The bulkhead
+   */
+  Bulkhead bulkhead(IsolationGroup group) {
+    return bulkheads.get(group);
+  }
+
+  /**
+   * Gets the circuit breaker shared by all calls of an isolation group to a project.
+   *
+   * @param config The Descope configuration
+   * @param group The isolation group
+   * @return The circuit breaker
+   */
+  CircuitBreaker circuitBreaker(DescopeConfig config, IsolationGroup group) {
+    return circuitBreakers.computeIfAbsent(
+        new CircuitKey(config.getProjectId(), config.getBaseUrl(), group),
+        key ->
+            new CircuitBreaker(
+                CIRCUIT_WINDOW,
+                CIRCUIT_MINIMUM_CALLS,
+                CIRCUIT_FAILURE_RATE,
+                SLOW_CALL_THRESHOLD,
+                CIRCUIT_OPEN_DURATION,
+                CIRCUIT_HALF_OPEN_PROBES,
+                nanoClock));
+  }
+
+  /**
+   * Gets the number of clients currently cached.
+   *
+   * @return The cached client count
+   */
+  int cachedClientCount() {
+    synchronized (clients) {
+      return clients.size();
+    }
+  }
+
+  /**
+   * Drops all cached clients. Invoked by the container on application shutdown.
+   *
+   * <p>The SDK client has no close method, so dropping the references is all there is to do.
+   */
+  @PreDestroy
+  public void shutdown() {
+    synchronized (clients) {
+      if (!clients.isEmpty()) {
+        logger.debug("Releasing {} cached Descope client(s)", clients.size());
+      }
+      clients.clear();
+    }
   }
 
   /**
@@ -48,6 +442,154 @@ public class DescopeService {
    */
   public RuntimeException wrapException(String operation, Exception cause) {
     logger.error("Failed to {}: {}", operation, cause.getMessage(), cause);
+    if (cause instanceof RateLimitExceededException) {
+      return new RuntimeException(
+          "Failed to "
+              + operation
+              + ": still rate limited by Descope after "
+              + MAX_RATE_LIMITED_ATTEMPTS
+              + " attempts: "
+              + cause.getMessage(),
+          cause);
+    }
     return new RuntimeException("Failed to " + operation + ": " + cause.getMessage(), cause);
   }
+
+  private <T> T attempt(
+      DescopeConfig config, SdkOperation operation, AdaptiveRateLimiter limiter, Supplier<T> call) {
+    IsolationGroup group = operation.getGroup();
+    Bulkhead bulkhead = bulkhead(group);
+    CircuitBreaker breaker = circuitBreaker(config, group);
+    // A paused limiter can outlast the bulkhead wait, so only hold a slot for the call itself
+    limiter.acquire();
+    bulkhead.acquire();
+    try {
+      if (!breaker.tryAcquirePermission()) {
+        throw new ApiUnavailableException(
+            group,
+            "Descope "
+                + group
+                + " calls for project "
+                + config.getProjectId()
+                + " keep failing; paused for "
+                + breaker.getOpenDuration().toSeconds()
+                + "s");
+      }
+      long startNanos = nanoClock.getAsLong();
+      try {
+        T result = call.get();
+        limiter.onSuccess();
+        if (breaker.onSuccess(nanoClock.getAsLong() - startNanos)) {
+          logBreakerOpened(config, group, breaker);
+        }
+        return result;
+      } catch (RateLimitExceededException e) {
+        breaker.onIgnored();
+        throw e;
+      } catch (RuntimeException e) {
+        // Client errors are answers from a healthy server, so only transient ones count against it
+        boolean opened =
+            RetryPolicy.isTransient(e)
+                ? breaker.onFailure()
+                : breaker.onSuccess(nanoClock.getAsLong() - startNanos);
+        if (opened) {
+          logBreakerOpened(config, group, breaker);
+        }
+        throw e;
+      }
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  private static void logBreakerOpened(
+      DescopeConfig config, IsolationGroup group, CircuitBreaker breaker) {
+    logger.warn(
+        "Descope {} calls for project {} keep failing or are too slow; pausing them for {}s",
+        group,
+        config.getProjectId(),
+        breaker.getOpenDuration().toSeconds());
+  }
+
+  private boolean shouldRetry(
+      SdkOperation operation, RetryBudget budget, RuntimeException failure, int failedAttempts) {
+    if (!operation.getIdempotency().isRetryable()
+        || failedAttempts >= retryPolicy.maxAttempts()
+        || !RetryPolicy.isTransient(failure)) {
+      return false;
+    }
+    if (!budget.tryWithdraw()) {
+      logger.debug("Retry budget for {} is spent; not retrying", operation.getLabel());
+      return false;
+    }
+    return true;
+  }
+
+  private static void pause(long nanos) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting to retry", e);
+    }
+  }
+
+  private void removeIdle(long now) {
+    clients.values().removeIf(cached -> now - cached.lastUsedNanos > idleTimeoutNanos);
+  }
+
+  private static DescopeClient newClient(DescopeConfig config) {
+    // A null base URL leaves the SDK on its default endpoint
+    Config sdkConfig =
+        Config.builder()
+            .projectId(config.getProjectId())
+            .managementKey(config.getManagementKey())
+            .descopeBaseUrl(config.getBaseUrl())
+            .build();
+    return new DescopeClient(sdkConfig);
+  }
+
+  /** Cache key that avoids holding the raw management key. */
+  private record ClientKey(String projectId, String managementKeyHash, String baseUrl) {
+
+    static ClientKey of(DescopeConfig config) {
+      return new ClientKey(
+          config.getProjectId(), sha256(config.getManagementKey()), config.getBaseUrl());
+    }
+
+    private static String sha256(String value) {
+      try {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 not available", e);
+      }
+    }
+  }
+
+  /** Rate limits apply per project, so the management key is not part of this key. */
+  private record RateLimitKey(String projectId, String baseUrl, ApiFamily family) {}
+
+  /** Retry budgets are per project and operation, like rate limits. */
+  private record RetryBudgetKey(String projectId, String baseUrl, SdkOperation operation) {}
+
+  /** Circuit breakers are per project and isolation group, like rate limits. */
+  private record CircuitKey(String projectId, String baseUrl, IsolationGroup group) {}
+
+  /** Retries made on one thread while a tracked operation runs. */
+  private static final class RetryCounter {
+
+    private int retries;
+  }
+
+  /** A cached client and the last time it was handed out. */
+  private static final class CachedClient {
+
+    private final DescopeClient client;
+    private long lastUsedNanos;
+
+    CachedClient(DescopeClient client) {
+      this.client = client;
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.descope.utils.service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
@@ -26,29 +27,66 @@ import jakarta.inject.Inject;
  * <p>Provides operations to create and check existence of federated applications with idempotency
  * support. Federated applications enable authentication through external identity providers using
  * OIDC or SAML protocols.
+ *
+ * <p>Existing applications are looked up in a per-project {@link NamedIndex} that is loaded once
+ * and then kept up to date with the applications this process creates, so the full SSO application
+ * list is loaded only once per {@link #INDEX_TTL}. With a {@link MetadataStore} cache directory the
+ * index is shared with later invocations as well. A created application is described from the
+ * request and the ID the server returns, unless the caller asks to verify it by loading it back.
  */
 @ApplicationScoped
 public class FederatedApplicationService {
 
   private static final Logger logger = LoggerFactory.getLogger(FederatedApplicationService.class);
 
+  /** How long an SSO application index is used before the application list is loaded again. */
+  static final Duration INDEX_TTL = Duration.ofMinutes(5);
+
   private final DescopeService descopeService;
+  private final CatalogCache<NamedIndex<FederatedApplication>> ssoAppIndexes;
+
+  /**
+   * Creates a new FederatedApplicationService instance that keeps its SSO application index in
+   * memory only.
+   *
+   * @param descopeService The base Descope service
+   */
+  public FederatedApplicationService(DescopeService descopeService) {
+    this(descopeService, MetadataStore.disabled());
+  }
 
   /**
    * Creates a new FederatedApplicationService instance.
    *
    * @param descopeService The base Descope service
+   * @param metadataStore The on-disk metadata cache shared across invocations
    */
   @Inject
-  public FederatedApplicationService(DescopeService descopeService) {
+  public FederatedApplicationService(DescopeService descopeService, MetadataStore metadataStore) {
+    this(
+        descopeService,
+        new CatalogCache<>(
+            INDEX_TTL, System::nanoTime, metadataStore, MetadataKind.SSO_APPLICATIONS));
+  }
+
+  /**
+   * Creates a new FederatedApplicationService instance with a custom index cache.
+   *
+   * @param descopeService The base Descope service
+   * @param ssoAppIndexes The cache of SSO application indexes per project
+   */
+  FederatedApplicationService(
+      DescopeService descopeService,
+      CatalogCache<NamedIndex<FederatedApplication>> ssoAppIndexes) {
     this.descopeService = descopeService;
+    this.ssoAppIndexes = ssoAppIndexes;
   }
 
   /**
    * Creates a new Descope federated application with idempotency support.
    *
    * <p>If a federated application with the same name already exists, returns the existing
-   * application instead of creating a duplicate.
+   * application instead of creating a duplicate. The created application is not loaded back.
    *
    * @param config The Descope configuration
    * @param name The application name
@@ -63,6 +101,32 @@ public class FederatedApplicationService {
       String description,
       FederatedAppType type,
       String loginPageUrl) {
+    return createFederatedApplication(config, name, description, type, loginPageUrl, false);
+  }
+
+  /**
+   * Creates a new Descope federated application with idempotency support.
+   *
+   * <p>If a federated application with the same name already exists, returns the existing
+   * application instead of creating a duplicate. Otherwise the result is built from the request and
+   * the ID the server returns. With {@code verify}, the created application is loaded back so that
+   * the result shows what the server stored, at the cost of one more request.
+   *
+   * @param config The Descope configuration
+   * @param name The application name
+   * @param description Optional description for the application
+   * @param type The federated application type (OIDC or SAML)
+   * @param loginPageUrl Optional login page URL for the application
+   * @param verify Whether to load the created application back
+   * @return OperationResult containing the created or existing federated application
+   */
+  public OperationResult<FederatedApplication> createFederatedApplication(
+      DescopeConfig config,
+      String name,
+      String description,
+      FederatedAppType type,
+      String loginPageUrl,
+      boolean verify) {
     logger.info("Creating {} federated application: {}", type, name);
 
     try {
@@ -71,35 +135,56 @@ public class FederatedApplicationService {
           client.getManagementServices().getSsoApplicationService();
 
       // Check if a federated application with the same name already exists
-      List<SSOApplication> existingApps = ssoAppService.loadAll();
-      for (SSOApplication app : existingApps) {
-        if (app.getName().equals(name)) {
-          logger.info("Federated application '{}' already exists (ID: {})", name, app.getId());
-
-          // Determine the app type from existing app
-          FederatedAppType existingType = determineAppType(app);
-
-          FederatedApplication existing =
-              new FederatedApplication(
-                  app.getId(),
-                  app.getName(),
-                  app.getDescription() != null ? app.getDescription() : "",
-                  existingType,
-                  getLoginPageUrl(app, existingType),
-                  Instant.now());
-          return OperationResult.alreadyExists(
-              existing, "Federated application '" + name + "' already exists");
+      NamedIndex<FederatedApplication> index =
+          ssoAppIndexes.get(config, () -> loadIndex(config, ssoAppService));
+      FederatedApplication existing = index.findByName(name);
+      if (existing == null && !index.tryClaim(name)) {
+        // Another request holds the name, or has created the application since the lookup
+        existing = index.findByName(name);
+        if (existing == null) {
+          return OperationResult.failure(
+              "Federated application '" + name + "' is already being created by another request");
         }
       }
+      if (existing != null) {
+        logger.info("Federated application '{}' already exists (ID: {})", name, existing.getId());
+        return OperationResult.alreadyExists(
+            existing, "Federated application '" + name + "' already exists");
+      }
 
       // Create new federated application based on type
-      FederatedApplication federatedApp = null;
-      if (type == FederatedAppType.OIDC) {
-        federatedApp = createOIDCApplication(ssoAppService, name, description, loginPageUrl);
-      } else if (type == FederatedAppType.SAML) {
-        federatedApp = createSAMLApplication(ssoAppService, name, description, loginPageUrl);
-      } else {
-        throw new IllegalArgumentException("Unsupported federated application type: " + type);
+      String appId;
+      try {
+        if (type == FederatedAppType.OIDC) {
+          appId = createOIDCApplication(config, ssoAppService, name, description, loginPageUrl);
+        } else if (type == FederatedAppType.SAML) {
+          appId = createSAMLApplication(config, ssoAppService, name, description, loginPageUrl);
+        } else {
+          throw new IllegalArgumentException("Unsupported federated application type: " + type);
+        }
+      } catch (RuntimeException e) {
+        index.release(name);
+        throw e;
+      }
+      FederatedApplication federatedApp =
+          new FederatedApplication(
+              appId,
+              name,
+              description != null ? description : "",
+              type,
+              loginPageUrl != null ? loginPageUrl : "",
+              Instant.now());
+      index.put(federatedApp);
+      FederatedApplication created = federatedApp;
+      ssoAppIndexes.persist(config, apps -> apps.put(created));
+
+      if (verify) {
+        SSOApplication createdApp =
+            descopeService.call(config, SdkOperation.SSO_APP_LOAD, () -> ssoAppService.load(appId));
+        FederatedApplication verified = toFederatedApplication(createdApp);
+        federatedApp = verified;
+        index.put(verified);
+        ssoAppIndexes.persist(config, apps -> apps.put(verified));
       }
 
       logger.info(
@@ -115,6 +200,70 @@ public class FederatedApplicationService {
     }
   }
 
+  /**
+   * Drops the cached SSO application index of a project, so that the next lookup loads all SSO
+   * applications again.
+   *
+   * <p>Use this after SSO applications were created, renamed or deleted outside this process.
+   *
+   * @param config The Descope configuration
+   */
+  public void invalidateIndex(DescopeConfig config) {
+    ssoAppIndexes.invalidate(config);
+  }
+
+  /**
+   * Loads a project's SSO applications again, replacing the cached index in memory and on disk.
+   *
+   * @param config The Descope configuration
+   * @return The number of SSO applications loaded
+   */
+  public int refreshIndex(DescopeConfig config) {
+    try {
+      DescopeClient client = descopeService.createClient(config);
+      SsoApplicationService ssoAppService =
+          client.getManagementServices().getSsoApplicationService();
+
+      ssoAppIndexes.invalidate(config);
+      return ssoAppIndexes.get(config, () -> loadIndex(config, ssoAppService)).size();
+    } catch (DescopeException e) {
+      throw descopeService.wrapException("load federated applications", e);
+    }
+  }
+
+  private NamedIndex<FederatedApplication> loadIndex(
+      DescopeConfig config, SsoApplicationService ssoAppService) {
+    List<SSOApplication> apps =
+        descopeService.call(config, SdkOperation.SSO_APP_LOAD_ALL, () -> ssoAppService.loadAll());
+    NamedIndex<FederatedApplication> index =
+        new NamedIndex<>(FederatedApplication::getId, FederatedApplication::getName);
+    for (SSOApplication app : apps) {
+      index.put(toFederatedApplication(app));
+    }
+    logger.debug(
+        "Loaded {} SSO application(s) into the index of project {}",
+        index.size(),
+        config.getProjectId());
+    return index;
+  }
+
+  /**
+   * Converts an SSOApplication loaded from Descope.
+   *
+   * @param app The SSO application
+   * @return The federated application
+   */
+  private FederatedApplication toFederatedApplication(SSOApplication app) {
+    FederatedAppType type = determineAppType(app);
+    return new FederatedApplication(
+        app.getId(),
+        app.getName(),
+        app.getDescription() != null ? app.getDescription() : "",
+        type,
+        getLoginPageUrl(app, type),
+        Instant.now());
+  }
+
   /**
    * Determines the federated application type from an SSOApplication.
    *
@@ -154,15 +303,20 @@ public class FederatedApplicationService {
   /**
    * Creates an OIDC federated application.
    *
+   * @param config The Descope configuration
    * @param ssoAppService The Descope SSO application service
    * @param name The application name
    * @param description Optional description
    * @param loginPageUrl Optional login page URL
-   * @return The created FederatedApplication
+   * @return The ID of the created application
    * @throws DescopeException if creation fails
    */
-  private FederatedApplication createOIDCApplication(
-      SsoApplicationService ssoAppService, String name, String description, String loginPageUrl)
+  private String createOIDCApplication(
+      DescopeConfig config,
+      SsoApplicationService ssoAppService,
+      String name,
+      String description,
+      String loginPageUrl)
       throws DescopeException {
 
     OIDCApplicationRequest request =
@@ -173,34 +327,27 @@ public class FederatedApplicationService {
             .enabled(true)
             .build();
 
-    String appId = ssoAppService.createOIDCApplication(request);
-
-    // Load the created application to get full details
-    SSOApplication createdApp = ssoAppService.load(appId);
-
-    return new FederatedApplication(
-        createdApp.getId(),
-        createdApp.getName(),
-        createdApp.getDescription(),
-        FederatedAppType.OIDC,
-        createdApp.getOidcSettings() != null
-            ? createdApp.getOidcSettings().getLoginPageUrl()
-            : loginPageUrl,
-        Instant.now());
+    return descopeService.call(
+        config, SdkOperation.SSO_APP_CREATE, () -> ssoAppService.createOIDCApplication(request));
   }
 
   /**
    * Creates a SAML federated application.
    *
+   * @param config The Descope configuration
    * @param ssoAppService The Descope SSO application service
    * @param name The application name
    * @param description Optional description
    * @param loginPageUrl Optional login page URL
-   * @return The created FederatedApplication
+   * @return The ID of the created application
    * @throws DescopeException if creation fails
    */
-  private FederatedApplication createSAMLApplication(
-      SsoApplicationService ssoAppService, String name, String description, String loginPageUrl)
+  private String createSAMLApplication(
+      DescopeConfig config,
+      SsoApplicationService ssoAppService,
+      String name,
+      String description,
+      String loginPageUrl)
       throws DescopeException {
 
     // Note: SAMLApplicationRequest requires additional mandatory fields
@@ -217,19 +364,7 @@ public class FederatedApplicationService {
             .certificate("") // Empty certificate for demonstration
             .build();
 
-    String appId = ssoAppService.createSAMLApplication(request);
-
-    // Load the created application to get full details
-    SSOApplication createdApp = ssoAppService.load(appId);
-
-    return new FederatedApplication(
-        createdApp.getId(),
-        createdApp.getName(),
-        createdApp.getDescription(),
-        FederatedAppType.SAML,
-        createdApp.getSamlSettings() != null
-            ? createdApp.getSamlSettings().getLoginPageUrl()
-            : loginPageUrl,
-        Instant.now());
+    return descopeService.call(
+        config, SdkOperation.SSO_APP_CREATE, () -> ssoAppService.createSAMLApplication(request));
   }
 }
@@ -0,0 +1,32 @@
+package com.descope.utils.service;
+
+/**
+ * Whether an SDK call may be sent again after it failed without a clear answer.
+ *
+ * <p>A timeout or dropped connection leaves it unknown whether the server applied the request, so
+ * only calls that do no harm when applied twice are retried.
+ */
+public enum Idempotency {
+
+  /** Applying the call twice has the same effect as applying it once, such as a load or a set. */
+  SAFE,
+
+  /**
+   * Applying the call twice makes the second attempt fail as a duplicate, such as a create with a
+   * caller-chosen ID. Only used where the caller turns that duplicate into an already-exists
+   * result, so a retry after an attempt that was in fact applied still ends well.
+   */
+  CONDITIONAL,
+
+  /** Applying the call twice may have a different effect, such as a create with a server ID. */
+  UNSAFE;
+
+  /**
+   * Checks whether calls of this kind may be retried after a transient failure.
+   *
+   * @return true for safe and conditionally safe calls
+   */
+  public boolean isRetryable() {
+    return this != UNSAFE;
+  }
+}
@@ -0,0 +1,44 @@
+package com.descope.utils.service;
+
+/**
+ * A group of SDK operations that is isolated from the others.
+ *
+ * <p>Each group has its own {@link Bulkhead} and, per project, its own {@link CircuitBreaker}, so
+ * when one part of the Descope API slows down or fails, only the calls to that part wait or fail
+ * fast. Calls to the other groups keep their threads and carry on.
+ */
+public enum IsolationGroup {
+
+  /** User management, including roles and passwords assigned to users. */
+  USERS(ApiFamily.MANAGEMENT),
+
+  /** Tenant management. */
+  TENANTS(ApiFamily.MANAGEMENT),
+
+  /** Role definitions. */
+  ROLES(ApiFamily.MANAGEMENT),
+
+  /** Inbound and SSO applications. */
+  APPLICATIONS(ApiFamily.MANAGEMENT),
+
+  /** The ReBAC schema and relations. */
+  AUTHZ(ApiFamily.AUTHZ),
+
+  /** End-user authentication. */
+  AUTH(ApiFamily.AUTH);
+
+  private final ApiFamily family;
+
+  IsolationGroup(ApiFamily family) {
+    this.family = family;
+  }
+
+  /**
+   * Gets the API family whose rate limit the group's operations count against.
+   *
+   * @return The API family
+   */
+  public ApiFamily getFamily() {
+    return family;
+  }
+}
@@ -0,0 +1,243 @@
+package com.descope.utils.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.descope.utils.model.Application;
+import com.descope.utils.model.FederatedAppType;
+import com.descope.utils.model.FederatedApplication;
+import com.descope.utils.model.Role;
+import com.descope.utils.model.rebac.SchemaModel;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A kind of project metadata kept in the {@link MetadataStore}, with its file name and encoding.
+ *
+ * <p>Catalogs are written as a record count followed by their records, with strings in modified
+ * UTF-8 and absent values marked by a flag. The ReBAC schema is a tree rather than a list of
+ * records, so it is stored as length-prefixed JSON.
+ *
+ * @param <C> The catalog type
+ */
+final class MetadataKind<C> {
+
+  private static final ObjectMapper SCHEMA_MAPPER =
+      new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  static final MetadataKind<TenantIndex> TENANTS =
+      new MetadataKind<>("tenants", MetadataKind::writeTenants, MetadataKind::readTenants);
+
+  static final MetadataKind<RoleCatalog> ROLES =
+      new MetadataKind<>("roles", MetadataKind::writeRoles, MetadataKind::readRoles);
+
+  static final MetadataKind<NamedIndex<Application>> APPLICATIONS =
+      new MetadataKind<>("apps", MetadataKind::writeApps, MetadataKind::readApps);
+
+  static final MetadataKind<NamedIndex<FederatedApplication>> SSO_APPLICATIONS =
+      new MetadataKind<>("sso-apps", MetadataKind::writeSsoApps, MetadataKind::readSsoApps);
+
+  static final MetadataKind<SchemaModel> REBAC_SCHEMA =
+      new MetadataKind<>("rebac-schema", MetadataKind::writeSchema, MetadataKind::readSchema);
+
+  /** Every kind, in the order they are listed by the cache command. */
+  static final List<MetadataKind<?>> ALL =
+      List.of(TENANTS, ROLES, APPLICATIONS, SSO_APPLICATIONS, REBAC_SCHEMA);
+
+  private final String name;
+  private final Encoder<C> encoder;
+  private final Decoder<C> decoder;
+
+  private MetadataKind(String name, Encoder<C> encoder, Decoder<C> decoder) {
+    this.name = name;
+    this.encoder = encoder;
+    this.decoder = decoder;
+  }
+
+  /**
+   * Gets the name of this kind, which is also the base name of its file.
+   *
+   * @return The kind name
+   */
+  String name() {
+    return name;
+  }
+
+  void write(C catalog, DataOutputStream out) throws IOException {
+    encoder.encode(catalog, out);
+  }
+
+  C read(DataInputStream in) throws IOException {
+    return decoder.decode(in);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  private static void writeTenants(TenantIndex index, DataOutputStream out) throws IOException {
+    Map<String, String> namesById = index.namesById();
+    out.writeInt(namesById.size());
+    for (Map.Entry<String, String> tenant : namesById.entrySet()) {
+      out.writeUTF(tenant.getKey());
+      out.writeUTF(tenant.getValue());
+    }
+  }
+
+  private static TenantIndex readTenants(DataInputStream in) throws IOException {
+    TenantIndex index = new TenantIndex();
+    for (int i = count(in); i > 0; i--) {
+      index.put(in.readUTF(), in.readUTF());
+    }
+    return index;
+  }
+
+  private static void writeRoles(RoleCatalog catalog, DataOutputStream out) throws IOException {
+    List<Role> roles = catalog.find(null, null);
+    out.writeInt(roles.size());
+    for (Role role : roles) {
+      out.writeUTF(role.getName());
+      writeNullable(out, role.getDescription());
+      writeNullable(out, role.getTenantId());
+      List<String> permissions = role.getPermissionNames();
+      out.writeInt(permissions != null ? permissions.size() : -1);
+      if (permissions != null) {
+        for (String permission : permissions) {
+          out.writeUTF(permission);
+        }
+      }
+    }
+  }
+
+  private static RoleCatalog readRoles(DataInputStream in) throws IOException {
+    RoleCatalog catalog = new RoleCatalog();
+    for (int i = count(in); i > 0; i--) {
+      String name = in.readUTF();
+      String description = readNullable(in);
+      String tenantId = readNullable(in);
+      int permissionCount = in.readInt();
+      List<String> permissions = null;
+      if (permissionCount >= 0) {
+        permissions = new ArrayList<>(permissionCount);
+        for (int p = 0; p < permissionCount; p++) {
+          permissions.add(in.readUTF());
+        }
+      }
+      catalog.put(new Role(name, description, permissions, tenantId));
+    }
+    return catalog;
+  }
+
+  private static void writeApps(NamedIndex<Application> index, DataOutputStream out)
+      throws IOException {
+    List<Application> apps = index.values();
+    out.writeInt(apps.size());
+    for (Application app : apps) {
+      out.writeUTF(app.getId());
+      out.writeUTF(app.getName());
+      writeNullable(out, app.getDescription());
+      writeInstant(out, app.getCreatedAt());
+    }
+  }
+
+  private static NamedIndex<Application> readApps(DataInputStream in) throws IOException {
+    NamedIndex<Application> index = new NamedIndex<>(Application::getId, Application::getName);
+    for (int i = count(in); i > 0; i--) {
+      index.put(new Application(in.readUTF(), in.readUTF(), readNullable(in), readInstant(in)));
+    }
+    return index;
+  }
+
+  private static void writeSsoApps(NamedIndex<FederatedApplication> index, DataOutputStream out)
+      throws IOException {
+    List<FederatedApplication> apps = index.values();
+    out.writeInt(apps.size());
+    for (FederatedApplication app : apps) {
+      out.writeUTF(app.getId());
+      out.writeUTF(app.getName());
+      writeNullable(out, app.getDescription());
+      out.writeUTF(app.getType().name());
+      writeNullable(out, app.getLoginPageUrl());
+      writeInstant(out, app.getCreatedAt());
+    }
+  }
+
+  private static NamedIndex<FederatedApplication> readSsoApps(DataInputStream in)
+      throws IOException {
+    NamedIndex<FederatedApplication> index =
+        new NamedIndex<>(FederatedApplication::getId, FederatedApplication::getName);
+    for (int i = count(in); i > 0; i--) {
+      String id = in.readUTF();
+      String name = in.readUTF();
+      String description = readNullable(in);
+      FederatedAppType type = FederatedAppType.fromString(in.readUTF());
+      index.put(
+          new FederatedApplication(
+              id, name, description, type, readNullable(in), readInstant(in)));
+    }
+    return index;
+  }
+
+  private static void writeSchema(SchemaModel schema, DataOutputStream out) throws IOException {
+    byte[] json = SCHEMA_MAPPER.writeValueAsBytes(schema);
+    out.writeInt(json.length);
+    out.write(json);
+  }
+
+  private static SchemaModel readSchema(DataInputStream in) throws IOException {
+    byte[] json = new byte[count(in)];
+    in.readFully(json);
+    return SCHEMA_MAPPER.readValue(json, SchemaModel.class);
+  }
+
+  private static int count(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Negative count: " + count);
+    }
+    return count;
+  }
+
+  private static void writeNullable(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readNullable(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeLong(value.getEpochSecond());
+      out.writeInt(value.getNano());
+    }
+  }
+
+  private static Instant readInstant(DataInputStream in) throws IOException {
+    return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+  }
+
+  /** Writes a catalog's records. */
+  @FunctionalInterface
+  private interface Encoder<C> {
+
+    void encode(C catalog, DataOutputStream out) throws IOException;
+  }
+
+  /** Reads a catalog's records. */
+  @FunctionalInterface
+  private interface Decoder<C> {
+
+    C decode(DataInputStream in) throws IOException;
+  }
+}
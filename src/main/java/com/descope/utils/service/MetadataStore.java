@@ -0,0 +1,383 @@
+package com.descope.utils.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.descope.utils.config.DescopeConfig;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Optional on-disk copy of project metadata, shared by every CLI invocation on a machine.
+ *
+ * <p>Each invocation is a new process, so the in-memory catalogs of the services only help within
+ * one {@code shell}, {@code run-script} or daemon session. When a cache directory is configured
+ * with the {@code descope.cache-dir} system property or the DESCOPE_CACHE_DIR environment variable,
+ * in that order, catalogs are also written to one file per project and kind of metadata and read
+ * back by later invocations until they expire. Without a cache directory the store is disabled and
+ * every method is a no-op.
+ *
+ * <p>Layout of a file, all integers big-endian:
+ *
+ * <pre>
+ *   int magic ("DMDC"), int version, long loadedAtMillis, int payloadBytes, int payloadCrc32
+ *   byte[payloadBytes] payload, encoded by the {@link MetadataKind}
+ * </pre>
+ *
+ * <p>{@code loadedAtMillis} is when the catalog was loaded from the API, so writing a catalog again
+ * after changing it does not extend its life. Files are written next to their destination and moved
+ * into place, so readers never see a partial file. Writers take an exclusive lock on a {@code
+ * .lock} file next to the catalog, and a change is applied to the catalog as read from disk under
+ * that lock rather than by writing the changing invocation's own copy, so invocations that run in
+ * parallel do not drop each other's changes. A file that is missing, expired, corrupt or of another
+ * version is treated as a cache miss, and a file that cannot be written only costs the next
+ * invocation a reload.
+ */
+@ApplicationScoped
+public class MetadataStore {
+
+  private static final Logger logger = LoggerFactory.getLogger(MetadataStore.class);
+
+  private static final String ENV_CACHE_DIR = "DESCOPE_CACHE_DIR";
+  private static final String PROPERTY_CACHE_DIR = "descope.cache-dir";
+
+  static final int MAGIC = 0x444D4443;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 24;
+  static final String FILE_SUFFIX = ".bin";
+  static final String LOCK_SUFFIX = ".lock";
+
+  private final Path directory;
+  private final LongSupplier wallClock;
+
+  // File locks are held by the whole process, so threads of this process also share a monitor
+  private final Map<Path, Object> monitors = new ConcurrentHashMap<>();
+
+  /** Creates a MetadataStore for the configured cache directory, if any. */
+  public MetadataStore() {
+    this(
+        directory(System.getProperty(PROPERTY_CACHE_DIR), System.getenv(ENV_CACHE_DIR)),
+        System::currentTimeMillis);
+  }
+
+  /**
+   * Creates a new MetadataStore.
+   *
+   * @param directory The cache directory, or null to disable the store
+   * @param wallClock Wall clock in milliseconds since the epoch, used to expire files
+   */
+  MetadataStore(Path directory, LongSupplier wallClock) {
+    this.directory = directory;
+    this.wallClock = wallClock;
+  }
+
+  /**
+   * Creates a store that never reads or writes files.
+   *
+   * @return The disabled store
+   */
+  static MetadataStore disabled() {
+    return new MetadataStore(null, System::currentTimeMillis);
+  }
+
+  /**
+   * Checks whether a cache directory is configured.
+   *
+   * @return true if catalogs are read from and written to disk
+   */
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * Gets the directory that holds a project's files.
+   *
+   * <p>Projects are kept apart by project ID and, when set, by API base URL, so that a stub server
+   * and the real API never share files.
+   *
+   * @param config The Descope configuration
+   * @return The project directory, or null if the store is disabled
+   */
+  public Path projectDirectory(DescopeConfig config) {
+    if (directory == null) {
+      return null;
+    }
+    String name = config.getProjectId().replaceAll("[^A-Za-z0-9_-]", "_");
+    if (config.getBaseUrl() != null) {
+      name += "-" + Integer.toHexString(config.getBaseUrl().hashCode());
+    }
+    return directory.resolve(name);
+  }
+
+  /**
+   * Deletes every catalog file of a project.
+   *
+   * @param config The Descope configuration
+   * @return The number of files deleted
+   * @throws IOException if a file exists but cannot be deleted
+   */
+  public int clear(DescopeConfig config) throws IOException {
+    int deleted = 0;
+    if (directory != null) {
+      for (MetadataKind<?> kind : MetadataKind.ALL) {
+        Path path = file(config, kind);
+        if (Files.exists(path) && locked(config, kind, () -> Files.deleteIfExists(path))) {
+          deleted++;
+        }
+      }
+    }
+    return deleted;
+  }
+
+  /**
+   * Reads a catalog if it exists and was loaded from the API less than the time to live ago.
+   *
+   * @param config The Descope configuration
+   * @param kind The kind of metadata
+   * @param ttl How long after it was loaded the catalog is used
+   * @param <C> The catalog type
+   * @return The catalog and its age, or null on a cache miss
+   */
+  <C> Stored<C> read(DescopeConfig config, MetadataKind<C> kind, Duration ttl) {
+    if (directory == null) {
+      return null;
+    }
+    Path path = file(config, kind);
+    try {
+      if (!Files.exists(path)) {
+        return null;
+      }
+      ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+      if (buffer.capacity() < HEADER_BYTES
+          || buffer.getInt(0) != MAGIC
+          || buffer.getInt(4) != VERSION) {
+        logger.debug("Ignoring {}: not a metadata cache file of version {}", path, VERSION);
+        return null;
+      }
+      long age = wallClock.getAsLong() - buffer.getLong(8);
+      if (age < 0 || age >= ttl.toMillis()) {
+        logger.debug("Ignoring {}: loaded {} ms ago", path, age);
+        return null;
+      }
+      int payloadBytes = buffer.getInt(16);
+      if (payloadBytes != buffer.capacity() - HEADER_BYTES
+          || crc(buffer.array(), HEADER_BYTES, payloadBytes) != buffer.getInt(20)) {
+        logger.debug("Ignoring {}: truncated or corrupt", path);
+        return null;
+      }
+      C catalog =
+          kind.read(
+              new DataInputStream(
+                  new ByteArrayInputStream(buffer.array(), HEADER_BYTES, payloadBytes)));
+      logger.debug("Read {} of project {} from {}", kind, config.getProjectId(), path);
+      return new Stored<>(catalog, Duration.ofMillis(age));
+    } catch (IOException | RuntimeException e) {
+      logger.debug("Ignoring {}: {}", path, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Writes a catalog, replacing any earlier file of the same kind.
+   *
+   * @param config The Descope configuration
+   * @param kind The kind of metadata
+   * @param catalog The catalog
+   * @param age How long ago the catalog was loaded from the API
+   * @param <C> The catalog type
+   */
+  <C> void write(DescopeConfig config, MetadataKind<C> kind, C catalog, Duration age) {
+    if (directory == null) {
+      return;
+    }
+    try {
+      locked(config, kind, () -> writeFile(config, kind, catalog, age));
+    } catch (IOException e) {
+      logger.warn("Failed to write metadata cache file of {}: {}", kind, e.getMessage());
+    }
+  }
+
+  /**
+   * Writes a catalog just loaded from the API, unless another invocation stored a fresh one since
+   * this one found none.
+   *
+   * <p>The stored catalog may already hold changes that invocation made, which the new one would
+   * drop.
+   *
+   * @param config The Descope configuration
+   * @param kind The kind of metadata
+   * @param catalog The catalog, loaded from the API just now
+   * @param ttl How long after it was loaded a stored catalog is used
+   * @param <C> The catalog type
+   */
+  <C> void writeIfAbsent(DescopeConfig config, MetadataKind<C> kind, C catalog, Duration ttl) {
+    if (directory == null) {
+      return;
+    }
+    try {
+      locked(
+          config,
+          kind,
+          () -> read(config, kind, ttl) == null && writeFile(config, kind, catalog, Duration.ZERO));
+    } catch (IOException e) {
+      logger.warn("Failed to write metadata cache file of {}: {}", kind, e.getMessage());
+    }
+  }
+
+  /**
+   * Applies a change to the stored catalog, if a fresh one is stored.
+   *
+   * <p>The catalog is read, changed and written back under the lock, so that changes made by
+   * invocations running in parallel are all kept. Without a fresh stored catalog nothing is
+   * written, and the next invocation loads a catalog that already includes the change.
+   *
+   * @param config The Descope configuration
+   * @param kind The kind of metadata
+   * @param ttl How long after it was loaded a stored catalog is used
+   * @param change Changes a catalog in place
+   * @param <C> The catalog type
+   */
+  <C> void update(DescopeConfig config, MetadataKind<C> kind, Duration ttl, Consumer<C> change) {
+    if (directory == null) {
+      return;
+    }
+    try {
+      locked(
+          config,
+          kind,
+          () -> {
+            Stored<C> stored = read(config, kind, ttl);
+            if (stored == null) {
+              return false;
+            }
+            change.accept(stored.catalog());
+            return writeFile(config, kind, stored.catalog(), stored.age());
+          });
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Failed to update metadata cache file of {}: {}", kind, e.getMessage());
+      delete(config, kind);
+    }
+  }
+
+  /**
+   * Deletes a catalog's file, so that later invocations load it from the API.
+   *
+   * @param config The Descope configuration
+   * @param kind The kind of metadata
+   */
+  void delete(DescopeConfig config, MetadataKind<?> kind) {
+    if (directory == null) {
+      return;
+    }
+    Path path = file(config, kind);
+    if (!Files.exists(path)) {
+      return;
+    }
+    try {
+      locked(config, kind, () -> Files.deleteIfExists(path));
+    } catch (IOException e) {
+      logger.warn("Failed to delete metadata cache file {}: {}", path, e.getMessage());
+    }
+  }
+
+  private <C> boolean writeFile(
+      DescopeConfig config, MetadataKind<C> kind, C catalog, Duration age) throws IOException {
+    Path path = file(config, kind);
+    ByteArrayOutputStream payload = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(payload)) {
+      kind.write(catalog, out);
+    }
+    byte[] bytes = payload.toByteArray();
+
+    Path temp = Files.createTempFile(path.getParent(), kind.name(), ".tmp");
+    try {
+      try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(wallClock.getAsLong() - age.toMillis());
+        out.writeInt(bytes.length);
+        out.writeInt(crc(bytes, 0, bytes.length));
+        out.write(bytes);
+      }
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      temp = null;
+      logger.debug("Wrote {} of project {} to {}", kind, config.getProjectId(), path);
+      return true;
+    } finally {
+      if (temp != null) {
+        Files.deleteIfExists(temp);
+      }
+    }
+  }
+
+  private <T> T locked(DescopeConfig config, MetadataKind<?> kind, LockedAction<T> action)
+      throws IOException {
+    Path lockFile = projectDirectory(config).resolve(kind.name() + LOCK_SUFFIX);
+    synchronized (monitors.computeIfAbsent(lockFile, key -> new Object())) {
+      Files.createDirectories(lockFile.getParent());
+      try (FileChannel channel =
+              FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+          FileLock lock = channel.lock()) {
+        return action.run();
+      }
+    }
+  }
+
+  private Path file(DescopeConfig config, MetadataKind<?> kind) {
+    return projectDirectory(config).resolve(kind.name() + FILE_SUFFIX);
+  }
+
+  private static int crc(byte[] bytes, int offset, int length) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes, offset, length);
+    return (int) crc.getValue();
+  }
+
+  /**
+   * Picks the cache directory.
+   *
+   * @param property The value of the {@code descope.cache-dir} system property
+   * @param environment The value of the DESCOPE_CACHE_DIR environment variable
+   * @return The cache directory, or null if neither is set
+   */
+  static Path directory(String property, String environment) {
+    String directory = property != null && !property.isBlank() ? property : environment;
+    return directory != null && !directory.isBlank() ? Paths.get(directory.trim()) : null;
+  }
+
+  /**
+   * A catalog read from disk.
+   *
+   * @param catalog The catalog
+   * @param age How long ago the catalog was loaded from the API
+   * @param <C> The catalog type
+   */
+  record Stored<C>(C catalog, Duration age) {}
+
+  /** Work done while holding a catalog's lock. */
+  @FunctionalInterface
+  private interface LockedAction<T> {
+
+    T run() throws IOException;
+  }
+}
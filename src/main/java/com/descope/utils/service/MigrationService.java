@@ -1,8 +1,15 @@
 package com.descope.utils.service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,11 +20,16 @@ import com.descope.model.auth.AssociatedTenant;
 import com.descope.model.user.request.BatchUserPasswordBcrypt;
 import com.descope.model.user.request.BatchUserPasswordHashed;
 import com.descope.model.user.request.BatchUserRequest;
+import com.descope.model.user.response.UserResponse;
 import com.descope.model.user.response.UsersBatchResponse;
+import com.descope.model.user.response.UsersFailedResponse;
 import com.descope.sdk.mgmt.UserService;
 import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.input.LegacyUserRecord;
+import com.descope.utils.model.BulkOperationSummary;
 import com.descope.utils.model.MigratedUser;
 import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.RowResult;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -74,38 +86,15 @@ public class MigrationService {
       DescopeClient client = descopeService.createClient(config);
       UserService userService = client.getManagementServices().getUserService();
 
-      // Build the bcrypt password hash structure
-      BatchUserPasswordBcrypt bcrypt = BatchUserPasswordBcrypt.builder().hash(bcryptHash).build();
-
-      BatchUserPasswordHashed hashedPassword =
-          BatchUserPasswordHashed.builder().bcrypt(bcrypt).build();
-
-      // Build tenant association with roles
-      AssociatedTenant.AssociatedTenantBuilder tenantBuilder =
-          AssociatedTenant.builder().tenantId(tenantId);
-
-      if (roles != null && !roles.isEmpty()) {
-        tenantBuilder.roleNames(roles);
-      }
-
-      // Build the display name
-      String displayName = buildDisplayName(firstName, lastName);
-
-      // Build the batch user request
       BatchUserRequest userRequest =
-          BatchUserRequest.builder()
-              .loginId(email)
-              .email(email)
-              .verifiedEmail(true)
-              .givenName(firstName)
-              .familyName(lastName)
-              .displayName(displayName)
-              .userTenants(Arrays.asList(tenantBuilder.build()))
-              .hashedPassword(hashedPassword)
-              .build();
+          buildBatchUserRequest(email, firstName, lastName, tenantId, roles, bcryptHash);
 
       // Create the user via batch API (supports hashed passwords)
-      UsersBatchResponse response = userService.createBatch(Arrays.asList(userRequest));
+      UsersBatchResponse response =
+          descopeService.call(
+              config,
+              SdkOperation.USER_CREATE_BATCH,
+              () -> userService.createBatch(Arrays.asList(userRequest)));
 
       // Check for failures
       if (response.getFailedUsers() != null && !response.getFailedUsers().isEmpty()) {
@@ -138,6 +127,254 @@ public class MigrationService {
     }
   }
 
+  /**
+   * Migrates legacy users from a stream of records using the batch create API.
+   *
+   * <p>Records are packed into batches of up to {@code batchSize} users and up to {@code
+   * concurrency} batches are sent at once. The created and failed users in each batch response are
+   * matched back to their input rows by login ID, so every row produces exactly one result. Rows
+   * missing an email or password hash are rejected locally without being sent.
+   *
+   * @param config The Descope configuration
+   * @param records The legacy users to migrate
+   * @param batchSize The maximum number of users per batch request
+   * @param concurrency The maximum number of batch requests in flight
+   * @param sink Receives each row result as soon as its batch completes, on the calling thread
+   * @return Summary counts for the whole migration
+   */
+  public BulkOperationSummary migrateLegacyUsers(
+      DescopeConfig config,
+      Iterator<LegacyUserRecord> records,
+      int batchSize,
+      int concurrency,
+      Consumer<RowResult<MigratedUser>> sink) {
+    logger.info(
+        "Migrating legacy users in batches of {} with concurrency {}", batchSize, concurrency);
+
+    DescopeClient client = descopeService.createClient(config);
+    UserService userService = client.getManagementServices().getUserService();
+    BulkOperationSummary.Tally tally = new BulkOperationSummary.Tally();
+
+    try (BoundedTaskRunner runner = new BoundedTaskRunner("migrate-users", concurrency)) {
+      runner.run(
+          new BatchingIterator<>(records, batchSize),
+          batch -> migrateBatch(config, userService, batch),
+          rows -> {
+            for (RowResult<MigratedUser> row : rows) {
+              tally.record(row.getResult());
+              sink.accept(row);
+            }
+          });
+    }
+
+    BulkOperationSummary summary = tally.toSummary();
+    logger.info(
+        "Legacy user migration finished: {} migrated, {} failed",
+        summary.getCreated(),
+        summary.getFailed());
+    return summary;
+  }
+
+  /**
+   * Sends one batch of legacy users and maps the response back to the input rows.
+   *
+   * @param config The Descope configuration
+   * @param userService The SDK user service
+   * @param batch The records in the batch
+   * @return One result per record, in input order
+   */
+  List<RowResult<MigratedUser>> migrateBatch(
+      DescopeConfig config, UserService userService, List<LegacyUserRecord> batch) {
+    Map<LegacyUserRecord, OperationResult<MigratedUser>> results = new LinkedHashMap<>();
+    Map<String, LegacyUserRecord> pending = new HashMap<>();
+    List<BatchUserRequest> requests = new ArrayList<>();
+
+    for (LegacyUserRecord record : batch) {
+      String error = validate(record);
+      if (error == null && pending.containsKey(loginKey(record.email()))) {
+        error = "Duplicate login ID '" + record.email() + "' in the same batch";
+      }
+      if (error != null) {
+        results.put(record, OperationResult.failure(error));
+        continue;
+      }
+      results.put(record, null);
+      pending.put(loginKey(record.email()), record);
+      requests.add(
+          buildBatchUserRequest(
+              record.email(),
+              record.firstName(),
+              record.lastName(),
+              record.tenantId(),
+              record.roles(),
+              record.bcryptHash()));
+    }
+
+    int retries = 0;
+    if (!requests.isEmpty()) {
+      OperationResult<UsersBatchResponse> sent =
+          descopeService.trackRetries(() -> sendBatch(config, userService, requests));
+      retries = sent.getRetries();
+      if (sent.isSuccess()) {
+        mapCreatedUsers(sent.getData(), pending, results);
+        mapFailedUsers(sent.getData(), pending, results);
+      } else {
+        for (LegacyUserRecord record : pending.values()) {
+          results.put(record, OperationResult.failure(sent.getErrorMessage()));
+        }
+        pending.clear();
+      }
+    }
+
+    // Anything the API did not mention is reported rather than silently dropped
+    for (LegacyUserRecord record : pending.values()) {
+      results.put(record, OperationResult.failure("No result returned for user in batch"));
+    }
+
+    List<RowResult<MigratedUser>> rows = new ArrayList<>(results.size());
+    for (Map.Entry<LegacyUserRecord, OperationResult<MigratedUser>> entry : results.entrySet()) {
+      LegacyUserRecord record = entry.getKey();
+      OperationResult<MigratedUser> result = entry.getValue();
+      // The retries belong to the one batch request, so they are reported once, on its first row
+      if (rows.isEmpty()) {
+        result = result.withRetries(retries);
+      }
+      rows.add(new RowResult<>(record.rowNumber(), record.email(), result));
+    }
+    return rows;
+  }
+
+  private OperationResult<UsersBatchResponse> sendBatch(
+      DescopeConfig config, UserService userService, List<BatchUserRequest> requests) {
+    try {
+      UsersBatchResponse response =
+          descopeService.call(
+              config, SdkOperation.USER_CREATE_BATCH, () -> userService.createBatch(requests));
+      return OperationResult.success(response);
+    } catch (DescopeException | ApiUnavailableException e) {
+      logger.error("Batch of {} user(s) failed: {}", requests.size(), e.getMessage());
+      return OperationResult.failure("Failed to migrate user: " + e.getMessage());
+    }
+  }
+
+  private void mapCreatedUsers(
+      UsersBatchResponse response,
+      Map<String, LegacyUserRecord> pending,
+      Map<LegacyUserRecord, OperationResult<MigratedUser>> results) {
+    if (response.getCreatedUsers() == null) {
+      return;
+    }
+    for (UserResponse created : response.getCreatedUsers()) {
+      LegacyUserRecord record = takeRecord(created, pending);
+      if (record == null) {
+        logger.warn("Created user {} does not match any pending row", created.getLoginIds());
+        continue;
+      }
+      MigratedUser migratedUser =
+          new MigratedUser(
+              created.getUserId(),
+              record.email(),
+              record.firstName(),
+              record.lastName(),
+              record.tenantId(),
+              record.roles(),
+              Instant.now());
+      results.put(
+          record,
+          OperationResult.created(
+              migratedUser,
+              "User '"
+                  + record.email()
+                  + "' migrated successfully to tenant '"
+                  + record.tenantId()
+                  + "'"));
+    }
+  }
+
+  private void mapFailedUsers(
+      UsersBatchResponse response,
+      Map<String, LegacyUserRecord> pending,
+      Map<LegacyUserRecord, OperationResult<MigratedUser>> results) {
+    if (response.getFailedUsers() == null) {
+      return;
+    }
+    for (UsersFailedResponse failed : response.getFailedUsers()) {
+      LegacyUserRecord record =
+          failed.getUser() != null ? takeRecord(failed.getUser(), pending) : null;
+      if (record == null) {
+        logger.warn("Failed user does not match any pending row: {}", failed.getFailure());
+        continue;
+      }
+      String reason = failed.getFailure() != null ? failed.getFailure() : "Unknown error";
+      results.put(record, OperationResult.failure("Failed to migrate user: " + reason));
+    }
+  }
+
+  private static LegacyUserRecord takeRecord(
+      UserResponse user, Map<String, LegacyUserRecord> pending) {
+    if (user.getLoginIds() != null) {
+      for (String loginId : user.getLoginIds()) {
+        LegacyUserRecord record = pending.remove(loginKey(loginId));
+        if (record != null) {
+          return record;
+        }
+      }
+    }
+    return user.getEmail() != null ? pending.remove(loginKey(user.getEmail())) : null;
+  }
+
+  private static String validate(LegacyUserRecord record) {
+    if (record.email() == null) {
+      return "Row " + record.rowNumber() + " has no email";
+    }
+    if (record.bcryptHash() == null) {
+      return "Row " + record.rowNumber() + " has no bcrypt hash";
+    }
+    if (record.tenantId() == null) {
+      return "Row " + record.rowNumber() + " has no tenant ID";
+    }
+    return null;
+  }
+
+  // Descope normalizes login IDs to lower case, so match case-insensitively
+  private static String loginKey(String loginId) {
+    return loginId.toLowerCase(Locale.ROOT);
+  }
+
+  private BatchUserRequest buildBatchUserRequest(
+      String email,
+      String firstName,
+      String lastName,
+      String tenantId,
+      List<String> roles,
+      String bcryptHash) {
+    // Build the bcrypt password hash structure
+    BatchUserPasswordBcrypt bcrypt = BatchUserPasswordBcrypt.builder().hash(bcryptHash).build();
+
+    BatchUserPasswordHashed hashedPassword =
+        BatchUserPasswordHashed.builder().bcrypt(bcrypt).build();
+
+    // Build tenant association with roles
+    AssociatedTenant.AssociatedTenantBuilder tenantBuilder =
+        AssociatedTenant.builder().tenantId(tenantId);
+
+    if (roles != null && !roles.isEmpty()) {
+      tenantBuilder.roleNames(roles);
+    }
+
+    // Build the batch user request
+    return BatchUserRequest.builder()
+        .loginId(email)
+        .email(email)
+        .verifiedEmail(true)
+        .givenName(firstName)
+        .familyName(lastName)
+        .displayName(buildDisplayName(firstName, lastName))
+        .userTenants(Arrays.asList(tenantBuilder.build()))
+        .hashedPassword(hashedPassword)
+        .build();
+  }
+
   private String buildDisplayName(String firstName, String lastName) {
     StringBuilder sb = new StringBuilder();
     if (firstName != null && !firstName.isEmpty()) {
@@ -0,0 +1,111 @@
+package com.descope.utils.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A project's resources of one kind, such as inbound applications, looked up by name or ID in
+ * constant time.
+ *
+ * <p>Built from a single load of all resources and kept up to date with the resources this process
+ * creates. A name can be claimed before its resource is created, so that concurrent creates of the
+ * same name in one process send a single request.
+ *
+ * @param <T> The resource type
+ */
+final class NamedIndex<T> {
+
+  private final Function<T, String> idOf;
+  private final Function<T, String> nameOf;
+  private final Map<String, T> byName = new HashMap<>();
+  private final Map<String, T> byId = new HashMap<>();
+  private final Set<String> claims = new HashSet<>();
+
+  /**
+   * Creates a new, empty NamedIndex.
+   *
+   * @param idOf Gets the ID of a resource
+   * @param nameOf Gets the name of a resource
+   */
+  NamedIndex(Function<T, String> idOf, Function<T, String> nameOf) {
+    this.idOf = idOf;
+    this.nameOf = nameOf;
+  }
+
+  /**
+   * Adds or replaces a resource and releases any claim on its name.
+   *
+   * @param resource The resource
+   */
+  synchronized void put(T resource) {
+    String name = nameOf.apply(resource);
+    T previous = byId.put(idOf.apply(resource), resource);
+    if (previous != null && !nameOf.apply(previous).equals(name)) {
+      byName.remove(nameOf.apply(previous), previous);
+    }
+    byName.put(name, resource);
+    claims.remove(name);
+  }
+
+  /**
+   * Finds the resource with a name.
+   *
+   * @param name The resource name
+   * @return The resource, or null if no resource has the name
+   */
+  synchronized T findByName(String name) {
+    return byName.get(name);
+  }
+
+  /**
+   * Finds the resource with an ID.
+   *
+   * @param id The resource ID
+   * @return The resource, or null if no resource has the ID
+   */
+  synchronized T findById(String id) {
+    return byId.get(id);
+  }
+
+  /**
+   * Claims a name that is not in the index yet, so that only the caller creates a resource with it.
+   *
+   * @param name The resource name
+   * @return false if a resource has the name or another caller is already creating one
+   */
+  synchronized boolean tryClaim(String name) {
+    return !byName.containsKey(name) && claims.add(name);
+  }
+
+  /**
+   * Releases a claim whose create failed, so that a later attempt may claim the name again.
+   *
+   * @param name The resource name
+   */
+  synchronized void release(String name) {
+    claims.remove(name);
+  }
+
+  /**
+   * Copies the resources in the index.
+   *
+   * @return The resources, in no particular order
+   */
+  synchronized List<T> values() {
+    return new ArrayList<>(byId.values());
+  }
+
+  /**
+   * Gets the number of resources in the index.
+   *
+   * @return The resource count
+   */
+  synchronized int size() {
+    return byId.size();
+  }
+}
@@ -0,0 +1,128 @@
+package com.descope.utils.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+import com.descope.utils.model.BulkOperationSummary;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.fga.RelationChunkResult;
+import com.descope.utils.model.fga.RelationTupleModel;
+
+/**
+ * Writes a stream of relation tuples as concurrent, fixed-size requests.
+ *
+ * <p>The input is cut into contiguous slices of {@code chunkSize} tuples. Each slice becomes one
+ * request, and at most {@code concurrency} requests are in flight. Only the slices in flight are
+ * held in memory.
+ */
+class RelationChunkWriter {
+
+  private final int chunkSize;
+  private final int concurrency;
+
+  /**
+   * Creates a new RelationChunkWriter.
+   *
+   * @param chunkSize The maximum number of tuples per request
+   * @param concurrency The maximum number of requests in flight
+   */
+  RelationChunkWriter(int chunkSize, int concurrency) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Chunk size must be at least 1");
+    }
+    this.chunkSize = chunkSize;
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Writes all tuples and reports each chunk as it completes.
+   *
+   * @param name Name used for worker threads
+   * @param tuples The tuples to write, consumed lazily
+   * @param skip Returns true for 1-based tuple positions that must not be sent
+   * @param send Sends one chunk; failures are returned rather than thrown
+   * @param listener Receives each chunk result on the calling thread
+   * @return Summary counts by tuple
+   */
+  BulkOperationSummary write(
+      String name,
+      Iterator<RelationTupleModel> tuples,
+      LongPredicate skip,
+      Function<List<RelationTupleModel>, OperationResult<String>> send,
+      Consumer<RelationChunkResult> listener) {
+    BulkOperationSummary.Tally tally = new BulkOperationSummary.Tally();
+    long[] skipped = new long[1];
+
+    try (BoundedTaskRunner runner = new BoundedTaskRunner(name, concurrency)) {
+      runner.run(
+          new ChunkIterator(tuples, skip),
+          chunk -> sendChunk(chunk, send),
+          result -> {
+            skipped[0] += result.getLastRow() - result.getFirstRow() + 1 - result.getSent();
+            if (result.getSent() > 0) {
+              tally.record(result.getResult(), result.getSent());
+            }
+            listener.accept(result);
+          });
+    }
+    return tally.toSummary().withSkipped(skipped[0]);
+  }
+
+  private static RelationChunkResult sendChunk(
+      Chunk chunk, Function<List<RelationTupleModel>, OperationResult<String>> send) {
+    if (chunk.tuples.isEmpty()) {
+      return new RelationChunkResult(
+          chunk.firstRow, chunk.lastRow, 0, OperationResult.success("", "Already committed"));
+    }
+    OperationResult<String> result;
+    try {
+      result = send.apply(chunk.tuples);
+    } catch (RuntimeException e) {
+      result = OperationResult.failure(e.getMessage());
+    }
+    return new RelationChunkResult(chunk.firstRow, chunk.lastRow, chunk.tuples.size(), result);
+  }
+
+  /** A contiguous slice of the input and the tuples in it that must be sent. */
+  private record Chunk(long firstRow, long lastRow, List<RelationTupleModel> tuples) {}
+
+  /** Cuts the input into contiguous slices of at most {@code chunkSize} positions. */
+  private final class ChunkIterator implements Iterator<Chunk> {
+
+    private final Iterator<RelationTupleModel> tuples;
+    private final LongPredicate skip;
+    private long position;
+
+    ChunkIterator(Iterator<RelationTupleModel> tuples, LongPredicate skip) {
+      this.tuples = tuples;
+      this.skip = skip;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return tuples.hasNext();
+    }
+
+    @Override
+    public Chunk next() {
+      if (!tuples.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      long firstRow = position + 1;
+      List<RelationTupleModel> chunk = new ArrayList<>(chunkSize);
+      while (position - firstRow + 1 < chunkSize && tuples.hasNext()) {
+        RelationTupleModel tuple = tuples.next();
+        position++;
+        if (!skip.test(position)) {
+          chunk.add(tuple);
+        }
+      }
+      return new Chunk(firstRow, position, chunk);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.descope.utils.service;
+
+/**
+ * Caps the retries of one operation to a fraction of its calls.
+ *
+ * <p>Every call deposits {@code retryRatio} into the budget and every retry withdraws 1, so once
+ * the initial reserve of {@code maxBalance} retries is spent, retries add at most {@code
+ * retryRatio} extra load. When the server is down this turns a retry storm into fast failures
+ * instead of multiplying the load on a service that is trying to recover.
+ */
+final class RetryBudget {
+
+  private final double retryRatio;
+  private final double maxBalance;
+  private double balance;
+
+  /**
+   * Creates a new RetryBudget with a full reserve.
+   *
+   * @param retryRatio The retries earned per call
+   * @param maxBalance The most retries that can be saved up
+   */
+  RetryBudget(double retryRatio, double maxBalance) {
+    if (retryRatio < 0 || maxBalance < 1) {
+      throw new IllegalArgumentException("Retry ratio must be non-negative and balance at least 1");
+    }
+    this.retryRatio = retryRatio;
+    this.maxBalance = maxBalance;
+    this.balance = maxBalance;
+  }
+
+  /** Records a call, earning a fraction of a retry. */
+  synchronized void deposit() {
+    balance = Math.min(maxBalance, balance + retryRatio);
+  }
+
+  /**
+   * Spends one retry if the budget allows it.
+   *
+   * @return true if the call may be retried
+   */
+  synchronized boolean tryWithdraw() {
+    if (balance < 1) {
+      return false;
+    }
+    balance -= 1;
+    return true;
+  }
+}
@@ -0,0 +1,99 @@
+package com.descope.utils.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import com.descope.exception.DescopeException;
+import com.descope.exception.RateLimitExceededException;
+
+/**
+ * How SDK calls that fail with a transient error are retried.
+ *
+ * <p>A call is sent at most {@code maxAttempts} times. Before retry {@code n} the caller waits a
+ * random delay between 0 and {@code baseDelay * 2^(n-1)}, capped at {@code maxDelay}. The random
+ * "full jitter" spreads out the retries of requests that failed together, so they do not hit the
+ * recovering server again at the same moment.
+ *
+ * @param maxAttempts The maximum number of times a call is sent, including the first
+ * @param baseDelay The upper bound of the delay before the first retry
+ * @param maxDelay The upper bound of the delay before any retry
+ */
+public record RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+
+  /** The policy used for all SDK calls. */
+  public static final RetryPolicy DEFAULT =
+      new RetryPolicy(4, Duration.ofMillis(100), Duration.ofSeconds(5));
+
+  /** Descope error codes for internal server errors and unavailable services. */
+  private static final Pattern SERVER_ERROR_CODE = Pattern.compile("E0005\\d\\d");
+
+  /** Gateway errors and timeouts reported in the message of an SDK exception. */
+  private static final Pattern TRANSIENT_MESSAGE =
+      Pattern.compile(
+          "\\b50[234]\\b|bad gateway|service unavailable|gateway timeout|timed out|timeout",
+          Pattern.CASE_INSENSITIVE);
+
+  /** Validates the settings. */
+  public RetryPolicy {
+    Objects.requireNonNull(baseDelay, "Base delay cannot be null");
+    Objects.requireNonNull(maxDelay, "Maximum delay cannot be null");
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("Maximum attempts must be at least 1");
+    }
+    if (baseDelay.isNegative() || maxDelay.isNegative()) {
+      throw new IllegalArgumentException("Retry delays cannot be negative");
+    }
+  }
+
+  /**
+   * Computes the delay before a retry.
+   *
+   * @param retry The 1-based retry number
+   * @param uniform A random number from 0 (inclusive) to 1 (exclusive)
+   * @return The delay in nanoseconds
+   */
+  public long backoffNanos(int retry, double uniform) {
+    long cap = maxDelay.toNanos();
+    long ceiling = baseDelay.toNanos();
+    for (int i = 1; i < retry && ceiling < cap; i++) {
+      ceiling *= 2;
+    }
+    return (long) (Math.min(ceiling, cap) * uniform);
+  }
+
+  /**
+   * Checks whether a failure is likely to go away if the call is sent again.
+   *
+   * <p>Network errors, timeouts and server-side errors are transient. Client errors such as
+   * validation failures or missing resources are not. Neither are rate-limit rejections, which
+   * {@link DescopeService} handles separately, nor calls refused by an {@link IsolationGroup},
+   * which were never sent and would only be refused again.
+   *
+   * @param failure The exception thrown by the call
+   * @return true if the failure is transient
+   */
+  public static boolean isTransient(Throwable failure) {
+    if (failure instanceof RateLimitExceededException
+        || failure instanceof ApiUnavailableException) {
+      return false;
+    }
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof IOException) {
+        return true;
+      }
+      if (cause instanceof DescopeException descopeException) {
+        String code = descopeException.getCode();
+        if (code != null && SERVER_ERROR_CODE.matcher(code).matches()) {
+          return true;
+        }
+      }
+      String message = cause.getMessage();
+      if (message != null && TRANSIENT_MESSAGE.matcher(message).find()) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
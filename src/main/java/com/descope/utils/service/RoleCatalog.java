@@ -0,0 +1,146 @@
+package com.descope.utils.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.descope.utils.model.Role;
+
+/**
+ * A project's roles, indexed by tenant and by permission name.
+ *
+ * <p>Built from a single load of all roles and kept up to date with the roles this process creates,
+ * updates and deletes. Roles keep the order in which they were loaded or added.
+ */
+final class RoleCatalog {
+
+  /** Index key for project-level roles, which have no tenant. */
+  private static final String PROJECT = "";
+
+  private final Map<RoleKey, Role> roles = new LinkedHashMap<>();
+  private final Map<String, Set<RoleKey>> byTenant = new LinkedHashMap<>();
+  private final Map<String, Set<RoleKey>> byPermission = new LinkedHashMap<>();
+
+  /**
+   * Adds a role, replacing any role with the same name in the same tenant.
+   *
+   * @param role The role
+   */
+  synchronized void put(Role role) {
+    RoleKey key = RoleKey.of(role.getName(), role.getTenantId());
+    remove(key);
+    roles.put(key, role);
+    byTenant.computeIfAbsent(key.tenant(), t -> new LinkedHashSet<>()).add(key);
+    if (role.getPermissionNames() != null) {
+      for (String permission : role.getPermissionNames()) {
+        byPermission.computeIfAbsent(permission, p -> new LinkedHashSet<>()).add(key);
+      }
+    }
+  }
+
+  /**
+   * Removes a role.
+   *
+   * @param name The role name
+   * @param tenantId The tenant ID for tenant-specific roles, null for project-level
+   */
+  synchronized void remove(String name, String tenantId) {
+    remove(RoleKey.of(name, tenantId));
+  }
+
+  /**
+   * Checks whether a user can be assigned a role.
+   *
+   * <p>Project-level roles can be assigned anywhere; a tenant's own roles only within that tenant.
+   *
+   * @param name The role name
+   * @param tenantId The tenant the role is assigned in, null for a project-level assignment
+   * @return true if the role exists where it is assigned
+   */
+  synchronized boolean isAssignable(String name, String tenantId) {
+    return roles.containsKey(RoleKey.of(name, null))
+        || roles.containsKey(RoleKey.of(name, tenantId));
+  }
+
+  /**
+   * Finds roles by permission and tenant.
+   *
+   * @param permission Only roles that grant this permission, or null for any permission
+   * @param tenantId Only roles of this tenant, or null for roles of any tenant and the project
+   * @return The matching roles
+   */
+  synchronized List<Role> find(String permission, String tenantId) {
+    Set<RoleKey> withPermission =
+        permission != null ? byPermission.getOrDefault(permission, Collections.emptySet()) : null;
+    Set<RoleKey> inTenant =
+        tenantId != null
+            ? byTenant.getOrDefault(tenantKey(tenantId), Collections.emptySet())
+            : null;
+    if (withPermission == null && inTenant == null) {
+      return new ArrayList<>(roles.values());
+    }
+
+    // Walk the smaller index and check each role against the other one
+    Set<RoleKey> walked = withPermission;
+    Set<RoleKey> checked = inTenant;
+    if (walked == null || (checked != null && checked.size() < walked.size())) {
+      walked = inTenant;
+      checked = withPermission;
+    }
+    List<Role> matches = new ArrayList<>();
+    for (RoleKey key : walked) {
+      if (checked == null || checked.contains(key)) {
+        matches.add(roles.get(key));
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Gets the number of roles in the catalog.
+   *
+   * @return The role count
+   */
+  synchronized int size() {
+    return roles.size();
+  }
+
+  private void remove(RoleKey key) {
+    Role previous = roles.remove(key);
+    if (previous == null) {
+      return;
+    }
+    removeFrom(byTenant, key.tenant(), key);
+    if (previous.getPermissionNames() != null) {
+      for (String permission : previous.getPermissionNames()) {
+        removeFrom(byPermission, permission, key);
+      }
+    }
+  }
+
+  private static void removeFrom(Map<String, Set<RoleKey>> index, String value, RoleKey key) {
+    Set<RoleKey> keys = index.get(value);
+    if (keys != null) {
+      keys.remove(key);
+      if (keys.isEmpty()) {
+        index.remove(value);
+      }
+    }
+  }
+
+  private static String tenantKey(String tenantId) {
+    return tenantId != null && !tenantId.isEmpty() ? tenantId : PROJECT;
+  }
+
+  /** Role names are unique within a tenant, and among project-level roles. */
+  private record RoleKey(String name, String tenant) {
+
+    static RoleKey of(String name, String tenantId) {
+      return new RoleKey(name, tenantKey(tenantId));
+    }
+  }
+}
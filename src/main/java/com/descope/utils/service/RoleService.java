@@ -1,7 +1,8 @@
 package com.descope.utils.service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,23 +21,54 @@ import jakarta.inject.Inject;
 /**
  * Service for managing RBAC roles in Descope.
  *
- * <p>Provides CRUD operations for roles at both project and tenant levels.
+ * <p>Provides CRUD operations for roles at both project and tenant levels. Roles are read from a
+ * per-project {@link RoleCatalog} that is loaded once and then kept up to date with the roles this
+ * process creates, updates and deletes, so listing, filtering and validating role names loads the
+ * full role list only once per {@link #CATALOG_TTL}. With a {@link MetadataStore} cache directory
+ * the catalog is shared with later invocations as well.
  */
 @ApplicationScoped
 public class RoleService {
 
   private static final Logger logger = LoggerFactory.getLogger(RoleService.class);
 
+  /** How long a role catalog is used before the role list is loaded again. */
+  static final Duration CATALOG_TTL = Duration.ofMinutes(5);
+
   private final DescopeService descopeService;
+  private final CatalogCache<RoleCatalog> roleCatalogs;
+
+  /**
+   * Creates a new RoleService instance that keeps its role catalog in memory only.
+   *
+   * @param descopeService The base Descope service
+   */
+  public RoleService(DescopeService descopeService) {
+    this(descopeService, MetadataStore.disabled());
+  }
 
   /**
    * Creates a new RoleService instance.
    *
    * @param descopeService The base Descope service
+   * @param metadataStore The on-disk metadata cache shared across invocations
    */
   @Inject
-  public RoleService(DescopeService descopeService) {
+  public RoleService(DescopeService descopeService, MetadataStore metadataStore) {
+    this(
+        descopeService,
+        new CatalogCache<>(CATALOG_TTL, System::nanoTime, metadataStore, MetadataKind.ROLES));
+  }
+
+  /**
+   * Creates a new RoleService instance with a custom catalog cache.
+   *
+   * @param descopeService The base Descope service
+   * @param roleCatalogs The cache of role catalogs per project
+   */
+  RoleService(DescopeService descopeService, CatalogCache<RoleCatalog> roleCatalogs) {
     this.descopeService = descopeService;
+    this.roleCatalogs = roleCatalogs;
   }
 
   /**
@@ -77,12 +109,19 @@ public class RoleService {
       RolesService rolesService = client.getManagementServices().getRolesService();
 
       if (tenantId != null && !tenantId.isEmpty()) {
-        rolesService.create(name, tenantId, description, permissionNames);
+        descopeService.run(
+            config,
+            SdkOperation.ROLE_CREATE,
+            () -> rolesService.create(name, tenantId, description, permissionNames));
       } else {
-        rolesService.create(name, description, permissionNames);
+        descopeService.run(
+            config,
+            SdkOperation.ROLE_CREATE,
+            () -> rolesService.create(name, description, permissionNames));
       }
 
       Role role = new Role(name, description, permissionNames, tenantId);
+      roleCatalogs.update(config, catalog -> catalog.put(role));
 
       logger.info("Successfully created role: {}{}", name, context);
       return OperationResult.created(role, "Role '" + name + "' created successfully" + context);
@@ -100,24 +139,57 @@ public class RoleService {
    * @return OperationResult containing the list of roles
    */
   public OperationResult<List<Role>> listRoles(DescopeConfig config) {
-    logger.info("Loading all roles");
+    return listRoles(config, null, null);
+  }
+
+  /**
+   * Lists the roles that grant a permission, belong to a tenant, or both.
+   *
+   * @param config The Descope configuration
+   * @param permission Only roles that grant this permission, or null for any permission
+   * @param tenantId Only roles of this tenant, or null for roles of any tenant and the project
+   * @return OperationResult containing the matching roles
+   */
+  public OperationResult<List<Role>> listRoles(
+      DescopeConfig config, String permission, String tenantId) {
+    logger.info("Loading roles (permission: {}, tenant: {})", permission, tenantId);
 
     try {
-      DescopeClient client = descopeService.createClient(config);
-      RolesService rolesService = client.getManagementServices().getRolesService();
+      List<Role> roles = catalog(config).find(permission, tenantId);
 
-      RoleResponse response = rolesService.loadAll();
+      logger.info("Successfully loaded {} roles", roles.size());
+      if (permission == null && tenantId == null) {
+        return OperationResult.success(roles, "Loaded " + roles.size() + " roles");
+      }
+      return OperationResult.success(roles, "Found " + roles.size() + " matching role(s)");
 
-      List<Role> roles =
-          response.getRoles().stream()
-              .map(
-                  r ->
-                      new Role(
-                          r.getName(), r.getDescription(), r.getPermissionNames(), r.getTenantId()))
-              .collect(Collectors.toList());
+    } catch (DescopeException e) {
+      logger.error("Failed to load roles: {}", e.getMessage());
+      throw descopeService.wrapException("load roles", e);
+    }
+  }
 
-      logger.info("Successfully loaded {} roles", roles.size());
-      return OperationResult.success(roles, "Loaded " + roles.size() + " roles");
+  /**
+   * Finds the role names that cannot be assigned to a user at project level or in a tenant.
+   *
+   * <p>Names are checked against the cached role catalog. If any name is missing, the catalog is
+   * loaded again once before it is reported, in case the role was created outside this process.
+   *
+   * @param config The Descope configuration
+   * @param tenantId The tenant the roles are assigned in, null for project-level
+   * @param roleNames The role names to check
+   * @return The role names that do not exist, in their given order; empty if all exist
+   */
+  public List<String> findUnknownRoles(
+      DescopeConfig config, String tenantId, List<String> roleNames) {
+    try {
+      List<String> unknown = unknownRoles(catalog(config), tenantId, roleNames);
+      if (!unknown.isEmpty()) {
+        logger.debug("Roles {} not in the cached catalog; reloading", unknown);
+        roleCatalogs.invalidate(config);
+        unknown = unknownRoles(catalog(config), tenantId, roleNames);
+      }
+      return unknown;
 
     } catch (DescopeException e) {
       logger.error("Failed to load roles: {}", e.getMessage());
@@ -125,6 +197,33 @@ public class RoleService {
     }
   }
 
+  /**
+   * Drops the cached role catalog of a project, so that the next lookup loads all roles again.
+   *
+   * <p>Use this after roles were created, changed or deleted outside this process.
+   *
+   * @param config The Descope configuration
+   */
+  public void invalidateCatalog(DescopeConfig config) {
+    roleCatalogs.invalidate(config);
+  }
+
+  /**
+   * Loads a project's roles again, replacing the cached catalog in memory and on disk.
+   *
+   * @param config The Descope configuration
+   * @return The number of roles loaded
+   */
+  public int refreshCatalog(DescopeConfig config) {
+    try {
+      roleCatalogs.invalidate(config);
+      return catalog(config).size();
+    } catch (DescopeException e) {
+      logger.error("Failed to load roles: {}", e.getMessage());
+      throw descopeService.wrapException("load roles", e);
+    }
+  }
+
   /**
    * Updates an existing role at project level.
    *
@@ -170,12 +269,24 @@ public class RoleService {
       RolesService rolesService = client.getManagementServices().getRolesService();
 
       if (tenantId != null && !tenantId.isEmpty()) {
-        rolesService.update(name, tenantId, newName, description, permissionNames);
+        descopeService.run(
+            config,
+            SdkOperation.ROLE_UPDATE,
+            () -> rolesService.update(name, tenantId, newName, description, permissionNames));
       } else {
-        rolesService.update(name, newName, description, permissionNames);
+        descopeService.run(
+            config,
+            SdkOperation.ROLE_UPDATE,
+            () -> rolesService.update(name, newName, description, permissionNames));
       }
 
       Role role = new Role(newName, description, permissionNames, tenantId);
+      roleCatalogs.update(
+          config,
+          catalog -> {
+            catalog.remove(name, tenantId);
+            catalog.put(role);
+          });
 
       logger.info("Successfully updated role: {} -> {}{}", name, newName, context);
       return OperationResult.success(role, "Role '" + name + "' updated successfully" + context);
@@ -214,10 +325,12 @@ public class RoleService {
       RolesService rolesService = client.getManagementServices().getRolesService();
 
       if (tenantId != null && !tenantId.isEmpty()) {
-        rolesService.delete(name, tenantId);
+        descopeService.run(
+            config, SdkOperation.ROLE_DELETE, () -> rolesService.delete(name, tenantId));
       } else {
-        rolesService.delete(name);
+        descopeService.run(config, SdkOperation.ROLE_DELETE, () -> rolesService.delete(name));
       }
+      roleCatalogs.update(config, catalog -> catalog.remove(name, tenantId));
 
       logger.info("Successfully deleted role: {}{}", name, context);
       return OperationResult.success(null, "Role '" + name + "' deleted successfully" + context);
@@ -227,4 +340,36 @@ public class RoleService {
       throw descopeService.wrapException("delete role '" + name + "'", e);
     }
   }
+
+  private RoleCatalog catalog(DescopeConfig config) {
+    return roleCatalogs.get(config, () -> loadCatalog(config));
+  }
+
+  private RoleCatalog loadCatalog(DescopeConfig config) {
+    DescopeClient client = descopeService.createClient(config);
+    RolesService rolesService = client.getManagementServices().getRolesService();
+
+    RoleResponse response =
+        descopeService.call(config, SdkOperation.ROLE_LOAD_ALL, () -> rolesService.loadAll());
+
+    RoleCatalog catalog = new RoleCatalog();
+    for (com.descope.model.roles.Role r : response.getRoles()) {
+      catalog.put(
+          new Role(r.getName(), r.getDescription(), r.getPermissionNames(), r.getTenantId()));
+    }
+    logger.debug(
+        "Loaded {} role(s) into the catalog of project {}", catalog.size(), config.getProjectId());
+    return catalog;
+  }
+
+  private static List<String> unknownRoles(
+      RoleCatalog catalog, String tenantId, List<String> roleNames) {
+    List<String> unknown = new ArrayList<>();
+    for (String name : roleNames) {
+      if (!catalog.isAssignable(name, tenantId)) {
+        unknown.add(name);
+      }
+    }
+    return unknown;
+  }
 }
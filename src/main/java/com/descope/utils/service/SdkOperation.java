@@ -0,0 +1,94 @@
+package com.descope.utils.service;
+
+/**
+ * The Descope SDK calls made by the service classes.
+ *
+ * <p>Each operation names the {@link IsolationGroup} it belongs to, which also decides the {@link
+ * ApiFamily} whose rate limit it counts against, and whether it is safe to send again after a
+ * transient failure. Every operation also has its own retry budget, so a flood of failing creates
+ * cannot use up the retries that loads need.
+ */
+public enum SdkOperation {
+  USER_LOAD("user.load", IsolationGroup.USERS, Idempotency.SAFE),
+  USER_CREATE("user.create", IsolationGroup.USERS, Idempotency.CONDITIONAL),
+  USER_CREATE_BATCH("user.create-batch", IsolationGroup.USERS, Idempotency.UNSAFE),
+  USER_UPDATE_CUSTOM_ATTRIBUTE(
+      "user.update-custom-attribute", IsolationGroup.USERS, Idempotency.SAFE),
+  // Adding a role the user already has changes nothing; removing one twice may be rejected
+  USER_ADD_ROLES("user.add-roles", IsolationGroup.USERS, Idempotency.SAFE),
+  USER_REMOVE_ROLES("user.remove-roles", IsolationGroup.USERS, Idempotency.UNSAFE),
+  USER_SET_ROLES("user.set-roles", IsolationGroup.USERS, Idempotency.SAFE),
+  USER_SET_PASSWORD("user.set-password", IsolationGroup.USERS, Idempotency.SAFE),
+  TENANT_LOAD("tenant.load", IsolationGroup.TENANTS, Idempotency.SAFE),
+  TENANT_LOAD_ALL("tenant.load-all", IsolationGroup.TENANTS, Idempotency.SAFE),
+  TENANT_CREATE("tenant.create", IsolationGroup.TENANTS, Idempotency.CONDITIONAL),
+  TENANT_UPDATE("tenant.update", IsolationGroup.TENANTS, Idempotency.SAFE),
+  ROLE_LOAD_ALL("role.load-all", IsolationGroup.ROLES, Idempotency.SAFE),
+  ROLE_CREATE("role.create", IsolationGroup.ROLES, Idempotency.UNSAFE),
+  ROLE_UPDATE("role.update", IsolationGroup.ROLES, Idempotency.UNSAFE),
+  ROLE_DELETE("role.delete", IsolationGroup.ROLES, Idempotency.UNSAFE),
+  APP_LOAD_ALL("app.load-all", IsolationGroup.APPLICATIONS, Idempotency.SAFE),
+  APP_CREATE("app.create", IsolationGroup.APPLICATIONS, Idempotency.UNSAFE),
+  SSO_APP_LOAD("sso-app.load", IsolationGroup.APPLICATIONS, Idempotency.SAFE),
+  SSO_APP_LOAD_ALL("sso-app.load-all", IsolationGroup.APPLICATIONS, Idempotency.SAFE),
+  SSO_APP_CREATE("sso-app.create", IsolationGroup.APPLICATIONS, Idempotency.UNSAFE),
+  SCHEMA_LOAD("schema.load", IsolationGroup.AUTHZ, Idempotency.SAFE),
+  SCHEMA_SAVE("schema.save", IsolationGroup.AUTHZ, Idempotency.SAFE),
+  SCHEMA_DELETE("schema.delete", IsolationGroup.AUTHZ, Idempotency.UNSAFE),
+  // Relations are keyed by their tuple, so writing or deleting one twice changes nothing
+  RELATIONS_CREATE("relations.create", IsolationGroup.AUTHZ, Idempotency.SAFE),
+  RELATIONS_DELETE("relations.delete", IsolationGroup.AUTHZ, Idempotency.SAFE),
+  RELATIONS_HAS("relations.has", IsolationGroup.AUTHZ, Idempotency.SAFE),
+  RELATIONS_WHO_CAN_ACCESS("relations.who-can-access", IsolationGroup.AUTHZ, Idempotency.SAFE),
+  RELATIONS_LOAD_RESOURCE("relations.load-resource", IsolationGroup.AUTHZ, Idempotency.SAFE),
+  RELATIONS_LOAD_TARGET("relations.load-target", IsolationGroup.AUTHZ, Idempotency.SAFE),
+  // Sign-in and sign-up start sessions and count towards lockouts
+  AUTH_SIGN_IN("auth.sign-in", IsolationGroup.AUTH, Idempotency.UNSAFE),
+  AUTH_SIGN_UP("auth.sign-up", IsolationGroup.AUTH, Idempotency.UNSAFE);
+
+  private final String label;
+  private final IsolationGroup group;
+  private final Idempotency idempotency;
+
+  SdkOperation(String label, IsolationGroup group, Idempotency idempotency) {
+    this.label = label;
+    this.group = group;
+    this.idempotency = idempotency;
+  }
+
+  /**
+   * Gets the name used for this operation in log messages.
+   *
+   * @return The label, such as {@code user.load}
+   */
+  public String getLabel() {
+    return label;
+  }
+
+  /**
+   * Gets the isolation group this operation belongs to.
+   *
+   * @return The isolation group
+   */
+  public IsolationGroup getGroup() {
+    return group;
+  }
+
+  /**
+   * Gets the API family whose rate limit this operation counts against.
+   *
+   * @return The API family
+   */
+  public ApiFamily getFamily() {
+    return group.getFamily();
+  }
+
+  /**
+   * Gets whether this operation may be sent again after a transient failure.
+   *
+   * @return The idempotency class
+   */
+  public Idempotency getIdempotency() {
+    return idempotency;
+  }
+}
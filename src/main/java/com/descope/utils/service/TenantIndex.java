@@ -0,0 +1,68 @@
+package com.descope.utils.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The names and IDs of a project's tenants, looked up in constant time.
+ *
+ * <p>Built from a single load of all tenants and kept up to date with the tenants this process
+ * creates or updates, so creating many tenants does not reload the whole list for each one.
+ */
+final class TenantIndex {
+
+  private final Map<String, String> idsByName = new HashMap<>();
+  private final Map<String, String> namesById = new HashMap<>();
+
+  /**
+   * Adds or updates a tenant.
+   *
+   * @param id The tenant ID
+   * @param name The tenant name
+   */
+  synchronized void put(String id, String name) {
+    String previousName = namesById.put(id, name);
+    if (previousName != null && !previousName.equals(name)) {
+      idsByName.remove(previousName, id);
+    }
+    idsByName.put(name, id);
+  }
+
+  /**
+   * Finds the ID of the tenant with a name.
+   *
+   * @param name The tenant name
+   * @return The tenant ID, or null if no tenant has the name
+   */
+  synchronized String findIdByName(String name) {
+    return idsByName.get(name);
+  }
+
+  /**
+   * Finds the name of the tenant with an ID.
+   *
+   * @param id The tenant ID
+   * @return The tenant name, or null if no tenant has the ID
+   */
+  synchronized String findNameById(String id) {
+    return namesById.get(id);
+  }
+
+  /**
+   * Copies the tenants in the index.
+   *
+   * @return The tenant names by tenant ID
+   */
+  synchronized Map<String, String> namesById() {
+    return new HashMap<>(namesById);
+  }
+
+  /**
+   * Gets the number of tenants in the index.
+   *
+   * @return The tenant count
+   */
+  synchronized int size() {
+    return namesById.size();
+  }
+}
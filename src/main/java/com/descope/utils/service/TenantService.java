@@ -1,5 +1,6 @@
 package com.descope.utils.service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
@@ -21,31 +22,66 @@ import jakarta.inject.Inject;
  * Service for managing Descope tenants.
  *
  * <p>Provides operations to create tenants and associate them with applications, with idempotency
- * support.
+ * support. Existing tenants are looked up in a per-project {@link TenantIndex} that is loaded once
+ * and then kept up to date with the tenants this process creates and updates, so provisioning many
+ * tenants loads the full tenant list only once per {@link #INDEX_TTL}. With a {@link
+ * MetadataStore} cache directory the index is shared with later invocations as well.
  */
 @ApplicationScoped
 public class TenantService {
 
   private static final Logger logger = LoggerFactory.getLogger(TenantService.class);
 
+  /** How long a tenant index is used before the tenant list is loaded again. */
+  static final Duration INDEX_TTL = Duration.ofMinutes(5);
+
   private final DescopeService descopeService;
+  private final CatalogCache<TenantIndex> tenantIndexes;
+
+  /**
+   * Creates a new TenantService instance that keeps its tenant index in memory only.
+   *
+   * @param descopeService The base Descope service
+   */
+  public TenantService(DescopeService descopeService) {
+    this(descopeService, MetadataStore.disabled());
+  }
 
   /**
    * Creates a new TenantService instance.
    *
    * @param descopeService The base Descope service
+   * @param metadataStore The on-disk metadata cache shared across invocations
    */
   @Inject
-  public TenantService(DescopeService descopeService) {
+  public TenantService(DescopeService descopeService, MetadataStore metadataStore) {
+    this(
+        descopeService,
+        new CatalogCache<>(INDEX_TTL, System::nanoTime, metadataStore, MetadataKind.TENANTS));
+  }
+
+  /**
+   * Creates a new TenantService instance with a custom index cache.
+   *
+   * @param descopeService The base Descope service
+   * @param tenantIndexes The cache of tenant indexes per project
+   */
+  TenantService(DescopeService descopeService, CatalogCache<TenantIndex> tenantIndexes) {
     this.descopeService = descopeService;
+    this.tenantIndexes = tenantIndexes;
   }
 
   /**
    * Creates a new Descope tenant with idempotency support.
    *
    * <p>If a tenant with the same name already exists, returns the existing tenant instead of
-   * creating a duplicate. Note: Tenants are associated with applications through user assignments,
-   * not direct associations.
+   * creating a duplicate. A create that is retried after a timeout and rejected as a duplicate,
+   * because the earlier attempt was applied after all, is reported the same way once the tenant
+   * with the derived ID is confirmed to have this name; a tenant of another name that happens to
+   * have the derived ID is reported as a failure.
+   *
+   * <p>Note: Tenants are associated with applications through user assignments, not direct
+   * associations.
    *
    * @param config The Descope configuration
    * @param name The tenant name
@@ -63,29 +99,42 @@ public class TenantService {
           client.getManagementServices().getTenantService();
 
       // Check if a tenant with the same name already exists
-      List<Tenant> existingTenants = sdkTenantService.loadAll();
-      for (Tenant tenant : existingTenants) {
-        if (tenant.getName().equals(name)) {
-          logger.info("Tenant '{}' already exists (ID: {})", name, tenant.getId());
-          com.descope.utils.model.Tenant existing =
-              new com.descope.utils.model.Tenant(
-                  tenant.getId(), tenant.getName(), appId != null ? appId : "", Instant.now());
-          return OperationResult.alreadyExists(existing, "Tenant '" + name + "' already exists");
-        }
+      TenantIndex index = tenantIndexes.get(config, () -> loadIndex(config, sdkTenantService));
+      String existingId = index.findIdByName(name);
+      if (existingId != null) {
+        logger.info("Tenant '{}' already exists (ID: {})", name, existingId);
+        com.descope.utils.model.Tenant existing =
+            new com.descope.utils.model.Tenant(
+                existingId, name, appId != null ? appId : "", Instant.now());
+        return OperationResult.alreadyExists(existing, "Tenant '" + name + "' already exists");
       }
 
       // Create new tenant with a custom ID based on the name (lowercase, no spaces)
-      String tenantId = name.toLowerCase().replaceAll("\\s+", "-");
-      sdkTenantService.createWithId(
-          tenantId,
-          name,
-          Collections.emptyList(), // Self-provisioning domains (optional)
-          new HashMap<>()); // Custom attributes (optional)
-
+      String tenantId = tenantId(name);
       com.descope.utils.model.Tenant newTenant =
           new com.descope.utils.model.Tenant(
               tenantId, name, appId != null ? appId : "", Instant.now());
+      try {
+        descopeService.run(
+            config,
+            SdkOperation.TENANT_CREATE,
+            () ->
+                sdkTenantService.createWithId(
+                    tenantId,
+                    name,
+                    Collections.emptyList(), // Self-provisioning domains (optional)
+                    new HashMap<>())); // Custom attributes (optional)
+      } catch (DescopeException e) {
+        if (!DescopeService.isAlreadyExists(e)
+            || !hasName(config, sdkTenantService, tenantId, name)) {
+          throw e;
+        }
+        logger.info("Tenant '{}' already exists (ID: {})", name, tenantId);
+        tenantIndexes.update(config, tenants -> tenants.put(tenantId, name));
+        return OperationResult.alreadyExists(newTenant, "Tenant '" + name + "' already exists");
+      }
 
+      tenantIndexes.update(config, tenants -> tenants.put(tenantId, name));
       logger.info("Successfully created tenant: {} (ID: {})", name, tenantId);
       return OperationResult.created(newTenant, "Tenant '" + name + "' created successfully");
 
@@ -94,6 +143,46 @@ public class TenantService {
     }
   }
 
+  /**
+   * Drops the cached tenant index of a project, so that the next lookup loads all tenants again.
+   *
+   * <p>Use this after tenants were created, renamed or deleted outside this process.
+   *
+   * @param config The Descope configuration
+   */
+  public void invalidateIndex(DescopeConfig config) {
+    tenantIndexes.invalidate(config);
+  }
+
+  /**
+   * Loads a project's tenants again, replacing the cached index in memory and on disk.
+   *
+   * @param config The Descope configuration
+   * @return The number of tenants loaded
+   */
+  public int refreshIndex(DescopeConfig config) {
+    try {
+      DescopeClient client = descopeService.createClient(config);
+      com.descope.sdk.mgmt.TenantService sdkTenantService =
+          client.getManagementServices().getTenantService();
+
+      tenantIndexes.invalidate(config);
+      return tenantIndexes.get(config, () -> loadIndex(config, sdkTenantService)).size();
+    } catch (DescopeException e) {
+      throw descopeService.wrapException("load tenants", e);
+    }
+  }
+
+  /**
+   * Derives the ID that {@link #createTenant} gives a new tenant.
+   *
+   * @param name The tenant name
+   * @return The name in lower case with whitespace replaced by hyphens
+   */
+  public static String tenantId(String name) {
+    return name.toLowerCase().replaceAll("\\s+", "-");
+  }
+
   /**
    * Associates an application (inbound or federated) with a tenant.
    *
@@ -115,7 +204,9 @@ public class TenantService {
           client.getManagementServices().getTenantService();
 
       // Load the tenant to get current state
-      Tenant tenant = sdkTenantService.load(tenantId);
+      Tenant tenant =
+          descopeService.call(
+              config, SdkOperation.TENANT_LOAD, () -> sdkTenantService.load(tenantId));
       if (tenant == null) {
         throw new IllegalArgumentException("Tenant with ID '" + tenantId + "' not found");
       }
@@ -146,13 +237,15 @@ public class TenantService {
       customAttributes.put("associatedApps", associatedApps);
 
       // Update the tenant with new custom attributes
-      sdkTenantService.update(
-          tenantId,
-          tenant.getName(),
+      List<String> domains =
           tenant.getSelfProvisioningDomains() != null
               ? tenant.getSelfProvisioningDomains()
-              : Collections.emptyList(),
-          customAttributes);
+              : Collections.emptyList();
+      descopeService.run(
+          config,
+          SdkOperation.TENANT_UPDATE,
+          () -> sdkTenantService.update(tenantId, tenant.getName(), domains, customAttributes));
+      tenantIndexes.update(config, tenants -> tenants.put(tenantId, tenant.getName()));
 
       logger.info(
           "Successfully associated app '{}' with tenant '{}'. Total apps: {}",
@@ -167,4 +260,35 @@ public class TenantService {
       throw descopeService.wrapException("add app '" + appId + "' to tenant '" + tenantId + "'", e);
     }
   }
+
+  // Several names map to the same derived ID, so a rejected create alone does not show that the
+  // existing tenant is the one being created
+  private boolean hasName(
+      DescopeConfig config,
+      com.descope.sdk.mgmt.TenantService sdkTenantService,
+      String tenantId,
+      String name) {
+    try {
+      Tenant existing =
+          descopeService.call(
+              config, SdkOperation.TENANT_LOAD, () -> sdkTenantService.load(tenantId));
+      return existing != null && name.equals(existing.getName());
+    } catch (DescopeException e) {
+      logger.warn("Failed to load tenant {}: {}", tenantId, e.getMessage());
+      return false;
+    }
+  }
+
+  private TenantIndex loadIndex(
+      DescopeConfig config, com.descope.sdk.mgmt.TenantService sdkTenantService) {
+    List<Tenant> tenants =
+        descopeService.call(config, SdkOperation.TENANT_LOAD_ALL, () -> sdkTenantService.loadAll());
+    TenantIndex index = new TenantIndex();
+    for (Tenant tenant : tenants) {
+      index.put(tenant.getId(), tenant.getName());
+    }
+    logger.debug(
+        "Loaded {} tenant(s) into the index of project {}", index.size(), config.getProjectId());
+    return index;
+  }
 }
@@ -2,7 +2,9 @@ package com.descope.utils.service;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,7 +15,10 @@ import com.descope.model.auth.AssociatedTenant;
 import com.descope.model.user.request.UserRequest;
 import com.descope.model.user.response.UserResponseDetails;
 import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.input.UserImportRecord;
+import com.descope.utils.model.BulkOperationSummary;
 import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.RowResult;
 import com.descope.utils.model.User;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -45,7 +50,8 @@ public class UserService {
    * Creates a new Descope user with idempotency support.
    *
    * <p>If a user with the same login ID already exists, returns the existing user instead of
-   * creating a duplicate.
+   * creating a duplicate. The same happens if a create that is retried after a timeout is rejected
+   * as a duplicate because the earlier attempt was applied after all.
    *
    * @param config The Descope configuration
    * @param loginId The login ID for the user
@@ -64,17 +70,10 @@ public class UserService {
 
       // Check if user already exists
       try {
-        UserResponseDetails existingUserDetails = sdkUserService.load(loginId);
-        com.descope.model.user.response.UserResponse existingUser = existingUserDetails.getUser();
-        logger.info("User '{}' already exists (ID: {})", loginId, existingUser.getUserId());
-
-        User existing =
-            new User(
-                existingUser.getUserId(),
-                loginId,
-                existingUser.getEmail() != null ? existingUser.getEmail() : "",
-                tenantId != null ? tenantId : "",
-                Instant.now());
+        UserResponseDetails existingUserDetails =
+            descopeService.call(config, SdkOperation.USER_LOAD, () -> sdkUserService.load(loginId));
+        User existing = toUser(existingUserDetails.getUser(), loginId, tenantId);
+        logger.info("User '{}' already exists (ID: {})", loginId, existing.getId());
 
         return OperationResult.alreadyExists(existing, "User '" + loginId + "' already exists");
       } catch (DescopeException e) {
@@ -86,26 +85,24 @@ public class UserService {
       }
 
       // Create new user
-      UserRequest.UserRequestBuilder requestBuilder =
-          UserRequest.builder().email(email != null ? email : loginId);
-
-      // Add tenant association if provided
-      if (tenantId != null && !tenantId.isEmpty()) {
-        requestBuilder.userTenants(
-            Arrays.asList(AssociatedTenant.builder().tenantId(tenantId).build()));
+      UserResponseDetails createdUserDetails;
+      try {
+        createdUserDetails =
+            descopeService.call(
+                config,
+                SdkOperation.USER_CREATE,
+                () -> sdkUserService.create(loginId, buildCreateRequest(loginId, email, tenantId)));
+      } catch (DescopeException e) {
+        if (!DescopeService.isAlreadyExists(e)) {
+          throw e;
+        }
+        UserResponseDetails existingUserDetails =
+            descopeService.call(config, SdkOperation.USER_LOAD, () -> sdkUserService.load(loginId));
+        return OperationResult.alreadyExists(
+            toUser(existingUserDetails.getUser(), loginId, tenantId),
+            "User '" + loginId + "' already exists");
       }
-
-      UserResponseDetails createdUserDetails =
-          sdkUserService.create(loginId, requestBuilder.build());
-      com.descope.model.user.response.UserResponse createdUser = createdUserDetails.getUser();
-
-      User user =
-          new User(
-              createdUser.getUserId(),
-              loginId,
-              createdUser.getEmail() != null ? createdUser.getEmail() : "",
-              tenantId != null ? tenantId : "",
-              Instant.now());
+      User user = toUser(createdUserDetails.getUser(), loginId, tenantId);
 
       logger.info("Successfully created user: {} (ID: {})", loginId, user.getId());
       return OperationResult.created(user, "User '" + loginId + "' created successfully");
@@ -115,6 +112,56 @@ public class UserService {
     }
   }
 
+  /**
+   * Creates users from a stream of import records using a bounded pool of worker threads.
+   *
+   * <p>Records are pulled lazily so that only {@code concurrency} rows are in flight at once. Each
+   * row first attempts a create and only loads the existing user when the create is rejected as a
+   * duplicate, which saves a round-trip for the common case of new users. Failures are reported
+   * per row and never abort the remaining rows. Each row result carries the number of retries its
+   * requests needed.
+   *
+   * @param config The Descope configuration
+   * @param records The user records to create
+   * @param concurrency The maximum number of concurrent create requests
+   * @param sink Receives each row result as soon as it completes, on the calling thread
+   * @return Summary counts for the whole operation
+   */
+  public BulkOperationSummary createUsers(
+      DescopeConfig config,
+      Iterator<UserImportRecord> records,
+      int concurrency,
+      Consumer<RowResult<User>> sink) {
+    logger.info("Bulk creating users with concurrency {}", concurrency);
+
+    DescopeClient client = descopeService.createClient(config);
+    com.descope.sdk.mgmt.UserService sdkUserService =
+        client.getManagementServices().getUserService();
+    BulkOperationSummary.Tally tally = new BulkOperationSummary.Tally();
+
+    try (BoundedTaskRunner runner = new BoundedTaskRunner("bulk-create-users", concurrency)) {
+      runner.run(
+          records,
+          record ->
+              new RowResult<>(
+                  record.rowNumber(),
+                  record.loginId(),
+                  descopeService.trackRetries(() -> createRow(config, sdkUserService, record))),
+          row -> {
+            tally.record(row.getResult());
+            sink.accept(row);
+          });
+    }
+
+    BulkOperationSummary summary = tally.toSummary();
+    logger.info(
+        "Bulk user creation finished: {} created, {} already existed, {} failed",
+        summary.getCreated(),
+        summary.getAlreadyExists(),
+        summary.getFailed());
+    return summary;
+  }
+
   /**
    * Updates a custom attribute on an existing user.
    *
@@ -136,7 +183,10 @@ public class UserService {
       com.descope.sdk.mgmt.UserService sdkUserService =
           client.getManagementServices().getUserService();
 
-      sdkUserService.updateCustomAttributes(loginId, attributeKey, attributeValue);
+      descopeService.run(
+          config,
+          SdkOperation.USER_UPDATE_CUSTOM_ATTRIBUTE,
+          () -> sdkUserService.updateCustomAttributes(loginId, attributeKey, attributeValue));
 
       logger.info("Successfully updated custom attribute '{}' for user: {}", attributeKey, loginId);
       return OperationResult.success(
@@ -175,7 +225,8 @@ public class UserService {
       com.descope.sdk.mgmt.UserService sdkUserService =
           client.getManagementServices().getUserService();
 
-      sdkUserService.addRoles(loginId, roles);
+      descopeService.run(
+          config, SdkOperation.USER_ADD_ROLES, () -> sdkUserService.addRoles(loginId, roles));
 
       logger.info("Successfully added roles {} to user: {}", roles, loginId);
       return OperationResult.success(
@@ -205,7 +256,10 @@ public class UserService {
       com.descope.sdk.mgmt.UserService sdkUserService =
           client.getManagementServices().getUserService();
 
-      sdkUserService.addTenantRoles(loginId, tenantId, roles);
+      descopeService.run(
+          config,
+          SdkOperation.USER_ADD_ROLES,
+          () -> sdkUserService.addTenantRoles(loginId, tenantId, roles));
 
       logger.info(
           "Successfully added roles {} to user: {} in tenant: {}", roles, loginId, tenantId);
@@ -237,7 +291,8 @@ public class UserService {
       com.descope.sdk.mgmt.UserService sdkUserService =
           client.getManagementServices().getUserService();
 
-      sdkUserService.removeRoles(loginId, roles);
+      descopeService.run(
+          config, SdkOperation.USER_REMOVE_ROLES, () -> sdkUserService.removeRoles(loginId, roles));
 
       logger.info("Successfully removed roles {} from user: {}", roles, loginId);
       return OperationResult.success(
@@ -267,7 +322,10 @@ public class UserService {
       com.descope.sdk.mgmt.UserService sdkUserService =
           client.getManagementServices().getUserService();
 
-      sdkUserService.removeTenantRoles(loginId, tenantId, roles);
+      descopeService.run(
+          config,
+          SdkOperation.USER_REMOVE_ROLES,
+          () -> sdkUserService.removeTenantRoles(loginId, tenantId, roles));
 
       logger.info(
           "Successfully removed roles {} from user: {} in tenant: {}", roles, loginId, tenantId);
@@ -302,7 +360,8 @@ public class UserService {
       com.descope.sdk.mgmt.UserService sdkUserService =
           client.getManagementServices().getUserService();
 
-      sdkUserService.setRoles(loginId, roles);
+      descopeService.run(
+          config, SdkOperation.USER_SET_ROLES, () -> sdkUserService.setRoles(loginId, roles));
 
       logger.info("Successfully set roles {} for user: {}", roles, loginId);
       return OperationResult.success(
@@ -332,7 +391,10 @@ public class UserService {
       com.descope.sdk.mgmt.UserService sdkUserService =
           client.getManagementServices().getUserService();
 
-      sdkUserService.setTenantRoles(loginId, tenantId, roles);
+      descopeService.run(
+          config,
+          SdkOperation.USER_SET_ROLES,
+          () -> sdkUserService.setTenantRoles(loginId, tenantId, roles));
 
       logger.info("Successfully set roles {} for user: {} in tenant: {}", roles, loginId, tenantId);
       return OperationResult.success(
@@ -349,4 +411,68 @@ public class UserService {
           "set roles for user '" + loginId + "' in tenant '" + tenantId + "'", e);
     }
   }
+
+  private OperationResult<User> createRow(
+      DescopeConfig config,
+      com.descope.sdk.mgmt.UserService sdkUserService,
+      UserImportRecord record) {
+    String loginId = record.loginId();
+    if (loginId == null) {
+      return OperationResult.failure("Row " + record.rowNumber() + " has no login ID");
+    }
+
+    try {
+      UserResponseDetails created =
+          descopeService.call(
+              config,
+              SdkOperation.USER_CREATE,
+              () ->
+                  sdkUserService.create(
+                      loginId, buildCreateRequest(loginId, record.email(), record.tenantId())));
+      logger.debug("Created user: {}", loginId);
+      return OperationResult.created(
+          toUser(created.getUser(), loginId, record.tenantId()),
+          "User '" + loginId + "' created successfully");
+    } catch (DescopeException e) {
+      if (!DescopeService.isAlreadyExists(e)) {
+        logger.debug("Failed to create user '{}': {}", loginId, e.getMessage());
+        return OperationResult.failure(
+            "Failed to create user '" + loginId + "': " + e.getMessage());
+      }
+    } catch (ApiUnavailableException e) {
+      return OperationResult.failure("Failed to create user '" + loginId + "': " + e.getMessage());
+    }
+
+    try {
+      UserResponseDetails existing =
+          descopeService.call(config, SdkOperation.USER_LOAD, () -> sdkUserService.load(loginId));
+      return OperationResult.alreadyExists(
+          toUser(existing.getUser(), loginId, record.tenantId()),
+          "User '" + loginId + "' already exists");
+    } catch (DescopeException | ApiUnavailableException e) {
+      return OperationResult.failure("Failed to load user '" + loginId + "': " + e.getMessage());
+    }
+  }
+
+  private static UserRequest buildCreateRequest(String loginId, String email, String tenantId) {
+    UserRequest.UserRequestBuilder requestBuilder =
+        UserRequest.builder().email(email != null ? email : loginId);
+
+    // Add tenant association if provided
+    if (tenantId != null && !tenantId.isEmpty()) {
+      requestBuilder.userTenants(
+          Arrays.asList(AssociatedTenant.builder().tenantId(tenantId).build()));
+    }
+    return requestBuilder.build();
+  }
+
+  private static User toUser(
+      com.descope.model.user.response.UserResponse response, String loginId, String tenantId) {
+    return new User(
+        response.getUserId(),
+        loginId,
+        response.getEmail() != null ? response.getEmail() : "",
+        tenantId != null ? tenantId : "",
+        Instant.now());
+  }
 }
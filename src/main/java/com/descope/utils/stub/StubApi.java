@@ -0,0 +1,703 @@
+package com.descope.utils.stub;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * In-memory implementation of the Descope API endpoints the services in this project call.
+ *
+ * <p>State is kept per project, keyed by the project ID in the request's bearer token, so several
+ * clients can share one stub without seeing each other's data. Request and response bodies follow
+ * the JSON the Descope SDK sends and expects, and errors use the "not found" and "already exists"
+ * wording the services check for. Relation checks only look at stored tuples; the schema is stored
+ * but never evaluated.
+ */
+final class StubApi {
+
+  private static final Duration SESSION_TTL = Duration.ofMinutes(10);
+  private static final Duration REFRESH_TTL = Duration.ofDays(1);
+
+  private static final String KEYS_PATH = "/v2/keys/";
+
+  /** A parsed request. */
+  record Request(String projectId, Map<String, String> query, JsonNode body) {}
+
+  /** A response status and JSON body. */
+  record Response(int status, JsonNode body) {}
+
+  /** An endpoint implementation, called with the project's state locked. */
+  private interface Route {
+    JsonNode handle(ProjectState state, Request request);
+  }
+
+  /** Thrown by routes to answer with a Descope error body. */
+  static final class ApiException extends RuntimeException {
+
+    private final int status;
+    private final String errorCode;
+
+    ApiException(int status, String errorCode, String message) {
+      super(message);
+      this.status = status;
+      this.errorCode = errorCode;
+    }
+  }
+
+  private final ObjectMapper objectMapper;
+  private final StubTokens tokens;
+  private final Map<String, Route> routes = new HashMap<>();
+  private final Map<String, ProjectState> projects = new ConcurrentHashMap<>();
+  private final AtomicLong ids = new AtomicLong();
+
+  StubApi(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.tokens = new StubTokens(objectMapper);
+
+    // Users
+    routes.put("POST /v1/mgmt/user/create", this::createUser);
+    routes.put("POST /v1/mgmt/user/create/test", this::createUser);
+    routes.put("POST /v1/mgmt/user/create/batch", this::createUsers);
+    routes.put("GET /v1/mgmt/user", this::loadUser);
+    routes.put("POST /v1/mgmt/user/delete", this::deleteUser);
+    routes.put("POST /v1/mgmt/user/update/customAttribute", this::updateCustomAttribute);
+    routes.put("POST /v1/mgmt/user/update/role/add", (s, r) -> updateRoles(s, r, "add"));
+    routes.put("POST /v1/mgmt/user/update/role/remove", (s, r) -> updateRoles(s, r, "remove"));
+    routes.put("POST /v1/mgmt/user/update/role/set", (s, r) -> updateRoles(s, r, "set"));
+    routes.put("POST /v1/mgmt/user/password/set", this::setPassword);
+    routes.put("POST /v1/mgmt/user/password/set/temporary", this::setPassword);
+    routes.put("POST /v1/mgmt/user/password/set/active", this::setPassword);
+
+    // Password authentication
+    routes.put("POST /v1/auth/password/signup", this::signUp);
+    routes.put("POST /v1/auth/password/signin", this::signIn);
+
+    // Tenants
+    routes.put("POST /v1/mgmt/tenant/create", this::createTenant);
+    routes.put("POST /v1/mgmt/tenant/update", this::updateTenant);
+    routes.put("POST /v1/mgmt/tenant/delete", this::deleteTenant);
+    routes.put("GET /v1/mgmt/tenant", this::loadTenant);
+    routes.put("GET /v1/mgmt/tenant/all", this::loadTenants);
+    routes.put("POST /v1/mgmt/tenant/search", this::loadTenants);
+
+    // Roles
+    routes.put("POST /v1/mgmt/role/create", this::createRole);
+    routes.put("POST /v1/mgmt/role/update", this::updateRole);
+    routes.put("POST /v1/mgmt/role/delete", this::deleteRole);
+    routes.put("GET /v1/mgmt/role/all", this::loadRoles);
+    routes.put("POST /v1/mgmt/role/search", this::searchRoles);
+
+    // ReBAC schema and relations
+    routes.put("POST /v1/mgmt/authz/schema/save", this::saveSchema);
+    routes.put("POST /v1/mgmt/authz/schema/load", this::loadSchema);
+    routes.put("POST /v1/mgmt/authz/schema/delete", this::deleteSchema);
+    routes.put("POST /v1/mgmt/authz/re/create", this::createRelations);
+    routes.put("POST /v1/mgmt/authz/re/delete", this::deleteRelations);
+    routes.put("POST /v1/mgmt/authz/re/deleteresources", this::deleteResourceRelations);
+    routes.put("POST /v1/mgmt/authz/re/has", this::hasRelations);
+    routes.put("POST /v1/mgmt/authz/re/who", this::whoCanAccess);
+    routes.put("POST /v1/mgmt/authz/re/resource", this::resourceRelations);
+    routes.put("POST /v1/mgmt/authz/re/targets", this::targetsRelations);
+    routes.put("POST /v1/mgmt/authz/re/targetall", this::targetsRelations);
+
+    // SSO (federated) applications
+    routes.put("POST /v1/mgmt/sso/idp/app/oidc/create", (s, r) -> createSsoApp(s, r, "oidc"));
+    routes.put("POST /v1/mgmt/sso/idp/app/saml/create", (s, r) -> createSsoApp(s, r, "saml"));
+    routes.put("POST /v1/mgmt/sso/idp/app/delete", (s, r) -> deleteApp(s.ssoApps, r));
+    routes.put("GET /v1/mgmt/sso/idp/app/load", (s, r) -> loadApp(s.ssoApps, r));
+    routes.put("GET /v1/mgmt/sso/idp/apps/load", (s, r) -> loadApps(s.ssoApps));
+
+    // Inbound applications
+    routes.put("POST /v1/mgmt/thirdparty/app/create", this::createInboundApp);
+    routes.put("POST /v1/mgmt/thirdparty/app/delete", (s, r) -> deleteApp(s.inboundApps, r));
+    routes.put("GET /v1/mgmt/thirdparty/app/load", (s, r) -> loadApp(s.inboundApps, r));
+    routes.put("GET /v1/mgmt/thirdparty/apps/load", (s, r) -> loadApps(s.inboundApps));
+  }
+
+  /**
+   * Handles one request.
+   *
+   * @param method The HTTP method
+   * @param path The request path
+   * @param request The parsed request
+   * @return The response
+   */
+  Response handle(String method, String path, Request request) {
+    if ("GET".equals(method) && path.startsWith(KEYS_PATH)) {
+      return new Response(200, tokens.keys());
+    }
+    Route route = routes.get(method + " " + path);
+    if (route == null) {
+      return error(new ApiException(404, "E000404", "No stub for " + method + " " + path));
+    }
+    if (request.projectId() == null) {
+      return error(new ApiException(401, "E011003", "Missing project ID in Authorization header"));
+    }
+    ProjectState state = projects.computeIfAbsent(request.projectId(), id -> new ProjectState());
+    try {
+      JsonNode body;
+      synchronized (state) {
+        // Copy while locked; the stored nodes change under later requests
+        body = route.handle(state, request);
+        body = body != null ? body.deepCopy() : objectMapper.createObjectNode();
+      }
+      return new Response(200, body);
+    } catch (ApiException e) {
+      return error(e);
+    }
+  }
+
+  /**
+   * Builds a Descope error body.
+   *
+   * @param e The error
+   * @return The response carrying the error
+   */
+  Response error(ApiException e) {
+    ObjectNode body = objectMapper.createObjectNode();
+    body.put("errorCode", e.errorCode);
+    body.put("errorDescription", e.getMessage());
+    body.put("errorMessage", e.getMessage());
+    return new Response(e.status, body);
+  }
+
+  // Users
+
+  private JsonNode createUser(ProjectState state, Request request) {
+    String loginId = required(request.body(), "loginId");
+    if (state.users.containsKey(loginId)) {
+      throw new ApiException(400, "E062107", "User '" + loginId + "' already exists");
+    }
+    ObjectNode user = newUser(loginId, request.body());
+    state.users.put(loginId, user);
+    return userDetails(user);
+  }
+
+  private JsonNode createUsers(ProjectState state, Request request) {
+    ObjectNode response = objectMapper.createObjectNode();
+    ArrayNode created = response.putArray("createdUsers");
+    ArrayNode failed = response.putArray("failedUsers");
+    for (JsonNode item : request.body().path("users")) {
+      String loginId = item.path("loginId").asText(null);
+      if (loginId == null || loginId.isEmpty()) {
+        failure(failed, item, "Login ID is required");
+      } else if (state.users.containsKey(loginId)) {
+        failure(failed, item, "User '" + loginId + "' already exists");
+      } else {
+        ObjectNode user = newUser(loginId, item);
+        state.users.put(loginId, user);
+        String password = item.path("password").path("cleartext").asText("");
+        if (!password.isEmpty()) {
+          state.passwords.put(loginId, password);
+        }
+        created.add(user);
+      }
+    }
+    return response;
+  }
+
+  private JsonNode loadUser(ProjectState state, Request request) {
+    String loginId = request.query().get("loginid");
+    if (loginId == null) {
+      loginId = request.query().get("loginId");
+    }
+    return userDetails(user(state, loginId));
+  }
+
+  private JsonNode deleteUser(ProjectState state, Request request) {
+    String loginId = required(request.body(), "loginId");
+    state.users.remove(loginId);
+    state.passwords.remove(loginId);
+    return null;
+  }
+
+  private JsonNode updateCustomAttribute(ProjectState state, Request request) {
+    ObjectNode user = user(state, required(request.body(), "loginId"));
+    ((ObjectNode) user.get("customAttributes"))
+        .set(required(request.body(), "attributeKey"), request.body().path("attributeValue"));
+    return userDetails(user);
+  }
+
+  private JsonNode updateRoles(ProjectState state, Request request, String action) {
+    ObjectNode user = user(state, required(request.body(), "loginId"));
+    String tenantId = request.body().path("tenantId").asText("");
+    ArrayNode roleNames;
+    if (tenantId.isEmpty()) {
+      roleNames = (ArrayNode) user.get("roleNames");
+    } else {
+      ObjectNode tenant = null;
+      for (JsonNode userTenant : user.get("userTenants")) {
+        if (tenantId.equals(userTenant.path("tenantId").asText())) {
+          tenant = (ObjectNode) userTenant;
+        }
+      }
+      if (tenant == null) {
+        if ("remove".equals(action)) {
+          throw new ApiException(400, "E011002", "User is not a member of tenant " + tenantId);
+        }
+        tenant = ((ArrayNode) user.get("userTenants")).addObject();
+        tenant.put("tenantId", tenantId);
+        tenant.putArray("roleNames");
+      }
+      roleNames = (ArrayNode) tenant.get("roleNames");
+    }
+
+    Set<String> names = new LinkedHashSet<>();
+    if (!"set".equals(action)) {
+      roleNames.forEach(name -> names.add(name.asText()));
+    }
+    for (JsonNode name : request.body().path("roleNames")) {
+      if ("remove".equals(action)) {
+        names.remove(name.asText());
+      } else {
+        names.add(name.asText());
+      }
+    }
+    roleNames.removeAll();
+    names.forEach(roleNames::add);
+    return userDetails(user);
+  }
+
+  private JsonNode setPassword(ProjectState state, Request request) {
+    String loginId = required(request.body(), "loginId");
+    user(state, loginId);
+    state.passwords.put(loginId, required(request.body(), "password"));
+    return null;
+  }
+
+  private JsonNode signUp(ProjectState state, Request request) {
+    String loginId = required(request.body(), "loginId");
+    String password = required(request.body(), "password");
+    if (state.users.containsKey(loginId)) {
+      throw new ApiException(400, "E062107", "User '" + loginId + "' already exists");
+    }
+    ObjectNode user = newUser(loginId, request.body().path("user"));
+    state.users.put(loginId, user);
+    state.passwords.put(loginId, password);
+    return authenticated(request.projectId(), user, true);
+  }
+
+  private JsonNode signIn(ProjectState state, Request request) {
+    String loginId = required(request.body(), "loginId");
+    String password = required(request.body(), "password");
+    ObjectNode user = state.users.get(loginId);
+    if (user == null || !password.equals(state.passwords.get(loginId))) {
+      throw new ApiException(401, "E062108", "Invalid login ID or password");
+    }
+    return authenticated(request.projectId(), user, false);
+  }
+
+  private ObjectNode newUser(String loginId, JsonNode request) {
+    ObjectNode user = objectMapper.createObjectNode();
+    user.putArray("loginIds").add(loginId);
+    user.put("userId", "U" + ids.incrementAndGet());
+    for (String field :
+        List.of("name", "givenName", "middleName", "familyName", "email", "phone")) {
+      if (request.hasNonNull(field)) {
+        user.put(field, request.get(field).asText());
+      }
+    }
+    user.put("verifiedEmail", request.path("verifiedEmail").asBoolean());
+    user.put("verifiedPhone", request.path("verifiedPhone").asBoolean());
+    user.set("roleNames", array(request.path("roleNames")));
+    user.set("userTenants", array(request.path("userTenants")));
+    user.set(
+        "customAttributes",
+        request.path("customAttributes").isObject()
+            ? request.get("customAttributes").deepCopy()
+            : objectMapper.createObjectNode());
+    user.put("status", "enabled");
+    user.put("test", request.path("test").asBoolean());
+    user.put("createdTime", Instant.now().getEpochSecond());
+    return user;
+  }
+
+  private ObjectNode user(ProjectState state, String loginId) {
+    ObjectNode user = loginId != null ? state.users.get(loginId) : null;
+    if (user == null) {
+      throw new ApiException(400, "E112102", "User '" + loginId + "' not found");
+    }
+    return user;
+  }
+
+  private ObjectNode userDetails(ObjectNode user) {
+    ObjectNode details = objectMapper.createObjectNode();
+    details.set("user", user);
+    return details;
+  }
+
+  private ObjectNode authenticated(String projectId, ObjectNode user, boolean firstSeen) {
+    String userId = user.get("userId").asText();
+    ObjectNode response = objectMapper.createObjectNode();
+    response.put("sessionJwt", tokens.sign(projectId, userId, false, SESSION_TTL));
+    response.put("refreshJwt", tokens.sign(projectId, userId, true, REFRESH_TTL));
+    response.put("cookieDomain", "");
+    response.put("cookiePath", "/");
+    response.put("cookieMaxAge", REFRESH_TTL.toSeconds());
+    response.put("cookieExpiration", Instant.now().plus(REFRESH_TTL).getEpochSecond());
+    response.set("user", user);
+    response.put("firstSeen", firstSeen);
+    return response;
+  }
+
+  private static void failure(ArrayNode failed, JsonNode user, String message) {
+    ObjectNode failure = failed.addObject();
+    failure.put("failure", message);
+    failure.set("user", user);
+  }
+
+  // Tenants
+
+  private JsonNode createTenant(ProjectState state, Request request) {
+    String name = required(request.body(), "name");
+    String id = request.body().path("id").asText("");
+    if (id.isEmpty()) {
+      id = "T" + ids.incrementAndGet();
+    }
+    if (state.tenants.containsKey(id)) {
+      throw new ApiException(400, "E011002", "Tenant '" + id + "' already exists");
+    }
+    ObjectNode tenant = objectMapper.createObjectNode();
+    tenant.put("id", id);
+    tenant.put("name", name);
+    tenant.set("selfProvisioningDomains", array(request.body().path("selfProvisioningDomains")));
+    tenant.set(
+        "customAttributes",
+        request.body().path("customAttributes").isObject()
+            ? request.body().get("customAttributes").deepCopy()
+            : objectMapper.createObjectNode());
+    tenant.put("createdTime", Instant.now().getEpochSecond());
+    state.tenants.put(id, tenant);
+
+    ObjectNode response = objectMapper.createObjectNode();
+    response.put("id", id);
+    return response;
+  }
+
+  private JsonNode updateTenant(ProjectState state, Request request) {
+    ObjectNode tenant = tenant(state, required(request.body(), "id"));
+    if (request.body().hasNonNull("name")) {
+      tenant.put("name", request.body().get("name").asText());
+    }
+    if (request.body().hasNonNull("selfProvisioningDomains")) {
+      tenant.set("selfProvisioningDomains", array(request.body().get("selfProvisioningDomains")));
+    }
+    if (request.body().path("customAttributes").isObject()) {
+      tenant.set("customAttributes", request.body().get("customAttributes").deepCopy());
+    }
+    return null;
+  }
+
+  private JsonNode deleteTenant(ProjectState state, Request request) {
+    state.tenants.remove(required(request.body(), "id"));
+    return null;
+  }
+
+  private JsonNode loadTenant(ProjectState state, Request request) {
+    return tenant(state, request.query().get("id"));
+  }
+
+  private JsonNode loadTenants(ProjectState state, Request request) {
+    ObjectNode response = objectMapper.createObjectNode();
+    ArrayNode tenants = response.putArray("tenants");
+    state.tenants.values().forEach(tenants::add);
+    return response;
+  }
+
+  private ObjectNode tenant(ProjectState state, String id) {
+    ObjectNode tenant = id != null ? state.tenants.get(id) : null;
+    if (tenant == null) {
+      throw new ApiException(400, "E011002", "Tenant '" + id + "' not found");
+    }
+    return tenant;
+  }
+
+  // Roles
+
+  private JsonNode createRole(ProjectState state, Request request) {
+    String name = required(request.body(), "name");
+    String tenantId = request.body().path("tenantId").asText("");
+    String key = tenantId + "/" + name;
+    if (state.roles.containsKey(key)) {
+      throw new ApiException(400, "E011002", "Role '" + name + "' already exists");
+    }
+    ObjectNode role = objectMapper.createObjectNode();
+    role.put("name", name);
+    role.put("description", request.body().path("description").asText(""));
+    role.set("permissionNames", array(request.body().path("permissionNames")));
+    role.put("tenantId", tenantId);
+    role.put("createdTime", Instant.now().getEpochSecond());
+    state.roles.put(key, role);
+    return null;
+  }
+
+  private JsonNode updateRole(ProjectState state, Request request) {
+    String name = required(request.body(), "name");
+    String tenantId = request.body().path("tenantId").asText("");
+    ObjectNode role = state.roles.remove(tenantId + "/" + name);
+    if (role == null) {
+      throw new ApiException(400, "E011002", "Role '" + name + "' not found");
+    }
+    String newName = request.body().path("newName").asText(name);
+    role.put("name", newName);
+    role.put("description", request.body().path("description").asText(""));
+    role.set("permissionNames", array(request.body().path("permissionNames")));
+    state.roles.put(tenantId + "/" + newName, role);
+    return null;
+  }
+
+  private JsonNode deleteRole(ProjectState state, Request request) {
+    String name = required(request.body(), "name");
+    String tenantId = request.body().path("tenantId").asText("");
+    if (state.roles.remove(tenantId + "/" + name) == null) {
+      throw new ApiException(400, "E011002", "Role '" + name + "' not found");
+    }
+    return null;
+  }
+
+  private JsonNode loadRoles(ProjectState state, Request request) {
+    ObjectNode response = objectMapper.createObjectNode();
+    ArrayNode roles = response.putArray("roles");
+    state.roles.values().forEach(roles::add);
+    return response;
+  }
+
+  private JsonNode searchRoles(ProjectState state, Request request) {
+    Set<String> tenantIds = strings(request.body().path("tenantIds"));
+    Set<String> roleNames = strings(request.body().path("roleNames"));
+    ObjectNode response = objectMapper.createObjectNode();
+    ArrayNode roles = response.putArray("roles");
+    for (ObjectNode role : state.roles.values()) {
+      if ((tenantIds.isEmpty() || tenantIds.contains(role.path("tenantId").asText()))
+          && (roleNames.isEmpty() || roleNames.contains(role.path("name").asText()))) {
+        roles.add(role);
+      }
+    }
+    return response;
+  }
+
+  // ReBAC schema and relations
+
+  private JsonNode saveSchema(ProjectState state, Request request) {
+    JsonNode schema = request.body().path("schema");
+    if (!schema.isObject()) {
+      throw new ApiException(400, "E011001", "Schema is required");
+    }
+    state.schema = schema.deepCopy();
+    return null;
+  }
+
+  private JsonNode loadSchema(ProjectState state, Request request) {
+    if (state.schema == null) {
+      throw new ApiException(400, "E011002", "Schema not found");
+    }
+    ObjectNode response = objectMapper.createObjectNode();
+    response.set("schema", state.schema);
+    return response;
+  }
+
+  private JsonNode deleteSchema(ProjectState state, Request request) {
+    state.schema = null;
+    return null;
+  }
+
+  private JsonNode createRelations(ProjectState state, Request request) {
+    for (JsonNode relation : request.body().path("relations")) {
+      state.relations.put(relationKey(relation), relation.deepCopy());
+    }
+    return null;
+  }
+
+  private JsonNode deleteRelations(ProjectState state, Request request) {
+    for (JsonNode relation : request.body().path("relations")) {
+      state.relations.remove(relationKey(relation));
+    }
+    return null;
+  }
+
+  private JsonNode deleteResourceRelations(ProjectState state, Request request) {
+    Set<String> resources = strings(request.body().path("resources"));
+    state.relations.values().removeIf(r -> resources.contains(r.path("resource").asText()));
+    return null;
+  }
+
+  private JsonNode hasRelations(ProjectState state, Request request) {
+    ObjectNode response = objectMapper.createObjectNode();
+    ArrayNode results = response.putArray("relationQueries");
+    for (JsonNode query : request.body().path("relationQueries")) {
+      ObjectNode result = query.deepCopy();
+      result.put("hasRelation", state.relations.containsKey(relationKey(query)));
+      results.add(result);
+    }
+    return response;
+  }
+
+  private JsonNode whoCanAccess(ProjectState state, Request request) {
+    String resource = required(request.body(), "resource");
+    String relationDefinition = required(request.body(), "relationDefinition");
+    String namespace = required(request.body(), "namespace");
+    Set<String> targets = new LinkedHashSet<>();
+    for (JsonNode relation : state.relations.values()) {
+      if (resource.equals(relation.path("resource").asText())
+          && relationDefinition.equals(relation.path("relationDefinition").asText())
+          && namespace.equals(relation.path("namespace").asText())) {
+        targets.add(relation.path("target").asText());
+      }
+    }
+    ObjectNode response = objectMapper.createObjectNode();
+    targets.forEach(response.putArray("targets")::add);
+    return response;
+  }
+
+  private JsonNode resourceRelations(ProjectState state, Request request) {
+    String resource = required(request.body(), "resource");
+    return relations(state, relation -> resource.equals(relation.path("resource").asText()));
+  }
+
+  private JsonNode targetsRelations(ProjectState state, Request request) {
+    Set<String> targets = strings(request.body().path("targets"));
+    if (request.body().hasNonNull("target")) {
+      targets.add(request.body().get("target").asText());
+    }
+    return relations(state, relation -> targets.contains(relation.path("target").asText()));
+  }
+
+  private JsonNode relations(ProjectState state, Predicate<JsonNode> filter) {
+    ObjectNode response = objectMapper.createObjectNode();
+    ArrayNode relations = response.putArray("relations");
+    for (JsonNode relation : state.relations.values()) {
+      if (filter.test(relation)) {
+        relations.add(relation);
+      }
+    }
+    return response;
+  }
+
+  private static String relationKey(JsonNode relation) {
+    StringBuilder key = new StringBuilder();
+    for (String field :
+        List.of(
+            "namespace",
+            "resource",
+            "relationDefinition",
+            "target",
+            "targetSetResource",
+            "targetSetRelationDefinition",
+            "targetSetRelationDefinitionNamespace")) {
+      key.append(relation.path(field).asText("")).append('\u0000');
+    }
+    return key.toString();
+  }
+
+  // Applications
+
+  private JsonNode createSsoApp(ProjectState state, Request request, String appType) {
+    ObjectNode app = newApp(state.ssoApps, request.body());
+    app.put("appType", appType);
+    app.put("enabled", request.body().path("enabled").asBoolean(true));
+    ObjectNode settings = app.putObject(appType + "Settings");
+    settings.put("loginPageUrl", request.body().path("loginPageUrl").asText(""));
+    return idResponse(app);
+  }
+
+  private JsonNode createInboundApp(ProjectState state, Request request) {
+    ObjectNode app = newApp(state.inboundApps, request.body());
+    ObjectNode response = idResponse(app);
+    response.put("cleartext", "stub-secret-" + app.get("id").asText());
+    return response;
+  }
+
+  private ObjectNode newApp(Map<String, ObjectNode> apps, JsonNode request) {
+    String name = required(request, "name");
+    String id = request.path("id").asText("");
+    if (id.isEmpty()) {
+      id = "A" + ids.incrementAndGet();
+    }
+    if (apps.containsKey(id)) {
+      throw new ApiException(400, "E011002", "Application '" + id + "' already exists");
+    }
+    ObjectNode app = objectMapper.createObjectNode();
+    app.put("id", id);
+    app.put("name", name);
+    app.put("description", request.path("description").asText(""));
+    apps.put(id, app);
+    return app;
+  }
+
+  private JsonNode deleteApp(Map<String, ObjectNode> apps, Request request) {
+    apps.remove(required(request.body(), "id"));
+    return null;
+  }
+
+  private JsonNode loadApp(Map<String, ObjectNode> apps, Request request) {
+    String id = request.query().get("id");
+    ObjectNode app = id != null ? apps.get(id) : null;
+    if (app == null) {
+      throw new ApiException(400, "E011002", "Application '" + id + "' not found");
+    }
+    return app;
+  }
+
+  private JsonNode loadApps(Map<String, ObjectNode> apps) {
+    ObjectNode response = objectMapper.createObjectNode();
+    ArrayNode list = response.putArray("apps");
+    apps.values().forEach(list::add);
+    return response;
+  }
+
+  private ObjectNode idResponse(ObjectNode app) {
+    ObjectNode response = objectMapper.createObjectNode();
+    response.put("id", app.get("id").asText());
+    return response;
+  }
+
+  // Helpers
+
+  private static String required(JsonNode body, String field) {
+    String value = body.path(field).asText("");
+    if (value.isEmpty()) {
+      throw new ApiException(400, "E011001", "The " + field + " field is required");
+    }
+    return value;
+  }
+
+  private ArrayNode array(JsonNode value) {
+    return value.isArray() ? ((ArrayNode) value).deepCopy() : objectMapper.createArrayNode();
+  }
+
+  private static Set<String> strings(JsonNode values) {
+    Set<String> strings = new HashSet<>();
+    for (Iterator<JsonNode> it = values.elements(); it.hasNext(); ) {
+      strings.add(it.next().asText());
+    }
+    return strings;
+  }
+
+  /** Everything the stub stores for one project. */
+  private static final class ProjectState {
+
+    private final Map<String, ObjectNode> users = new LinkedHashMap<>();
+    private final Map<String, String> passwords = new HashMap<>();
+    private final Map<String, ObjectNode> tenants = new LinkedHashMap<>();
+    private final Map<String, ObjectNode> roles = new LinkedHashMap<>();
+    private final Map<String, JsonNode> relations = new LinkedHashMap<>();
+    private final Map<String, ObjectNode> ssoApps = new LinkedHashMap<>();
+    private final Map<String, ObjectNode> inboundApps = new LinkedHashMap<>();
+    private JsonNode schema;
+  }
+}
@@ -0,0 +1,279 @@
+package com.descope.utils.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the Descope API, for load and integration testing without a real project.
+ *
+ * <p>The server listens on the loopback interface and implements the endpoints used by the services
+ * in this project (see {@link StubApi}). Point a client at it by setting the Descope base URL to
+ * {@link #getBaseUrl()}. Every request is delayed and may fail according to the {@link StubFaults}
+ * the server was started with; failures are drawn from a seeded random generator so a run can be
+ * repeated.
+ */
+public final class StubDescopeServer implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(StubDescopeServer.class);
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final StubApi api;
+  private final StubFaults faults;
+  private final ObjectMapper objectMapper;
+  private final Random random;
+
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong injectedErrors = new AtomicLong();
+  private final AtomicLong rateLimited = new AtomicLong();
+
+  // Requests per project in the current one-second window: [window start in seconds, count]
+  private final Map<String, long[]> windows = new ConcurrentHashMap<>();
+
+  private StubDescopeServer(
+      HttpServer server, StubFaults faults, long seed, ObjectMapper objectMapper) {
+    this.server = server;
+    this.faults = faults;
+    this.objectMapper = objectMapper;
+    this.random = new Random(seed);
+    this.api = new StubApi(objectMapper);
+    this.executor =
+        Executors.newCachedThreadPool(
+            task -> {
+              Thread thread = new Thread(task, "stub-descope-server");
+              thread.setDaemon(true);
+              return thread;
+            });
+    server.setExecutor(executor);
+    server.createContext("/", this::handle);
+  }
+
+  /**
+   * Starts a stub server on the loopback interface.
+   *
+   * @param port The port to listen on, or 0 for any free port
+   * @param faults The latency and failures to inject
+   * @param seed The seed for injected failures and jitter
+   * @param objectMapper The mapper for request and response bodies
+   * @return The running server
+   * @throws IOException if the port cannot be bound
+   */
+  public static StubDescopeServer start(
+      int port, StubFaults faults, long seed, ObjectMapper objectMapper) throws IOException {
+    HttpServer server =
+        HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    StubDescopeServer stub = new StubDescopeServer(server, faults, seed, objectMapper);
+    server.start();
+    logger.info("Stub Descope API listening on {}", stub.getBaseUrl());
+    return stub;
+  }
+
+  /**
+   * Gets the base URL to configure clients with.
+   *
+   * @return The base URL, for example {@code http://127.0.0.1:8085}
+   */
+  public String getBaseUrl() {
+    InetSocketAddress address = server.getAddress();
+    return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+  }
+
+  /**
+   * Gets the number of requests received.
+   *
+   * @return The request count
+   */
+  public long getRequestCount() {
+    return requests.get();
+  }
+
+  /**
+   * Gets the number of requests failed with an injected HTTP 503.
+   *
+   * @return The injected error count
+   */
+  public long getInjectedErrorCount() {
+    return injectedErrors.get();
+  }
+
+  /**
+   * Gets the number of requests rejected with HTTP 429.
+   *
+   * @return The rate-limited count
+   */
+  public long getRateLimitedCount() {
+    return rateLimited.get();
+  }
+
+  /** Stops the server, waiting briefly for requests in flight. */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+    try {
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    logger.info(
+        "Stub Descope API stopped after {} request(s), {} injected error(s), {} rate-limited",
+        requests.get(),
+        injectedErrors.get(),
+        rateLimited.get());
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      requests.incrementAndGet();
+      String method = exchange.getRequestMethod();
+      String path = exchange.getRequestURI().getPath();
+      String projectId = projectId(exchange.getRequestHeaders().getFirst("Authorization"));
+      JsonNode body = readBody(exchange.getRequestBody());
+
+      delay();
+      StubApi.Response response;
+      if (body == null) {
+        response = api.error(new StubApi.ApiException(400, "E011001", "Invalid JSON body"));
+      } else if (isRateLimited(projectId)) {
+        rateLimited.incrementAndGet();
+        exchange
+            .getResponseHeaders()
+            .set("Retry-After", String.valueOf(faults.retryAfterSeconds()));
+        response = api.error(new StubApi.ApiException(429, "E130429", "Rate limit exceeded"));
+      } else if (roll(faults.errorRate())) {
+        injectedErrors.incrementAndGet();
+        response =
+            api.error(new StubApi.ApiException(503, "E000503", "Injected server error (stub)"));
+      } else {
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        response = api.handle(method, path, new StubApi.Request(projectId, query, body));
+      }
+      write(exchange, response);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      logger.warn("Stub request failed: {}", e.getMessage(), e);
+      write(exchange, api.error(new StubApi.ApiException(500, "E000500", e.getMessage())));
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void delay() throws InterruptedException {
+    long millis = faults.latency().toMillis();
+    long jitter = faults.jitter().toMillis();
+    if (jitter > 0) {
+      synchronized (random) {
+        millis += random.nextInt((int) Math.min(jitter, Integer.MAX_VALUE - 1) + 1);
+      }
+    }
+    if (millis > 0) {
+      Thread.sleep(millis);
+    }
+  }
+
+  private boolean isRateLimited(String projectId) {
+    if (faults.requestsPerSecond() > 0 && projectId != null) {
+      long second = System.currentTimeMillis() / 1000;
+      long[] window = windows.computeIfAbsent(projectId, id -> new long[2]);
+      synchronized (window) {
+        if (window[0] != second) {
+          window[0] = second;
+          window[1] = 0;
+        }
+        if (++window[1] > faults.requestsPerSecond()) {
+          return true;
+        }
+      }
+    }
+    return roll(faults.rateLimitRate());
+  }
+
+  private boolean roll(double probability) {
+    if (probability <= 0) {
+      return false;
+    }
+    synchronized (random) {
+      return random.nextDouble() < probability;
+    }
+  }
+
+  /** Reads a JSON body, returning null if it cannot be parsed. */
+  private JsonNode readBody(InputStream in) throws IOException {
+    byte[] bytes = in.readAllBytes();
+    if (bytes.length == 0) {
+      return objectMapper.createObjectNode();
+    }
+    try {
+      return objectMapper.readTree(bytes);
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+  }
+
+  private void write(HttpExchange exchange, StubApi.Response response) throws IOException {
+    byte[] bytes = objectMapper.writeValueAsBytes(response.body());
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(response.status(), bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  /**
+   * Extracts the project ID from a Descope bearer token.
+   *
+   * <p>Management calls send {@code Bearer <projectId>:<managementKey>} and authentication calls
+   * send {@code Bearer <projectId>}, optionally followed by {@code :<refresh token>}.
+   *
+   * @param authorization The Authorization header, or null
+   * @return The project ID, or null if the header is missing or not a bearer token
+   */
+  static String projectId(String authorization) {
+    if (authorization == null || !authorization.startsWith("Bearer ")) {
+      return null;
+    }
+    String token = authorization.substring("Bearer ".length()).trim();
+    int colon = token.indexOf(':');
+    String projectId = colon < 0 ? token : token.substring(0, colon);
+    return projectId.isEmpty() ? null : projectId;
+  }
+
+  private static Map<String, String> query(String rawQuery) {
+    Map<String, String> query = new HashMap<>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return query;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int equals = pair.indexOf('=');
+      String name = equals < 0 ? pair : pair.substring(0, equals);
+      String value = equals < 0 ? "" : pair.substring(equals + 1);
+      query.put(
+          URLDecoder.decode(name, StandardCharsets.UTF_8),
+          URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return query;
+  }
+}
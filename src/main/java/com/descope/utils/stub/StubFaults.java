@@ -0,0 +1,56 @@
+package com.descope.utils.stub;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Latency and failures injected by the {@link StubDescopeServer}.
+ *
+ * <p>Every request is delayed by {@code latency} plus a uniformly random extra delay of up to
+ * {@code jitter}. After the delay, a request is rejected with HTTP 429 if its project has already
+ * used {@code requestsPerSecond} requests in the current second, or at random with probability
+ * {@code rateLimitRate}. Otherwise it fails with HTTP 503 with probability {@code errorRate}.
+ * Rate-limited responses carry a {@code Retry-After} header of {@code retryAfterSeconds}.
+ *
+ * @param latency The fixed delay added to every request
+ * @param jitter The maximum random delay added on top of the fixed delay
+ * @param errorRate The probability, from 0 to 1, that a request fails with HTTP 503
+ * @param rateLimitRate The probability, from 0 to 1, that a request is rejected with HTTP 429
+ * @param requestsPerSecond The number of requests per project per second, or 0 for no limit
+ * @param retryAfterSeconds The value of the Retry-After header on rate-limited responses
+ */
+public record StubFaults(
+    Duration latency,
+    Duration jitter,
+    double errorRate,
+    double rateLimitRate,
+    int requestsPerSecond,
+    int retryAfterSeconds) {
+
+  /** Validates the settings. */
+  public StubFaults {
+    Objects.requireNonNull(latency, "Latency cannot be null");
+    Objects.requireNonNull(jitter, "Jitter cannot be null");
+    if (latency.isNegative() || jitter.isNegative()) {
+      throw new IllegalArgumentException("Latency and jitter cannot be negative");
+    }
+    if (errorRate < 0 || errorRate > 1 || rateLimitRate < 0 || rateLimitRate > 1) {
+      throw new IllegalArgumentException("Error and rate-limit rates must be between 0 and 1");
+    }
+    if (requestsPerSecond < 0) {
+      throw new IllegalArgumentException("Requests per second cannot be negative");
+    }
+    if (retryAfterSeconds < 0) {
+      throw new IllegalArgumentException("Retry-After cannot be negative");
+    }
+  }
+
+  /**
+   * Returns settings that inject nothing.
+   *
+   * @return Settings with no latency, no failures and no rate limit
+   */
+  public static StubFaults none() {
+    return new StubFaults(Duration.ZERO, Duration.ZERO, 0, 0, 0, 1);
+  }
+}
@@ -0,0 +1,114 @@
+package com.descope.utils.stub;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Signs the session and refresh tokens returned by the stub's authentication endpoints.
+ *
+ * <p>Tokens are RS256 JWTs signed with a key pair generated when the stub starts. The public key is
+ * served as a JWK set so the SDK can validate the tokens the same way it validates real ones.
+ */
+final class StubTokens {
+
+  private static final String KEY_ID = "stub-signing-key";
+
+  private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+  private final ObjectMapper objectMapper;
+  private final KeyPair keyPair;
+
+  StubTokens(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+      generator.initialize(2048);
+      this.keyPair = generator.generateKeyPair();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("RSA not available", e);
+    }
+  }
+
+  /**
+   * Signs a token.
+   *
+   * @param projectId The project the token is issued for
+   * @param userId The user the token is issued to
+   * @param refresh Whether this is a refresh token rather than a session token
+   * @param ttl How long the token is valid
+   * @return The signed JWT
+   */
+  String sign(String projectId, String userId, boolean refresh, Duration ttl) {
+    Instant now = Instant.now();
+    ObjectNode header = objectMapper.createObjectNode();
+    header.put("alg", "RS256");
+    header.put("kid", KEY_ID);
+    header.put("typ", "JWT");
+    ObjectNode claims = objectMapper.createObjectNode();
+    claims.put("iss", projectId);
+    claims.put("sub", userId);
+    claims.putArray("aud").add(projectId);
+    claims.put("drn", refresh ? "DSR" : "DS");
+    claims.put("iat", now.getEpochSecond());
+    claims.put("exp", now.plus(ttl).getEpochSecond());
+
+    String signingInput = encode(header) + "." + encode(claims);
+    try {
+      Signature signature = Signature.getInstance("SHA256withRSA");
+      signature.initSign(keyPair.getPrivate());
+      signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+      return signingInput + "." + BASE64URL.encodeToString(signature.sign());
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to sign token", e);
+    }
+  }
+
+  /**
+   * Returns the public key as a JWK set.
+   *
+   * @return The JWK set with the single signing key
+   */
+  ObjectNode keys() {
+    RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+    ObjectNode keys = objectMapper.createObjectNode();
+    ObjectNode key = keys.putArray("keys").addObject();
+    key.put("kid", KEY_ID);
+    key.put("kty", "RSA");
+    key.put("alg", "RS256");
+    key.put("use", "sig");
+    key.put("n", unsigned(publicKey.getModulus()));
+    key.put("e", unsigned(publicKey.getPublicExponent()));
+    return keys;
+  }
+
+  private String encode(ObjectNode node) {
+    try {
+      return BASE64URL.encodeToString(objectMapper.writeValueAsBytes(node));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to encode token", e);
+    }
+  }
+
+  // JWK integers are big-endian without the sign byte BigInteger adds for a set high bit
+  private static String unsigned(BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    if (bytes.length > 1 && bytes[0] == 0) {
+      byte[] trimmed = new byte[bytes.length - 1];
+      System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+      bytes = trimmed;
+    }
+    return BASE64URL.encodeToString(bytes);
+  }
+}
@@ -0,0 +1,91 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.input.InputFormat;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for BulkCreateUsersCommand.
+ *
+ * <p>Tests command-line parsing and option handling for the bulk-create-users command.
+ */
+class BulkCreateUsersCommandTest {
+
+  @Test
+  @DisplayName("parse - with file only - should parse with default concurrency")
+  void parse_withFileOnly_shouldParseWithDefaultConcurrency() {
+    // Arrange
+    BulkCreateUsersCommand command = new BulkCreateUsersCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "users.csv");
+
+    // Assert
+    assertThat(optionValue(cmd, "--file")).isEqualTo("users.csv");
+    assertThat(optionValue(cmd, "--concurrency")).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("parse - with all options - should parse correctly")
+  void parse_withAllOptions_shouldParseCorrectly() {
+    // Arrange
+    BulkCreateUsersCommand command = new BulkCreateUsersCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("-f", "users.txt", "--input-format", "JSONL", "-t", "tenant-123", "-c", "32");
+
+    // Assert
+    assertThat(optionValue(cmd, "--input-format")).isEqualTo(InputFormat.JSONL);
+    assertThat(optionValue(cmd, "--tenant-id")).isEqualTo("tenant-123");
+    assertThat(optionValue(cmd, "--concurrency")).isEqualTo(32);
+  }
+
+  @Test
+  @DisplayName("parse - with resume - should enable checkpointing")
+  void parse_withResume_shouldEnableCheckpointing() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new BulkCreateUsersCommand());
+
+    // Act
+    cmd.parseArgs("--file", "users.csv", "--resume");
+
+    // Assert
+    assertThat(optionValue(cmd, "--resume")).isEqualTo(true);
+    assertThat(optionValue(cmd, "--journal")).isNull();
+  }
+
+  @Test
+  @DisplayName("parse - without file - should fail")
+  void parse_withoutFile_shouldFail() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new BulkCreateUsersCommand());
+
+    // Act & Assert
+    assertThatThrownBy(() -> cmd.parseArgs("--tenant-id", "tenant-123"))
+        .isInstanceOf(CommandLine.MissingParameterException.class);
+  }
+
+  @Test
+  @DisplayName("commandSpec - should have correct name and description")
+  void commandSpec_shouldHaveCorrectNameAndDescription() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new BulkCreateUsersCommand());
+
+    // Act & Assert
+    assertThat(cmd.getCommandName()).isEqualTo("bulk-create-users");
+    assertThat(cmd.getCommandSpec().usageMessage().description())
+        .contains("Create Descope users in bulk from a CSV or JSON Lines file");
+  }
+
+  private static Object optionValue(CommandLine cmd, String name) {
+    return cmd.getCommandSpec().findOption(name).getValue();
+  }
+}
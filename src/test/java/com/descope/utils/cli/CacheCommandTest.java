@@ -0,0 +1,41 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for CacheCommand.
+ *
+ * <p>Tests the cache command group and its refresh and clear subcommands.
+ */
+class CacheCommandTest {
+
+  @Test
+  @DisplayName("commandSpec - should have refresh and clear subcommands")
+  void commandSpec_shouldHaveRefreshAndClearSubcommands() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new CacheCommand());
+
+    // Act & Assert
+    assertThat(cmd.getCommandName()).isEqualTo("cache");
+    assertThat(cmd.getSubcommands()).containsKeys("refresh", "clear");
+  }
+
+  @Test
+  @DisplayName("parse - clear with project ID - should pass the option to clear")
+  void parse_clearWithProjectId_shouldPassOptionToClear() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new CacheCommand());
+
+    // Act
+    cmd.parseArgs("clear", "--project-id", "P1");
+
+    // Assert
+    CommandLine clear = cmd.getSubcommands().get("clear");
+    assertThat(clear.getCommandSpec().findOption("--project-id").getValue()).isEqualTo("P1");
+  }
+}
@@ -0,0 +1,74 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.input.InputFormat;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for CreateAppsCommand.
+ *
+ * <p>Tests command-line parsing and option handling for the create-apps command.
+ */
+class CreateAppsCommandTest {
+
+  @Test
+  @DisplayName("parse - with file only - should parse with default concurrency")
+  void parse_withFileOnly_shouldParseWithDefaultConcurrency() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new CreateAppsCommand());
+
+    // Act
+    cmd.parseArgs("--file", "apps.csv");
+
+    // Assert
+    assertThat(optionValue(cmd, "--file")).isEqualTo("apps.csv");
+    assertThat(optionValue(cmd, "--concurrency")).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("parse - with all options - should parse correctly")
+  void parse_withAllOptions_shouldParseCorrectly() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new CreateAppsCommand());
+
+    // Act
+    cmd.parseArgs("-f", "apps.txt", "--input-format", "JSONL", "-c", "16");
+
+    // Assert
+    assertThat(optionValue(cmd, "--input-format")).isEqualTo(InputFormat.JSONL);
+    assertThat(optionValue(cmd, "--concurrency")).isEqualTo(16);
+  }
+
+  @Test
+  @DisplayName("parse - without file - should fail")
+  void parse_withoutFile_shouldFail() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new CreateAppsCommand());
+
+    // Act & Assert
+    assertThatThrownBy(() -> cmd.parseArgs("--concurrency", "2"))
+        .isInstanceOf(CommandLine.MissingParameterException.class);
+  }
+
+  @Test
+  @DisplayName("commandSpec - should have correct name and description")
+  void commandSpec_shouldHaveCorrectNameAndDescription() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new CreateAppsCommand());
+
+    // Act & Assert
+    assertThat(cmd.getCommandName()).isEqualTo("create-apps");
+    assertThat(cmd.getCommandSpec().usageMessage().description())
+        .contains("Create Descope applications in bulk from a CSV or JSON Lines file");
+  }
+
+  private static Object optionValue(CommandLine cmd, String name) {
+    return cmd.getCommandSpec().findOption(name).getValue();
+  }
+}
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 
 import com.descope.utils.model.FederatedAppType;
 
+import picocli.CommandLine;
+
 /**
  * Unit tests for CreateFederatedAppCommand.
  *
@@ -25,6 +27,33 @@ public class CreateFederatedAppCommandTest {
     assertNotNull(command);
   }
 
+  @Test
+  @DisplayName("parse - with verify - should enable verify after write")
+  void parse_withVerify_shouldEnableVerifyAfterWrite() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new CreateFederatedAppCommand());
+
+    // Act
+    cmd.parseArgs("MyApp", "--type", "saml", "--verify");
+
+    // Assert
+    assertEquals(true, cmd.getCommandSpec().findOption("--verify").getValue());
+    assertEquals("saml", cmd.getCommandSpec().findOption("--type").getValue());
+  }
+
+  @Test
+  @DisplayName("parse - without verify - should not load the application back")
+  void parse_withoutVerify_shouldNotLoadApplicationBack() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new CreateFederatedAppCommand());
+
+    // Act
+    cmd.parseArgs("MyApp");
+
+    // Assert
+    assertEquals(false, cmd.getCommandSpec().findOption("--verify").getValue());
+  }
+
   @Test
   @DisplayName("FederatedAppType validation - valid types - should accept oidc and saml")
   void federatedAppTypeValidation_validTypes_shouldAcceptOidcAndSaml() {
@@ -50,6 +50,60 @@ class CreateFgaRelationCommandTest {
     assertThat(cmd.getCommandSpec().name()).isEqualTo("create-fga-relation");
   }
 
+  @Test
+  @DisplayName("parse - with checkpoint options - should parse correctly")
+  void parse_withCheckpointOptions_shouldParseCorrectly() {
+    // Arrange
+    CreateFgaRelationCommand command = new CreateFgaRelationCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs(
+        "--file",
+        "relations.json",
+        "--journal",
+        "relations.journal",
+        "--resume",
+        "--chunk-size",
+        "1000");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--journal").getValue())
+        .isEqualTo("relations.journal");
+    assertThat(cmd.getCommandSpec().findOption("--resume").getValue()).isEqualTo(true);
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(1000);
+  }
+
+  @Test
+  @DisplayName("parse - with chunking options - should parse correctly")
+  void parse_withChunkingOptions_shouldParseCorrectly() {
+    // Arrange
+    CreateFgaRelationCommand command = new CreateFgaRelationCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "relations.json", "--chunk-size", "250", "-c", "8");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(250);
+    assertThat(cmd.getCommandSpec().findOption("--concurrency").getValue()).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("parse - without chunking options - should use defaults")
+  void parse_withoutChunkingOptions_shouldUseDefaults() {
+    // Arrange
+    CreateFgaRelationCommand command = new CreateFgaRelationCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "relations.json");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(500);
+    assertThat(cmd.getCommandSpec().findOption("--concurrency").getValue()).isEqualTo(4);
+  }
+
   @Test
   @DisplayName("parse - with short option names - should parse correctly")
   void parse_withShortOptionNames_shouldParseCorrectly() {
@@ -0,0 +1,47 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for DaemonCommand.
+ *
+ * <p>Tests command-line parsing and default values.
+ */
+class DaemonCommandTest {
+
+  @Test
+  @DisplayName("parse - with socket options - should parse correctly")
+  void parse_withSocketOptions_shouldParseCorrectly() {
+    // Arrange
+    DaemonCommand command = new DaemonCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--socket", "/tmp/ci.sock", "--max-concurrent", "32", "-p", "P123");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--socket").getValue()).isEqualTo("/tmp/ci.sock");
+    assertThat(cmd.getCommandSpec().findOption("--max-concurrent").getValue()).isEqualTo(32);
+    assertThat(cmd.getCommandSpec().findOption("--project-id").getValue()).isEqualTo("P123");
+  }
+
+  @Test
+  @DisplayName("parse - without options - should use defaults")
+  void parse_withoutOptions_shouldUseDefaults() {
+    // Arrange
+    DaemonCommand command = new DaemonCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs();
+
+    // Assert
+    assertThat((String) cmd.getCommandSpec().findOption("--socket").getValue()).isNull();
+    assertThat(cmd.getCommandSpec().findOption("--max-concurrent").getValue()).isEqualTo(16);
+  }
+}
@@ -50,6 +50,36 @@ class DeleteFgaRelationCommandTest {
     assertThat(cmd.getCommandSpec().name()).isEqualTo("delete-fga-relation");
   }
 
+  @Test
+  @DisplayName("parse - with chunking options - should parse correctly")
+  void parse_withChunkingOptions_shouldParseCorrectly() {
+    // Arrange
+    DeleteFgaRelationCommand command = new DeleteFgaRelationCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "relations.json", "--chunk-size", "250", "-c", "8");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(250);
+    assertThat(cmd.getCommandSpec().findOption("--concurrency").getValue()).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("parse - without chunking options - should use defaults")
+  void parse_withoutChunkingOptions_shouldUseDefaults() {
+    // Arrange
+    DeleteFgaRelationCommand command = new DeleteFgaRelationCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "relations.json");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(500);
+    assertThat(cmd.getCommandSpec().findOption("--concurrency").getValue()).isEqualTo(4);
+  }
+
   @Test
   @DisplayName("parse - with short option names - should parse correctly")
   void parse_withShortOptionNames_shouldParseCorrectly() {
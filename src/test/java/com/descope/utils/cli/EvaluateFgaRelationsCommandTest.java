@@ -0,0 +1,94 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for EvaluateFgaRelationsCommand.
+ *
+ * <p>Tests command-line parsing and option handling for the evaluate-fga-relations command.
+ */
+class EvaluateFgaRelationsCommandTest {
+
+  @Test
+  @DisplayName("parse - with query file - should parse correctly")
+  void parse_withQueryFile_shouldParseCorrectly() {
+    // Arrange
+    EvaluateFgaRelationsCommand command = new EvaluateFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs(
+        "--schema",
+        "schema.json",
+        "--tuples",
+        "relations.jsonl",
+        "--queries",
+        "checks.jsonl",
+        "--verify",
+        "100",
+        "--summary-only");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--queries").getValue()).isEqualTo("checks.jsonl");
+    assertThat(cmd.getCommandSpec().findOption("--verify").getValue()).isEqualTo(100);
+    assertThat(cmd.getCommandSpec().findOption("--summary-only").getValue()).isEqualTo(true);
+  }
+
+  @Test
+  @DisplayName("parse - with single check - should default to no verification")
+  void parse_withSingleCheck_shouldDefaultToNoVerification() {
+    // Arrange
+    EvaluateFgaRelationsCommand command = new EvaluateFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs(
+        "-s",
+        "schema.json",
+        "--tuples",
+        "relations.json",
+        "-r",
+        "report-123",
+        "--relation",
+        "viewer",
+        "-n",
+        "document",
+        "-t",
+        "alice");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--verify").getValue()).isEqualTo(0);
+    assertThat(cmd.getCommandSpec().findOption("--resource").getValue()).isEqualTo("report-123");
+  }
+
+  @Test
+  @DisplayName("parse - without schema - should throw exception")
+  void parse_withoutSchema_shouldThrowException() {
+    // Arrange
+    EvaluateFgaRelationsCommand command = new EvaluateFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act & Assert
+    assertThatThrownBy(() -> cmd.parseArgs("--tuples", "relations.json"))
+        .isInstanceOf(CommandLine.MissingParameterException.class);
+  }
+
+  @Test
+  @DisplayName("commandSpec - should have correct name and description")
+  void commandSpec_shouldHaveCorrectNameAndDescription() {
+    // Arrange
+    EvaluateFgaRelationsCommand command = new EvaluateFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act & Assert
+    assertThat(cmd.getCommandName()).isEqualTo("evaluate-fga-relations");
+    assertThat(cmd.getCommandSpec().usageMessage().description())
+        .contains("Evaluate FGA relation checks locally against a schema and relation file");
+  }
+}
@@ -0,0 +1,71 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for ExportFgaRelationsCommand.
+ *
+ * <p>Tests command-line parsing and option handling for the export-fga-relations command.
+ */
+class ExportFgaRelationsCommandTest {
+
+  @Test
+  @DisplayName("parse - with seeds and crawl options - should parse correctly")
+  void parse_withSeedsAndCrawlOptions_shouldParseCorrectly() {
+    // Arrange
+    ExportFgaRelationsCommand command = new ExportFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs(
+        "-r",
+        "doc:1,doc:2",
+        "-t",
+        "user:alice",
+        "--depth",
+        "2",
+        "-c",
+        "8",
+        "--file",
+        "tuples.snap");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--resource").<List<String>>getValue())
+        .containsExactly("doc:1", "doc:2");
+    assertThat(cmd.getCommandSpec().findOption("--target").<List<String>>getValue())
+        .containsExactly("user:alice");
+    assertThat(cmd.getCommandSpec().findOption("--depth").getValue()).isEqualTo(2);
+    assertThat(cmd.getCommandSpec().findOption("--concurrency").getValue()).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("parse - without file - should throw exception")
+  void parse_withoutFile_shouldThrowException() {
+    // Arrange
+    ExportFgaRelationsCommand command = new ExportFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act & Assert
+    assertThatThrownBy(() -> cmd.parseArgs("-r", "doc:1"))
+        .isInstanceOf(CommandLine.MissingParameterException.class);
+  }
+
+  @Test
+  @DisplayName("commandSpec - should have correct name")
+  void commandSpec_shouldHaveCorrectName() {
+    // Arrange
+    ExportFgaRelationsCommand command = new ExportFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act & Assert
+    assertThat(cmd.getCommandName()).isEqualTo("export-fga-relations");
+  }
+}
@@ -0,0 +1,46 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for ImportFgaRelationsCommand.
+ *
+ * <p>Tests command-line parsing and option handling for the import-fga-relations command.
+ */
+class ImportFgaRelationsCommandTest {
+
+  @Test
+  @DisplayName("parse - with file only - should use default chunking")
+  void parse_withFileOnly_shouldUseDefaultChunking() {
+    // Arrange
+    ImportFgaRelationsCommand command = new ImportFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "tuples.snap");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(500);
+    assertThat(cmd.getCommandSpec().findOption("--concurrency").getValue()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("parse - with checkpoint options - should parse correctly")
+  void parse_withCheckpointOptions_shouldParseCorrectly() {
+    // Arrange
+    ImportFgaRelationsCommand command = new ImportFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("-f", "tuples.snap", "--resume", "--chunk-size", "1000");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--resume").getValue()).isEqualTo(true);
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(1000);
+  }
+}
@@ -0,0 +1,76 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for MigrateLegacyUsersCommand.
+ *
+ * <p>Tests command-line parsing and option handling for the migrate-legacy-users command.
+ */
+class MigrateLegacyUsersCommandTest {
+
+  @Test
+  @DisplayName("parse - with file only - should parse with default batching")
+  void parse_withFileOnly_shouldParseWithDefaultBatching() {
+    // Arrange
+    MigrateLegacyUsersCommand command = new MigrateLegacyUsersCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "export.csv");
+
+    // Assert
+    assertThat(optionValue(cmd, "--file")).isEqualTo("export.csv");
+    assertThat(optionValue(cmd, "--batch-size")).isEqualTo(100);
+    assertThat(optionValue(cmd, "--concurrency")).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("parse - with all options - should parse correctly")
+  void parse_withAllOptions_shouldParseCorrectly() {
+    // Arrange
+    MigrateLegacyUsersCommand command = new MigrateLegacyUsersCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("-f", "export.jsonl", "-t", "t1", "--batch-size", "500", "-c", "2");
+
+    // Assert
+    assertThat(optionValue(cmd, "--tenant")).isEqualTo("t1");
+    assertThat(optionValue(cmd, "--batch-size")).isEqualTo(500);
+    assertThat(optionValue(cmd, "--concurrency")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("parse - without file - should fail")
+  void parse_withoutFile_shouldFail() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new MigrateLegacyUsersCommand());
+
+    // Act & Assert
+    assertThatThrownBy(() -> cmd.parseArgs("--tenant", "tenant-123"))
+        .isInstanceOf(CommandLine.MissingParameterException.class);
+  }
+
+  @Test
+  @DisplayName("commandSpec - should have correct name and description")
+  void commandSpec_shouldHaveCorrectNameAndDescription() {
+    // Arrange
+    CommandLine cmd = new CommandLine(new MigrateLegacyUsersCommand());
+
+    // Act & Assert
+    assertThat(cmd.getCommandName()).isEqualTo("migrate-legacy-users");
+    assertThat(cmd.getCommandSpec().usageMessage().description())
+        .contains("Migrate legacy users in bulk from a CSV or JSON Lines export file");
+  }
+
+  private static Object optionValue(CommandLine cmd, String name) {
+    return cmd.getCommandSpec().findOption(name).getValue();
+  }
+}
@@ -0,0 +1,73 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for PathArguments.
+ *
+ * <p>Tests which option values are resolved against the directory.
+ */
+class PathArgumentsTest {
+
+  private static final Path CLIENT_DIRECTORY = Path.of("/home/ci/work");
+
+  @Test
+  @DisplayName("resolve - relative file and journal - resolves them against the directory")
+  void resolve_relativeFileAndJournal_resolvesThemAgainstTheDirectory() {
+    // Arrange
+    CommandLine command = new CommandLine(new BulkCreateUsersCommand());
+
+    // Act
+    List<String> resolved =
+        PathArguments.resolve(
+            command,
+            List.of("-f", "users.csv", "--journal=state/users.journal", "-t", "T1"),
+            CLIENT_DIRECTORY);
+
+    // Assert
+    assertThat(resolved)
+        .containsExactly(
+            "-f",
+            CLIENT_DIRECTORY.resolve("users.csv").toString(),
+            "--journal=" + CLIENT_DIRECTORY.resolve("state/users.journal"),
+            "-t",
+            "T1");
+  }
+
+  @Test
+  @DisplayName("resolve - absolute file - leaves it unchanged")
+  void resolve_absoluteFile_leavesItUnchanged() {
+    // Arrange
+    CommandLine command = new CommandLine(new BulkCreateUsersCommand());
+
+    // Act
+    List<String> resolved =
+        PathArguments.resolve(command, List.of("--file", "/data/users.csv"), CLIENT_DIRECTORY);
+
+    // Assert
+    assertThat(resolved).containsExactly("--file", "/data/users.csv");
+  }
+
+  @Test
+  @DisplayName("resolve - short option that is not a path - leaves its value unchanged")
+  void resolve_shortOptionThatIsNotAPath_leavesItsValueUnchanged() {
+    // Arrange
+    CommandLine command = new CommandLine(new MigrateLegacyUserCommand());
+
+    // Act
+    List<String> resolved =
+        PathArguments.resolve(
+            command, List.of("-e", "ada@example.com", "-f", "Ada"), CLIENT_DIRECTORY);
+
+    // Assert
+    assertThat(resolved).containsExactly("-e", "ada@example.com", "-f", "Ada");
+  }
+}
@@ -0,0 +1,63 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for RunScriptCommand.
+ *
+ * <p>Tests command-line parsing and default values.
+ */
+class RunScriptCommandTest {
+
+  @Test
+  @DisplayName("parse - with script options - should parse correctly")
+  void parse_withScriptOptions_shouldParseCorrectly() {
+    // Arrange
+    RunScriptCommand command = new RunScriptCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "setup.txt", "-c", "8", "--chunk-size", "100", "-e", "--dry-run");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--file").getValue()).isEqualTo("setup.txt");
+    assertThat(cmd.getCommandSpec().findOption("--concurrency").getValue()).isEqualTo(8);
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(100);
+    assertThat(cmd.getCommandSpec().findOption("--stop-on-error").getValue()).isEqualTo(true);
+    assertThat(cmd.getCommandSpec().findOption("--dry-run").getValue()).isEqualTo(true);
+  }
+
+  @Test
+  @DisplayName("parse - without optional options - should use defaults")
+  void parse_withoutOptionalOptions_shouldUseDefaults() {
+    // Arrange
+    RunScriptCommand command = new RunScriptCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("-f", "setup.txt");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--concurrency").getValue()).isEqualTo(4);
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(500);
+    assertThat(cmd.getCommandSpec().findOption("--stop-on-error").getValue()).isEqualTo(false);
+  }
+
+  @Test
+  @DisplayName("parse - missing file - should throw exception")
+  void parse_missingFile_shouldThrowException() {
+    // Arrange
+    RunScriptCommand command = new RunScriptCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act & Assert
+    assertThatThrownBy(() -> cmd.parseArgs("-c", "2"))
+        .isInstanceOf(CommandLine.MissingParameterException.class);
+  }
+}
@@ -0,0 +1,61 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for ShellCommand.
+ *
+ * <p>Tests command-line parsing and the splitting of script lines into arguments.
+ */
+class ShellCommandTest {
+
+  @Test
+  @DisplayName("parse - with script options - should parse correctly")
+  void parse_withScriptOptions_shouldParseCorrectly() {
+    // Arrange
+    ShellCommand command = new ShellCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "setup.txt", "-e", "-o", "JSON");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--file").getValue()).isEqualTo("setup.txt");
+    assertThat(cmd.getCommandSpec().findOption("--stop-on-error").getValue()).isEqualTo(true);
+  }
+
+  @Test
+  @DisplayName("tokenize - plain arguments - splits on whitespace")
+  void tokenize_plainArguments_splitsOnWhitespace() {
+    assertThat(ShellCommand.tokenize("  create-tenant   --name=Acme\t-o JSON "))
+        .containsExactly("create-tenant", "--name=Acme", "-o", "JSON");
+  }
+
+  @Test
+  @DisplayName("tokenize - quoted arguments - keeps spaces and removes quotes")
+  void tokenize_quotedArguments_keepsSpacesAndRemovesQuotes() {
+    assertThat(ShellCommand.tokenize("create-tenant --name \"Acme Corp\" --id='a b' x\"y z\""))
+        .containsExactly("create-tenant", "--name", "Acme Corp", "--id=a b", "xy z");
+  }
+
+  @Test
+  @DisplayName("tokenize - escapes and empty quotes - are preserved")
+  void tokenize_escapesAndEmptyQuotes_arePreserved() {
+    assertThat(ShellCommand.tokenize("a\\ b \"say \\\"hi\\\"\" '' 'c\\d'"))
+        .containsExactly("a b", "say \"hi\"", "", "c\\d");
+  }
+
+  @Test
+  @DisplayName("tokenize - unterminated quote - throws exception")
+  void tokenize_unterminatedQuote_throwsException() {
+    assertThatThrownBy(() -> ShellCommand.tokenize("create-tenant --name \"Acme"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Unterminated");
+  }
+}
@@ -0,0 +1,132 @@
+package com.descope.utils.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.descope.utils.config.ConfigurationService;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.descope.utils.output.JsonFormatter;
+import com.descope.utils.output.OutputFormatter;
+import com.descope.utils.output.TextFormatter;
+import com.descope.utils.service.AuthzService;
+import com.descope.utils.service.DescopeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import picocli.CommandLine;
+
+/**
+ * Unit tests for SyncFgaRelationsCommand.
+ *
+ * <p>Tests command-line parsing and option handling for the sync-fga-relations command.
+ */
+class SyncFgaRelationsCommandTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("parse - with file only - should use defaults")
+  void parse_withFileOnly_shouldUseDefaults() {
+    // Arrange
+    SyncFgaRelationsCommand command = new SyncFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("--file", "relations.jsonl");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--dry-run").getValue()).isEqualTo(false);
+    assertThat(cmd.getCommandSpec().findOption("--chunk-size").getValue()).isEqualTo(500);
+    assertThat(cmd.getCommandSpec().findOption("--concurrency").getValue()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("parse - with scope and dry run - should parse correctly")
+  void parse_withScopeAndDryRun_shouldParseCorrectly() {
+    // Arrange
+    SyncFgaRelationsCommand command = new SyncFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act
+    cmd.parseArgs("-f", "relations.jsonl", "-r", "doc:1,doc:2", "-t", "user:alice", "--dry-run");
+
+    // Assert
+    assertThat(cmd.getCommandSpec().findOption("--resource").<List<String>>getValue())
+        .containsExactly("doc:1", "doc:2");
+    assertThat(cmd.getCommandSpec().findOption("--target").<List<String>>getValue())
+        .containsExactly("user:alice");
+    assertThat(cmd.getCommandSpec().findOption("--dry-run").getValue()).isEqualTo(true);
+  }
+
+  @Test
+  @DisplayName("parse - without file - should throw exception")
+  void parse_withoutFile_shouldThrowException() {
+    // Arrange
+    SyncFgaRelationsCommand command = new SyncFgaRelationsCommand();
+    CommandLine cmd = new CommandLine(command);
+
+    // Act & Assert
+    assertThatThrownBy(() -> cmd.parseArgs("--dry-run"))
+        .isInstanceOf(CommandLine.MissingParameterException.class);
+  }
+
+  @Test
+  @Timeout(10)
+  @DisplayName("call - one current-state lookup fails - exits non-zero")
+  void call_oneCurrentStateLookupFails_exitsNonZero() throws Exception {
+    // Arrange
+    Path file = tempDir.resolve("relations.jsonl");
+    Files.writeString(
+        file,
+        "{\"resource\":\"doc:1\",\"relationDefinition\":\"owner\",\"namespace\":\"doc\","
+            + "\"target\":\"user:alice\"}\n"
+            + "{\"resource\":\"doc:2\",\"relationDefinition\":\"owner\",\"namespace\":\"doc\","
+            + "\"target\":\"user:alice\"}\n");
+    AtomicInteger lookups = new AtomicInteger();
+    AuthzService authzService =
+        new AuthzService(new DescopeService()) {
+          @Override
+          public OperationResult<List<RelationTupleModel>> resourceRelations(
+              DescopeConfig config, String resource) {
+            if (lookups.incrementAndGet() == 1) {
+              throw new RuntimeException("Failed to query resource relations: boom");
+            }
+            return OperationResult.success(List.of(), "Found 0 relation(s)");
+          }
+        };
+    SyncFgaRelationsCommand command = new SyncFgaRelationsCommand();
+    inject(command, "configService", new ConfigurationService());
+    inject(command, "authzService", authzService);
+    inject(
+        command, "outputFormatter", new OutputFormatter(new JsonFormatter(), new TextFormatter()));
+    inject(command, "objectMapper", new ObjectMapper());
+
+    // Act
+    int exitCode =
+        new CommandLine(command)
+            .execute("-p", "P1", "-k", "K1", "-f", file.toString(), "--concurrency", "1");
+
+    // Assert
+    assertThat(exitCode).isEqualTo(1);
+    assertThat(lookups.get()).isEqualTo(2);
+  }
+
+  private static void inject(Object target, String name, Object value)
+      throws ReflectiveOperationException {
+    Field field = target.getClass().getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(target, value);
+  }
+}
@@ -1,6 +1,7 @@
 package com.descope.utils.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -202,4 +203,24 @@ public class ConfigurationServiceTest {
     // In real scenarios, the ConfigurationService would check System.getenv()
     // which would be mocked in more sophisticated tests
   }
+
+  @Test
+  @DisplayName("baseUrl - property and environment set - should prefer property")
+  void baseUrl_propertyAndEnvironment_shouldPreferProperty() {
+    // Act & Assert
+    assertThat(service.baseUrl("http://127.0.0.1:8085", "https://api.example.com"))
+        .isEqualTo("http://127.0.0.1:8085");
+    assertThat(service.baseUrl(null, " https://api.example.com "))
+        .isEqualTo("https://api.example.com");
+    assertThat(service.baseUrl("", null)).isNull();
+  }
+
+  @Test
+  @DisplayName("baseUrl - not an http URL - should throw IllegalArgumentException")
+  void baseUrl_notHttpUrl_shouldThrow() {
+    // Act & Assert
+    assertThatThrownBy(() -> service.baseUrl("localhost:8085", null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("http or https");
+  }
 }
@@ -132,4 +132,35 @@ public class DescopeConfigTest {
     // Assert
     assertThat(result).contains("project-123").contains("***").doesNotContain("secret-key");
   }
+
+  @Test
+  @DisplayName("withBaseUrl - url - should keep credentials and set base URL")
+  void withBaseUrl_url_shouldKeepCredentialsAndSetBaseUrl() {
+    // Arrange
+    DescopeConfig config =
+        new DescopeConfig("project-123", "key-456", CredentialSource.ENVIRONMENT);
+
+    // Act
+    DescopeConfig stubbed = config.withBaseUrl(" http://127.0.0.1:8085 ");
+
+    // Assert
+    assertThat(config.getBaseUrl()).isNull();
+    assertThat(stubbed.getBaseUrl()).isEqualTo("http://127.0.0.1:8085");
+    assertThat(stubbed.getProjectId()).isEqualTo("project-123");
+    assertThat(stubbed.getSource()).isEqualTo(CredentialSource.ENVIRONMENT);
+    assertThat(stubbed).isNotEqualTo(config);
+  }
+
+  @Test
+  @DisplayName("constructor - blank base URL - should use SDK default")
+  void constructor_blankBaseUrl_shouldUseSdkDefault() {
+    // Act
+    DescopeConfig config =
+        new DescopeConfig("project-123", "key-456", CredentialSource.COMMAND_LINE, "  ");
+
+    // Assert
+    assertThat(config.getBaseUrl()).isNull();
+    assertThat(config)
+        .isEqualTo(new DescopeConfig("project-123", "key-456", CredentialSource.COMMAND_LINE));
+  }
 }
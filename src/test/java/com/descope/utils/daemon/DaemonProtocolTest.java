@@ -0,0 +1,98 @@
+package com.descope.utils.daemon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DaemonProtocolTest {
+
+  @Test
+  @DisplayName("readRequest - written request - round-trips every field")
+  void readRequest_writtenRequest_roundTripsEveryField() throws IOException {
+    // Arrange
+    DaemonRequest request =
+        new DaemonRequest(
+            List.of("create-tenant", "--name", "Acme Corp", "ünïcode"), "/work", "P123", null);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DaemonProtocol.writeRequest(new DataOutputStream(bytes), request);
+
+    // Act
+    DaemonRequest read =
+        DaemonProtocol.readRequest(
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+    // Assert
+    assertThat(read).isEqualTo(request);
+  }
+
+  @Test
+  @DisplayName("readRequest - other protocol version - throws exception")
+  void readRequest_otherProtocolVersion_throwsException() {
+    // Arrange
+    byte[] bytes = {99};
+
+    // Act & Assert
+    assertThatThrownBy(
+            () -> DaemonProtocol.readRequest(new DataInputStream(new ByteArrayInputStream(bytes))))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("version");
+  }
+
+  @Test
+  @DisplayName("readResponse - interleaved frames - copies each stream and returns exit code")
+  void readResponse_interleavedFrames_copiesEachStreamAndReturnsExitCode() throws IOException {
+    // Arrange
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    writeChunk(out, DaemonProtocol.STDOUT, "one\n");
+    writeChunk(out, DaemonProtocol.STDERR, "warning\n");
+    writeChunk(out, DaemonProtocol.STDOUT, "two\n");
+    DaemonProtocol.writeExit(out, 3);
+    ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+    // Act
+    int exitCode =
+        DaemonProtocol.readResponse(
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), stdout, stderr);
+
+    // Assert
+    assertThat(exitCode).isEqualTo(3);
+    assertThat(stdout.toString(StandardCharsets.UTF_8)).isEqualTo("one\ntwo\n");
+    assertThat(stderr.toString(StandardCharsets.UTF_8)).isEqualTo("warning\n");
+  }
+
+  @Test
+  @DisplayName("readResponse - missing exit frame - throws exception")
+  void readResponse_missingExitFrame_throwsException() throws IOException {
+    // Arrange
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    writeChunk(new DataOutputStream(bytes), DaemonProtocol.STDOUT, "partial");
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                DaemonProtocol.readResponse(
+                    new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+                    new ByteArrayOutputStream(),
+                    new ByteArrayOutputStream()))
+        .isInstanceOf(EOFException.class);
+  }
+
+  private static void writeChunk(DataOutputStream out, byte type, String text)
+      throws IOException {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    DaemonProtocol.writeChunk(out, type, bytes, 0, bytes.length);
+  }
+}
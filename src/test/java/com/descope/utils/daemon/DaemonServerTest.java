@@ -0,0 +1,261 @@
+package com.descope.utils.daemon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.descope.utils.script.ScriptLine;
+import com.descope.utils.script.ScriptPlan;
+import com.descope.utils.script.ScriptScheduler;
+
+class DaemonServerTest {
+
+  @TempDir Path tempDir;
+
+  private DaemonServer server;
+  private Thread serverThread;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (server != null) {
+      server.close();
+      serverThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+  }
+
+  @Test
+  @DisplayName("send - command printing to System.out - streams output and exit code")
+  void send_commandPrintingToSystemOut_streamsOutputAndExitCode() throws Exception {
+    // Arrange
+    Path socket =
+        start(
+            (request, out, err) -> {
+              System.out.println("args=" + request.args());
+              System.err.println("project=" + request.projectId());
+              return 7;
+            });
+    ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+    // Act
+    int exitCode =
+        DaemonClient.send(
+            socket,
+            new DaemonRequest(List.of("list-roles", "-o", "JSON"), "/work", "P123", null),
+            stdout,
+            stderr);
+
+    // Assert
+    assertThat(exitCode).isEqualTo(7);
+    assertThat(stdout.toString(StandardCharsets.UTF_8))
+        .isEqualTo("args=[list-roles, -o, JSON]" + System.lineSeparator());
+    assertThat(stderr.toString(StandardCharsets.UTF_8))
+        .isEqualTo("project=P123" + System.lineSeparator());
+  }
+
+  @Test
+  @DisplayName("send - concurrent requests - keeps each request's output separate")
+  void send_concurrentRequests_keepsEachRequestsOutputSeparate() throws Exception {
+    // Arrange
+    int clients = 4;
+    CountDownLatch allRunning = new CountDownLatch(clients);
+    Path socket =
+        start(
+            (request, out, err) -> {
+              allRunning.countDown();
+              allRunning.await(10, TimeUnit.SECONDS);
+              for (int i = 0; i < 100; i++) {
+                System.out.println(request.args().get(0));
+              }
+              return 0;
+            });
+    ExecutorService executor = Executors.newFixedThreadPool(clients);
+    List<Future<String>> outputs = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < clients; i++) {
+      String name = "client-" + i;
+      outputs.add(
+          executor.submit(
+              () -> {
+                ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+                DaemonClient.send(
+                    socket,
+                    new DaemonRequest(List.of(name), "/work", null, null),
+                    stdout,
+                    new ByteArrayOutputStream());
+                return stdout.toString(StandardCharsets.UTF_8);
+              }));
+    }
+
+    // Assert
+    for (int i = 0; i < clients; i++) {
+      assertThat(outputs.get(i).get(10, TimeUnit.SECONDS).lines())
+          .hasSize(100)
+          .containsOnly("client-" + i);
+    }
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("send - script steps printing on worker threads - streams their output")
+  void send_scriptStepsPrintingOnWorkerThreads_streamsTheirOutput() throws Exception {
+    // Arrange
+    // The same scheduler run-script uses, so each step prints on a script-N thread
+    ScriptPlan plan =
+        ScriptPlan.of(
+            List.of(
+                new ScriptLine(1, List.of("create-role", "a"), "create-role", "a", Map.of()),
+                new ScriptLine(2, List.of("create-role", "b"), "create-role", "b", Map.of())));
+    Path socket =
+        start(
+            (request, out, err) -> {
+              new ScriptScheduler(2, false)
+                  .run(
+                      plan,
+                      step -> {
+                        System.out.println("ran line " + step.getFirstLine().lineNumber());
+                        return 0;
+                      },
+                      outcome -> {});
+              return 0;
+            });
+    ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+
+    // Act
+    int exitCode =
+        DaemonClient.send(
+            socket,
+            new DaemonRequest(List.of("run-script", "-f", "setup.txt"), "/work", null, null),
+            stdout,
+            new ByteArrayOutputStream());
+
+    // Assert
+    assertThat(exitCode).isZero();
+    assertThat(stdout.toString(StandardCharsets.UTF_8).lines())
+        .containsExactlyInAnyOrder("ran line 1", "ran line 2");
+  }
+
+  @Test
+  @DisplayName("send - handler throws - returns exit code 1 with the message")
+  void send_handlerThrows_returnsExitCode1WithTheMessage() throws Exception {
+    // Arrange
+    Path socket =
+        start(
+            (request, out, err) -> {
+              throw new IllegalStateException("boom");
+            });
+    ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+    // Act
+    int exitCode =
+        DaemonClient.send(
+            socket,
+            new DaemonRequest(List.of("x"), "/work", null, null),
+            new ByteArrayOutputStream(),
+            stderr);
+
+    // Assert
+    assertThat(exitCode).isEqualTo(1);
+    assertThat(stderr.toString(StandardCharsets.UTF_8)).contains("Error: boom");
+  }
+
+  @Test
+  @DisplayName("serve - stale socket file - replaces it")
+  void serve_staleSocketFile_replacesIt() throws Exception {
+    // Arrange
+    Files.writeString(tempDir.resolve("daemon.sock"), "stale");
+
+    // Act
+    Path socket = start((request, out, err) -> 0);
+
+    // Assert
+    assertThat(
+            DaemonClient.send(
+                socket,
+                new DaemonRequest(List.of("x"), "/work", null, null),
+                new ByteArrayOutputStream(),
+                new ByteArrayOutputStream()))
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("serve - socket file - is only accessible to the owner and leaves no bind directory")
+  void serve_socketFile_isOnlyAccessibleToOwnerAndLeavesNoBindDirectory() throws Exception {
+    // Act
+    Path socket = start((request, out, err) -> 0);
+    // A served request means binding has finished, including removing the bind directory
+    DaemonClient.send(
+        socket,
+        new DaemonRequest(List.of("x"), "/work", null, null),
+        new ByteArrayOutputStream(),
+        new ByteArrayOutputStream());
+
+    // Assert
+    assertThat(
+            PosixFilePermissions.toString(
+                Files.getPosixFilePermissions(socket, LinkOption.NOFOLLOW_LINKS)))
+        .isEqualTo("rw-------");
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertThat(files).containsExactly(socket);
+    }
+  }
+
+  @Test
+  @DisplayName("serve - socket already in use - throws exception")
+  void serve_socketAlreadyInUse_throwsException() throws Exception {
+    // Arrange
+    Path socket = start((request, out, err) -> 0);
+
+    // Act & Assert
+    try (DaemonServer second = new DaemonServer(socket, 1, (request, out, err) -> 0)) {
+      assertThatThrownBy(second::serve)
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("already listening");
+    }
+  }
+
+  private Path start(DaemonServer.Handler handler) throws InterruptedException {
+    Path socket = tempDir.resolve("daemon.sock");
+    server = new DaemonServer(socket, 8, handler);
+    serverThread =
+        new Thread(
+            () -> {
+              try {
+                server.serve();
+              } catch (IOException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+    serverThread.start();
+    // Wait until the socket is bound and a client can connect
+    for (int i = 0; i < 200; i++) {
+      if (Files.exists(socket) && !Files.isRegularFile(socket)) {
+        break;
+      }
+      Thread.sleep(10);
+    }
+    return socket;
+  }
+}
@@ -0,0 +1,65 @@
+package com.descope.utils.fga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.descope.utils.rebac.TupleStore;
+
+class RelationDiffTest {
+
+  private static final RelationTupleModel ALICE_OWNS_D1 =
+      new RelationTupleModel("d1", "owner", "doc", "alice");
+  private static final RelationTupleModel ALICE_VIEWS_D1 =
+      new RelationTupleModel("d1", "viewer", "doc", "alice");
+  private static final RelationTupleModel BOB_VIEWS_D1 =
+      new RelationTupleModel("d1", "viewer", "doc", "bob");
+
+  @Test
+  @DisplayName("between - overlapping sets - returns only the changes")
+  void between_overlappingSets_returnsOnlyTheChanges() {
+    // Arrange
+    TupleStore desired = TupleStore.builder().add(ALICE_OWNS_D1).add(BOB_VIEWS_D1).build();
+    TupleStore current = TupleStore.builder().add(ALICE_VIEWS_D1).add(BOB_VIEWS_D1).build();
+
+    // Act
+    RelationDiff diff = RelationDiff.between(desired, current);
+
+    // Assert
+    assertThat(diff.isEmpty()).isFalse();
+    assertThat(diff.getCreates()).containsExactly(ALICE_OWNS_D1);
+    assertThat(diff.getDeletes()).containsExactly(ALICE_VIEWS_D1);
+  }
+
+  @Test
+  @DisplayName("between - same tuples in a different order - is empty")
+  void between_sameTuplesInADifferentOrder_isEmpty() {
+    // Arrange
+    TupleStore desired = TupleStore.builder().add(ALICE_OWNS_D1).add(BOB_VIEWS_D1).build();
+    TupleStore current =
+        TupleStore.builder().add(BOB_VIEWS_D1).add(ALICE_OWNS_D1).add(BOB_VIEWS_D1).build();
+
+    // Act
+    RelationDiff diff = RelationDiff.between(desired, current);
+
+    // Assert
+    assertThat(diff.isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("between - nothing exists yet - creates every desired tuple")
+  void between_nothingExistsYet_createsEveryDesiredTuple() {
+    // Arrange
+    TupleStore desired = TupleStore.builder().add(ALICE_OWNS_D1).add(BOB_VIEWS_D1).build();
+    TupleStore current = TupleStore.builder().build();
+
+    // Act
+    RelationDiff diff = RelationDiff.between(desired, current);
+
+    // Assert
+    assertThat(diff.getCreates()).containsExactlyInAnyOrder(ALICE_OWNS_D1, BOB_VIEWS_D1);
+    assertThat(diff.getDeletes()).isEmpty();
+  }
+}
@@ -0,0 +1,120 @@
+package com.descope.utils.fga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+
+class TupleSnapshotTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("write and open - tuples - round trip through the mapped file")
+  void writeAndOpen_tuples_roundTripThroughTheMappedFile() throws IOException {
+    // Arrange
+    TupleSnapshotWriter writer = new TupleSnapshotWriter();
+    writer.add(new RelationTupleModel("doc:1", "owner", "doc", "user:alice"));
+    writer.add(new RelationTupleModel("doc:2", "viewer", "doc", "user:bjørn"));
+    writer.add(new RelationTupleModel("folder:1", "parent", "folder", "doc:1"));
+    Path file = tempDir.resolve("tuples.snap");
+
+    // Act
+    int written = writer.write(file);
+    TupleSnapshot snapshot = TupleSnapshot.open(file);
+
+    // Assert
+    assertThat(written).isEqualTo(3);
+    assertThat(snapshot.size()).isEqualTo(3);
+    assertThat(readAll(snapshot))
+        .containsExactlyInAnyOrder(
+            new RelationTupleModel("doc:1", "owner", "doc", "user:alice"),
+            new RelationTupleModel("doc:2", "viewer", "doc", "user:bjørn"),
+            new RelationTupleModel("folder:1", "parent", "folder", "doc:1"));
+  }
+
+  @Test
+  @DisplayName("write - duplicate tuples - stores each tuple and string once")
+  void write_duplicateTuples_storesEachTupleAndStringOnce() throws IOException {
+    // Arrange
+    TupleSnapshotWriter writer = new TupleSnapshotWriter();
+    for (int i = 0; i < 3; i++) {
+      writer.add(new RelationTupleModel("doc:1", "owner", "doc", "user:alice"));
+    }
+    writer.add(new RelationTupleModel("doc:1", "viewer", "doc", "user:alice"));
+    Path file = tempDir.resolve("tuples.snap");
+
+    // Act
+    int written = writer.write(file);
+    TupleSnapshot snapshot = TupleSnapshot.open(file);
+
+    // Assert
+    assertThat(writer.size()).isEqualTo(4);
+    assertThat(written).isEqualTo(2);
+    assertThat(snapshot.symbolCount()).isEqualTo(5);
+    assertThat(snapshot.resourceId(0)).isEqualTo(snapshot.resourceId(1));
+    assertThat(snapshot.symbol(snapshot.resourceId(0))).isEqualTo("doc:1");
+  }
+
+  @Test
+  @DisplayName("open - empty snapshot - has no tuples")
+  void open_emptySnapshot_hasNoTuples() throws IOException {
+    // Arrange
+    Path file = tempDir.resolve("empty.snap");
+    new TupleSnapshotWriter().write(file);
+
+    // Act
+    TupleSnapshot snapshot = TupleSnapshot.open(file);
+
+    // Assert
+    assertThat(snapshot.size()).isZero();
+    assertThat(snapshot.iterator().hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("open - truncated file - throws exception")
+  void open_truncatedFile_throwsException() throws IOException {
+    // Arrange
+    TupleSnapshotWriter writer = new TupleSnapshotWriter();
+    writer.add(new RelationTupleModel("doc:1", "owner", "doc", "user:alice"));
+    Path file = tempDir.resolve("tuples.snap");
+    writer.write(file);
+    byte[] bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+
+    // Act & Assert
+    assertThatThrownBy(() -> TupleSnapshot.open(file))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("corrupt");
+  }
+
+  @Test
+  @DisplayName("open - other file - throws exception")
+  void open_otherFile_throwsException() {
+    // Arrange
+    ByteBuffer buffer = ByteBuffer.wrap("{\"relations\": []}   ".getBytes());
+
+    // Act & Assert
+    assertThatThrownBy(() -> new TupleSnapshot(buffer, "relations.json"))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("Not a tuple snapshot");
+  }
+
+  private static List<RelationTupleModel> readAll(TupleSnapshot snapshot) {
+    List<RelationTupleModel> tuples = new ArrayList<>();
+    snapshot.forEach(tuples::add);
+    return tuples;
+  }
+}
@@ -0,0 +1,113 @@
+package com.descope.utils.input;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RelationTupleReaderTest {
+
+  private static final String TUPLE_1 =
+      "{\"resource\":\"doc:1\",\"relationDefinition\":\"owner\",\"namespace\":\"doc\","
+          + "\"target\":\"user:alice\"}";
+  private static final String TUPLE_2 =
+      "{\"resource\":\"doc:2\",\"relationDefinition\":\"viewer\",\"namespace\":\"doc\","
+          + "\"target\":\"user:bob\"}";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("next - batch document - reads every tuple in order")
+  void next_batchDocument_readsEveryTupleInOrder() throws IOException {
+    // Arrange
+    Path file = write("{\"relations\": [\n" + TUPLE_1 + ",\n" + TUPLE_2 + "\n]}");
+
+    // Act
+    List<RelationTupleModel> tuples = readAll(file);
+
+    // Assert
+    assertThat(tuples).hasSize(2);
+    assertThat(tuples.get(0).getResource()).isEqualTo("doc:1");
+    assertThat(tuples.get(1).getTarget()).isEqualTo("user:bob");
+  }
+
+  @Test
+  @DisplayName("next - relations field not first - skips other fields")
+  void next_relationsFieldNotFirst_skipsOtherFields() throws IOException {
+    // Arrange
+    Path file = write("{\"version\":1,\"meta\":{\"a\":[1,2]},\"relations\":[" + TUPLE_1 + "]}");
+
+    // Act
+    List<RelationTupleModel> tuples = readAll(file);
+
+    // Assert
+    assertThat(tuples).hasSize(1);
+    assertThat(tuples.get(0).getRelationDefinition()).isEqualTo("owner");
+  }
+
+  @Test
+  @DisplayName("next - JSON Lines - reads one tuple per line")
+  void next_jsonLines_readsOneTuplePerLine() throws IOException {
+    // Arrange
+    Path file = write(TUPLE_1 + "\n\n" + TUPLE_2 + "\n");
+
+    // Act
+    List<RelationTupleModel> tuples = readAll(file);
+
+    // Assert
+    assertThat(tuples).hasSize(2);
+    assertThat(tuples.get(1).getResource()).isEqualTo("doc:2");
+  }
+
+  @Test
+  @DisplayName("next - empty relations array - throws exception")
+  void next_emptyRelationsArray_throwsException() throws IOException {
+    // Arrange
+    Path file = write("{\"relations\": []}");
+
+    // Act & Assert
+    assertThatThrownBy(() -> readAll(file))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("cannot be empty");
+  }
+
+  @Test
+  @DisplayName("next - tuple missing field - reports tuple number")
+  void next_tupleMissingField_reportsTupleNumber() throws IOException {
+    // Arrange
+    Path file = write(TUPLE_1 + "\n{\"resource\":\"doc:3\"}\n");
+
+    // Act & Assert
+    assertThatThrownBy(() -> readAll(file))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Invalid relation tuple 2");
+  }
+
+  private Path write(String content) throws IOException {
+    Path file = tempDir.resolve("relations.json");
+    Files.writeString(file, content, StandardCharsets.UTF_8);
+    return file;
+  }
+
+  private List<RelationTupleModel> readAll(Path file) throws IOException {
+    List<RelationTupleModel> tuples = new ArrayList<>();
+    try (RelationTupleReader reader = RelationTupleReader.open(file, objectMapper)) {
+      reader.forEachRemaining(tuples::add);
+    }
+    return tuples;
+  }
+}
@@ -0,0 +1,99 @@
+package com.descope.utils.input;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RowReaderTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("next - CSV with header - maps columns by normalized name")
+  void next_csvWithHeader_mapsColumnsByNormalizedName() {
+    // Arrange
+    String csv = "Login_Id,Email,tenant-id\nalice,alice@example.com,t1\n\nbob,,t2\n";
+
+    // Act
+    List<InputRow> rows = readAll(csv, InputFormat.CSV);
+
+    // Assert
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0).rowNumber()).isEqualTo(1);
+    assertThat(rows.get(0).get("loginId")).isEqualTo("alice");
+    assertThat(rows.get(0).get("email")).isEqualTo("alice@example.com");
+    assertThat(rows.get(0).get("tenantId")).isEqualTo("t1");
+    assertThat(rows.get(1).rowNumber()).isEqualTo(2);
+    assertThat(rows.get(1).get("email")).isNull();
+  }
+
+  @Test
+  @DisplayName("parseCsvLine - quoted fields - keeps commas and unescapes quotes")
+  void parseCsvLine_quotedFields_keepsCommasAndUnescapesQuotes() {
+    // Act
+    List<String> values = RowReader.parseCsvLine("a,\"b,c\",\"say \"\"hi\"\"\",");
+
+    // Assert
+    assertThat(values).containsExactly("a", "b,c", "say \"hi\"", "");
+  }
+
+  @Test
+  @DisplayName("next - JSON Lines - flattens arrays and skips nulls")
+  void next_jsonLines_flattensArraysAndSkipsNulls() {
+    // Arrange
+    String jsonl =
+        "{\"loginId\":\"alice\",\"roles\":[\"admin\",\"viewer\"],\"email\":null}\n"
+            + "{\"login_id\":\"bob\",\"age\":42}\n";
+
+    // Act
+    List<InputRow> rows = readAll(jsonl, InputFormat.JSONL);
+
+    // Assert
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0).getList("roles")).containsExactly("admin", "viewer");
+    assertThat(rows.get(0).get("email")).isNull();
+    assertThat(rows.get(1).get("loginId")).isEqualTo("bob");
+    assertThat(rows.get(1).get("age")).isEqualTo("42");
+  }
+
+  @Test
+  @DisplayName("next - invalid JSON line - throws with line number")
+  void next_invalidJsonLine_throwsWithLineNumber() {
+    // Arrange
+    RowReader reader = reader("{\"loginId\":\"alice\"}\nnot json\n", InputFormat.JSONL);
+    reader.next();
+
+    // Act & Assert
+    assertThatThrownBy(reader::next)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("line 2");
+  }
+
+  @Test
+  @DisplayName("fromFileName - known extensions - detects format")
+  void fromFileName_knownExtensions_detectsFormat() {
+    // Assert
+    assertThat(InputFormat.fromFileName("users.jsonl")).isEqualTo(InputFormat.JSONL);
+    assertThat(InputFormat.fromFileName("USERS.NDJSON")).isEqualTo(InputFormat.JSONL);
+    assertThat(InputFormat.fromFileName("users.csv")).isEqualTo(InputFormat.CSV);
+  }
+
+  private RowReader reader(String content, InputFormat format) {
+    return new RowReader(new BufferedReader(new StringReader(content)), format, objectMapper);
+  }
+
+  private List<InputRow> readAll(String content, InputFormat format) {
+    List<InputRow> rows = new ArrayList<>();
+    reader(content, format).forEachRemaining(rows::add);
+    return rows;
+  }
+}
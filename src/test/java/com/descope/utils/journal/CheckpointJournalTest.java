@@ -0,0 +1,130 @@
+package com.descope.utils.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.descope.utils.input.InputFormat;
+import com.descope.utils.input.RowReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CheckpointJournalTest {
+
+  private static final String FINGERPRINT = "test size=10 sha256=abc";
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("open - resume after recorded rows - reports only succeeded rows as committed")
+  void open_resumeAfterRecordedRows_reportsOnlySucceededRowsAsCommitted() throws IOException {
+    // Arrange
+    Path path = tempDir.resolve("run.journal");
+    try (CheckpointJournal journal = open(path, false)) {
+      journal.record(1, true);
+      journal.record(2, true);
+      journal.record(3, false);
+      journal.recordChunk(4, 10, true);
+    }
+
+    // Act
+    try (CheckpointJournal resumed = open(path, true)) {
+      // Assert
+      assertThat(resumed.getCommittedCount()).isEqualTo(9);
+      assertThat(resumed.isCommitted(2)).isTrue();
+      assertThat(resumed.isCommitted(3)).isFalse();
+      assertThat(resumed.isCommitted(10)).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("open - existing journal without resume - throws")
+  void open_existingJournalWithoutResume_throws() throws IOException {
+    // Arrange
+    Path path = tempDir.resolve("run.journal");
+    open(path, false).close();
+
+    // Act & Assert
+    assertThatThrownBy(() -> open(path, false))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("--resume");
+  }
+
+  @Test
+  @DisplayName("open - different fingerprint - throws")
+  void open_differentFingerprint_throws() throws IOException {
+    // Arrange
+    Path path = tempDir.resolve("run.journal");
+    open(path, false).close();
+
+    // Act & Assert
+    assertThatThrownBy(() -> CheckpointJournal.open(path, "other", true))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("different input");
+  }
+
+  @Test
+  @DisplayName("open - torn trailing entry - discards it and keeps appending")
+  void open_tornTrailingEntry_discardsItAndKeepsAppending() throws IOException {
+    // Arrange
+    Path path = tempDir.resolve("run.journal");
+    try (CheckpointJournal journal = open(path, false)) {
+      journal.recordChunk(1, 5, true);
+    }
+    Files.write(path, "C 6-9".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+    // Act
+    try (CheckpointJournal resumed = open(path, true)) {
+      resumed.recordChunk(6, 7, true);
+    }
+
+    // Assert
+    try (CheckpointJournal reopened = open(path, true)) {
+      assertThat(reopened.getCommittedCount()).isEqualTo(7);
+      assertThat(reopened.isCommitted(8)).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("skipCommitted - committed prefix and gaps - reader returns only remaining rows")
+  void skipCommitted_committedPrefixAndGaps_readerReturnsOnlyRemainingRows() throws IOException {
+    // Arrange
+    Path path = tempDir.resolve("run.journal");
+    try (CheckpointJournal journal = open(path, false)) {
+      journal.recordChunk(1, 2, true);
+      journal.recordChunk(4, 4, true);
+    }
+    RowReader reader =
+        new RowReader(
+            new BufferedReader(new StringReader("id\na\nb\nc\nd\ne\n")),
+            InputFormat.CSV,
+            new ObjectMapper());
+    List<Long> rows = new ArrayList<>();
+
+    // Act
+    try (CheckpointJournal resumed = open(path, true)) {
+      resumed.skipCommitted(reader);
+      reader.forEachRemaining(row -> rows.add(row.rowNumber()));
+    }
+
+    // Assert
+    assertThat(rows).containsExactly(3L, 5L);
+  }
+
+  private static CheckpointJournal open(Path path, boolean resume) throws IOException {
+    return CheckpointJournal.open(path, FINGERPRINT, resume, 2, Duration.ZERO, System::nanoTime);
+  }
+}
@@ -0,0 +1,62 @@
+package com.descope.utils.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RowRangesTest {
+
+  @Test
+  @DisplayName("add - adjacent and overlapping ranges - merges into one range")
+  void add_adjacentAndOverlappingRanges_mergesIntoOneRange() {
+    // Arrange
+    RowRanges ranges = new RowRanges();
+
+    // Act
+    ranges.add(5, 10);
+    ranges.add(1, 4);
+    ranges.add(8, 15);
+    ranges.add(16);
+
+    // Assert
+    assertThat(ranges.format()).isEqualTo("1-16");
+    assertThat(ranges.size()).isEqualTo(16);
+    assertThat(ranges.contiguousPrefix()).isEqualTo(16);
+  }
+
+  @Test
+  @DisplayName("add - range spanning several ranges - absorbs them")
+  void add_rangeSpanningSeveralRanges_absorbsThem() {
+    // Arrange
+    RowRanges ranges = new RowRanges();
+    ranges.add(2);
+    ranges.add(5, 6);
+    ranges.add(9);
+
+    // Act
+    ranges.add(3, 10);
+
+    // Assert
+    assertThat(ranges.format()).isEqualTo("2-10");
+    assertThat(ranges.size()).isEqualTo(9);
+    assertThat(ranges.contiguousPrefix()).isZero();
+  }
+
+  @Test
+  @DisplayName("contains - gaps between ranges - reports only added rows")
+  void contains_gapsBetweenRanges_reportsOnlyAddedRows() {
+    // Arrange
+    RowRanges ranges = new RowRanges();
+    ranges.parseAndAdd("1-3,7,9-10");
+
+    // Assert
+    assertThat(ranges.contains(3)).isTrue();
+    assertThat(ranges.contains(4)).isFalse();
+    assertThat(ranges.contains(7)).isTrue();
+    assertThat(ranges.contains(8)).isFalse();
+    assertThat(ranges.contains(10)).isTrue();
+    assertThat(ranges.contiguousPrefix()).isEqualTo(3);
+    assertThat(ranges.format()).isEqualTo("1-3,7,9-10");
+  }
+}
@@ -0,0 +1,108 @@
+package com.descope.utils.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.model.load.LoadTestReport;
+import com.descope.utils.model.load.OperationStats;
+
+class LoadGeneratorTest {
+
+  @Test
+  @DisplayName("run - request limit - measures exactly that many requests")
+  void run_requestLimit_measuresExactlyThatManyRequests() {
+    // Arrange
+    OperationMix mix = OperationMix.parse("check=1,who-can-access=1");
+    LoadProfile profile = new LoadProfile(4, 0, Duration.ofMinutes(1), Duration.ZERO, 200);
+    Set<Long> sequences = ConcurrentHashMap.newKeySet();
+
+    // Act
+    LoadTestReport report =
+        new LoadGenerator(mix, profile, 1).run((operation, sequence) -> sequences.add(sequence));
+
+    // Assert
+    assertThat(report.getTotal().getRequests()).isEqualTo(200);
+    assertThat(report.getOperations()).hasSize(2);
+    assertThat(report.getOperations().get(0).getRequests()).isPositive();
+    assertThat(report.getOperations().get(1).getRequests()).isPositive();
+    assertThat(sequences).hasSize(200);
+    assertThat(report.isAllSucceeded()).isTrue();
+  }
+
+  @Test
+  @DisplayName("run - failing operation - counts errors by type")
+  void run_failingOperation_countsErrorsByType() {
+    // Arrange
+    OperationMix mix = OperationMix.parse("create-user");
+    LoadProfile profile = new LoadProfile(2, 0, Duration.ofMinutes(1), Duration.ZERO, 10);
+
+    // Act
+    LoadTestReport report =
+        new LoadGenerator(mix, profile, 1)
+            .run(
+                (operation, sequence) -> {
+                  if (sequence % 2 == 0) {
+                    throw new RuntimeException("Failed", new SocketTimeoutException("slow"));
+                  }
+                });
+
+    // Assert
+    OperationStats stats = report.getOperations().get(0);
+    assertThat(stats.getOperation()).isEqualTo("create-user");
+    assertThat(stats.getRequests()).isEqualTo(10);
+    assertThat(stats.getErrors()).isEqualTo(5);
+    assertThat(stats.getErrorsByType()).containsEntry("SocketTimeoutException", 5L);
+    assertThat(report.isAllSucceeded()).isFalse();
+  }
+
+  @Test
+  @DisplayName("run - fixed rate with slow target - never exceeds concurrency")
+  void run_fixedRateWithSlowTarget_neverExceedsConcurrency() {
+    // Arrange
+    OperationMix mix = OperationMix.parse("check");
+    LoadProfile profile = new LoadProfile(2, 1000, Duration.ofMillis(100), Duration.ZERO, 0);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    // Act
+    LoadTestReport report =
+        new LoadGenerator(mix, profile, 1)
+            .run(
+                (operation, sequence) -> {
+                  maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                  Thread.sleep(5);
+                  running.decrementAndGet();
+                });
+
+    // Assert
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    // Requests queued behind the slow ones are measured from their scheduled start
+    assertThat(report.getTotal().getMaxMillis()).isGreaterThan(10);
+  }
+
+  @Test
+  @DisplayName("errorType - nested causes - names the innermost cause")
+  void errorType_nestedCauses_namesInnermostCause() {
+    assertThat(LoadGenerator.errorType(new RuntimeException(new IOException("reset"))))
+        .isEqualTo("IOException");
+    assertThat(LoadGenerator.errorType(new IllegalStateException("bad")))
+        .isEqualTo("IllegalStateException");
+  }
+
+  @Test
+  @DisplayName("LoadProfile - zero concurrency - should throw IllegalArgumentException")
+  void loadProfile_zeroConcurrency_shouldThrow() {
+    assertThatThrownBy(() -> new LoadProfile(0, 0, Duration.ofSeconds(1), Duration.ZERO, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
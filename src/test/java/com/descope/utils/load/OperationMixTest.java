@@ -0,0 +1,52 @@
+package com.descope.utils.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OperationMixTest {
+
+  @Test
+  @DisplayName("parse - weighted mix - picks operations in proportion to weights")
+  void parse_weightedMix_picksOperationsInProportionToWeights() {
+    // Act
+    OperationMix mix = OperationMix.parse("check=3, who-can-access=1");
+
+    // Assert
+    assertThat(mix.getOperations())
+        .containsExactly(LoadOperation.CHECK, LoadOperation.WHO_CAN_ACCESS);
+    assertThat(mix.pick(0.0)).isEqualTo(LoadOperation.CHECK);
+    assertThat(mix.pick(0.74)).isEqualTo(LoadOperation.CHECK);
+    assertThat(mix.pick(0.76)).isEqualTo(LoadOperation.WHO_CAN_ACCESS);
+    assertThat(mix.pick(0.999999)).isEqualTo(LoadOperation.WHO_CAN_ACCESS);
+  }
+
+  @Test
+  @DisplayName("parse - operation without weight - uses weight 1")
+  void parse_operationWithoutWeight_usesWeightOne() {
+    // Act
+    OperationMix mix = OperationMix.parse("create-user,authenticate=1");
+
+    // Assert
+    assertThat(mix.pick(0.49)).isEqualTo(LoadOperation.AUTHENTICATE);
+    assertThat(mix.pick(0.51)).isEqualTo(LoadOperation.CREATE_USER);
+  }
+
+  @Test
+  @DisplayName("parse - invalid mixes - should throw IllegalArgumentException")
+  void parse_invalidMixes_shouldThrow() {
+    assertThatThrownBy(() -> OperationMix.parse("delete=1"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Unknown operation");
+    assertThatThrownBy(() -> OperationMix.parse("check=0"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OperationMix.parse("check=x"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OperationMix.parse("check,check"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OperationMix.parse(" , "))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
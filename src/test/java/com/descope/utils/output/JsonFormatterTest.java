@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import com.descope.utils.model.Application;
 import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.RowResult;
 
 public class JsonFormatterTest {
 
@@ -82,4 +83,56 @@ public class JsonFormatterTest {
     // Assert
     assertThat(json).contains("Test \\\"App\\\"").contains("Description with\\nnewline");
   }
+
+  @Test
+  @DisplayName("formatRow - created row - should emit single-line JSON with status")
+  void formatRow_createdRow_shouldEmitSingleLineJsonWithStatus() {
+    // Arrange
+    RowResult<String> row =
+        new RowResult<>(7, "alice", OperationResult.created("user-1", "User created"));
+
+    // Act
+    String json = formatter.formatRow(row);
+
+    // Assert
+    assertThat(json)
+        .doesNotContain("\n")
+        .contains("\"row\":7")
+        .contains("\"key\":\"alice\"")
+        .contains("\"status\":\"created\"")
+        .contains("\"data\":\"user-1\"");
+  }
+
+  @Test
+  @DisplayName("formatRow - failed row - should include error and omit data")
+  void formatRow_failedRow_shouldIncludeErrorAndOmitData() {
+    // Arrange
+    RowResult<String> row = new RowResult<>(3, null, OperationResult.failure("boom"));
+
+    // Act
+    String json = formatter.formatRow(row);
+
+    // Assert
+    assertThat(json)
+        .contains("\"success\":false")
+        .contains("\"status\":\"failed\"")
+        .contains("\"error\":\"boom\"")
+        .doesNotContain("\"data\"")
+        .doesNotContain("\"key\"")
+        .doesNotContain("\"retries\"");
+  }
+
+  @Test
+  @DisplayName("formatRow - retried row - should include retry count")
+  void formatRow_retriedRow_shouldIncludeRetryCount() {
+    // Arrange
+    RowResult<String> row =
+        new RowResult<>(4, "carol", OperationResult.created("user-4", "Created").withRetries(2));
+
+    // Act
+    String json = formatter.formatRow(row);
+
+    // Assert
+    assertThat(json).contains("\"status\":\"created\"").contains("\"retries\":2");
+  }
 }
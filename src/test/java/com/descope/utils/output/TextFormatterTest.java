@@ -3,15 +3,22 @@ package com.descope.utils.output;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import com.descope.utils.model.Application;
+import com.descope.utils.model.BulkOperationSummary;
 import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.RowResult;
 import com.descope.utils.model.Tenant;
 import com.descope.utils.model.User;
+import com.descope.utils.model.fga.SyncSummary;
+import com.descope.utils.model.load.LoadTestReport;
+import com.descope.utils.model.load.OperationStats;
 
 public class TextFormatterTest {
 
@@ -142,4 +149,98 @@ public class TextFormatterTest {
         .contains("user-login")
         .doesNotContain("Email:");
   }
+
+  @Test
+  @DisplayName("formatRow - failed row - should format single line with row number")
+  void formatRow_failedRow_shouldFormatSingleLineWithRowNumber() {
+    // Arrange
+    RowResult<User> row = new RowResult<>(12, "bob", OperationResult.failure("Invalid email"));
+
+    // Act
+    String text = formatter.formatRow(row);
+
+    // Assert
+    assertThat(text).isEqualTo("✗ [row 12] bob: Error: Invalid email");
+  }
+
+  @Test
+  @DisplayName("format - successful result with BulkOperationSummary - should format counts")
+  void format_successfulResultWithBulkOperationSummary_shouldFormatCounts() {
+    // Arrange
+    BulkOperationSummary summary = new BulkOperationSummary(10, 7, 2, 1, 2000);
+    OperationResult<BulkOperationSummary> result = OperationResult.success(summary, "Processed");
+
+    // Act
+    String text = formatter.format(result);
+
+    // Assert
+    assertThat(text)
+        .contains("Bulk Operation Summary:")
+        .contains("Total:          10")
+        .contains("Created:        7")
+        .contains("Already Exists: 2")
+        .contains("Failed:         1")
+        .contains("5.0 rows/s");
+  }
+
+  @Test
+  @DisplayName("format - BulkOperationSummary with retries - should show the retry count")
+  void format_bulkOperationSummaryWithRetries_shouldShowTheRetryCount() {
+    // Arrange
+    BulkOperationSummary summary = new BulkOperationSummary(10, 10, 0, 0, 0, 3, 2000);
+    RowResult<User> row =
+        new RowResult<>(5, "dave", OperationResult.<User>failure("Timed out").withRetries(3));
+
+    // Act
+    String text = formatter.format(OperationResult.success(summary, "Processed"));
+    String line = formatter.formatRow(row);
+
+    // Assert
+    assertThat(text).contains("Retries:        3");
+    assertThat(line).isEqualTo("✗ [row 5] dave: Error: Timed out (retries: 3)");
+  }
+
+  @Test
+  @DisplayName("format - dry run SyncSummary - should show the plan without applied counts")
+  void format_dryRunSyncSummary_shouldShowThePlanWithoutAppliedCounts() {
+    // Arrange
+    SyncSummary summary = new SyncSummary(10, 8, 3, 1, 0, 0, 0, true, 150);
+    OperationResult<SyncSummary> result = OperationResult.success(summary, "Would change");
+
+    // Act
+    String text = formatter.format(result);
+
+    // Assert
+    assertThat(text)
+        .contains("Sync Plan (dry run):")
+        .contains("To Create: 3")
+        .contains("To Delete: 1")
+        .doesNotContain("Created:");
+  }
+
+  @Test
+  @DisplayName("format - LoadTestReport with errors - should show a row per operation and errors")
+  void format_loadTestReportWithErrors_shouldShowRowPerOperationAndErrors() {
+    // Arrange
+    OperationStats check =
+        new OperationStats("check", 900, 0, 90, 4.1, 3.5, 6.0, 9.25, 20.5, 31.0, Map.of());
+    OperationStats create =
+        new OperationStats(
+            "create-user", 100, 2, 10, 12, 11, 15, 30, 45, 46, Map.of("SocketTimeoutException", 2L));
+    OperationStats total =
+        new OperationStats(
+            "total", 1000, 2, 100, 5, 4, 8, 12, 40, 46, Map.of("SocketTimeoutException", 2L));
+    LoadTestReport report = new LoadTestReport(8, 100, 10000, List.of(check, create), total);
+
+    // Act
+    String text = formatter.format(OperationResult.success(report, "Sent 1000 request(s)"));
+
+    // Assert
+    assertThat(text)
+        .contains("Load Test Report:")
+        .contains("Target Rate: 100.0 req/s")
+        .containsPattern("check +900 +0 +90.0 +3.50 +6.00 +9.25 +20.50 +31.00")
+        .containsPattern("total +1000 +2 +100.0")
+        .contains("create-user: SocketTimeoutException x2");
+  }
 }
@@ -0,0 +1,211 @@
+package com.descope.utils.rebac;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+import com.descope.utils.model.rebac.NamespaceModel;
+import com.descope.utils.model.rebac.NodeExpressionModel;
+import com.descope.utils.model.rebac.NodeModel;
+import com.descope.utils.model.rebac.RelationDefinitionModel;
+import com.descope.utils.model.rebac.SchemaModel;
+
+class RebacEvaluatorTest {
+
+  private RebacEvaluator evaluator;
+  private TupleStore tuples;
+
+  @BeforeEach
+  void setUp() {
+    // doc#viewer is granted directly, to members of a group, or through the parent folder chain;
+    // commenter and auditor combine group relations with sub and intersect
+    NamespaceModel group =
+        new NamespaceModel(
+            "group",
+            List.of(
+                new RelationDefinitionModel("member", List.of("user")),
+                new RelationDefinitionModel("banned", List.of("user")),
+                new RelationDefinitionModel("admin", List.of("user"))));
+    NamespaceModel folder =
+        new NamespaceModel(
+            "folder",
+            List.of(
+                new RelationDefinitionModel("parent", List.of("folder")),
+                new RelationDefinitionModel(
+                    "viewer",
+                    List.of(),
+                    union(self(), relationLeft("parent", "folder", "viewer", "folder")))));
+    NamespaceModel doc =
+        new NamespaceModel(
+            "doc",
+            List.of(
+                new RelationDefinitionModel("parent", List.of("folder")),
+                new RelationDefinitionModel("editor", List.of("user")),
+                new RelationDefinitionModel(
+                    "viewer",
+                    List.of(),
+                    union(
+                        self(),
+                        targetSet("member", "group"),
+                        relationLeft("parent", "doc", "viewer", "folder"))),
+                new RelationDefinitionModel(
+                    "commenter",
+                    List.of(),
+                    node("sub", targetSet("member", "group"), targetSet("banned", "group"))),
+                new RelationDefinitionModel(
+                    "auditor",
+                    List.of(),
+                    node("intersect", targetSet("member", "group"), targetSet("admin", "group")))));
+    evaluator = RebacEvaluator.compile(new SchemaModel(List.of(group, folder, doc)));
+
+    tuples = baseTuples().build();
+  }
+
+  @Test
+  @DisplayName("check - direct tuple - allowed")
+  void check_directTuple_allowed() {
+    assertThat(evaluator.check(tuples, "doc", "d1", "viewer", "dave")).isTrue();
+    assertThat(evaluator.check(tuples, "doc", "d1", "editor", "dave")).isTrue();
+    assertThat(evaluator.check(tuples, "doc", "d1", "editor", "alice")).isFalse();
+  }
+
+  @Test
+  @DisplayName("check - target set - allows group members")
+  void check_targetSet_allowsGroupMembers() {
+    assertThat(evaluator.check(tuples, "doc", "d1", "viewer", "alice")).isTrue();
+    assertThat(evaluator.check(tuples, "doc", "d1", "viewer", "carol")).isFalse();
+  }
+
+  @Test
+  @DisplayName("check - relation left - inherits through parent chain")
+  void check_relationLeft_inheritsThroughParentChain() {
+    assertThat(evaluator.check(tuples, "folder", "f2", "viewer", "carol")).isTrue();
+    assertThat(evaluator.check(tuples, "doc", "d2", "viewer", "carol")).isTrue();
+    assertThat(evaluator.check(tuples, "doc", "d2", "viewer", "alice")).isFalse();
+  }
+
+  @Test
+  @DisplayName("check - relation right - follows reverse tuples")
+  void check_relationRight_followsReverseTuples() {
+    // Arrange
+    NamespaceModel doc =
+        new NamespaceModel(
+            "doc",
+            List.of(
+                new RelationDefinitionModel("owner", List.of("user")),
+                new RelationDefinitionModel("child", List.of("doc")),
+                new RelationDefinitionModel(
+                    "reader",
+                    List.of(),
+                    node(
+                        "child",
+                        new NodeExpressionModel(
+                            "relationRight", "child", "doc", "owner", "doc")))));
+    RebacEvaluator right = RebacEvaluator.compile(new SchemaModel(List.of(doc)));
+    TupleStore source =
+        TupleStore.builder()
+            .add(new RelationTupleModel("root", "child", "doc", "leaf"))
+            .add(new RelationTupleModel("root", "owner", "doc", "erin"))
+            .build();
+
+    // Act & Assert
+    assertThat(right.check(source, "doc", "leaf", "reader", "erin")).isTrue();
+    assertThat(right.check(source, "doc", "root", "reader", "erin")).isFalse();
+  }
+
+  @Test
+  @DisplayName("check - sub and intersect - combine children")
+  void check_subAndIntersect_combineChildren() {
+    assertThat(evaluator.check(tuples, "doc", "d1", "commenter", "alice")).isTrue();
+    assertThat(evaluator.check(tuples, "doc", "d1", "commenter", "bob")).isFalse();
+    assertThat(evaluator.check(tuples, "doc", "d1", "auditor", "bob")).isTrue();
+    assertThat(evaluator.check(tuples, "doc", "d1", "auditor", "alice")).isFalse();
+  }
+
+  @Test
+  @DisplayName("check - cyclic parents - terminates")
+  void check_cyclicParents_terminates() {
+    // Arrange
+    tuples = baseTuples().add(new RelationTupleModel("f1", "parent", "folder", "f2")).build();
+
+    // Act & Assert
+    assertThat(evaluator.check(tuples, "folder", "f2", "viewer", "carol")).isTrue();
+    assertThat(evaluator.check(tuples, "folder", "f2", "viewer", "mallory")).isFalse();
+  }
+
+  @Test
+  @DisplayName("check - undefined relation - throws exception")
+  void check_undefinedRelation_throwsException() {
+    assertThatThrownBy(() -> evaluator.check(tuples, "doc", "d1", "owner", "bob"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("doc#owner");
+  }
+
+  @Test
+  @DisplayName("compile - reference to undefined relation - throws exception")
+  void compile_referenceToUndefinedRelation_throwsException() {
+    // Arrange
+    NamespaceModel doc =
+        new NamespaceModel(
+            "doc",
+            List.of(
+                new RelationDefinitionModel(
+                    "viewer", List.of(), union(self(), targetSet("member", "team")))));
+
+    // Act & Assert
+    assertThatThrownBy(() -> RebacEvaluator.compile(new SchemaModel(List.of(doc))))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("team#member");
+  }
+
+  private static TupleStore.Builder baseTuples() {
+    return TupleStore.builder()
+        .add(new RelationTupleModel("eng", "member", "group", "alice"))
+        .add(new RelationTupleModel("eng", "member", "group", "bob"))
+        .add(new RelationTupleModel("eng", "banned", "group", "bob"))
+        .add(new RelationTupleModel("eng", "admin", "group", "bob"))
+        .add(new RelationTupleModel("d1", "viewer", "doc", "eng"))
+        .add(new RelationTupleModel("d1", "viewer", "doc", "dave"))
+        .add(new RelationTupleModel("d1", "editor", "doc", "dave"))
+        .add(new RelationTupleModel("d1", "commenter", "doc", "eng"))
+        .add(new RelationTupleModel("d1", "auditor", "doc", "eng"))
+        .add(new RelationTupleModel("d2", "parent", "doc", "f2"))
+        .add(new RelationTupleModel("f2", "parent", "folder", "f1"))
+        .add(new RelationTupleModel("f1", "viewer", "folder", "carol"));
+  }
+
+  private static NodeModel self() {
+    return node("child", new NodeExpressionModel("self", null, null, null, null));
+  }
+
+  private static NodeModel targetSet(String relation, String namespace) {
+    return node("child", new NodeExpressionModel("targetSet", null, null, relation, namespace));
+  }
+
+  private static NodeModel relationLeft(
+      String relation, String namespace, String targetRelation, String targetNamespace) {
+    return node(
+        "child",
+        new NodeExpressionModel(
+            "relationLeft", relation, namespace, targetRelation, targetNamespace));
+  }
+
+  private static NodeModel union(NodeModel... children) {
+    return new NodeModel("union", Arrays.asList(children), null);
+  }
+
+  private static NodeModel node(String type, NodeModel... children) {
+    return new NodeModel(type, Arrays.asList(children), null);
+  }
+
+  private static NodeModel node(String type, NodeExpressionModel expression) {
+    return new NodeModel(type, null, expression);
+  }
+}
@@ -0,0 +1,134 @@
+package com.descope.utils.rebac;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.descope.utils.fga.TupleSnapshot;
+import com.descope.utils.fga.TupleSnapshotWriter;
+import com.descope.utils.model.fga.RelationTupleModel;
+
+class TupleStoreTest {
+
+  private static final RelationTupleModel ALICE_OWNS_D1 =
+      new RelationTupleModel("d1", "owner", "doc", "alice");
+  private static final RelationTupleModel BOB_VIEWS_D1 =
+      new RelationTupleModel("d1", "viewer", "doc", "bob");
+  private static final RelationTupleModel ALICE_VIEWS_D1 =
+      new RelationTupleModel("d1", "viewer", "doc", "alice");
+  private static final RelationTupleModel ALICE_MEMBER_ENG =
+      new RelationTupleModel("eng", "member", "group", "alice");
+
+  private TupleStore store;
+
+  @TempDir Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    store =
+        TupleStore.builder()
+            .add(ALICE_OWNS_D1)
+            .add(BOB_VIEWS_D1)
+            .add(ALICE_VIEWS_D1)
+            .add(ALICE_MEMBER_ENG)
+            .add(BOB_VIEWS_D1)
+            .build();
+  }
+
+  @Test
+  @DisplayName("build - duplicate tuples - keeps each tuple once")
+  void build_duplicateTuples_keepsEachTupleOnce() {
+    // Act
+    List<RelationTupleModel> tuples = new ArrayList<>();
+    store.forEach(tuples::add);
+
+    // Assert
+    assertThat(store.size()).isEqualTo(4);
+    assertThat(tuples)
+        .containsExactlyInAnyOrder(ALICE_OWNS_D1, BOB_VIEWS_D1, ALICE_VIEWS_D1, ALICE_MEMBER_ENG);
+  }
+
+  @Test
+  @DisplayName("contains - existing and missing tuples - matches all four fields")
+  void contains_existingAndMissingTuples_matchesAllFourFields() {
+    assertThat(store.contains("doc", "d1", "owner", "alice")).isTrue();
+    assertThat(store.contains("doc", "d1", "owner", "bob")).isFalse();
+    assertThat(store.contains("group", "d1", "owner", "alice")).isFalse();
+    assertThat(store.contains("doc", "d1", "editor", "alice")).isFalse();
+    assertThat(store.contains("doc", "unknown", "owner", "alice")).isFalse();
+  }
+
+  @Test
+  @DisplayName("whoCanAccess - resource and relation - returns direct targets")
+  void whoCanAccess_resourceAndRelation_returnsDirectTargets() {
+    assertThat(store.whoCanAccess("d1", "viewer", "doc")).containsExactlyInAnyOrder("alice", "bob");
+    assertThat(store.whoCanAccess("d1", "owner", "doc")).containsExactly("alice");
+    assertThat(store.whoCanAccess("d1", "member", "group")).isEmpty();
+    assertThat(store.whoCanAccess("unknown", "viewer", "doc")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("whatCanTargetAccess - target - returns every tuple of the target")
+  void whatCanTargetAccess_target_returnsEveryTupleOfTheTarget() {
+    assertThat(store.whatCanTargetAccess("alice"))
+        .containsExactlyInAnyOrder(ALICE_OWNS_D1, ALICE_VIEWS_D1, ALICE_MEMBER_ENG);
+    assertThat(store.whatCanTargetAccess("d1")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("resourceRelations - resource - returns every tuple of the resource")
+  void resourceRelations_resource_returnsEveryTupleOfTheResource() {
+    assertThat(store.resourceRelations("d1"))
+        .containsExactlyInAnyOrder(ALICE_OWNS_D1, BOB_VIEWS_D1, ALICE_VIEWS_D1);
+  }
+
+  @Test
+  @DisplayName("anyResource - reverse lookup - tests resources of the relation only")
+  void anyResource_reverseLookup_testsResourcesOfTheRelationOnly() {
+    // Act
+    List<String> resources = new ArrayList<>();
+    store.anyResource("group", "member", "alice", resources::add);
+
+    // Assert
+    assertThat(resources).containsExactly("eng");
+  }
+
+  @Test
+  @DisplayName("load - snapshot - contains the snapshot tuples")
+  void load_snapshot_containsTheSnapshotTuples() throws IOException {
+    // Arrange
+    TupleSnapshotWriter writer = new TupleSnapshotWriter();
+    store.forEach(writer::add);
+    Path file = tempDir.resolve("tuples.snap");
+    writer.write(file);
+
+    // Act
+    TupleStore loaded = TupleStore.load(TupleSnapshot.open(file));
+
+    // Assert
+    assertThat(loaded.size()).isEqualTo(4);
+    assertThat(loaded.contains("group", "eng", "member", "alice")).isTrue();
+    assertThat(loaded.whoCanAccess("d1", "viewer", "doc"))
+        .containsExactlyInAnyOrder("alice", "bob");
+  }
+
+  @Test
+  @DisplayName("build - called twice - throws exception")
+  void build_calledTwice_throwsException() {
+    // Arrange
+    TupleStore.Builder builder = TupleStore.builder().add(ALICE_OWNS_D1);
+    builder.build();
+
+    // Act & Assert
+    assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+  }
+}
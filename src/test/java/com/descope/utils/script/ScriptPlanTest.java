@@ -0,0 +1,167 @@
+package com.descope.utils.script;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.model.fga.RelationTupleModel;
+
+class ScriptPlanTest {
+
+  private final List<ScriptLine> lines = new ArrayList<>();
+
+  @Test
+  @DisplayName("of - consecutive relation lines - merges them into one batch")
+  void of_consecutiveRelationLines_mergesThemIntoOneBatch() {
+    // Arrange
+    relation("create-fga-relation", "d1", "owner", "alice");
+    relation("create-fga-relation", "d1", "viewer", "bob");
+    relation("create-fga-relation", "d2", "viewer", "bob");
+    relation("delete-fga-relation", "d3", "viewer", "bob");
+
+    // Act
+    ScriptPlan plan = ScriptPlan.of(lines);
+
+    // Assert
+    assertThat(plan.getSteps()).hasSize(2);
+    ScriptStep batch = plan.getSteps().get(0);
+    assertThat(batch.getKind()).isEqualTo(ScriptStep.Kind.CREATE_RELATIONS);
+    assertThat(batch.describe()).isEqualTo("lines 1-3");
+    assertThat(batch.getTuples())
+        .containsExactly(
+            new RelationTupleModel("d1", "owner", "doc", "alice"),
+            new RelationTupleModel("d1", "viewer", "doc", "bob"),
+            new RelationTupleModel("d2", "viewer", "doc", "bob"));
+    assertThat(plan.getSteps().get(1).getKind()).isEqualTo(ScriptStep.Kind.DELETE_RELATIONS);
+    assertThat(plan.getLineCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("of - relation lines with different projects - keeps separate batches")
+  void of_relationLinesWithDifferentProjects_keepsSeparateBatches() {
+    // Arrange
+    relation("create-fga-relation", "d1", "owner", "alice");
+    line(
+        "create-fga-relation",
+        null,
+        option("--resource", "d2"),
+        option("--relation", "owner"),
+        option("--namespace", "doc"),
+        option("--target", "bob"),
+        option("--project-id", "P2"));
+
+    // Act
+    ScriptPlan plan = ScriptPlan.of(lines);
+
+    // Assert
+    assertThat(plan.getSteps()).hasSize(2);
+    assertThat(plan.getSteps().get(1).getDependencies()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("of - users in a new tenant - depend on the tenant but not on each other")
+  void of_usersInANewTenant_dependOnTheTenantButNotOnEachOther() {
+    // Arrange
+    line("create-tenant", "Acme Corp");
+    line("create-user", "alice", option("--tenant-id", "acme-corp"));
+    line("create-user", "bob", option("--tenant-id", "acme-corp"));
+    line("create-user", "carol", option("--tenant-id", "other"));
+
+    // Act
+    List<ScriptStep> steps = ScriptPlan.of(lines).getSteps();
+
+    // Assert
+    assertThat(steps.get(1).getDependencies()).containsExactly(steps.get(0));
+    assertThat(steps.get(2).getDependencies()).containsExactly(steps.get(0));
+    assertThat(steps.get(3).getDependencies()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("of - changes to the same user - run in script order")
+  void of_changesToTheSameUser_runInScriptOrder() {
+    // Arrange
+    line("create-role", "editor");
+    line("create-user", "alice");
+    line("add-user-role", "alice", option("--roles", "editor,viewer"));
+    line("set-password", "alice", option("--password", "secret"));
+
+    // Act
+    List<ScriptStep> steps = ScriptPlan.of(lines).getSteps();
+
+    // Assert
+    assertThat(steps.get(1).getDependencies()).isEmpty();
+    assertThat(steps.get(2).getDependencies())
+        .containsExactlyInAnyOrder(steps.get(0), steps.get(1));
+    assertThat(steps.get(3).getDependencies()).containsExactly(steps.get(2));
+  }
+
+  @Test
+  @DisplayName("of - change to a tenant after readers - waits for the readers")
+  void of_changeToATenantAfterReaders_waitsForTheReaders() {
+    // Arrange
+    line("create-user", "alice", option("--tenant-id", "acme"));
+    line("create-user", "bob", option("--tenant-id", "acme"));
+    line("add-app-to-tenant", null, option("--tenant-id", "acme"), option("--app-id", "app1"));
+
+    // Act
+    List<ScriptStep> steps = ScriptPlan.of(lines).getSteps();
+
+    // Assert
+    assertThat(steps.get(2).getDependencies())
+        .containsExactlyInAnyOrder(steps.get(0), steps.get(1));
+  }
+
+  @Test
+  @DisplayName("of - command with unknown effects - runs as a barrier")
+  void of_commandWithUnknownEffects_runsAsABarrier() {
+    // Arrange
+    line("create-user", "alice");
+    line("create-user", "bob");
+    line("load-rebac-schema", null);
+    line("create-user", "carol");
+
+    // Act
+    List<ScriptStep> steps = ScriptPlan.of(lines).getSteps();
+
+    // Assert
+    assertThat(steps.get(2).getDependencies()).containsExactly(steps.get(0), steps.get(1));
+    assertThat(steps.get(3).getDependencies()).containsExactly(steps.get(2));
+  }
+
+  private void relation(String command, String resource, String relation, String target) {
+    line(
+        command,
+        null,
+        option("--resource", resource),
+        option("--relation", relation),
+        option("--namespace", "doc"),
+        option("--target", target));
+  }
+
+  @SafeVarargs
+  private void line(String command, String subject, Map.Entry<String, String>... options) {
+    Map<String, String> values = new LinkedHashMap<>();
+    List<String> args = new ArrayList<>();
+    args.add(command);
+    if (subject != null) {
+      args.add(subject);
+    }
+    for (Map.Entry<String, String> option : Arrays.asList(options)) {
+      values.put(option.getKey(), option.getValue());
+      args.add(option.getKey());
+      args.add(option.getValue());
+    }
+    lines.add(new ScriptLine(lines.size() + 1, args, command, subject, values));
+  }
+
+  private static Map.Entry<String, String> option(String name, String value) {
+    return Map.entry(name, value);
+  }
+}
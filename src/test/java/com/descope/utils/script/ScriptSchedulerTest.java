@@ -0,0 +1,154 @@
+package com.descope.utils.script;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScriptSchedulerTest {
+
+  @Test
+  @DisplayName("run - dependent steps - start only after their dependencies finish")
+  void run_dependentSteps_startOnlyAfterTheirDependenciesFinish() {
+    // Arrange
+    ScriptPlan plan =
+        ScriptPlan.of(
+            List.of(
+                line(1, "create-tenant", "Acme"),
+                line(2, "create-user", "alice", "--tenant-id", "acme"),
+                line(3, "create-user", "bob", "--tenant-id", "acme")));
+    List<Long> finished = Collections.synchronizedList(new ArrayList<>());
+
+    // Act
+    List<ScriptScheduler.Outcome> outcomes =
+        new ScriptScheduler(4, false)
+            .run(
+                plan,
+                step -> {
+                  long lineNumber = step.getFirstLine().lineNumber();
+                  if (lineNumber > 1) {
+                    assertThat(finished).contains(1L);
+                  }
+                  finished.add(lineNumber);
+                  return 0;
+                },
+                outcome -> {});
+
+    // Assert
+    assertThat(statuses(outcomes)).containsOnly(ScriptScheduler.Status.SUCCEEDED);
+    assertThat(finished.get(0)).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("run - independent steps - run concurrently")
+  void run_independentSteps_runConcurrently() {
+    // Arrange
+    ScriptPlan plan =
+        ScriptPlan.of(
+            List.of(
+                line(1, "create-user", "alice"),
+                line(2, "create-user", "bob"),
+                line(3, "create-user", "carol")));
+    CountDownLatch allRunning = new CountDownLatch(3);
+
+    // Act
+    List<ScriptScheduler.Outcome> outcomes =
+        new ScriptScheduler(3, false)
+            .run(
+                plan,
+                step -> {
+                  allRunning.countDown();
+                  try {
+                    return allRunning.await(10, TimeUnit.SECONDS) ? 0 : 1;
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return 1;
+                  }
+                },
+                outcome -> {});
+
+    // Assert
+    assertThat(statuses(outcomes)).containsOnly(ScriptScheduler.Status.SUCCEEDED);
+  }
+
+  @Test
+  @DisplayName("run - failed step - skips its dependents and runs the rest")
+  void run_failedStep_skipsItsDependentsAndRunsTheRest() {
+    // Arrange
+    ScriptPlan plan =
+        ScriptPlan.of(
+            List.of(
+                line(1, "create-tenant", "Acme"),
+                line(2, "create-user", "alice", "--tenant-id", "acme"),
+                line(3, "set-password", "alice", "--password", "secret"),
+                line(4, "create-user", "bob")));
+    List<ScriptScheduler.Outcome> reported = new ArrayList<>();
+
+    // Act
+    List<ScriptScheduler.Outcome> outcomes =
+        new ScriptScheduler(2, false)
+            .run(plan, step -> step.getFirstLine().lineNumber() == 1 ? 3 : 0, reported::add);
+
+    // Assert
+    assertThat(statuses(outcomes))
+        .containsExactly(
+            ScriptScheduler.Status.FAILED,
+            ScriptScheduler.Status.SKIPPED,
+            ScriptScheduler.Status.SKIPPED,
+            ScriptScheduler.Status.SUCCEEDED);
+    assertThat(outcomes.get(0).exitCode()).isEqualTo(3);
+    assertThat(reported).hasSize(4);
+  }
+
+  @Test
+  @DisplayName("run - stop on error - skips steps not yet started")
+  void run_stopOnError_skipsStepsNotYetStarted() {
+    // Arrange
+    ScriptPlan plan =
+        ScriptPlan.of(
+            List.of(
+                line(1, "create-user", "alice"),
+                line(2, "create-user", "bob"),
+                line(3, "create-user", "carol")));
+
+    // Act
+    List<ScriptScheduler.Outcome> outcomes =
+        new ScriptScheduler(1, true).run(plan, step -> 1, outcome -> {});
+
+    // Assert
+    assertThat(statuses(outcomes))
+        .containsExactly(
+            ScriptScheduler.Status.FAILED,
+            ScriptScheduler.Status.SKIPPED,
+            ScriptScheduler.Status.SKIPPED);
+  }
+
+  private static List<ScriptScheduler.Status> statuses(List<ScriptScheduler.Outcome> outcomes) {
+    List<ScriptScheduler.Status> statuses = new ArrayList<>();
+    for (ScriptScheduler.Outcome outcome : outcomes) {
+      statuses.add(outcome.status());
+    }
+    return statuses;
+  }
+
+  private static ScriptLine line(long lineNumber, String command, String subject) {
+    return new ScriptLine(lineNumber, List.of(command, subject), command, subject, Map.of());
+  }
+
+  private static ScriptLine line(
+      long lineNumber, String command, String subject, String option, String value) {
+    return new ScriptLine(
+        lineNumber,
+        List.of(command, subject, option, value),
+        command,
+        subject,
+        Map.of(option, value));
+  }
+}
@@ -0,0 +1,127 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  @DisplayName("reserve - bucket emptied - spaces requests at the current rate")
+  void reserve_bucketEmptied_spacesRequestsAtCurrentRate() {
+    // Arrange
+    AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 1, 100, 0, clock::get);
+    for (int i = 0; i < 10; i++) {
+      assertThat(limiter.reserve()).isZero();
+    }
+
+    // Act
+    long first = limiter.reserve();
+    long second = limiter.reserve();
+
+    // Assert
+    assertThat(first).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(second).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  @DisplayName("reserve - time passes - refills tokens")
+  void reserve_timePasses_refillsTokens() {
+    // Arrange
+    AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 1, 100, 0, clock::get);
+    for (int i = 0; i < 10; i++) {
+      limiter.reserve();
+    }
+
+    // Act
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+
+    // Assert
+    assertThat(limiter.reserve()).isZero();
+    assertThat(limiter.reserve()).isZero();
+    assertThat(limiter.reserve()).isZero();
+    assertThat(limiter.reserve()).isPositive();
+  }
+
+  @Test
+  @DisplayName("onRateLimited - Retry-After - halves rate and pauses requests")
+  void onRateLimited_retryAfter_halvesRateAndPausesRequests() {
+    // Arrange
+    AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 1, 100, 0, clock::get);
+
+    // Act
+    boolean lowered = limiter.onRateLimited(2);
+
+    // Assert
+    assertThat(lowered).isTrue();
+    assertThat(limiter.getRate()).isEqualTo(5);
+    assertThat(limiter.reserve()).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(2));
+  }
+
+  @Test
+  @DisplayName("onRateLimited - burst of rejections - lowers rate once")
+  void onRateLimited_burstOfRejections_lowersRateOnce() {
+    // Arrange
+    AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(40, 1, 100, 0, clock::get);
+
+    // Act
+    boolean first = limiter.onRateLimited(0);
+    boolean second = limiter.onRateLimited(0);
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+    boolean later = limiter.onRateLimited(0);
+
+    // Assert
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    assertThat(later).isTrue();
+    assertThat(limiter.getRate()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("onRateLimited - repeated - never goes below minimum rate")
+  void onRateLimited_repeated_neverGoesBelowMinimumRate() {
+    // Arrange
+    AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(4, 2, 100, 0, clock::get);
+
+    // Act
+    for (int i = 0; i < 5; i++) {
+      limiter.onRateLimited(0);
+      clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    // Assert
+    assertThat(limiter.getRate()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("onSuccess - many successes - grows rate up to maximum")
+  void onSuccess_manySuccesses_growsRateUpToMaximum() {
+    // Arrange
+    AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 1, 12, 10, clock::get);
+
+    // Act
+    limiter.onSuccess();
+    double afterOne = limiter.getRate();
+    for (int i = 0; i < 100; i++) {
+      limiter.onSuccess();
+    }
+
+    // Assert
+    assertThat(afterOne).isEqualTo(11);
+    assertThat(limiter.getRate()).isEqualTo(12);
+  }
+
+  @Test
+  @DisplayName("constructor - initial rate above maximum - should throw IllegalArgumentException")
+  void constructor_initialRateAboveMaximum_shouldThrow() {
+    assertThatThrownBy(() -> new AdaptiveRateLimiter(200, 1, 100, 0, clock::get))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
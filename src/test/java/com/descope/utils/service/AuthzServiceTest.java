@@ -6,15 +6,20 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.io.TempDir;
 
 import com.descope.utils.config.CredentialSource;
 import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.fga.RelationTupleModel;
 import com.descope.utils.model.rebac.NamespaceModel;
 import com.descope.utils.model.rebac.RelationDefinitionModel;
 import com.descope.utils.model.rebac.SchemaModel;
@@ -204,4 +209,36 @@ public class AuthzServiceTest {
     assertEquals(1, ownerRel.getTargetNamespaces().size());
     assertEquals("user", ownerRel.getTargetNamespaces().get(0));
   }
+
+  @Test
+  @Timeout(10)
+  @DisplayName("crawlRelations - one lookup fails - finishes the level then throws once")
+  public void crawlRelations_oneLookupFails_finishesLevelThenThrowsOnce() {
+    DescopeConfig config = new DescopeConfig("P1", "K1", CredentialSource.COMMAND_LINE);
+    AuthzService crawler =
+        new AuthzService(descopeService) {
+          @Override
+          public OperationResult<List<RelationTupleModel>> resourceRelations(
+              DescopeConfig config, String resource) {
+            if (resource.equals("doc:2")) {
+              throw new RuntimeException("Failed to query resource relations: boom");
+            }
+            List<RelationTupleModel> tuples =
+                List.of(new RelationTupleModel(resource, "owner", "doc", "user:alice"));
+            return OperationResult.success(tuples, "Found 1 relation(s)");
+          }
+        };
+    List<RelationTupleModel> found = new ArrayList<>();
+
+    RuntimeException exception =
+        assertThrows(
+            RuntimeException.class,
+            () ->
+                crawler.crawlRelations(
+                    config, List.of("doc:1", "doc:2", "doc:3"), List.of(), 0, 2, found::add));
+
+    assertTrue(exception.getMessage().contains("1 of 3 request(s) failed"));
+    assertTrue(exception.getMessage().contains("boom"));
+    assertEquals(2, found.size());
+  }
 }
@@ -0,0 +1,158 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class BoundedTaskRunnerTest {
+
+  @Test
+  @DisplayName("run - many inputs - delivers every result")
+  void run_manyInputs_deliversEveryResult() {
+    // Arrange
+    List<Integer> results = new ArrayList<>();
+
+    // Act
+    try (BoundedTaskRunner runner = new BoundedTaskRunner("test", 4)) {
+      runner.run(IntStream.range(0, 100).iterator(), i -> i * 2, results::add);
+    }
+
+    // Assert
+    assertThat(results).hasSize(100);
+    assertThat(results.stream().mapToInt(Integer::intValue).sum()).isEqualTo(9900);
+  }
+
+  @Test
+  @DisplayName("run - slow tasks - never exceeds concurrency limit")
+  void run_slowTasks_neverExceedsConcurrencyLimit() {
+    // Arrange
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    // Act
+    try (BoundedTaskRunner runner = new BoundedTaskRunner("test", 3)) {
+      runner.run(
+          IntStream.range(0, 20).iterator(),
+          i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5);
+            running.decrementAndGet();
+            return i;
+          },
+          i -> {});
+    }
+
+    // Assert
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("run - input iterator fails - drains in-flight results then rethrows")
+  void run_inputIteratorFails_drainsInFlightResultsThenRethrows() {
+    // Arrange
+    Iterator<Integer> inputs =
+        new Iterator<>() {
+          private int next;
+
+          @Override
+          public boolean hasNext() {
+            return true;
+          }
+
+          @Override
+          public Integer next() {
+            if (next == 2) {
+              throw new IllegalArgumentException("bad row");
+            }
+            return next++;
+          }
+        };
+    List<Integer> results = new ArrayList<>();
+
+    // Act & Assert
+    try (BoundedTaskRunner runner = new BoundedTaskRunner("test", 4)) {
+      assertThatThrownBy(() -> runner.run(inputs, i -> i, results::add))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("bad row");
+    }
+    assertThat(results).containsExactlyInAnyOrder(0, 1);
+  }
+
+  @Test
+  @Timeout(10)
+  @DisplayName("run - task fails while the window is full - drains in-flight results then rethrows")
+  void run_taskFailsWhileWindowIsFull_drainsInFlightResultsThenRethrows() {
+    // Arrange
+    List<Integer> results = new ArrayList<>();
+
+    // Act & Assert
+    try (BoundedTaskRunner runner = new BoundedTaskRunner("test", 2)) {
+      assertThatThrownBy(
+              () ->
+                  runner.run(
+                      IntStream.range(0, 10).iterator(),
+                      i -> {
+                        if (i == 0) {
+                          throw new IllegalStateException("task failed");
+                        }
+                        sleep(20);
+                        return i;
+                      },
+                      results::add))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("task failed");
+    }
+    assertThat(results).containsExactly(1);
+  }
+
+  @Test
+  @Timeout(10)
+  @DisplayName("run - sink fails while the window is full - drains in-flight results then rethrows")
+  void run_sinkFailsWhileWindowIsFull_drainsInFlightResultsThenRethrows() {
+    // Arrange
+    List<Integer> results = new ArrayList<>();
+
+    // Act & Assert
+    try (BoundedTaskRunner runner = new BoundedTaskRunner("test", 2)) {
+      assertThatThrownBy(
+              () ->
+                  runner.run(
+                      IntStream.range(0, 10).iterator(),
+                      i -> i,
+                      i -> {
+                        if (results.isEmpty()) {
+                          results.add(i);
+                          throw new IllegalArgumentException("sink failed");
+                        }
+                        results.add(i);
+                      }))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("sink failed");
+    }
+    assertThat(results).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("constructor - zero concurrency - throws")
+  void constructor_zeroConcurrency_throws() {
+    assertThatThrownBy(() -> new BoundedTaskRunner("test", 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
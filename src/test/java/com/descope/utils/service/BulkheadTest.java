@@ -0,0 +1,42 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+  @Test
+  @DisplayName("acquire - bulkhead full - fails once the wait is over")
+  void acquire_bulkheadFull_failsOnceWaitIsOver() {
+    // Arrange
+    Bulkhead bulkhead = new Bulkhead(IsolationGroup.AUTHZ, 2, Duration.ofMillis(10));
+    bulkhead.acquire();
+    bulkhead.acquire();
+
+    // Act & Assert
+    assertThatThrownBy(bulkhead::acquire)
+        .isInstanceOf(ApiUnavailableException.class)
+        .hasMessageContaining("AUTHZ");
+    assertThat(bulkhead.getActiveCalls()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("release - slot returned - lets the next call in")
+  void release_slotReturned_letsNextCallIn() {
+    // Arrange
+    Bulkhead bulkhead = new Bulkhead(IsolationGroup.USERS, 1, Duration.ofMillis(10));
+    bulkhead.acquire();
+
+    // Act
+    bulkhead.release();
+    bulkhead.acquire();
+
+    // Assert
+    assertThat(bulkhead.getActiveCalls()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,84 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.config.CredentialSource;
+import com.descope.utils.config.DescopeConfig;
+
+class CatalogCacheTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final CatalogCache<String> cache = new CatalogCache<>(Duration.ofMinutes(5), clock::get);
+  private final DescopeConfig config =
+      new DescopeConfig("P1", "K1", CredentialSource.COMMAND_LINE);
+
+  @Test
+  @DisplayName("get - repeated lookups - loads the catalog once")
+  void get_repeatedLookups_loadsCatalogOnce() {
+    // Act
+    for (int i = 0; i < 100; i++) {
+      cache.get(config, this::load);
+    }
+
+    // Assert
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(cache.getIfPresent(config)).isEqualTo("catalog-1");
+  }
+
+  @Test
+  @DisplayName("get - same project with another key - shares the catalog")
+  void get_sameProjectWithAnotherKey_sharesCatalog() {
+    // Arrange
+    DescopeConfig otherKey = new DescopeConfig("P1", "K2", CredentialSource.COMMAND_LINE);
+    DescopeConfig otherProject = new DescopeConfig("P2", "K1", CredentialSource.COMMAND_LINE);
+    cache.get(config, this::load);
+
+    // Act
+    String shared = cache.get(otherKey, this::load);
+    String separate = cache.get(otherProject, this::load);
+
+    // Assert
+    assertThat(shared).isEqualTo("catalog-1");
+    assertThat(separate).isEqualTo("catalog-2");
+  }
+
+  @Test
+  @DisplayName("get - time to live passed - loads the catalog again")
+  void get_timeToLivePassed_loadsCatalogAgain() {
+    // Arrange
+    cache.get(config, this::load);
+
+    // Act
+    clock.addAndGet(Duration.ofMinutes(5).toNanos());
+
+    // Assert
+    assertThat(cache.getIfPresent(config)).isNull();
+    assertThat(cache.get(config, this::load)).isEqualTo("catalog-2");
+  }
+
+  @Test
+  @DisplayName("invalidate - cached catalog - loads the catalog again")
+  void invalidate_cachedCatalog_loadsCatalogAgain() {
+    // Arrange
+    cache.get(config, this::load);
+
+    // Act
+    cache.invalidate(config);
+
+    // Assert
+    assertThat(cache.getIfPresent(config)).isNull();
+    assertThat(cache.get(config, this::load)).isEqualTo("catalog-2");
+  }
+
+  private String load() {
+    return "catalog-" + loads.incrementAndGet();
+  }
+}
@@ -0,0 +1,142 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  @DisplayName("onFailure - failure rate reaches threshold - opens and refuses calls")
+  void onFailure_failureRateReachesThreshold_opensAndRefusesCalls() {
+    // Arrange
+    CircuitBreaker breaker = breaker();
+    for (int i = 0; i < 2; i++) {
+      breaker.tryAcquirePermission();
+      breaker.onSuccess(0);
+    }
+    breaker.tryAcquirePermission();
+    assertThat(breaker.onFailure()).isFalse();
+
+    // Act
+    breaker.tryAcquirePermission();
+    boolean opened = breaker.onFailure();
+
+    // Assert
+    assertThat(opened).isTrue();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(breaker.tryAcquirePermission()).isFalse();
+  }
+
+  @Test
+  @DisplayName("onFailure - fewer than minimum calls - stays closed")
+  void onFailure_fewerThanMinimumCalls_staysClosed() {
+    // Arrange
+    CircuitBreaker breaker = breaker();
+
+    // Act
+    for (int i = 0; i < 3; i++) {
+      breaker.tryAcquirePermission();
+      breaker.onFailure();
+    }
+
+    // Assert
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("onSuccess - slow call - counts as a failure")
+  void onSuccess_slowCall_countsAsFailure() {
+    // Arrange
+    CircuitBreaker breaker = breaker();
+    long slow = Duration.ofSeconds(2).toNanos();
+
+    // Act
+    for (int i = 0; i < 4; i++) {
+      breaker.tryAcquirePermission();
+      breaker.onSuccess(slow);
+    }
+
+    // Assert
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  @DisplayName("tryAcquirePermission - open period over - lets probes through and closes")
+  void tryAcquirePermission_openPeriodOver_letsProbesThroughAndCloses() {
+    // Arrange
+    CircuitBreaker breaker = openBreaker();
+    clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+    // Act
+    boolean first = breaker.tryAcquirePermission();
+    boolean second = breaker.tryAcquirePermission();
+    boolean third = breaker.tryAcquirePermission();
+
+    // Assert
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    assertThat(third).isFalse();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    breaker.onSuccess(0);
+    breaker.onSuccess(0);
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(breaker.tryAcquirePermission()).isTrue();
+  }
+
+  @Test
+  @DisplayName("onFailure - probe fails - opens for another period")
+  void onFailure_probeFails_opensForAnotherPeriod() {
+    // Arrange
+    CircuitBreaker breaker = openBreaker();
+    clock.addAndGet(Duration.ofSeconds(30).toNanos());
+    breaker.tryAcquirePermission();
+
+    // Act
+    boolean opened = breaker.onFailure();
+
+    // Assert
+    assertThat(opened).isTrue();
+    assertThat(breaker.tryAcquirePermission()).isFalse();
+    clock.addAndGet(Duration.ofSeconds(29).toNanos());
+    assertThat(breaker.tryAcquirePermission()).isFalse();
+  }
+
+  @Test
+  @DisplayName("onIgnored - rate-limited probe - frees the probe slot")
+  void onIgnored_rateLimitedProbe_freesProbeSlot() {
+    // Arrange
+    CircuitBreaker breaker = openBreaker();
+    clock.addAndGet(Duration.ofSeconds(30).toNanos());
+    breaker.tryAcquirePermission();
+    breaker.tryAcquirePermission();
+
+    // Act
+    breaker.onIgnored();
+
+    // Assert
+    assertThat(breaker.tryAcquirePermission()).isTrue();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+  }
+
+  private CircuitBreaker breaker() {
+    return new CircuitBreaker(
+        8, 4, 0.5, Duration.ofSeconds(1), Duration.ofSeconds(30), 2, clock::get);
+  }
+
+  private CircuitBreaker openBreaker() {
+    CircuitBreaker breaker = breaker();
+    for (int i = 0; i < 4; i++) {
+      breaker.tryAcquirePermission();
+      breaker.onFailure();
+    }
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    return breaker;
+  }
+}
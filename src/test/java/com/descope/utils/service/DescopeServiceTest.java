@@ -1,18 +1,35 @@
 package com.descope.utils.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
+import com.descope.client.DescopeClient;
+import com.descope.exception.DescopeException;
+import com.descope.exception.RateLimitExceededException;
 import com.descope.utils.config.CredentialSource;
 import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.OperationResult;
 
 class DescopeServiceTest {
 
   private DescopeService descopeService;
   private DescopeConfig config;
+  private final AtomicInteger clientsCreated = new AtomicInteger();
+  private final AtomicLong clock = new AtomicLong();
 
   @BeforeEach
   void setUp() {
@@ -53,4 +70,422 @@ class DescopeServiceTest {
     assertThat(result.getMessage()).contains("Original error message");
     assertThat(result.getCause()).isEqualTo(cause);
   }
+
+  @Test
+  @DisplayName("createClient - same config - returns cached client")
+  void createClient_sameConfig_returnsCachedClient() {
+    // Arrange
+    DescopeService service = cachingService(4, Duration.ofMinutes(10));
+
+    // Act
+    DescopeClient first = service.createClient(config);
+    DescopeClient second = service.createClient(config);
+
+    // Assert
+    assertThat(second).isSameAs(first);
+    assertThat(clientsCreated.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("createClient - different management key - returns separate client")
+  void createClient_differentManagementKey_returnsSeparateClient() {
+    // Arrange
+    DescopeService service = cachingService(4, Duration.ofMinutes(10));
+    DescopeConfig otherKey =
+        new DescopeConfig("test-project-id", "other-management-key", CredentialSource.ENVIRONMENT);
+
+    // Act
+    DescopeClient first = service.createClient(config);
+    DescopeClient second = service.createClient(otherKey);
+
+    // Assert
+    assertThat(second).isNotSameAs(first);
+    assertThat(service.cachedClientCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("createClient - different base URL - returns separate client")
+  void createClient_differentBaseUrl_returnsSeparateClient() {
+    // Arrange
+    DescopeService service = cachingService(4, Duration.ofMinutes(10));
+
+    // Act
+    DescopeClient real = service.createClient(config);
+    DescopeClient stub = service.createClient(config.withBaseUrl("http://127.0.0.1:8085"));
+
+    // Assert
+    assertThat(stub).isNotSameAs(real);
+    assertThat(service.createClient(config)).isSameAs(real);
+    assertThat(clientsCreated.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("createClient - cache full - evicts least recently used client")
+  void createClient_cacheFull_evictsLeastRecentlyUsedClient() {
+    // Arrange
+    DescopeService service = cachingService(2, Duration.ofMinutes(10));
+    DescopeConfig second = new DescopeConfig("project-2", "key-2", CredentialSource.COMMAND_LINE);
+    DescopeConfig third = new DescopeConfig("project-3", "key-3", CredentialSource.COMMAND_LINE);
+    DescopeClient firstClient = service.createClient(config);
+    service.createClient(second);
+    service.createClient(config); // touch so "second" becomes least recently used
+
+    // Act
+    service.createClient(third);
+
+    // Assert
+    assertThat(service.cachedClientCount()).isEqualTo(2);
+    assertThat(service.createClient(config)).isSameAs(firstClient);
+    assertThat(clientsCreated.get()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("createClient - idle beyond timeout - creates new client")
+  void createClient_idleBeyondTimeout_createsNewClient() {
+    // Arrange
+    DescopeService service = cachingService(4, Duration.ofSeconds(30));
+    DescopeClient first = service.createClient(config);
+
+    // Act
+    clock.addAndGet(Duration.ofSeconds(31).toNanos());
+    DescopeClient second = service.createClient(config);
+
+    // Assert
+    assertThat(second).isNotSameAs(first);
+    assertThat(clientsCreated.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("shutdown - cached clients - clears cache")
+  void shutdown_cachedClients_clearsCache() {
+    // Arrange
+    DescopeService service = cachingService(4, Duration.ofMinutes(10));
+    service.createClient(config);
+
+    // Act
+    service.shutdown();
+
+    // Assert
+    assertThat(service.cachedClientCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("call - rate limited then accepted - retries and lowers the rate")
+  void call_rateLimitedThenAccepted_retriesAndLowersTheRate() {
+    // Arrange
+    RateLimitExceededException rateLimited = rateLimited();
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act
+    String result =
+        descopeService.call(
+            config,
+            SdkOperation.RELATIONS_HAS,
+            () -> {
+              if (attempts.incrementAndGet() < 3) {
+                throw rateLimited;
+              }
+              return "ok";
+            });
+
+    // Assert
+    assertThat(result).isEqualTo("ok");
+    assertThat(attempts.get()).isEqualTo(3);
+    assertThat(descopeService.rateLimiter(config, ApiFamily.AUTHZ).getRate())
+        .isLessThan(DescopeService.DEFAULT_INITIAL_RATE);
+    assertThat(descopeService.rateLimiter(config, ApiFamily.MANAGEMENT).getRate())
+        .isEqualTo(DescopeService.DEFAULT_INITIAL_RATE);
+  }
+
+  @Test
+  @DisplayName("call - always rate limited - gives up after the attempt limit")
+  void call_alwaysRateLimited_givesUpAfterAttemptLimit() {
+    // Arrange
+    RateLimitExceededException rateLimited = rateLimited();
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                descopeService.run(
+                    config,
+                    SdkOperation.USER_SET_ROLES,
+                    () -> {
+                      attempts.incrementAndGet();
+                      throw rateLimited;
+                    }))
+        .isSameAs(rateLimited);
+    assertThat(attempts.get()).isEqualTo(DescopeService.MAX_RATE_LIMITED_ATTEMPTS);
+  }
+
+  @Test
+  @DisplayName("call - other Descope error - is not retried")
+  void call_otherDescopeError_isNotRetried() {
+    // Arrange
+    DescopeException failure = mock(DescopeException.class);
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                descopeService.call(
+                    config,
+                    SdkOperation.USER_LOAD,
+                    () -> {
+                      attempts.incrementAndGet();
+                      throw failure;
+                    }))
+        .isSameAs(failure);
+    assertThat(attempts.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("call - transient failure of safe operation - retries until it succeeds")
+  void call_transientFailureOfSafeOperation_retriesUntilItSucceeds() {
+    // Arrange
+    DescopeService service = retryingService();
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act
+    String result =
+        service.call(
+            config,
+            SdkOperation.RELATIONS_CREATE,
+            () -> {
+              if (attempts.incrementAndGet() < 3) {
+                throw timeout();
+              }
+              return "ok";
+            });
+
+    // Assert
+    assertThat(result).isEqualTo("ok");
+    assertThat(attempts.get()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("call - transient failure of unsafe operation - is not retried")
+  void call_transientFailureOfUnsafeOperation_isNotRetried() {
+    // Arrange
+    DescopeService service = retryingService();
+    RuntimeException failure = timeout();
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                service.call(
+                    config,
+                    SdkOperation.APP_CREATE,
+                    () -> {
+                      attempts.incrementAndGet();
+                      throw failure;
+                    }))
+        .isSameAs(failure);
+    assertThat(attempts.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("call - persistent transient failure - gives up after the policy's attempts")
+  void call_persistentTransientFailure_givesUpAfterPolicyAttempts() {
+    // Arrange
+    DescopeService service = retryingService();
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                service.run(
+                    config,
+                    SdkOperation.USER_LOAD,
+                    () -> {
+                      attempts.incrementAndGet();
+                      throw timeout();
+                    }))
+        .hasRootCauseInstanceOf(SocketTimeoutException.class);
+    assertThat(attempts.get()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("call - retry budget spent - fails without retrying")
+  void call_retryBudgetSpent_failsWithoutRetrying() {
+    // Arrange
+    DescopeService service = retryingService();
+    RetryBudget budget = service.retryBudget(config, SdkOperation.TENANT_LOAD);
+    while (budget.tryWithdraw()) {
+      // Drain the reserve, as an outage would
+    }
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                service.run(
+                    config,
+                    SdkOperation.TENANT_LOAD,
+                    () -> {
+                      attempts.incrementAndGet();
+                      throw timeout();
+                    }))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(attempts.get()).isEqualTo(1);
+    assertThat(service.retryBudget(config, SdkOperation.USER_LOAD).tryWithdraw()).isTrue();
+  }
+
+  @Test
+  @DisplayName("trackRetries - calls retried - records the retries on the result")
+  void trackRetries_callsRetried_recordsRetriesOnResult() {
+    // Arrange
+    DescopeService service = retryingService();
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act
+    OperationResult<String> result =
+        service.trackRetries(
+            () -> {
+              service.run(
+                  config,
+                  SdkOperation.RELATIONS_DELETE,
+                  () -> {
+                    if (attempts.incrementAndGet() < 3) {
+                      throw timeout();
+                    }
+                  });
+              return OperationResult.success("done");
+            });
+    OperationResult<String> untracked = OperationResult.success("done");
+
+    // Assert
+    assertThat(result.getRetries()).isEqualTo(2);
+    assertThat(service.trackRetries(() -> untracked).getRetries()).isZero();
+  }
+
+  @Test
+  @DisplayName("call - group keeps failing - opens the breaker and fails without calling")
+  void call_groupKeepsFailing_opensBreakerAndFailsWithoutCalling() {
+    // Arrange
+    DescopeService service = retryingService();
+    AtomicInteger attempts = new AtomicInteger();
+    Runnable failing =
+        () -> {
+          attempts.incrementAndGet();
+          throw timeout();
+        };
+    for (int i = 0; i < DescopeService.CIRCUIT_MINIMUM_CALLS; i++) {
+      assertThatThrownBy(() -> service.run(config, SdkOperation.ROLE_DELETE, failing))
+          .hasRootCauseInstanceOf(SocketTimeoutException.class);
+    }
+
+    // Act & Assert
+    assertThatThrownBy(() -> service.run(config, SdkOperation.ROLE_CREATE, failing))
+        .isInstanceOf(ApiUnavailableException.class);
+    assertThat(attempts.get()).isEqualTo(DescopeService.CIRCUIT_MINIMUM_CALLS);
+    assertThat(service.call(config, SdkOperation.USER_LOAD, () -> "loaded")).isEqualTo("loaded");
+  }
+
+  @Test
+  @DisplayName("call - another group's bulkhead full - still runs")
+  void call_anotherGroupsBulkheadFull_stillRuns() {
+    // Arrange
+    Bulkhead authz = descopeService.bulkhead(IsolationGroup.AUTHZ);
+    for (int i = 0; i < DescopeService.BULKHEAD_MAX_CONCURRENT_CALLS; i++) {
+      authz.acquire();
+    }
+
+    // Act
+    String result = descopeService.call(config, SdkOperation.USER_SET_ROLES, () -> "updated");
+
+    // Assert
+    assertThat(result).isEqualTo("updated");
+    assertThat(descopeService.bulkhead(IsolationGroup.USERS).getActiveCalls()).isZero();
+  }
+
+  @Test
+  @Timeout(10)
+  @DisplayName("call - waiting out a Retry-After longer than the bulkhead wait - holds no slot")
+  void call_waitingOutRetryAfterLongerThanBulkheadWait_holdsNoSlot() throws Exception {
+    // Arrange
+    DescopeService service = cachingService(4, Duration.ofMinutes(10));
+    Duration retryAfter = DescopeService.BULKHEAD_MAX_WAIT.multipliedBy(3);
+    service
+        .rateLimiter(config, SdkOperation.USER_LOAD.getFamily())
+        .onRateLimited((int) retryAfter.toSeconds());
+    AtomicReference<String> result = new AtomicReference<>();
+    Thread caller =
+        new Thread(
+            () -> result.set(service.call(config, SdkOperation.USER_LOAD, () -> "loaded")));
+
+    // Act
+    caller.start();
+    while (caller.getState() != Thread.State.TIMED_WAITING) {
+      Thread.sleep(1);
+    }
+    int activeWhileWaiting = service.bulkhead(IsolationGroup.USERS).getActiveCalls();
+    clock.addAndGet(retryAfter.plusSeconds(1).toNanos());
+    LockSupport.unpark(caller);
+    caller.join();
+
+    // Assert
+    assertThat(activeWhileWaiting).isZero();
+    assertThat(result.get()).isEqualTo("loaded");
+  }
+
+  @Test
+  @DisplayName("rateLimiter - same project with another key - shares the limiter")
+  void rateLimiter_sameProjectWithAnotherKey_sharesTheLimiter() {
+    // Arrange
+    DescopeConfig otherKey =
+        new DescopeConfig("test-project-id", "other-key", CredentialSource.COMMAND_LINE);
+    DescopeConfig otherProject =
+        new DescopeConfig("other-project-id", "test-management-key", CredentialSource.COMMAND_LINE);
+
+    // Act
+    AdaptiveRateLimiter limiter = descopeService.rateLimiter(config, ApiFamily.AUTHZ);
+
+    // Assert
+    assertThat(descopeService.rateLimiter(otherKey, ApiFamily.AUTHZ)).isSameAs(limiter);
+    assertThat(descopeService.rateLimiter(otherProject, ApiFamily.AUTHZ)).isNotSameAs(limiter);
+    assertThat(descopeService.rateLimiter(config, ApiFamily.AUTH)).isNotSameAs(limiter);
+  }
+
+  @Test
+  @DisplayName("wrapException - rate limit error - says the request was rate limited")
+  void wrapException_rateLimitError_saysRequestWasRateLimited() {
+    // Act
+    RuntimeException result = descopeService.wrapException("load user", rateLimited());
+
+    // Assert
+    assertThat(result.getMessage()).contains("Failed to load user").contains("rate limited");
+  }
+
+  private static RateLimitExceededException rateLimited() {
+    RateLimitExceededException rateLimited = mock(RateLimitExceededException.class);
+    when(rateLimited.getRetryAfterSeconds()).thenReturn(0);
+    when(rateLimited.getMessage()).thenReturn("Too many requests");
+    return rateLimited;
+  }
+
+  private static RuntimeException timeout() {
+    return new RuntimeException("Request failed", new SocketTimeoutException("Read timed out"));
+  }
+
+  private DescopeService retryingService() {
+    return new DescopeService(
+        cfg -> mock(DescopeClient.class),
+        4,
+        Duration.ofMinutes(10),
+        System::nanoTime,
+        new RetryPolicy(3, Duration.ZERO, Duration.ZERO));
+  }
+
+  private DescopeService cachingService(int maxClients, Duration idleTimeout) {
+    return new DescopeService(
+        cfg -> {
+          clientsCreated.incrementAndGet();
+          return mock(DescopeClient.class);
+        },
+        maxClients,
+        idleTimeout,
+        clock::get);
+  }
 }
@@ -0,0 +1,267 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.descope.utils.config.CredentialSource;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.FederatedAppType;
+import com.descope.utils.model.FederatedApplication;
+import com.descope.utils.model.Role;
+import com.descope.utils.model.rebac.NamespaceModel;
+import com.descope.utils.model.rebac.RelationDefinitionModel;
+import com.descope.utils.model.rebac.SchemaModel;
+
+class MetadataStoreTest {
+
+  private static final Duration TTL = Duration.ofMinutes(5);
+
+  @TempDir Path tempDir;
+
+  private final AtomicLong wallClock = new AtomicLong(1_700_000_000_000L);
+  private final DescopeConfig config =
+      new DescopeConfig("P1", "K1", CredentialSource.COMMAND_LINE);
+  private MetadataStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new MetadataStore(tempDir, wallClock::get);
+  }
+
+  @Test
+  @DisplayName("read - tenants written by another store - returns the same tenants")
+  void read_tenantsWrittenByAnotherStore_returnsSameTenants() {
+    // Arrange
+    TenantIndex index = new TenantIndex();
+    index.put("acme-corp", "Acme Corp");
+    index.put("globex", "Globex");
+    store.write(config, MetadataKind.TENANTS, index, Duration.ZERO);
+
+    // Act
+    MetadataStore.Stored<TenantIndex> stored =
+        new MetadataStore(tempDir, wallClock::get).read(config, MetadataKind.TENANTS, TTL);
+
+    // Assert
+    assertThat(stored.catalog().findIdByName("Acme Corp")).isEqualTo("acme-corp");
+    assertThat(stored.catalog().size()).isEqualTo(2);
+    assertThat(Files.exists(tempDir.resolve("P1").resolve("tenants.bin"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("read - roles, SSO apps and schema - round-trip every field")
+  void read_rolesSsoAppsAndSchema_roundTripEveryField() {
+    // Arrange
+    RoleCatalog roles = new RoleCatalog();
+    roles.put(new Role("admin", null, List.of("users.write"), null));
+    roles.put(new Role("billing", "Billing", null, "acme-corp"));
+    NamedIndex<FederatedApplication> ssoApps =
+        new NamedIndex<>(FederatedApplication::getId, FederatedApplication::getName);
+    FederatedApplication app =
+        new FederatedApplication(
+            "sso-1", "Portal", null, FederatedAppType.SAML, "https://login", Instant.now());
+    ssoApps.put(app);
+    SchemaModel schema =
+        new SchemaModel(
+            "docs",
+            List.of(
+                new NamespaceModel(
+                    "doc", List.of(new RelationDefinitionModel("owner", List.of("user"))))));
+
+    // Act
+    store.write(config, MetadataKind.ROLES, roles, Duration.ZERO);
+    store.write(config, MetadataKind.SSO_APPLICATIONS, ssoApps, Duration.ZERO);
+    store.write(config, MetadataKind.REBAC_SCHEMA, schema, Duration.ZERO);
+    RoleCatalog readRoles = store.read(config, MetadataKind.ROLES, TTL).catalog();
+    FederatedApplication readApp =
+        store.read(config, MetadataKind.SSO_APPLICATIONS, TTL).catalog().findByName("Portal");
+    SchemaModel readSchema = store.read(config, MetadataKind.REBAC_SCHEMA, TTL).catalog();
+
+    // Assert
+    assertThat(readRoles.find("users.write", null).get(0).getDescription()).isNull();
+    assertThat(readRoles.isAssignable("billing", "acme-corp")).isTrue();
+    assertThat(readRoles.find(null, "acme-corp").get(0).getPermissionNames()).isNull();
+    assertThat(readApp).isEqualTo(app);
+    assertThat(readSchema.getNamespaces().get(0).getName()).isEqualTo("doc");
+  }
+
+  @Test
+  @DisplayName("read - catalog loaded before the time to live - is a miss")
+  void read_catalogLoadedBeforeTimeToLive_isMiss() {
+    // Arrange
+    store.write(config, MetadataKind.TENANTS, new TenantIndex(), Duration.ofMinutes(4));
+
+    // Act
+    wallClock.addAndGet(Duration.ofSeconds(59).toMillis());
+    MetadataStore.Stored<TenantIndex> fresh = store.read(config, MetadataKind.TENANTS, TTL);
+    wallClock.addAndGet(Duration.ofSeconds(1).toMillis());
+    MetadataStore.Stored<TenantIndex> expired = store.read(config, MetadataKind.TENANTS, TTL);
+
+    // Assert
+    assertThat(fresh.age()).isEqualTo(Duration.ofSeconds(299));
+    assertThat(expired).isNull();
+  }
+
+  @Test
+  @DisplayName("read - corrupt payload - is a miss")
+  void read_corruptPayload_isMiss() throws IOException {
+    // Arrange
+    TenantIndex index = new TenantIndex();
+    index.put("acme-corp", "Acme Corp");
+    store.write(config, MetadataKind.TENANTS, index, Duration.ZERO);
+    Path file = tempDir.resolve("P1").resolve("tenants.bin");
+    byte[] bytes = Files.readAllBytes(file);
+    bytes[bytes.length - 1] ^= 1;
+    Files.write(file, bytes);
+
+    // Act
+    MetadataStore.Stored<TenantIndex> stored = store.read(config, MetadataKind.TENANTS, TTL);
+
+    // Assert
+    assertThat(stored).isNull();
+  }
+
+  @Test
+  @DisplayName("clear - files of two projects - deletes only the given project's files")
+  void clear_filesOfTwoProjects_deletesOnlyGivenProjectsFiles() throws IOException {
+    // Arrange
+    DescopeConfig other = new DescopeConfig("P2", "K1", CredentialSource.COMMAND_LINE);
+    store.write(config, MetadataKind.TENANTS, new TenantIndex(), Duration.ZERO);
+    store.write(config, MetadataKind.ROLES, new RoleCatalog(), Duration.ZERO);
+    store.write(other, MetadataKind.TENANTS, new TenantIndex(), Duration.ZERO);
+
+    // Act
+    int deleted = store.clear(config);
+
+    // Assert
+    assertThat(deleted).isEqualTo(2);
+    assertThat(store.read(config, MetadataKind.TENANTS, TTL)).isNull();
+    assertThat(store.read(other, MetadataKind.TENANTS, TTL)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("CatalogCache - file from an earlier invocation - used instead of loading")
+  void catalogCache_fileFromEarlierInvocation_usedInsteadOfLoading() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+    new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS)
+        .get(config, () -> tenants(loads));
+
+    // Act
+    TenantIndex index =
+        new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS)
+            .get(config, () -> tenants(loads));
+
+    // Assert
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(index.findIdByName("Acme Corp")).isEqualTo("acme-corp");
+  }
+
+  @Test
+  @DisplayName("CatalogCache - updated - cached and next invocation see the change")
+  void catalogCache_updated_cachedAndNextInvocationSeeChange() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+    CatalogCache<TenantIndex> first =
+        new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS);
+    TenantIndex cached = first.get(config, () -> tenants(loads));
+
+    // Act
+    first.update(config, index -> index.put("globex", "Globex"));
+    TenantIndex next =
+        new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS)
+            .get(config, () -> tenants(loads));
+
+    // Assert
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(cached.findIdByName("Globex")).isEqualTo("globex");
+    assertThat(next.findIdByName("Globex")).isEqualTo("globex");
+  }
+
+  @Test
+  @DisplayName("CatalogCache - two invocations update one store - keeps both changes")
+  void catalogCache_twoInvocationsUpdateOneStore_keepsBothChanges() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+    CatalogCache<TenantIndex> first =
+        new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS);
+    CatalogCache<TenantIndex> second =
+        new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS);
+    first.get(config, () -> tenants(loads));
+    second.get(config, () -> tenants(loads));
+
+    // Act
+    first.update(config, index -> index.put("globex", "Globex"));
+    second.update(config, index -> index.put("initech", "Initech"));
+    TenantIndex next =
+        new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS)
+            .get(config, () -> tenants(loads));
+
+    // Assert
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(next.findIdByName("Globex")).isEqualTo("globex");
+    assertThat(next.findIdByName("Initech")).isEqualTo("initech");
+    assertThat(next.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("CatalogCache - loaded while another invocation stored one - keeps the stored one")
+  void catalogCache_loadedWhileAnotherInvocationStoredOne_keepsStoredOne() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+    CatalogCache<TenantIndex> first =
+        new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS);
+    CatalogCache<TenantIndex> second =
+        new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS);
+
+    // Act
+    first.get(
+        config,
+        () -> {
+          // The other invocation loads and changes the catalog while this one is loading
+          second.get(config, () -> tenants(loads));
+          second.update(config, index -> index.put("globex", "Globex"));
+          return tenants(loads);
+        });
+    TenantIndex stored = store.read(config, MetadataKind.TENANTS, TTL).catalog();
+
+    // Assert
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(stored.findIdByName("Globex")).isEqualTo("globex");
+  }
+
+  @Test
+  @DisplayName("CatalogCache - invalidate - deletes the file")
+  void catalogCache_invalidate_deletesFile() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+    CatalogCache<TenantIndex> cache =
+        new CatalogCache<>(TTL, System::nanoTime, store, MetadataKind.TENANTS);
+    cache.get(config, () -> tenants(loads));
+
+    // Act
+    cache.invalidate(config);
+
+    // Assert
+    assertThat(store.read(config, MetadataKind.TENANTS, TTL)).isNull();
+  }
+
+  private static TenantIndex tenants(AtomicInteger loads) {
+    loads.incrementAndGet();
+    TenantIndex index = new TenantIndex();
+    index.put("acme-corp", "Acme Corp");
+    return index;
+  }
+}
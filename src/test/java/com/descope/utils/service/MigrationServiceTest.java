@@ -0,0 +1,151 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.model.user.response.UserResponse;
+import com.descope.model.user.response.UsersBatchResponse;
+import com.descope.model.user.response.UsersFailedResponse;
+import com.descope.sdk.mgmt.UserService;
+import com.descope.utils.config.CredentialSource;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.input.LegacyUserRecord;
+import com.descope.utils.model.MigratedUser;
+import com.descope.utils.model.RowResult;
+
+/**
+ * Unit tests for MigrationService batch result mapping.
+ *
+ * <p>The SDK user service is mocked so that the mapping of batch responses back to input rows can
+ * be tested without network access.
+ */
+class MigrationServiceTest {
+
+  private static final String HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZRGdjGj/n3.SjRTvllzLR";
+
+  private final DescopeConfig config =
+      new DescopeConfig("P1", "K1", CredentialSource.COMMAND_LINE);
+  private UserService sdkUserService;
+  private MigrationService migrationService;
+
+  @BeforeEach
+  void setUp() {
+    sdkUserService = mock(UserService.class);
+    migrationService = new MigrationService(new DescopeService());
+  }
+
+  @Test
+  @DisplayName("migrateBatch - created and failed users - maps results back to rows in order")
+  void migrateBatch_createdAndFailedUsers_mapsResultsBackToRowsInOrder() {
+    // Arrange
+    List<LegacyUserRecord> batch =
+        Arrays.asList(record(1, "alice@example.com"), record(2, "Bob@example.com"));
+    UsersBatchResponse response = mock(UsersBatchResponse.class);
+    UserResponse alice = user("user-1", "alice@example.com");
+    UsersFailedResponse bob = mock(UsersFailedResponse.class);
+    UserResponse bobUser = user(null, "bob@example.com");
+    when(bob.getUser()).thenReturn(bobUser);
+    when(bob.getFailure()).thenReturn("invalid hash");
+    when(response.getCreatedUsers()).thenReturn(Collections.singletonList(alice));
+    when(response.getFailedUsers()).thenReturn(Collections.singletonList(bob));
+    when(sdkUserService.createBatch(anyList())).thenReturn(response);
+
+    // Act
+    List<RowResult<MigratedUser>> rows =
+        migrationService.migrateBatch(config, sdkUserService, batch);
+
+    // Assert
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0).getRow()).isEqualTo(1);
+    assertThat(rows.get(0).getResult().isCreated()).isTrue();
+    assertThat(rows.get(0).getResult().getData().getUserId()).isEqualTo("user-1");
+    assertThat(rows.get(1).getRow()).isEqualTo(2);
+    assertThat(rows.get(1).getResult().isSuccess()).isFalse();
+    assertThat(rows.get(1).getResult().getErrorMessage()).contains("invalid hash");
+  }
+
+  @Test
+  @DisplayName("migrateBatch - user missing from response - reports row as failed")
+  void migrateBatch_userMissingFromResponse_reportsRowAsFailed() {
+    // Arrange
+    UsersBatchResponse response = mock(UsersBatchResponse.class);
+    when(response.getCreatedUsers()).thenReturn(Collections.emptyList());
+    when(sdkUserService.createBatch(anyList())).thenReturn(response);
+
+    // Act
+    List<RowResult<MigratedUser>> rows =
+        migrationService.migrateBatch(
+            config, sdkUserService, Collections.singletonList(record(5, "carol@example.com")));
+
+    // Assert
+    assertThat(rows).hasSize(1);
+    assertThat(rows.get(0).getResult().isSuccess()).isFalse();
+    assertThat(rows.get(0).getResult().getErrorMessage()).contains("No result returned");
+  }
+
+  @Test
+  @DisplayName("migrateBatch - invalid rows only - rejects locally without calling API")
+  void migrateBatch_invalidRowsOnly_rejectsLocallyWithoutCallingApi() {
+    // Arrange
+    LegacyUserRecord noHash =
+        new LegacyUserRecord(
+            1, "dave@example.com", "Dave", "Doe", "tenant-1", Collections.emptyList(), null);
+    LegacyUserRecord noEmail =
+        new LegacyUserRecord(2, null, "Eve", "Doe", "tenant-1", Collections.emptyList(), HASH);
+
+    // Act
+    List<RowResult<MigratedUser>> rows =
+        migrationService.migrateBatch(config, sdkUserService, Arrays.asList(noHash, noEmail));
+
+    // Assert
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0).getResult().getErrorMessage()).contains("no bcrypt hash");
+    assertThat(rows.get(1).getResult().getErrorMessage()).contains("no email");
+    verify(sdkUserService, never()).createBatch(anyList());
+  }
+
+  @Test
+  @DisplayName("migrateBatch - duplicate login ID in batch - rejects second row")
+  void migrateBatch_duplicateLoginIdInBatch_rejectsSecondRow() {
+    // Arrange
+    UsersBatchResponse response = mock(UsersBatchResponse.class);
+    UserResponse alice = user("user-1", "alice@example.com");
+    when(response.getCreatedUsers()).thenReturn(Collections.singletonList(alice));
+    when(sdkUserService.createBatch(anyList())).thenReturn(response);
+
+    // Act
+    List<RowResult<MigratedUser>> rows =
+        migrationService.migrateBatch(
+            config,
+            sdkUserService,
+            Arrays.asList(record(1, "alice@example.com"), record(2, "ALICE@example.com")));
+
+    // Assert
+    assertThat(rows.get(0).getResult().isCreated()).isTrue();
+    assertThat(rows.get(1).getResult().getErrorMessage()).contains("Duplicate login ID");
+  }
+
+  private static LegacyUserRecord record(long row, String email) {
+    return new LegacyUserRecord(
+        row, email, "First", "Last", "tenant-1", Collections.singletonList("user"), HASH);
+  }
+
+  private static UserResponse user(String userId, String loginId) {
+    UserResponse user = mock(UserResponse.class);
+    when(user.getUserId()).thenReturn(userId);
+    when(user.getLoginIds()).thenReturn(Collections.singletonList(loginId));
+    return user;
+  }
+}
@@ -0,0 +1,75 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.model.Application;
+
+class NamedIndexTest {
+
+  private final NamedIndex<Application> index =
+      new NamedIndex<>(Application::getId, Application::getName);
+
+  @Test
+  @DisplayName("put - new resource - found by name and by ID")
+  void put_newResource_foundByNameAndById() {
+    // Arrange
+    Application app = new Application("app-1", "Portal", "", Instant.now());
+
+    // Act
+    index.put(app);
+
+    // Assert
+    assertThat(index.findByName("Portal")).isSameAs(app);
+    assertThat(index.findById("app-1")).isSameAs(app);
+    assertThat(index.findByName("portal")).isNull();
+  }
+
+  @Test
+  @DisplayName("put - renamed resource - drops the old name")
+  void put_renamedResource_dropsOldName() {
+    // Arrange
+    index.put(new Application("app-1", "Portal", "", Instant.now()));
+
+    // Act
+    index.put(new Application("app-1", "Customer Portal", "", Instant.now()));
+
+    // Assert
+    assertThat(index.findByName("Portal")).isNull();
+    assertThat(index.findByName("Customer Portal").getId()).isEqualTo("app-1");
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("tryClaim - name already claimed - refuses until released")
+  void tryClaim_nameAlreadyClaimed_refusesUntilReleased() {
+    // Arrange
+    assertThat(index.tryClaim("Portal")).isTrue();
+
+    // Act
+    boolean second = index.tryClaim("Portal");
+    index.release("Portal");
+
+    // Assert
+    assertThat(second).isFalse();
+    assertThat(index.tryClaim("Portal")).isTrue();
+  }
+
+  @Test
+  @DisplayName("tryClaim - claimed name created - refuses because the name exists")
+  void tryClaim_claimedNameCreated_refusesBecauseNameExists() {
+    // Arrange
+    index.tryClaim("Portal");
+
+    // Act
+    index.put(new Application("app-1", "Portal", "", Instant.now()));
+
+    // Assert
+    assertThat(index.tryClaim("Portal")).isFalse();
+    assertThat(index.findByName("Portal")).isNotNull();
+  }
+}
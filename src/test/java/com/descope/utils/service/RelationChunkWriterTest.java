@@ -0,0 +1,127 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.model.BulkOperationSummary;
+import com.descope.utils.model.OperationResult;
+import com.descope.utils.model.fga.RelationChunkResult;
+import com.descope.utils.model.fga.RelationTupleModel;
+
+class RelationChunkWriterTest {
+
+  @Test
+  @DisplayName("write - uneven input - sends contiguous chunks of chunk size")
+  void write_unevenInput_sendsContiguousChunksOfChunkSize() {
+    // Arrange
+    List<RelationTupleModel> tuples = tuples(7);
+    List<RelationChunkResult> chunks = new ArrayList<>();
+
+    // Act
+    BulkOperationSummary summary =
+        new RelationChunkWriter(3, 2)
+            .write("test", tuples.iterator(), row -> false, this::created, chunks::add);
+
+    // Assert
+    chunks.sort((a, b) -> Long.compare(a.getFirstRow(), b.getFirstRow()));
+    assertThat(chunks).hasSize(3);
+    assertThat(chunks.get(0).getFirstRow()).isEqualTo(1);
+    assertThat(chunks.get(0).getLastRow()).isEqualTo(3);
+    assertThat(chunks.get(2).getFirstRow()).isEqualTo(7);
+    assertThat(chunks.get(2).getSent()).isEqualTo(1);
+    assertThat(summary.getTotal()).isEqualTo(7);
+    assertThat(summary.getCreated()).isEqualTo(7);
+    assertThat(summary.isAllSucceeded()).isTrue();
+  }
+
+  @Test
+  @DisplayName("write - skipped positions - are not sent and keep chunk boundaries")
+  void write_skippedPositions_areNotSentAndKeepChunkBoundaries() {
+    // Arrange
+    List<RelationTupleModel> tuples = tuples(6);
+    List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    List<RelationChunkResult> chunks = new ArrayList<>();
+
+    // Act
+    BulkOperationSummary summary =
+        new RelationChunkWriter(3, 1)
+            .write(
+                "test",
+                tuples.iterator(),
+                row -> row <= 4,
+                chunk -> {
+                  chunk.forEach(tuple -> sent.add(tuple.getResource()));
+                  return created(chunk);
+                },
+                chunks::add);
+
+    // Assert
+    assertThat(sent).containsExactly("doc:5", "doc:6");
+    assertThat(chunks).hasSize(2);
+    assertThat(chunks.get(0).getSent()).isZero();
+    assertThat(chunks.get(1).getFirstRow()).isEqualTo(4);
+    assertThat(chunks.get(1).getLastRow()).isEqualTo(6);
+    assertThat(summary.getTotal()).isEqualTo(2);
+    assertThat(summary.getSkipped()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("write - one chunk fails - reports failure and continues")
+  void write_oneChunkFails_reportsFailureAndContinues() {
+    // Arrange
+    AtomicInteger calls = new AtomicInteger();
+    List<RelationChunkResult> chunks = new ArrayList<>();
+
+    // Act
+    BulkOperationSummary summary =
+        new RelationChunkWriter(2, 1)
+            .write(
+                "test",
+                tuples(6).iterator(),
+                row -> false,
+                chunk -> {
+                  if (calls.incrementAndGet() == 2) {
+                    throw new RuntimeException("rate limited");
+                  }
+                  return created(chunk);
+                },
+                chunks::add);
+
+    // Assert
+    assertThat(chunks).hasSize(3);
+    assertThat(chunks.get(1).getResult().isSuccess()).isFalse();
+    assertThat(chunks.get(1).getResult().getErrorMessage()).isEqualTo("rate limited");
+    assertThat(summary.getCreated()).isEqualTo(4);
+    assertThat(summary.getFailed()).isEqualTo(2);
+    assertThat(summary.isAllSucceeded()).isFalse();
+  }
+
+  @Test
+  @DisplayName("constructor - zero chunk size - throws exception")
+  void constructor_zeroChunkSize_throwsException() {
+    // Act & Assert
+    assertThatThrownBy(() -> new RelationChunkWriter(0, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Chunk size");
+  }
+
+  private OperationResult<String> created(List<RelationTupleModel> chunk) {
+    return OperationResult.created("", "Created " + chunk.size());
+  }
+
+  private static List<RelationTupleModel> tuples(int count) {
+    List<RelationTupleModel> tuples = new ArrayList<>();
+    for (int i = 1; i <= count; i++) {
+      tuples.add(new RelationTupleModel("doc:" + i, "viewer", "doc", "user:" + i));
+    }
+    return tuples;
+  }
+}
@@ -0,0 +1,79 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.exception.DescopeException;
+import com.descope.exception.RateLimitExceededException;
+
+class RetryPolicyTest {
+
+  private final RetryPolicy policy =
+      new RetryPolicy(5, Duration.ofMillis(100), Duration.ofMillis(300));
+
+  @Test
+  @DisplayName("backoffNanos - later retries - doubles the ceiling up to the maximum delay")
+  void backoffNanos_laterRetries_doublesCeilingUpToMaximumDelay() {
+    // Act & Assert
+    assertThat(policy.backoffNanos(1, 0.5)).isEqualTo(Duration.ofMillis(50).toNanos());
+    assertThat(policy.backoffNanos(2, 0.5)).isEqualTo(Duration.ofMillis(100).toNanos());
+    assertThat(policy.backoffNanos(3, 0.5)).isEqualTo(Duration.ofMillis(150).toNanos());
+    assertThat(policy.backoffNanos(40, 0.5)).isEqualTo(Duration.ofMillis(150).toNanos());
+  }
+
+  @Test
+  @DisplayName("backoffNanos - full jitter - spans zero to the ceiling")
+  void backoffNanos_fullJitter_spansZeroToCeiling() {
+    // Act & Assert
+    assertThat(policy.backoffNanos(2, 0.0)).isZero();
+    assertThat(policy.backoffNanos(2, 0.999)).isLessThan(Duration.ofMillis(200).toNanos());
+  }
+
+  @Test
+  @DisplayName("isTransient - network errors and server errors - are transient")
+  void isTransient_networkAndServerErrors_areTransient() {
+    // Arrange
+    DescopeException unavailable = mock(DescopeException.class);
+    when(unavailable.getCode()).thenReturn("E000503");
+    DescopeException gateway = mock(DescopeException.class);
+    when(gateway.getMessage()).thenReturn("Server returned 502 Bad Gateway");
+
+    // Act & Assert
+    assertThat(RetryPolicy.isTransient(new UncheckedIOException(new ConnectException("refused"))))
+        .isTrue();
+    assertThat(RetryPolicy.isTransient(unavailable)).isTrue();
+    assertThat(RetryPolicy.isTransient(gateway)).isTrue();
+  }
+
+  @Test
+  @DisplayName("isTransient - client errors and rate limits - are not transient")
+  void isTransient_clientErrorsAndRateLimits_areNotTransient() {
+    // Arrange
+    DescopeException notFound = mock(DescopeException.class);
+    when(notFound.getCode()).thenReturn("E011002");
+    when(notFound.getMessage()).thenReturn("Schema not found");
+    RateLimitExceededException rateLimited = mock(RateLimitExceededException.class);
+    when(rateLimited.getMessage()).thenReturn("Request timed out waiting for quota");
+
+    // Act & Assert
+    assertThat(RetryPolicy.isTransient(notFound)).isFalse();
+    assertThat(RetryPolicy.isTransient(rateLimited)).isFalse();
+    assertThat(RetryPolicy.isTransient(new IllegalArgumentException("Bad tuple"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("constructor - zero attempts - should throw IllegalArgumentException")
+  void constructor_zeroAttempts_shouldThrow() {
+    assertThatThrownBy(() -> new RetryPolicy(0, Duration.ZERO, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,91 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.utils.model.Role;
+
+class RoleCatalogTest {
+
+  private final RoleCatalog catalog = new RoleCatalog();
+
+  @BeforeEach
+  void setUp() {
+    catalog.put(new Role("admin", "", List.of("users.write", "users.read"), null));
+    catalog.put(new Role("viewer", "", List.of("users.read"), null));
+    catalog.put(new Role("billing", "", List.of("invoices.read"), "acme-corp"));
+    catalog.put(new Role("auditor", "", List.of("users.read"), "acme-corp"));
+  }
+
+  @Test
+  @DisplayName("find - no filters - returns all roles in load order")
+  void find_noFilters_returnsAllRolesInLoadOrder() {
+    // Act
+    List<Role> roles = catalog.find(null, null);
+
+    // Assert
+    assertThat(names(roles)).containsExactly("admin", "viewer", "billing", "auditor");
+  }
+
+  @Test
+  @DisplayName("find - by permission and tenant - returns roles matching both")
+  void find_byPermissionAndTenant_returnsRolesMatchingBoth() {
+    // Act
+    List<Role> withPermission = catalog.find("users.read", null);
+    List<Role> inTenant = catalog.find(null, "acme-corp");
+    List<Role> both = catalog.find("users.read", "acme-corp");
+
+    // Assert
+    assertThat(names(withPermission)).containsExactly("admin", "viewer", "auditor");
+    assertThat(names(inTenant)).containsExactly("billing", "auditor");
+    assertThat(names(both)).containsExactly("auditor");
+    assertThat(catalog.find("unknown.permission", null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("put - role with changed permissions - drops the old permissions")
+  void put_roleWithChangedPermissions_dropsOldPermissions() {
+    // Act
+    catalog.put(new Role("viewer", "", List.of("invoices.read"), null));
+
+    // Assert
+    assertThat(names(catalog.find("users.read", null))).containsExactly("admin", "auditor");
+    assertThat(names(catalog.find("invoices.read", null))).containsExactly("billing", "viewer");
+    assertThat(catalog.size()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("remove - tenant role - leaves the project role of the same name")
+  void remove_tenantRole_leavesProjectRoleOfSameName() {
+    // Arrange
+    catalog.put(new Role("admin", "", List.of("users.write"), "acme-corp"));
+
+    // Act
+    catalog.remove("admin", "acme-corp");
+
+    // Assert
+    assertThat(names(catalog.find(null, "acme-corp"))).containsExactly("billing", "auditor");
+    assertThat(catalog.isAssignable("admin", null)).isTrue();
+  }
+
+  @Test
+  @DisplayName("isAssignable - tenant role - only within its tenant")
+  void isAssignable_tenantRole_onlyWithinItsTenant() {
+    // Act & Assert
+    assertThat(catalog.isAssignable("billing", "acme-corp")).isTrue();
+    assertThat(catalog.isAssignable("billing", "globex")).isFalse();
+    assertThat(catalog.isAssignable("billing", null)).isFalse();
+    assertThat(catalog.isAssignable("viewer", "globex")).isTrue();
+    assertThat(catalog.isAssignable("owner", null)).isFalse();
+  }
+
+  private static List<String> names(List<Role> roles) {
+    return roles.stream().map(Role::getName).collect(Collectors.toList());
+  }
+}
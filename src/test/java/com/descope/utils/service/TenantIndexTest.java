@@ -0,0 +1,40 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TenantIndexTest {
+
+  @Test
+  @DisplayName("put - new tenant - found by name and by ID")
+  void put_newTenant_foundByNameAndById() {
+    // Arrange
+    TenantIndex index = new TenantIndex();
+
+    // Act
+    index.put("acme-corp", "Acme Corp");
+
+    // Assert
+    assertThat(index.findIdByName("Acme Corp")).isEqualTo("acme-corp");
+    assertThat(index.findNameById("acme-corp")).isEqualTo("Acme Corp");
+    assertThat(index.findIdByName("acme corp")).isNull();
+  }
+
+  @Test
+  @DisplayName("put - renamed tenant - drops the old name")
+  void put_renamedTenant_dropsOldName() {
+    // Arrange
+    TenantIndex index = new TenantIndex();
+    index.put("acme-corp", "Acme Corp");
+
+    // Act
+    index.put("acme-corp", "Acme Inc");
+
+    // Assert
+    assertThat(index.findIdByName("Acme Corp")).isNull();
+    assertThat(index.findIdByName("Acme Inc")).isEqualTo("acme-corp");
+    assertThat(index.size()).isEqualTo(1);
+  }
+}
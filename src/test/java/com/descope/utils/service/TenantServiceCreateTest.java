@@ -0,0 +1,98 @@
+package com.descope.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.descope.client.DescopeClient;
+import com.descope.exception.DescopeException;
+import com.descope.model.tenant.Tenant;
+import com.descope.sdk.mgmt.ManagementServices;
+import com.descope.utils.config.CredentialSource;
+import com.descope.utils.config.DescopeConfig;
+import com.descope.utils.model.OperationResult;
+
+/**
+ * Unit tests for how TenantService handles a create rejected as a duplicate.
+ *
+ * <p>The SDK tenant service is mocked so that the duplicate path can be tested without network
+ * access.
+ */
+class TenantServiceCreateTest {
+
+  private final DescopeConfig config =
+      new DescopeConfig("P1", "K1", CredentialSource.COMMAND_LINE);
+  private com.descope.sdk.mgmt.TenantService sdkTenantService;
+  private TenantService tenantService;
+
+  @BeforeEach
+  void setUp() {
+    sdkTenantService = mock(com.descope.sdk.mgmt.TenantService.class);
+    ManagementServices management = mock(ManagementServices.class);
+    DescopeClient client = mock(DescopeClient.class);
+    when(client.getManagementServices()).thenReturn(management);
+    when(management.getTenantService()).thenReturn(sdkTenantService);
+    when(sdkTenantService.loadAll()).thenReturn(Collections.emptyList());
+    doThrow(new DescopeException("Tenant already exists"))
+        .when(sdkTenantService)
+        .createWithId(eq("acme-corp"), any(), anyList(), any());
+    tenantService =
+        new TenantService(
+            new DescopeService(cfg -> client, 4, Duration.ofMinutes(10), System::nanoTime));
+  }
+
+  @Test
+  @DisplayName("createTenant - duplicate ID of a tenant with the same name - returns existing")
+  void createTenant_duplicateIdOfTenantWithSameName_returnsExisting() {
+    // Arrange
+    Tenant existing = tenant("Acme Corp");
+    when(sdkTenantService.load("acme-corp")).thenReturn(existing);
+
+    // Act
+    OperationResult<com.descope.utils.model.Tenant> first =
+        tenantService.createTenant(config, "Acme Corp", null);
+    OperationResult<com.descope.utils.model.Tenant> second =
+        tenantService.createTenant(config, "Acme Corp", null);
+
+    // Assert
+    assertThat(first.isAlreadyExists()).isTrue();
+    assertThat(first.getData().getId()).isEqualTo("acme-corp");
+    assertThat(second.isAlreadyExists()).isTrue();
+    verify(sdkTenantService, times(1)).createWithId(eq("acme-corp"), any(), anyList(), any());
+  }
+
+  @Test
+  @DisplayName("createTenant - duplicate ID of a tenant with another name - throws")
+  void createTenant_duplicateIdOfTenantWithAnotherName_throws() {
+    // Arrange
+    Tenant existing = tenant("ACME Corp");
+    when(sdkTenantService.load("acme-corp")).thenReturn(existing);
+
+    // Act & Assert
+    assertThatThrownBy(() -> tenantService.createTenant(config, "Acme Corp", null))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("Failed to create tenant 'Acme Corp'")
+        .hasMessageContaining("already exists");
+  }
+
+  private static Tenant tenant(String name) {
+    Tenant tenant = mock(Tenant.class);
+    when(tenant.getId()).thenReturn("acme-corp");
+    when(tenant.getName()).thenReturn(name);
+    return tenant;
+  }
+}
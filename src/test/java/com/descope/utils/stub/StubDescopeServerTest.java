@@ -0,0 +1,214 @@
+package com.descope.utils.stub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class StubDescopeServerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpClient client = HttpClient.newHttpClient();
+  private StubDescopeServer server;
+
+  @AfterEach
+  void tearDown() {
+    if (server != null) {
+      server.close();
+    }
+  }
+
+  @Test
+  @DisplayName("create user - new and existing login ID - creates once then reports duplicate")
+  void createUser_newAndExistingLoginId_createsOnceThenReportsDuplicate() throws Exception {
+    // Arrange
+    server = StubDescopeServer.start(0, StubFaults.none(), 1, objectMapper);
+    String body = "{\"loginId\":\"alice@example.com\",\"email\":\"alice@example.com\"}";
+
+    // Act
+    HttpResponse<String> created = post("P1:K1", "/v1/mgmt/user/create", body);
+    HttpResponse<String> duplicate = post("P1:K1", "/v1/mgmt/user/create", body);
+    HttpResponse<String> loaded = get("P1:K1", "/v1/mgmt/user?loginid=alice%40example.com");
+
+    // Assert
+    assertThat(created.statusCode()).isEqualTo(200);
+    assertThat(json(created).path("user").path("loginIds").get(0).asText())
+        .isEqualTo("alice@example.com");
+    assertThat(duplicate.statusCode()).isEqualTo(400);
+    assertThat(json(duplicate).path("errorDescription").asText()).contains("already exists");
+    assertThat(json(loaded).path("user").path("email").asText()).isEqualTo("alice@example.com");
+  }
+
+  @Test
+  @DisplayName("load user - other project - keeps projects separate")
+  void loadUser_otherProject_keepsProjectsSeparate() throws Exception {
+    // Arrange
+    server = StubDescopeServer.start(0, StubFaults.none(), 1, objectMapper);
+    post("P1:K1", "/v1/mgmt/user/create", "{\"loginId\":\"alice\"}");
+
+    // Act
+    HttpResponse<String> response = get("P2:K2", "/v1/mgmt/user?loginid=alice");
+
+    // Assert
+    assertThat(response.statusCode()).isEqualTo(400);
+    assertThat(json(response).path("errorDescription").asText()).contains("not found");
+  }
+
+  @Test
+  @DisplayName("has relations - stored tuple - answers only for stored tuples")
+  void hasRelations_storedTuple_answersOnlyForStoredTuples() throws Exception {
+    // Arrange
+    server = StubDescopeServer.start(0, StubFaults.none(), 1, objectMapper);
+    post(
+        "P1:K1",
+        "/v1/mgmt/authz/re/create",
+        "{\"relations\":[{\"resource\":\"doc1\",\"relationDefinition\":\"owner\","
+            + "\"namespace\":\"doc\",\"target\":\"alice\"}]}");
+
+    // Act
+    HttpResponse<String> response =
+        post(
+            "P1:K1",
+            "/v1/mgmt/authz/re/has",
+            "{\"relationQueries\":["
+                + "{\"resource\":\"doc1\",\"relationDefinition\":\"owner\","
+                + "\"namespace\":\"doc\",\"target\":\"alice\"},"
+                + "{\"resource\":\"doc1\",\"relationDefinition\":\"owner\","
+                + "\"namespace\":\"doc\",\"target\":\"bob\"}]}");
+
+    // Assert
+    JsonNode queries = json(response).path("relationQueries");
+    assertThat(queries.get(0).path("hasRelation").asBoolean()).isTrue();
+    assertThat(queries.get(1).path("hasRelation").asBoolean()).isFalse();
+  }
+
+  @Test
+  @DisplayName("sign in - signed up user - returns signed session token")
+  void signIn_signedUpUser_returnsSignedSessionToken() throws Exception {
+    // Arrange
+    server = StubDescopeServer.start(0, StubFaults.none(), 1, objectMapper);
+    post(
+        "P1",
+        "/v1/auth/password/signup",
+        "{\"loginId\":\"bob\",\"password\":\"secret\",\"user\":{\"name\":\"Bob\"}}");
+
+    // Act
+    HttpResponse<String> signedIn =
+        post("P1", "/v1/auth/password/signin", "{\"loginId\":\"bob\",\"password\":\"secret\"}");
+    HttpResponse<String> rejected =
+        post("P1", "/v1/auth/password/signin", "{\"loginId\":\"bob\",\"password\":\"wrong\"}");
+    HttpResponse<String> keys = get("P1", "/v2/keys/P1");
+
+    // Assert
+    assertThat(json(signedIn).path("sessionJwt").asText().split("\\.")).hasSize(3);
+    assertThat(json(signedIn).path("user").path("name").asText()).isEqualTo("Bob");
+    assertThat(rejected.statusCode()).isEqualTo(401);
+    assertThat(json(keys).path("keys").get(0).path("alg").asText()).isEqualTo("RS256");
+  }
+
+  @Test
+  @DisplayName("request - over requests per second - rejects with 429 and Retry-After")
+  void request_overRequestsPerSecond_rejectsWith429AndRetryAfter() throws Exception {
+    // Arrange
+    server =
+        StubDescopeServer.start(
+            0, new StubFaults(Duration.ZERO, Duration.ZERO, 0, 0, 1, 3), 1, objectMapper);
+
+    // Act: three requests span at most two one-second windows, so one window sees two
+    int rejected = 0;
+    String retryAfter = null;
+    for (int i = 0; i < 3; i++) {
+      HttpResponse<String> response = get("P1:K1", "/v1/mgmt/tenant/all");
+      if (response.statusCode() == 429) {
+        rejected++;
+        retryAfter = response.headers().firstValue("Retry-After").orElse(null);
+      }
+    }
+
+    // Assert
+    assertThat(rejected).isPositive();
+    assertThat(retryAfter).isEqualTo("3");
+    assertThat(server.getRateLimitedCount()).isEqualTo(rejected);
+  }
+
+  @Test
+  @DisplayName("request - error rate 1 - fails every request with 503")
+  void request_errorRateOne_failsEveryRequestWith503() throws Exception {
+    // Arrange
+    server =
+        StubDescopeServer.start(
+            0, new StubFaults(Duration.ZERO, Duration.ZERO, 1, 0, 0, 1), 1, objectMapper);
+
+    // Act
+    HttpResponse<String> response = get("P1:K1", "/v1/mgmt/role/all");
+
+    // Assert
+    assertThat(response.statusCode()).isEqualTo(503);
+    assertThat(server.getInjectedErrorCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("request - unknown path - returns 404 naming the path")
+  void request_unknownPath_returns404() throws Exception {
+    // Arrange
+    server = StubDescopeServer.start(0, StubFaults.none(), 1, objectMapper);
+
+    // Act
+    HttpResponse<String> response = post("P1:K1", "/v1/mgmt/unknown", "{}");
+
+    // Assert
+    assertThat(response.statusCode()).isEqualTo(404);
+    assertThat(json(response).path("errorDescription").asText()).contains("/v1/mgmt/unknown");
+  }
+
+  @Test
+  @DisplayName("projectId - bearer tokens - extracts project ID")
+  void projectId_bearerTokens_extractsProjectId() {
+    assertThat(StubDescopeServer.projectId("Bearer P1:key")).isEqualTo("P1");
+    assertThat(StubDescopeServer.projectId("Bearer P1")).isEqualTo("P1");
+    assertThat(StubDescopeServer.projectId("Basic abc")).isNull();
+    assertThat(StubDescopeServer.projectId(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("StubFaults - rate above 1 - should throw IllegalArgumentException")
+  void stubFaults_rateAboveOne_shouldThrow() {
+    assertThatThrownBy(() -> new StubFaults(Duration.ZERO, Duration.ZERO, 1.5, 0, 0, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private HttpResponse<String> post(String token, String path, String body)
+      throws IOException, InterruptedException {
+    return client.send(
+        HttpRequest.newBuilder(URI.create(server.getBaseUrl() + path))
+            .header("Authorization", "Bearer " + token)
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build(),
+        HttpResponse.BodyHandlers.ofString());
+  }
+
+  private HttpResponse<String> get(String token, String path)
+      throws IOException, InterruptedException {
+    return client.send(
+        HttpRequest.newBuilder(URI.create(server.getBaseUrl() + path))
+            .header("Authorization", "Bearer " + token)
+            .build(),
+        HttpResponse.BodyHandlers.ofString());
+  }
+
+  private JsonNode json(HttpResponse<String> response) throws IOException {
+    return objectMapper.readTree(response.body());
+  }
+}